@@ -1,8 +1,14 @@
 package com.game.arkanoid.app;
 
+import com.game.arkanoid.container.AppContext;
 import com.game.arkanoid.controller.SceneController;
+import com.game.arkanoid.diagnostics.MetricsServer;
+import com.game.arkanoid.diagnostics.StartupTimings;
+import com.game.arkanoid.diagnostics.jfr.GameRecording;
+import com.game.arkanoid.view.asset.AssetManager;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 public class Main extends Application {
@@ -11,14 +17,23 @@ public class Main extends Application {
     public void start(Stage stage) {
         stage.setTitle("Arkanoid");      
         stage.setResizable(false);
+        AssetManager.getInstance().preload();
         navigator = new SceneController(stage);
         stage.setOnCloseRequest(e -> {
             try { navigator.saveInProgressIfAny(); } catch (Exception ignored) {}
         });
         navigator.showLogin();
         stage.show();
+        // Migrate early so the first login does not wait for it
+        AppContext.getInstance().db().initializeSchema().exceptionally(e -> {
+            System.err.println("Schema initialization failed: " + e);
+            return null;
+        });
+        Platform.runLater(StartupTimings::markLoginShown);
     }
     public static void main(String[] args) {
+        GameRecording.startIfRequested();
+        MetricsServer.startIfConfigured();
         launch(args);
     }
 }
@@ -0,0 +1,208 @@
+package com.game.arkanoid.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-size pool of JDBC connections, bounded by permits rather than by threads.
+ * <p>
+ * Any number of threads, typically virtual ones, may ask for a connection; at most
+ * {@link #size()} hold one at a time and the rest wait for a permit, up to a timeout.
+ * Physical connections are opened lazily and reused. Callers get a wrapper whose
+ * {@code close()} hands the connection back instead of closing it, so code written for
+ * {@code DriverManager} connections with try-with-resources works unchanged. A connection
+ * that failed with a connection-level error (SQLSTATE class 08) is discarded rather than reused.
+ * </p>
+ */
+public final class ConnectionPool implements AutoCloseable {
+
+    /** Opens a new physical connection. */
+    @FunctionalInterface
+    public interface Factory {
+        Connection open() throws SQLException;
+    }
+
+    private final Factory factory;
+    private final int size;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<Connection> idle = new ConcurrentLinkedDeque<>();
+    private volatile boolean closed;
+
+    /** Nanoseconds each thread has spent waiting for permits, across all pools. */
+    private static final ThreadLocal<long[]> acquireWait = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Create a pool.
+     * @param factory opens physical connections
+     * @param size maximum number of connections in use at once
+     */
+    public ConnectionPool(Factory factory, int size) {
+        if (size < 1) throw new IllegalArgumentException("size must be positive: " + size);
+        this.factory = factory;
+        this.size = size;
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Borrow a connection, waiting for a free one if all are in use.
+     * @param timeout longest time to wait for a free connection
+     * @param unit unit of the timeout
+     * @return a connection; close it to give it back
+     * @throws SQLTimeoutException if none became free in time
+     * @throws SQLException if the pool is closed, the wait was interrupted or opening failed
+     */
+    public Connection acquire(long timeout, TimeUnit unit) throws SQLException {
+        if (closed) throw new SQLException("Connection pool is closed");
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeout, unit)) {
+                throw new SQLTimeoutException("No database connection free after " + unit.toMillis(timeout) + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        } finally {
+            acquireWait.get()[0] += System.nanoTime() - start;
+        }
+        try {
+            Connection physical;
+            while ((physical = idle.pollFirst()) != null) {
+                if (!physical.isClosed()) break;
+            }
+            if (physical == null) physical = factory.open();
+            return lease(physical);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Time the calling thread has spent waiting for a free connection since the previous call,
+     * including waits that timed out.
+     * @return nanoseconds
+     */
+    public static long takeAcquireWaitNanos() {
+        long[] waited = acquireWait.get();
+        long nanos = waited[0];
+        waited[0] = 0;
+        return nanos;
+    }
+
+    /** @return maximum number of connections in use at once */
+    public int size() {
+        return size;
+    }
+
+    /** @return number of connections currently lent out */
+    public int inUse() {
+        return size - permits.availablePermits();
+    }
+
+    /** @return approximate number of threads waiting for a connection */
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Close idle connections and refuse new requests. Connections still lent out are closed
+     * when they are given back.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Connection c;
+        while ((c = idle.pollFirst()) != null) {
+            closeQuietly(c);
+        }
+    }
+
+    private void release(Connection physical, boolean broken) {
+        try {
+            if (broken || closed || physical.isClosed()) {
+                closeQuietly(physical);
+            } else {
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                idle.offerFirst(physical); // most recently used first: likeliest to be alive
+            }
+        } catch (SQLException e) {
+            closeQuietly(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Connection lease(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new Lease(physical));
+    }
+
+    private static void closeQuietly(Connection c) {
+        try {
+            c.close();
+        } catch (SQLException e) {
+            System.err.println("Closing pooled connection failed: " + e.getMessage());
+        }
+    }
+
+    /** A borrowed connection: delegates until closed, then goes back to the pool once. */
+    private final class Lease implements InvocationHandler {
+        private final Connection physical;
+        private boolean returned;
+        private boolean broken;
+
+        Lease(Connection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) return objectMethod(proxy, method, args);
+            if (method.getName().equals("close")) {
+                synchronized (this) {
+                    if (returned) return null;
+                    returned = true;
+                }
+                release(physical, broken);
+                return null;
+            }
+            if (method.getName().equals("isClosed")) {
+                synchronized (this) {
+                    if (returned) return true;
+                }
+                return physical.isClosed();
+            }
+            synchronized (this) {
+                if (returned) throw new SQLException("Connection already returned to the pool");
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                    broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        private Object objectMethod(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "Pooled[" + physical + "]";
+            };
+        }
+    }
+}
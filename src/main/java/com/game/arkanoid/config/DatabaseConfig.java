@@ -4,54 +4,109 @@ import io.github.cdimascio.dotenv.Dotenv;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.Objects;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Simplified DatabaseConfig
  * - Reads full JDBC URL from .env.
+ * - Hands out connections from a {@link ConnectionPool} of {@code DB_POOL_SIZE} (default 4).
  */
 public final class DatabaseConfig {
 
-    private static Connection connection;
+    /** Connections open at once when {@code DB_POOL_SIZE} is not set. */
+    public static final int DEFAULT_POOL_SIZE = 4;
+
+    /** Longest wait for a free connection. */
+    public static final long ACQUIRE_TIMEOUT_MS = 5_000;
+
+    private static ConnectionPool pool;
+    private static volatile boolean announced;
     private static final Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
 
     private DatabaseConfig() {}
 
     /**
-     * Get a connection to the database.
+     * Borrow a pooled connection to the database, waiting up to {@link #ACQUIRE_TIMEOUT_MS}
+     * for a free one. Closing it gives it back to the pool.
      * @return
      * @throws SQLException
      */
     public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
+        return pool().acquire(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the connection pool, creating it on first use.
+     * @return
+     */
+    public static synchronized ConnectionPool pool() {
+        if (pool == null) {
+            pool = new ConnectionPool(DatabaseConfig::open, poolSize(getEnv("DB_POOL_SIZE")));
+        }
+        return pool;
+    }
+
+    /**
+     * Parse {@code DB_POOL_SIZE}.
+     * @param value the variable, or null if unset
+     * @return pool size
+     * @throws IllegalStateException if the value is not a positive integer
+     */
+    static int poolSize(String value) {
+        if (value == null) return DEFAULT_POOL_SIZE;
+        try {
+            int size = Integer.parseInt(value.trim());
+            if (size > 0) return size;
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalStateException("DB_POOL_SIZE must be a positive integer, got '" + value + "'");
+    }
 
-            String url = getEnv("URL");
-            Objects.requireNonNull(url, "Missing environment variable: URL");
+    /**
+     * Open a new physical connection.
+     * @return
+     * @throws SQLException
+     */
+    private static Connection open() throws SQLException {
+        String url = getEnv("URL");
+        // No database configured is reported like one that cannot be reached
+        if (url == null) throw new SQLNonTransientConnectionException("Missing environment variable: URL", "08001");
 
-            try {
-                Class.forName("org.postgresql.Driver");
-            } catch (ClassNotFoundException e) {
-                throw new SQLException("PostgreSQL JDBC driver not found in classpath", e);
-            }
+        try {
+            Class.forName("org.postgresql.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("PostgreSQL JDBC driver not found in classpath", e);
+        }
 
-            System.out.println("🔗 Connecting to: " + url);
-            connection = DriverManager.getConnection(url);
-            System.out.println("✅ Connected successfully to database");
+        Connection connection = DriverManager.getConnection(url);
+        // Connections are opened again whenever the pool replaces one; say so only once
+        if (!announced) {
+            announced = true;
+            System.out.println("✅ Connected to database: " + redact(url));
         }
         return connection;
     }
 
     /**
-     * Close the database connection.
+     * Strip credentials from a JDBC URL so it can be logged.
+     * @param url JDBC URL
+     * @return the URL with user info and password parameters masked
      */
-    public static void close() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                System.out.println("🔒 Database connection closed");
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+    static String redact(String url) {
+        return url.replaceAll("//[^/@?]*@", "//***@")
+                .replaceAll("(?i)(password=)[^&;]*", "$1***");
+    }
+
+    /**
+     * Close the pooled database connections.
+     */
+    public static synchronized void close() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+            System.out.println("🔒 Database connections closed");
         }
     }
 
@@ -1,5 +1,6 @@
 package com.game.arkanoid.config;
 
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -32,12 +33,30 @@ public final class GameSettings {
         }
     }
 
+    /**
+     * How scene transitions are rendered.
+     */
+    public enum TransitionMode {
+        /** Snapshots when the renderer has no GPU, live otherwise. */
+        AUTO,
+        /** Animate effects on the live scene graph. */
+        LIVE,
+        /** Animate pre-rendered images of the screens. */
+        SNAPSHOT
+    }
+
     private static boolean soundEnabled = true;
     private static double masterVolume = 1.0;
     private static double musicVolume = 0.7;
     private static double sfxVolume = 0.8;
     private static Difficulty difficulty = Difficulty.MEDIUM;
     private static int highScore = 0;
+    private static boolean stressMode = Boolean.getBoolean("arkanoid.stress");
+    private static String levelPackPath = System.getProperty("arkanoid.levelPack");
+    private static boolean threadedSimulation = Boolean.getBoolean("arkanoid.simThread");
+    private static boolean autoPlay = Boolean.getBoolean("arkanoid.autoplay");
+    private static boolean practiceMode = Boolean.getBoolean("arkanoid.practice");
+    private static TransitionMode transitionMode = parseTransitionMode(System.getProperty("arkanoid.transitions"));
 
     private GameSettings() {
     }
@@ -122,6 +141,110 @@ public final class GameSettings {
         difficulty = Objects.requireNonNull(newDifficulty, "difficulty");
     }
 
+    /**
+     * Is stress mode enabled? Raises the enemy cap and spawn rate to load-test collisions.
+     * Defaults to the {@code arkanoid.stress} system property.
+     * @return
+     */
+    public static boolean isStressMode() {
+        return stressMode;
+    }
+
+    /**
+     * Enable or disable stress mode. Takes effect on the next new game.
+     * @param enabled
+     */
+    public static void setStressMode(boolean enabled) {
+        stressMode = enabled;
+    }
+
+    /**
+     * Does the game simulate on its own thread instead of the FX thread?
+     * Defaults to the {@code arkanoid.simThread} system property.
+     * @return
+     */
+    public static boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
+    /**
+     * Run the simulation on its own thread or on the FX thread. Takes effect on the next round.
+     * @param enabled
+     */
+    public static void setThreadedSimulation(boolean enabled) {
+        threadedSimulation = enabled;
+    }
+
+    /**
+     * Does a bot play the game view instead of the keyboard, for soak testing? The game then
+     * never ends: it moves on to the next level instead, and a trace line is printed regularly.
+     * Defaults to the {@code arkanoid.autoplay} system property.
+     * @return
+     */
+    public static boolean isAutoPlay() {
+        return autoPlay;
+    }
+
+    /**
+     * Let the bot play or hand control back to the keyboard. Takes effect on the next round.
+     * @param enabled
+     */
+    public static void setAutoPlay(boolean enabled) {
+        autoPlay = enabled;
+    }
+
+    /**
+     * Is this practice? Backspace then rewinds the last seconds of play, and games neither
+     * update bests nor are saved or recorded in the history.
+     * Defaults to the {@code arkanoid.practice} system property.
+     * @return
+     */
+    public static boolean isPracticeMode() {
+        return practiceMode;
+    }
+
+    /**
+     * Turn practice on or off. Takes effect on the next round.
+     * @param enabled
+     */
+    public static void setPracticeMode(boolean enabled) {
+        practiceMode = enabled;
+    }
+
+    /**
+     * Level pack (directory or archive) to play instead of the built-in levels.
+     * Defaults to the {@code arkanoid.levelPack} system property.
+     * @return path, or null for the built-in levels
+     */
+    public static String getLevelPackPath() {
+        return levelPackPath;
+    }
+
+    /**
+     * Set the level pack to play. Takes effect on the next launch.
+     * @param path directory or archive, or null for the built-in levels
+     */
+    public static void setLevelPackPath(String path) {
+        levelPackPath = path;
+    }
+
+    /**
+     * How scene transitions are rendered.
+     * Defaults to the {@code arkanoid.transitions} system property ({@code auto}, {@code live} or {@code snapshot}).
+     * @return
+     */
+    public static TransitionMode getTransitionMode() {
+        return transitionMode;
+    }
+
+    /**
+     * Set how scene transitions are rendered. Takes effect on the next transition.
+     * @param mode
+     */
+    public static void setTransitionMode(TransitionMode mode) {
+        transitionMode = Objects.requireNonNull(mode, "mode");
+    }
+
     /**
      * Get ball speed multiplier based on difficulty.
      * @return
@@ -154,6 +277,21 @@ public final class GameSettings {
         highScore = Math.max(highScore, Math.max(0, score));
     }
 
+    /**
+     * Parse a transition mode, falling back to auto for unknown values.
+     * @param value
+     * @return
+     */
+    private static TransitionMode parseTransitionMode(String value) {
+        if (value == null || value.isBlank()) return TransitionMode.AUTO;
+        try {
+            return TransitionMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown arkanoid.transitions value '" + value + "', using auto");
+            return TransitionMode.AUTO;
+        }
+    }
+
     /**
      * Clamp value between 0.0 and 1.0.
      * @param value
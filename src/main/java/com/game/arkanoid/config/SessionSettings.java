@@ -0,0 +1,46 @@
+package com.game.arkanoid.config;
+
+import java.util.Objects;
+
+/**
+ * Immutable settings of one game session.
+ * <p>
+ * Services copy what they need from here when they are built, so the simulation never reads
+ * the global {@link GameSettings} and sessions with different settings can run side by side.
+ * </p>
+ *
+ * @param difficulty ball speed and paddle width
+ * @param stressMode raise the enemy cap and spawn rate
+ */
+public record SessionSettings(GameSettings.Difficulty difficulty, boolean stressMode) {
+
+    public SessionSettings {
+        Objects.requireNonNull(difficulty, "difficulty");
+    }
+
+    /**
+     * Settings of a normal game at medium difficulty.
+     * @return
+     */
+    public static SessionSettings defaults() {
+        return new SessionSettings(GameSettings.Difficulty.MEDIUM, false);
+    }
+
+    /**
+     * The settings currently selected in the UI.
+     * @return
+     */
+    public static SessionSettings fromGlobal() {
+        return new SessionSettings(GameSettings.getDifficulty(), GameSettings.isStressMode());
+    }
+
+    /** @return ball speed multiplier of the difficulty */
+    public double ballSpeedMultiplier() {
+        return difficulty.ballSpeedMultiplier();
+    }
+
+    /** @return paddle width multiplier of the difficulty */
+    public double paddleWidthMultiplier() {
+        return difficulty.paddleWidthMultiplier();
+    }
+}
@@ -2,6 +2,7 @@ package com.game.arkanoid.container;
 
 import com.game.arkanoid.models.User;
 import com.game.arkanoid.services.DatabaseService;
+import com.game.arkanoid.services.ProgressStore;
 
 /**
  * Global application context for non-game services and session state.
@@ -27,6 +28,13 @@ public final class AppContext {
      */
     public DatabaseService db() { return database; }
 
+    /**
+     * Get the player progress store: writes are kept locally and reach the database in the
+     * background, so they never block the caller.
+     * @return
+     */
+    public ProgressStore progress() { return database; }
+
     /**
      * Get or set the current user.
      * @return
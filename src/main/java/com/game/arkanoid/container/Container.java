@@ -1,55 +1,45 @@
 package com.game.arkanoid.container;
 
 import com.game.arkanoid.config.GameSettings;
-import com.game.arkanoid.models.*;
-import com.game.arkanoid.services.*;
-import com.game.arkanoid.utils.Constants;
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.diagnostics.MetricsRegistry;
+import com.game.arkanoid.events.GameEventBus;
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.services.GameService;
+import com.game.arkanoid.services.LevelPack;
 import com.game.arkanoid.view.sound.SoundManager;
+import java.io.IOException;
+import java.nio.file.Path;
 
 public final class Container {
 
     private static Container instance; // 🔹 Singleton instance
-    private final GameState state;
-    private final GameService game;
+    private static LevelPack levelPack; // opened once, shared by every new game
+    private final GameSession session;
 
     /**
-     * Private constructor initializes game state and services.
+     * Private constructor builds the application's session from the global settings.
      */
     private Container() { 
-        double paddleWidth = Constants.PADDLE_WIDTH * GameSettings.getPaddleWidthMultiplier();
-        Paddle paddle = new Paddle(
-                Constants.GAME_WIDTH / 2.0 - paddleWidth / 2.0,
-                Constants.GAME_HEIGHT - Constants.PADDLE_HEIGHT - Constants.PADDLE_MARGIN_BOTTOM,
-                paddleWidth,
-                Constants.PADDLE_HEIGHT,
-                Constants.PADDLE_SPEED
-        );
-        paddle.setWidthBounds(Constants.MIN_PADDLE_WIDTH, Constants.MAX_PADDLE_WIDTH);
-
-        Ball ball = new Ball(
-                Constants.GAME_WIDTH / 2.0,
-                paddle.getY() - Constants.BALL_RADIUS - Constants.BALL_SPAWN_OFFSET,
-                Constants.BALL_RADIUS
-        );
-
-        this.state = new GameState(ball, paddle);
-        this.state.resetForLevel();
-        this.state.basePaddleWidth = paddle.getWidth();
-        this.state.basePaddleSpeed = paddle.getSpeed();
-        this.state.highScore = GameSettings.getHighScore();
-
-        BricksService bricksSvc = new BricksService();
-        BallService ballSvc = new BallService();
-        PaddleService paddleSvc = new PaddleService();
-        SoundManager sound = SoundManager.getInstance();
-        PowerUpService powerUpSvc = new PowerUpService();
-        EnemyService enemySvc = new EnemyService();
-        BulletService bulletSvc = new BulletService(bricksSvc);
-        RoundService roundSvc = new RoundService(bricksSvc, ballSvc, paddleSvc);
-        roundSvc.loadLevel(this.state, 1);
+        this.session = new GameSession(GameEventBus.getInstance(), SessionSettings.fromGlobal(),
+                MetricsRegistry.getInstance(), openLevelPack());
+        this.session.getGameState().highScore = GameSettings.getHighScore();
+        SoundManager.getInstance(); // sound listens on the application bus
+    }
 
-        this.game = new GameService(ballSvc, paddleSvc, bricksSvc, powerUpSvc, bulletSvc, roundSvc, enemySvc);
-        this.game.bindState(this.state);
+    /**
+     * Open the configured level pack once; null to use the built-in levels.
+     * @return the pack, or null
+     */
+    private static LevelPack openLevelPack() {
+        String path = GameSettings.getLevelPackPath();
+        if (levelPack != null || path == null || path.isBlank()) return levelPack;
+        try {
+            levelPack = LevelPack.open(Path.of(path));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Cannot open level pack " + path + ", using built-in levels (" + e.getMessage() + ")");
+        }
+        return levelPack;
     }
 
     /**
@@ -68,6 +58,7 @@ public final class Container {
         instance = new Container();
     }
 
-    public GameState getGameState() { return state; }
-    public GameService getGameService() { return game; }
+    public GameSession getSession() { return session; }
+    public GameState getGameState() { return session.getGameState(); }
+    public GameService getGameService() { return session.getGameService(); }
 }
@@ -0,0 +1,138 @@
+package com.game.arkanoid.container;
+
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.diagnostics.MetricsRegistry;
+import com.game.arkanoid.events.GameEventBus;
+import com.game.arkanoid.models.*;
+import com.game.arkanoid.services.*;
+import com.game.arkanoid.utils.Constants;
+
+/**
+ * One game with its own state, services and event bus.
+ * <p>
+ * Nothing in a session is shared with another session except immutable level templates, so
+ * any number of sessions can run in one process, each on whichever thread drives it. The
+ * application's {@link Container} holds the session shown by the game view; servers, bots
+ * and tests create headless sessions and drive them with {@link #step}.
+ * </p>
+ */
+public final class GameSession {
+
+    private final GameEventBus eventBus;
+    private final SessionSettings settings;
+    private final GameState state;
+    private final GameService game;
+
+    /**
+     * Create a headless session on the built-in levels with its own event bus and no metrics.
+     * @param settings session settings
+     * @param seed seed of the session's random source; equal seeds and inputs replay equally
+     */
+    public GameSession(SessionSettings settings, long seed) {
+        this(new GameEventBus(), settings, null, null);
+        state.rng.setState(seed);
+    }
+
+    /**
+     * Create a session at level 1, paused until {@link #start()}.
+     * @param eventBus bus receiving the session's events
+     * @param settings session settings
+     * @param metrics registry receiving tick metrics, or null
+     * @param levels level source, or null for the built-in levels
+     */
+    public GameSession(GameEventBus eventBus, SessionSettings settings, MetricsRegistry metrics, LevelSource levels) {
+        this.eventBus = eventBus;
+        this.settings = settings;
+
+        double paddleWidth = Constants.PADDLE_WIDTH * settings.paddleWidthMultiplier();
+        Paddle paddle = new Paddle(
+                Constants.GAME_WIDTH / 2.0 - paddleWidth / 2.0,
+                Constants.GAME_HEIGHT - Constants.PADDLE_HEIGHT - Constants.PADDLE_MARGIN_BOTTOM,
+                paddleWidth,
+                Constants.PADDLE_HEIGHT,
+                Constants.PADDLE_SPEED
+        );
+        paddle.setWidthBounds(Constants.MIN_PADDLE_WIDTH, Constants.MAX_PADDLE_WIDTH);
+
+        Ball ball = new Ball(
+                Constants.GAME_WIDTH / 2.0,
+                paddle.getY() - Constants.BALL_RADIUS - Constants.BALL_SPAWN_OFFSET,
+                Constants.BALL_RADIUS
+        );
+
+        this.state = new GameState(ball, paddle);
+        this.state.resetForLevel();
+        this.state.basePaddleWidth = paddle.getWidth();
+        this.state.basePaddleSpeed = paddle.getSpeed();
+
+        BricksService bricksSvc = new BricksService();
+        BallService ballSvc = new BallService(eventBus, settings);
+        PaddleService paddleSvc = new PaddleService();
+        PowerUpService powerUpSvc = new PowerUpService(eventBus, settings);
+        EnemyService enemySvc = new EnemyService(settings.stressMode()
+                ? Constants.STRESS_MAX_ENEMIES
+                : EnemyService.DEFAULT_MAX_ENEMIES, eventBus);
+        BulletService bulletSvc = new BulletService(bricksSvc, eventBus);
+        RoundService roundSvc = levels != null
+                ? new RoundService(bricksSvc, ballSvc, paddleSvc, levels)
+                : new RoundService(bricksSvc, ballSvc, paddleSvc);
+        roundSvc.loadLevel(this.state, 1);
+
+        this.game = new GameService(ballSvc, paddleSvc, bricksSvc, powerUpSvc, bulletSvc, roundSvc, enemySvc,
+                eventBus, metrics);
+        this.game.bindState(this.state);
+    }
+
+    /**
+     * Start play, as the end of the level intro does in the game view.
+     */
+    public void start() {
+        game.startNextLevel(state);
+    }
+
+    /**
+     * Jump to a level, keeping score and lives, and start play on it.
+     * @param level 1-based level; clamped to the campaign
+     */
+    public void startAt(int level) {
+        game.loadLevel(state, level);
+        game.startNextLevel(state);
+    }
+
+    /**
+     * Advance a headless session by one fixed tick of {@link Constants#NANOS_PER_DT}.
+     * <p>
+     * Also plays the parts of a game that the game view drives with animations: a cleared
+     * level loads the next one and play resumes at once, and losing the last life ends the
+     * game. A session shown by the game view must not be stepped.
+     * </p>
+     * @param in player input for this tick
+     * @return false once the game is over or completed
+     */
+    public boolean step(InputState in) {
+        if (isFinished()) return false;
+        game.update(state, in, 1.0, Constants.GAME_WIDTH, Constants.GAME_HEIGHT);
+        if (state.levelTransitionPending) {
+            state.bullets.clear();
+            state.powerUps.clear();
+            state.activePowerUps.clear();
+            state.balls.clear();
+            state.laserCooldown = 0.0;
+            game.loadNextLevel(state);
+            if (!state.gameCompleted) game.startNextLevel(state);
+        } else if (!state.running && state.lives < 0) {
+            state.gameOver = true;
+        }
+        return !isFinished();
+    }
+
+    /** @return true once the game is over or completed */
+    public boolean isFinished() {
+        return state.gameOver || state.gameCompleted;
+    }
+
+    public GameEventBus getEventBus() { return eventBus; }
+    public SessionSettings getSettings() { return settings; }
+    public GameState getGameState() { return state; }
+    public GameService getGameService() { return game; }
+}
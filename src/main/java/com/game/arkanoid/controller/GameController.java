@@ -1,6 +1,12 @@
 package com.game.arkanoid.controller;
 
 import com.game.arkanoid.container.AppContext;
+import com.game.arkanoid.diagnostics.MetricsRegistry;
+import com.game.arkanoid.diagnostics.ProfilerOverlay;
+import com.game.arkanoid.diagnostics.SoakTrace;
+import com.game.arkanoid.diagnostics.StartupTimings;
+import com.game.arkanoid.diagnostics.TickProfiler;
+import com.game.arkanoid.diagnostics.TickProfiler.Section;
 import com.game.arkanoid.events.GameEventBus;
 import com.game.arkanoid.events.game.CloseDoorTopLeftEvent;
 import com.game.arkanoid.events.game.CloseDoorTopRightEvent;
@@ -11,11 +17,18 @@ import com.game.arkanoid.events.game.OpenDoorTopRightEvent;
 import com.game.arkanoid.events.paddle.ExplodePaddleFinishedEvent;
 import com.game.arkanoid.events.paddle.IntroPaddleEvent;
 import com.game.arkanoid.events.sound.*;
+import com.game.arkanoid.models.GameSessionRecord;
 import com.game.arkanoid.models.GameState;
 import com.game.arkanoid.models.GameStateSnapshot;
 import com.game.arkanoid.models.InputState;
+import com.game.arkanoid.models.PowerUpType;
+import com.game.arkanoid.models.RenderFrame;
 import com.game.arkanoid.models.User;
+import com.game.arkanoid.services.AutoPlayer;
 import com.game.arkanoid.services.GameService;
+import com.game.arkanoid.services.RewindBuffer;
+import com.game.arkanoid.services.SimulationThread;
+import com.game.arkanoid.view.FxExecutor;
 import com.game.arkanoid.view.renderer.BallsRenderer;
 import com.game.arkanoid.view.renderer.BulletRenderer;
 import com.game.arkanoid.view.renderer.DoorTopRenderer;
@@ -24,6 +37,8 @@ import com.game.arkanoid.view.renderer.PaddleRenderer;
 import com.game.arkanoid.view.renderer.PowerUpRenderer;
 import com.game.arkanoid.view.renderer.LifeRenderer;
 import com.game.arkanoid.view.renderer.EnemyRenderer;
+import com.game.arkanoid.view.renderer.HudRenderer;
+import com.game.arkanoid.config.GameSettings;
 import com.game.arkanoid.utils.Constants;
 
 import java.util.List;
@@ -33,12 +48,15 @@ import com.game.arkanoid.events.powerup.PowerUpExpiredEvent;
 import com.game.arkanoid.view.transition.TransitionStrategy;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.animation.*;
 import javafx.application.Platform;
+import javafx.beans.property.StringProperty;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -54,6 +72,12 @@ import javafx.util.Duration;
 /**
  * Main controller for the in-game scene.
  * Handles game loop, input, rendering, events, transitions, and pause menu.
+ * <p>
+ * The view is always drawn from a {@link RenderFrame}. By default the game is updated on the
+ * FX thread right before each frame; with {@link GameSettings#isThreadedSimulation()} it runs
+ * on a {@link SimulationThread} instead, and every state change made here goes through
+ * {@link #mutate} so it runs on that thread.
+ * </p>
  */
 public final class GameController {
 
@@ -70,10 +94,15 @@ public final class GameController {
     @FXML private ImageView edge_top;
 
     // --- Core Dependencies ---
-    private final GameService gameService;
-    private final GameState gameState;
+    private GameService gameService;
+    private GameState gameState;
     private final SceneController navigator;
     private final Set<KeyCode> activeKeys = new HashSet<>();
+    private final InputState input = new InputState(); // reused every frame
+    private final RenderFrame localFrame = new RenderFrame(); // frames updated on the FX thread
+    private RenderFrame frame = localFrame; // last rendered frame
+    private SimulationThread simulation; // null unless the game runs on its own thread
+    private RewindBuffer rewindBuffer;   // practice on the FX thread only; the simulation keeps its own
     private final List<GameEventBus.Subscription> subscriptions = new ArrayList<>();
     private final GameEventBus eventBus = GameEventBus.getInstance();
 
@@ -86,6 +115,7 @@ public final class GameController {
     private LifeRenderer lifeRenderer;
     private EnemyRenderer enemyRenderer;
     private DoorTopRenderer doorTopRenderer;
+    private HudRenderer hudRenderer;
 
     // --- State Tracking ---
     private AnimationTimer loop;
@@ -93,7 +123,17 @@ public final class GameController {
     private Parent pauseOverlay;
     private int lastLevelObserved = Integer.MIN_VALUE;
     private Timeline spawnTimer;
+    private ProfilerOverlay profilerOverlay;
     private boolean countDowning = false;
+    private AutoPlayer autoPlayer; // null unless the bot plays
+    private long nextSoakSample;
+    private static SoakTrace soakTrace; // shared by every round of an autoplay run
+
+    /** Interval between soak trace lines while the bot plays. */
+    private static final long SOAK_SAMPLE_NANOS = 10_000_000_000L;
+
+    /** Seconds of play one press of the rewind key undoes in practice. */
+    private static final double REWIND_SECONDS = 3.0;
 
    /**
     * Constructor.
@@ -107,17 +147,50 @@ public final class GameController {
         this.navigator = navigator;
     }
 
+    /**
+     * Constructor for a view prepared ahead of time; the game is bound later by {@link #bind}.
+     * @param navigator
+     */
+    GameController(SceneController navigator) {
+        this.navigator = navigator;
+    }
+
     @FXML
     public void initialize() {
-        setupRenderers();
+        // Only builds nodes, so a prepared view can be loaded off the FX thread
         setupPauseOverlay();
+        if (gameState != null) activate();
+    }
+
+    /**
+     * Bind a prepared view to the game it shows and start it. Must run on the FX thread.
+     * @param gameState
+     * @param gameService
+     */
+    void bind(GameState gameState, GameService gameService) {
+        if (this.gameState != null) throw new IllegalStateException("Game view already bound");
+        this.gameState = gameState;
+        this.gameService = gameService;
+        activate();
+    }
+
+    /**
+     * Create renderers, timers and subscriptions for the bound game.
+     */
+    private void activate() {
+        setupRenderers();
+        // Nothing else touches the state yet, so the first frame can be taken here
+        localFrame.capture(gameState, 0);
+        lastLevelObserved = gameState.level;
+        autoPlayer = GameSettings.isAutoPlay() ? new AutoPlayer() : null;
+        if (autoPlayer != null && soakTrace == null) soakTrace = new SoakTrace(System.out);
+        profilerOverlay = new ProfilerOverlay(gameService.getProfiler(), rootStack);
         setupInputHandlers();
         loadAndDisplayHighScore();
         updateHud();
         registerEventListeners();
         startEnemySpawnTimer();
         startGameLoop();
-        lastLevelObserved = gameState.level;
         startLevelIntro();
     }
 
@@ -132,61 +205,157 @@ public final class GameController {
             public void handle(long now) {
                 if (last < 0) { last = now; return; }
 
-                double dt = (now - last) / 11_000_000.0; // ns to ms
+                double dt = (now - last) / Constants.NANOS_PER_DT;
+                MetricsRegistry metrics = MetricsRegistry.getInstance();
+                metrics.framesRendered.increment();
+                StartupTimings.markGameFrame();
+                if (now - last > MetricsRegistry.DROPPED_FRAME_NANOS) metrics.droppedFrames.increment();
                 last = now;
 
-                InputState in = readInput();
-                gameService.update(gameState, in, dt, gamePane.getWidth(), gamePane.getHeight());
+                TickProfiler prof = gameService.getProfiler();
+                RenderFrame f;
+                long frameStart;
+                if (simulation != null) {
+                    simulation.offerInput(readInput());
+                    f = simulation.latestFrame();
+                    if (f.sequence == 0) return; // nothing simulated yet
+                    frameStart = prof.start();
+                } else {
+                    frameStart = prof.start();
+                    InputState in = readInput();
+                    if (rewindBuffer != null) rewindBuffer.record(gameState, in, dt, gamePane.getWidth(), gamePane.getHeight());
+                    gameService.update(gameState, in, dt, gamePane.getWidth(), gamePane.getHeight());
+                    f = localFrame;
+                    f.capture(gameState, f.sequence + 1);
+                }
+                frame = f;
                 // Render updated state
-                paddleRenderer.render(gameState.paddle);
-                ballsRenderer.render(gameState.balls);
-                powerUpRenderer.render(gameState.powerUps);
-                bulletRenderer.render(gameState.bullets);
-                bricksRenderer.render(gameState.bricks);
-                lifeRenderer.render(gameState.lives);
-                enemyRenderer.render(gameState.enemies);
+                long t = prof.start();
+                paddleRenderer.render(f.paddle);
+                prof.stop(Section.RENDER_PADDLE, t);
+                t = prof.start();
+                ballsRenderer.render(f.balls);
+                prof.stop(Section.RENDER_BALLS, t);
+                t = prof.start();
+                powerUpRenderer.render(f.powerUps);
+                prof.stop(Section.RENDER_POWER_UPS, t);
+                t = prof.start();
+                bulletRenderer.render(f.bullets);
+                prof.stop(Section.RENDER_BULLETS, t);
+                t = prof.start();
+                bricksRenderer.render(f.bricks);
+                prof.stop(Section.RENDER_BRICKS, t);
+                t = prof.start();
+                lifeRenderer.render(f.lives);
+                prof.stop(Section.RENDER_LIVES, t);
+                t = prof.start();
+                enemyRenderer.render(f.enemies);
+                prof.stop(Section.RENDER_ENEMIES, t);
 
                 // Update hud
+                t = prof.start();
                 updateHud();
+                prof.stop(Section.HUD, t);
                 trackLevelTransition();
+                prof.stop(Section.FRAME, frameStart);
+                profilerOverlay.update(now);
+                if (autoPlayer != null) traceSoak(now);
 
                 // --- Transition to other scenes ---
-                if (gameState.gameOver) {
+                if (f.gameOver) {
                     // persist bests and clear in-progress
                     User u = AppContext.getInstance().getCurrentUser();
-                    if (u != null) {
-                        int bestRound = Math.max(u.getBestRound(), gameState.level);
-                        int bestScore = Math.max(u.getBestScore(), gameState.score);
-                        AppContext.getInstance().db().updateBest(u.getId(), bestRound, bestScore);
-                        AppContext.getInstance().db().clearInProgress(u.getId());
+                    if (u != null && !GameSettings.isPracticeMode()) {
+                        int bestRound = Math.max(u.getBestRound(), f.level);
+                        int bestScore = Math.max(u.getBestScore(), f.score);
+                        AppContext.getInstance().progress().updateBest(u.getId(), bestRound, bestScore);
+                        AppContext.getInstance().progress().clearInProgress(u.getId());
+                        recordFinishedGame(u);
                     }
                     stopLoopAndNavigate(SceneId.GAME_OVER, navigator.transitions().gameOverTransition());
                     return;
                 }
 
-                if (gameState.gameCompleted) {
+                if (f.gameCompleted) {
                     // persist bests and clear in-progress, then show Win scene
                     User u = AppContext.getInstance().getCurrentUser();
-                    if (u != null) {
-                        int bestRound = Math.max(u.getBestRound(), gameState.level);
-                        int bestScore = Math.max(u.getBestScore(), gameState.score);
-                        AppContext.getInstance().db().updateBest(u.getId(), bestRound, bestScore);
-                        AppContext.getInstance().db().clearInProgress(u.getId());
+                    if (u != null && !GameSettings.isPracticeMode()) {
+                        int bestRound = Math.max(u.getBestRound(), f.level);
+                        int bestScore = Math.max(u.getBestScore(), f.score);
+                        AppContext.getInstance().progress().updateBest(u.getId(), bestRound, bestScore);
+                        AppContext.getInstance().progress().clearInProgress(u.getId());
+                        recordFinishedGame(u);
                     }
                     stopLoopAndNavigate(SceneId.WIN, navigator.transitions().winTransition());
                     return;
                 }
             }
         };
+        rewindBuffer = GameSettings.isPracticeMode() && !GameSettings.isThreadedSimulation()
+                ? new RewindBuffer(Constants.SIMULATION_HZ) : null;
+        if (GameSettings.isThreadedSimulation()) {
+            simulation = new SimulationThread(gameState, gameService);
+            simulation.setBounds(gamePane.getWidth(), gamePane.getHeight());
+            simulation.setAutoPlayer(autoPlayer);
+            if (GameSettings.isPracticeMode()) simulation.setRewindBuffer(new RewindBuffer(Constants.SIMULATION_HZ));
+            gamePane.widthProperty().addListener(o -> simulation.setBounds(gamePane.getWidth(), gamePane.getHeight()));
+            gamePane.heightProperty().addListener(o -> simulation.setBounds(gamePane.getWidth(), gamePane.getHeight()));
+            simulation.start();
+        }
         loop.start();
     }
 
+    /**
+     * Record the frame for the soak trace and print a line every {@link #SOAK_SAMPLE_NANOS}.
+     * @param now timestamp of the frame
+     */
+    private void traceSoak(long now) {
+        soakTrace.recordTick(System.nanoTime() - now);
+        if (now < nextSoakSample) return;
+        if (nextSoakSample != 0) {
+            RenderFrame f = frame;
+            int entities = f.balls.size() + f.bricks.size() + f.bullets.size() + f.enemies.size() + f.powerUps.size();
+            soakTrace.sample(SoakTrace.countNodes(rootStack), entities);
+        }
+        nextSoakSample = now + SOAK_SAMPLE_NANOS;
+    }
+
+    /**
+     * Apply a state change on the thread that owns the game state: the simulation thread
+     * when there is one, otherwise right here on the FX thread.
+     * @param change
+     */
+    private void mutate(Runnable change) {
+        if (simulation != null) {
+            simulation.execute(change);
+        } else {
+            change.run();
+            if (rewindBuffer != null) rewindBuffer.forceKeyframe();
+        }
+    }
+
+    /**
+     * Undo the last {@link #REWIND_SECONDS} of play, in practice only.
+     */
+    private void rewind() {
+        if (simulation != null) simulation.rewind(REWIND_SECONDS);
+        else if (rewindBuffer != null) rewindBuffer.rewind(gameState, gameService, REWIND_SECONDS);
+    }
+
+    /**
+     * Stop the simulation thread, if any, so the FX thread owns the game state again.
+     */
+    private void stopSimulation() {
+        if (simulation != null) simulation.stop();
+    }
+
     /**
      * Start enemy spawn timer.
      */
     private void startEnemySpawnTimer() {
-        spawnTimer = new Timeline(new KeyFrame(Duration.seconds(20), e -> {
-            if (gameState.paused || gameState.levelTransitionPending) return;
+        double interval = GameSettings.isStressMode() ? Constants.STRESS_ENEMY_SPAWN_SECONDS : 20;
+        spawnTimer = new Timeline(new KeyFrame(Duration.seconds(interval), e -> {
+            if (frame.paused) return;
             System.out.println("Enemy spawn tick at " + System.currentTimeMillis());
             boolean left = Math.random() < 0.5;
             GameEventBus.getInstance().publish(left ? new OpenDoorTopLeftEvent() : new OpenDoorTopRightEvent());
@@ -200,8 +369,14 @@ public final class GameController {
      * @return
      */
     private InputState readInput() {
-        InputState in = new InputState();
-        if (gameState.paused) return in;
+        InputState in = input;
+        in.left = in.right = in.launch = in.fire = in.pause = false;
+        if (frame.paused) return in;
+        if (autoPlayer != null) {
+            // A threaded simulation asks the bot itself, since only it may read the state
+            if (simulation == null) autoPlayer.fill(gameState, gamePane.getWidth(), in);
+            return in;
+        }
         in.left   = activeKeys.contains(KeyCode.LEFT)  || activeKeys.contains(KeyCode.A);
         in.right  = activeKeys.contains(KeyCode.RIGHT) || activeKeys.contains(KeyCode.D);
         in.launch = activeKeys.contains(KeyCode.SPACE);
@@ -234,6 +409,9 @@ public final class GameController {
         if (event.getCode() == KeyCode.ESCAPE) {
             togglePause();
             event.consume();
+        } else if (event.getCode() == KeyCode.F3) {
+            profilerOverlay.toggle();
+            event.consume();
         }
     }
 
@@ -248,7 +426,12 @@ public final class GameController {
             event.consume();
             return;
         }
-        if (gameState.paused) {
+        if (code == KeyCode.BACK_SPACE && GameSettings.isPracticeMode() && !frame.paused) {
+            rewind();
+            event.consume();
+            return;
+        }
+        if (frame.paused) {
             event.consume();
             return;
         }
@@ -260,9 +443,12 @@ public final class GameController {
      */
     private void registerEventListeners() {
         subscriptions.add(GameEventBus.getInstance().subscribe(LevelClearedEvent.class, this::onLevelCleared));
-        subscriptions.add(GameEventBus.getInstance().subscribe(PowerUpActivatedEvent.class, paddleRenderer::onPowerUpActivated));
-        subscriptions.add(GameEventBus.getInstance().subscribe(PowerUpExpiredEvent.class, paddleRenderer::onPowerUpExpired));
-        subscriptions.add(GameEventBus.getInstance().subscribe(DoorOpenedEvent.class, ev -> {
+        subscriptions.add(GameEventBus.getInstance().subscribe(PowerUpActivatedEvent.class,
+                paddleRenderer::onPowerUpActivated, FxExecutor.INSTANCE));
+        subscriptions.add(GameEventBus.getInstance().subscribe(PowerUpExpiredEvent.class,
+                paddleRenderer::onPowerUpExpired, FxExecutor.INSTANCE));
+        // Door and paddle animations finish on the FX thread; the resulting state changes belong to the simulation
+        subscriptions.add(GameEventBus.getInstance().subscribe(DoorOpenedEvent.class, ev -> mutate(() -> {
             if (ev.left()) {    
                 gameService.getEnemySvc().spawnEnemy(gameState, Constants.DOOR_TOP_X_LEFT, Constants.DOOR_TOP_Y);
                 GameEventBus.getInstance().publish(new CloseDoorTopLeftEvent());
@@ -270,14 +456,18 @@ public final class GameController {
                 gameService.getEnemySvc().spawnEnemy(gameState, Constants.DOOR_TOP_X_RIGHT, Constants.DOOR_TOP_Y);
                 GameEventBus.getInstance().publish(new CloseDoorTopRightEvent());
             }
-        }));
+        })));
 
         subscriptions.add(GameEventBus.getInstance().subscribe(ExplodePaddleFinishedEvent.class, fn -> {
-            if (fn.finished()) {
+            if (fn.finished() && autoPlayer != null) {
+                // The bot never gives up: replay the level with fresh lives
+                mutate(() -> gameState.lives = Constants.DEFAULT_LIVES);
+                restartLevel();
+            } else if (fn.finished()) mutate(() -> {
                 gameState.gameOver = true;  
                 gameState.balls.add(gameState.ball);
                 gameService.getBallSvc().resetOnPaddle(gameState.ball, gameState.paddle);
-            }
+            });
         }));
     }
 
@@ -287,8 +477,11 @@ public final class GameController {
      * @param event
      */
     private void onLevelCleared(LevelClearedEvent event) {
+        System.out.println("[GameService] All bricks cleared at level " + event.level());
         Platform.runLater(() -> {
             if (loop != null) loop.stop();
+            // The level is over: take the state back from the simulation for the transition
+            stopSimulation();
             gameState.paused = true;
 
             bannerLayer.setVisible(true);
@@ -313,14 +506,21 @@ public final class GameController {
                 gameState.laserCooldown = 0.0;
 
                 gameService.loadNextLevel(gameState);
+                if (gameState.gameCompleted && autoPlayer != null) {
+                    // The bot plays the campaign over and over
+                    gameState.gameCompleted = false;
+                    gameService.loadLevel(gameState, 1);
+                    nextLevel = 1;
+                }
                 if (gameState.gameCompleted) {
                     // persist bests and clear in-progress, then show Win view
                     User u = AppContext.getInstance().getCurrentUser();
-                    if (u != null) {
+                    if (u != null && !GameSettings.isPracticeMode()) {
                         int bestRound = Math.max(u.getBestRound(), gameState.level);
                         int bestScore = Math.max(u.getBestScore(), gameState.score);
-                        AppContext.getInstance().db().updateBest(u.getId(), bestRound, bestScore);
-                        AppContext.getInstance().db().clearInProgress(u.getId());
+                        AppContext.getInstance().progress().updateBest(u.getId(), bestRound, bestScore);
+                        AppContext.getInstance().progress().clearInProgress(u.getId());
+                        recordFinishedGame(u);
                     }
                     stopLoopAndNavigate(SceneId.WIN, navigator.transitions().winTransition());
                     return;
@@ -337,7 +537,7 @@ public final class GameController {
      * Track level transitions and start intro if level changed.
      */
     private void trackLevelTransition() {   
-        int currentLevel = gameState.level;
+        int currentLevel = frame.level;
         if (currentLevel != lastLevelObserved) {
             lastLevelObserved = currentLevel;
             if (currentLevel > 0) startLevelIntro();
@@ -352,13 +552,13 @@ public final class GameController {
             levelIntroSequence.stop();
         }
 
-        System.out.println("[GameController] Starting level intro for level " + gameState.level);
+        System.out.println("[GameController] Starting level intro for level " + lastLevelObserved);
 
         bannerLayer.setVisible(true);
         bannerLayer.setManaged(true);
-        gameState.paused = true;
+        mutate(() -> gameState.paused = true);
 
-        PauseTransition showLevel = createBannerStep("LEVEL " + gameState.level, 0.8);
+        PauseTransition showLevel = createBannerStep("LEVEL " + lastLevelObserved, 0.8);
         PauseTransition countdown3 = createBannerStep("3", 0.6);
         PauseTransition countdown2 = createBannerStep("2", 0.6);
         PauseTransition countdown1 = createBannerStep("1", 0.6);
@@ -369,7 +569,7 @@ public final class GameController {
             System.out.println("[GameController] Countdown finished → startNextLevel()");
             bannerLayer.setVisible(false);
             bannerLayer.setManaged(false);
-            gameService.startNextLevel(gameState);
+            mutate(() -> gameService.startNextLevel(gameState));
             eventBus.publish(new GameBGMSoundEvent());
         });
         levelIntroSequence.playFromStart();
@@ -442,7 +642,7 @@ public final class GameController {
      */
     private void showPauseMenu() {
         if (pauseOverlay == null || isPauseVisible()) return;
-        gameState.paused = true;
+        mutate(() -> gameState.paused = true);
         activeKeys.clear();
         countDowning = true;
         overlayLayer.setOpacity(1.0);
@@ -489,7 +689,7 @@ public final class GameController {
         seq.setOnFinished(e -> {
             bannerLayer.setVisible(false);
             bannerLayer.setManaged(false);
-            gameState.paused = false;
+            mutate(() -> gameState.paused = false);
             countDowning = false;
             Platform.runLater(gamePane::requestFocus);
         });
@@ -501,8 +701,8 @@ public final class GameController {
      */
     private void restartLevel() {
         hidePauseMenu();
-        gameService.restartLevel(gameState);
-        lastLevelObserved = gameState.level;
+        mutate(() -> gameService.restartLevel(gameState));
+        lastLevelObserved = frame.level;
         lifeRenderer.reset();
         startLevelIntro();
         Platform.runLater(gamePane::requestFocus);
@@ -513,16 +713,16 @@ public final class GameController {
      */
     private void exitToMenu() {
         hidePauseMenu();
+        // Stop first so the simulation no longer changes the state being saved
+        stop();
         // Save in-progress game state for current user
         User u = AppContext.getInstance().getCurrentUser();
-        if (u != null) {
+        if (u != null && !GameSettings.isPracticeMode()) {
             GameStateSnapshot snap = GameStateSnapshot.from(gameState);
-            // Ensure save completes before navigating to avoid race on level 1
-            AppContext.getInstance().db().saveInProgress(u.getId(), snap).join();
-            // Optionally refresh bests so Rankings is current
-            AppContext.getInstance().db().updateBest(u.getId(), gameState.level, gameState.score).join();
+            // Kept locally, so durable without waiting for the database; the menu reads it back
+            AppContext.getInstance().progress().saveInProgress(u.getId(), snap);
+            AppContext.getInstance().progress().updateBest(u.getId(), gameState.level, gameState.score);
         }
-        stop();
         navigator.navigateTo(SceneId.MENU, navigator.transitions().menuTransition());
     }
 
@@ -538,32 +738,23 @@ public final class GameController {
         lifeRenderer = new LifeRenderer(lifeBox);
         doorTopRenderer = new DoorTopRenderer(gamePane, edge_top);
         enemyRenderer = new EnemyRenderer(gamePane);
+        hudRenderer = new HudRenderer(textOf(livesLabel), textOf(scoreLabel), textOf(highScoreLabel));
 
         gamePane.setFocusTraversable(true);
         Platform.runLater(gamePane::requestFocus);
         GameEventBus.getInstance().publish(new IntroPaddleEvent());
     }
 
+    private static StringProperty textOf(Label label) {
+        return label != null ? label.textProperty() : null;
+    }
+
     /**
-     * Update HUD elements.
+     * Update HUD elements from the last frame; labels are only touched when their value changed.
      */
     private void updateHud() {
         User currentUser = AppContext.getInstance().getCurrentUser();
-        String username = (currentUser != null) ? currentUser.getName() : "PLAYER";
-
-        if (livesLabel != null) 
-            livesLabel.setText(username + " " + Math.max(0, gameState.lives));
-        
-        if (scoreLabel != null) 
-            scoreLabel.setText(Integer.toString(gameState.score));
-        
-        // Keep high score updated locally once surpassed by current run
-        if (gameState.score > gameState.highScore) {
-            gameState.highScore = gameState.score;
-        }
-        if (highScoreLabel != null) {
-            highScoreLabel.setText(Integer.toString(gameState.highScore));
-        }
+        hudRenderer.render(frame, currentUser != null ? currentUser.getName() : "PLAYER");
     }
 
     /**
@@ -571,7 +762,7 @@ public final class GameController {
      * @return
      */
     public int getScore() {
-        return gameState.score;
+        return frame.score;
     }
 
     /**
@@ -585,10 +776,8 @@ public final class GameController {
                 if (err == null && list != null && !list.isEmpty()) {
                     try { bestScore = Math.max(0, list.get(0).getBestScore()); } catch (Exception ignore) {}
                 }
-                gameState.highScore = bestScore;
-                if (highScoreLabel != null) {
-                    highScoreLabel.setText(Integer.toString(gameState.highScore));
-                }
+                int best = bestScore;
+                mutate(() -> gameState.highScore = best);
             });
         });
     }
@@ -614,6 +803,15 @@ public final class GameController {
         }
     }
 
+    /**
+     * Add the game that just ended to the player's game history.
+     * @param u player
+     */
+    private void recordFinishedGame(User u) {
+        stopSimulation(); // the state is read below
+        AppContext.getInstance().db().recordGameSession(GameSessionRecord.of(u.getId(), gameState, Instant.now()));
+    }
+
     /**
      * Stop game loop and navigate to target scene.
      * @param target
@@ -630,6 +828,7 @@ public final class GameController {
     public void stop() {
         eventBus.publish(new StopBGMSoundEvent());
         if (loop != null) loop.stop();
+        stopSimulation();
         if (levelIntroSequence != null) levelIntroSequence.stop();
         spawnTimer.stop();
         subscriptions.forEach(GameEventBus.Subscription::close);
@@ -650,18 +849,17 @@ public final class GameController {
         bannerLayer.setManaged(false);
 
         // Ensure correct level is loaded before applying: handled by SceneController
-        snapshot.applyTo(gameState);
-        updateHud();
+        mutate(() -> {
+            snapshot.applyTo(gameState);
+            // Re-notify view about active paddle effects for correct visuals
+            if (gameState.activePowerUps.containsKey(PowerUpType.EXPAND_PADDLE)) {
+                eventBus.publish(new PowerUpActivatedEvent(PowerUpType.EXPAND_PADDLE));
+            }
+            if (gameState.activePowerUps.containsKey(PowerUpType.LASER_PADDLE)) {
+                eventBus.publish(new PowerUpActivatedEvent(PowerUpType.LASER_PADDLE));
+            }
+        });
         lifeRenderer.reset();
-        // Re-notify view about active paddle effects for correct visuals
-        if (gameState.activePowerUps.containsKey(com.game.arkanoid.models.PowerUpType.EXPAND_PADDLE)) {
-            com.game.arkanoid.events.GameEventBus.getInstance().publish(
-                    new com.game.arkanoid.events.powerup.PowerUpActivatedEvent(com.game.arkanoid.models.PowerUpType.EXPAND_PADDLE));
-        }
-        if (gameState.activePowerUps.containsKey(com.game.arkanoid.models.PowerUpType.LASER_PADDLE)) {
-            com.game.arkanoid.events.GameEventBus.getInstance().publish(
-                    new com.game.arkanoid.events.powerup.PowerUpActivatedEvent(com.game.arkanoid.models.PowerUpType.LASER_PADDLE));
-        }
     }
 
     /**
@@ -677,18 +875,18 @@ public final class GameController {
         seq.setOnFinished(e -> {
             bannerLayer.setVisible(false);
             bannerLayer.setManaged(false);
-            gameService.startNextLevel(gameState); // simply resume running
+            mutate(() -> gameService.startNextLevel(gameState)); // simply resume running
         });
         seq.playFromStart();
     }
 
-    /** Whether current state can be resumed (not game over/completed). */
+    /** Whether current state can be resumed (not game over/completed, and not practice). */
     public boolean isResumable() {
-        return !gameState.gameOver && !gameState.gameCompleted;
+        return !frame.gameOver && !frame.gameCompleted && !GameSettings.isPracticeMode();
     }
 
-    /** Capture a snapshot of current game state for persistence. */
+    /** Capture a snapshot of current game state for persistence, between two ticks. */
     public GameStateSnapshot captureSnapshot() {
-        return GameStateSnapshot.from(gameState);
+        return CompletableFuture.supplyAsync(() -> GameStateSnapshot.from(gameState), this::mutate).join();
     }
 }
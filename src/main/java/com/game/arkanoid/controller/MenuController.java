@@ -20,7 +20,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
-public final class MenuController {
+public final class MenuController implements ReusableScreen {
 
     private final SceneController navigator;
     private final SoundManager sound = SoundManager.getInstance();
@@ -44,8 +44,6 @@ public final class MenuController {
      */
     @FXML
     private void initialize() {
-        eventBus.publish(new MenuBGMSoundEvent());
-
         List<Button> allButtons = List.of(
                 continueButton,
                 optionButton,
@@ -71,7 +69,6 @@ public final class MenuController {
             }
 
             root.requestFocus();
-            updateContinueAvailability();
         });
 
         root.sceneProperty().addListener((obs, oldScene, newScene) -> {
@@ -79,6 +76,16 @@ public final class MenuController {
         });
     }
 
+    /**
+     * Restart the menu music and re-check for a saved game on every visit.
+     */
+    @Override
+    public void onShow() {
+        eventBus.publish(new MenuBGMSoundEvent());
+        root.requestFocus();
+        updateContinueAvailability();
+    }
+
     /**
      * Setup key handler for menu navigation.
      */
@@ -140,7 +147,7 @@ public final class MenuController {
         User current = AppContext.getInstance().getCurrentUser();
         if (current == null) return;
         continueButton.setDisable(true);
-        AppContext.getInstance().db().loadInProgressState(current.getId()).whenComplete((opt, err) -> {
+        AppContext.getInstance().progress().loadInProgressState(current.getId()).whenComplete((opt, err) -> {
             Platform.runLater(() -> {
                 if (err != null || opt.isEmpty()) {
                     continueButton.setDisable(false);
@@ -162,7 +169,7 @@ public final class MenuController {
         continueButton.setDisable(true);
         User user = AppContext.getInstance().getCurrentUser();
         if (user == null) return;
-        AppContext.getInstance().db().loadInProgressState(user.getId()).whenComplete((opt, err) -> {
+        AppContext.getInstance().progress().loadInProgressState(user.getId()).whenComplete((opt, err) -> {
             Platform.runLater(() -> continueButton.setDisable(err != null || opt.isEmpty()));
         });
     }
@@ -2,18 +2,33 @@ package com.game.arkanoid.controller;
 
 import com.game.arkanoid.container.AppContext;
 import com.game.arkanoid.models.RankingEntry;
+import com.game.arkanoid.models.User;
+import com.game.arkanoid.services.DatabaseService;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
 
 import java.util.List;
 
-public final class RankingsController {
+/**
+ * Rankings screen. Rows are loaded a page at a time: the first page when the screen opens,
+ * and the next whenever a row near the end of what is loaded is about to be shown, so
+ * opening the screen costs the same however many users there are.
+ */
+public final class RankingsController implements ReusableScreen {
+
+    /** Rows fetched per page. */
+    private static final int PAGE_SIZE = 50;
+
+    /** How close to the last loaded row a shown row must be to fetch the next page. */
+    private static final int PREFETCH_ROWS = 15;
 
     private final SceneController navigator;
     @FXML private TableView<RankingRow> table;
@@ -21,8 +36,15 @@ public final class RankingsController {
     @FXML private TableColumn<RankingRow, String> colName;
     @FXML private TableColumn<RankingRow, Integer> colScore;
     @FXML private TableColumn<RankingRow, Integer> colRound;
+    @FXML private Label myRankLabel;
     @FXML private Button backButton;
 
+    private final ObservableList<RankingRow> rows = FXCollections.observableArrayList();
+    private RankingEntry lastLoaded;
+    private boolean loading;
+    private boolean exhausted;
+    private int generation; // bumped on every visit so late pages of an old visit are dropped
+
     public RankingsController(SceneController navigator) {
         this.navigator = navigator;
     }
@@ -36,32 +58,86 @@ public final class RankingsController {
         colName.setCellValueFactory(new PropertyValueFactory<>("name"));
         colScore.setCellValueFactory(new PropertyValueFactory<>("score"));
         colRound.setCellValueFactory(new PropertyValueFactory<>("round"));
+        table.setItems(rows);
+        // The table only creates rows for what is visible, so this fires as the user scrolls
+        table.setRowFactory(view -> new TableRow<>() {
+            @Override
+            public void updateIndex(int index) {
+                super.updateIndex(index);
+                if (index >= 0 && index >= rows.size() - PREFETCH_ROWS) loadNextPage();
+            }
+        });
 
         backButton.setOnAction(e -> navigator.showMenu());
+    }
 
-        AppContext.getInstance().db().getRankings(100).whenComplete((list, err) -> {
+    /**
+     * Reload the rankings on every visit so new bests show up.
+     */
+    @Override
+    public void onShow() {
+        generation++;
+        rows.clear();
+        lastLoaded = null;
+        loading = false;
+        exhausted = false;
+        loadNextPage();
+        showMyRank();
+    }
+
+    /**
+     * Fetch the page after the last loaded row, unless one is on its way or none is left.
+     */
+    private void loadNextPage() {
+        if (loading || exhausted) return;
+        loading = true;
+        int visit = generation;
+        AppContext.getInstance().db().getRankingsPage(lastLoaded, PAGE_SIZE).whenComplete((page, err) -> {
             Platform.runLater(() -> {
+                if (visit != generation) return;
+                loading = false;
                 if (err != null) {
-                    table.setItems(FXCollections.observableArrayList());
-                } else {
-                    table.setItems(toRows(list));
+                    exhausted = true;
+                    return;
                 }
+                append(page);
+                if (page.size() < PAGE_SIZE) exhausted = true;
             });
         });
     }
 
     /**
-     * Convert ranking entries to table rows.
+     * Show the current user's rank, which may be far below the loaded rows.
+     */
+    private void showMyRank() {
+        myRankLabel.setText("");
+        User u = AppContext.getInstance().getCurrentUser();
+        if (u == null) return;
+        int visit = generation;
+        AppContext.getInstance().db().getRank(u.getId()).whenComplete((rank, err) -> {
+            Platform.runLater(() -> {
+                if (visit != generation || err != null || rank == 0) return;
+                myRankLabel.setText(rank > DatabaseService.MAX_EXACT_RANK
+                        ? "Your rank: below #" + DatabaseService.MAX_EXACT_RANK
+                        : "Your rank: #" + rank);
+            });
+        });
+    }
+
+    /**
+     * Append ranking entries as table rows, numbered after the rows already loaded.
      * @param entries
-     * @return
      */
-    private ObservableList<RankingRow> toRows(List<RankingEntry> entries) {
-        ObservableList<RankingRow> rows = FXCollections.observableArrayList();
-        int rank = 1;
-        for (RankingEntry e : entries) {
-            rows.add(new RankingRow(rank++, e.getName(), e.getBestScore(), e.getBestRound()));
+    private void append(List<RankingEntry> entries) {
+        if (entries.isEmpty()) return;
+        int rank = rows.size() + 1;
+        RankingRow[] added = new RankingRow[entries.size()];
+        for (int i = 0; i < added.length; i++) {
+            RankingEntry e = entries.get(i);
+            added[i] = new RankingRow(rank++, e.getName(), e.getBestScore(), e.getBestRound());
         }
-        return rows;
+        rows.addAll(added);
+        lastLoaded = entries.get(entries.size() - 1);
     }
 
     /**
@@ -82,4 +158,3 @@ public final class RankingsController {
         public int getRound() { return round; }
     }
 }
-
@@ -0,0 +1,17 @@
+package com.game.arkanoid.controller;
+
+/**
+ * Controller of a screen whose scene is built once and reused by {@link SceneController}.
+ * <p>
+ * {@code initialize()} runs only on the first visit, so anything that must be current each
+ * time the screen appears belongs in {@link #onShow()}.
+ * </p>
+ */
+interface ReusableScreen {
+
+    /**
+     * Refresh the screen before it is shown again. Called on the FX thread on every visit,
+     * including the first.
+     */
+    void onShow();
+}
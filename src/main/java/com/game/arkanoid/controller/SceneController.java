@@ -1,21 +1,38 @@
 package com.game.arkanoid.controller;
 
 import com.game.arkanoid.container.Container;
+import com.game.arkanoid.diagnostics.MetricsRegistry;
+import com.game.arkanoid.diagnostics.StartupTimings;
 import com.game.arkanoid.utils.Constants;
+import com.game.arkanoid.view.transition.TransitionHost;
 import com.game.arkanoid.view.transition.TransitionManager;
 import com.game.arkanoid.view.transition.TransitionStrategy;
 import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Central controller responsible for navigating between scenes and
  * playing visual transitions in the Arkanoid game.
+ * <p>
+ * Stateless screens (menu, settings, rankings) are loaded once and their scenes reused;
+ * their controllers refresh through {@link ReusableScreen#onShow()}. The next game view is
+ * parsed on a background thread while the player is still on the menu or in the previous
+ * round. Navigation latency is recorded per {@link SceneId} in {@link MetricsRegistry}.
+ * </p>
  */
 public final class SceneController {
 
@@ -26,9 +43,24 @@ public final class SceneController {
     /** Manages animated transitions between scenes. */
     private final TransitionManager transitionManager = new TransitionManager();
 
+    /** Number of RoundNView.fxml layouts shipped with the game. */
+    private static final int ROUND_VIEWS = 4;
+
+    /** Loads game views ahead of time. */
+    private static final Executor PRELOADER = Executors.newVirtualThreadPerTaskExecutor();
+
     /** The currently active game controller instance, if any. */
     private GameController activeGameController;
 
+    /** Scenes of the stateless screens, built on first visit. */
+    private final Map<SceneId, CachedScreen> screens = new EnumMap<>(SceneId.class);
+
+    /** Resource of the game view being prepared, or null. */
+    private String preparedResource;
+
+    /** Game view being prepared off the FX thread for {@link #preparedResource}. */
+    private CompletableFuture<PreparedGameView> preparedGame;
+
     // --- Constructor ---
     /**
      * Creates a new SceneController bound to the given stage.
@@ -78,11 +110,62 @@ public final class SceneController {
      * @param sceneId     the logical identifier of the scene
      * @param root        the root node of the FXML layout
      * @param transition  the transition strategy to apply
+     * @param started     {@link System#nanoTime()} when the navigation was requested
      */
-    private void setScene(SceneId sceneId, Parent root, TransitionStrategy transition) {
-        Scene scene = new Scene(root, Constants.GAME_WIDTH, Constants.GAME_HEIGHT);
+    private void setScene(SceneId sceneId, Parent root, TransitionStrategy transition, long started) {
+        present(sceneId, newScene(root), transition, started);
+    }
+
+    /**
+     * Attaches a scene to the stage, records the navigation latency and plays the transition.
+     *
+     * @param sceneId     the logical identifier of the scene
+     * @param scene       the scene to show
+     * @param transition  the transition strategy to apply
+     * @param started     {@link System#nanoTime()} when the navigation was requested
+     */
+    private void present(SceneId sceneId, Scene scene, TransitionStrategy transition, long started) {
+        Image outgoing = transitionManager.captureOutgoing(stage.getScene());
         stage.setScene(scene);
-        Platform.runLater(() -> transitionManager.play(scene.getRoot(), transition, null));
+        MetricsRegistry.getInstance().recordNavigation(sceneId.name(), System.nanoTime() - started);
+        TransitionHost host = (TransitionHost) scene.getRoot();
+        Platform.runLater(() -> transitionManager.play(host, outgoing, transition, null));
+    }
+
+    /**
+     * Creates a scene for a screen root, wrapped so transitions can cover it.
+     *
+     * @param root the root node of the FXML layout
+     * @return the new scene
+     */
+    private static Scene newScene(Parent root) {
+        return new Scene(new TransitionHost(root), Constants.GAME_WIDTH, Constants.GAME_HEIGHT);
+    }
+
+    /**
+     * Shows a stateless screen, loading it on the first visit and reusing its scene afterwards.
+     *
+     * @param sceneId     the screen to show
+     * @param resource    the FXML resource path
+     * @param controller  creates the screen controller on the first visit
+     * @param transition  the transition strategy to apply
+     */
+    private void showScreen(SceneId sceneId, String resource, Supplier<ReusableScreen> controller,
+                            TransitionStrategy transition) {
+        long started = System.nanoTime();
+        stopActiveGame();
+        CachedScreen cached = screens.get(sceneId);
+        if (cached == null) {
+            ReusableScreen screen = controller.get();
+            Parent root = load(resource, loader -> loader.setControllerFactory(cls -> {
+                if (cls.isInstance(screen)) return screen;
+                throw buildUnknownController(cls);
+            }));
+            cached = new CachedScreen(newScene(root), screen);
+            screens.put(sceneId, cached);
+        }
+        present(sceneId, cached.scene(), transition, started);
+        cached.controller().onShow();
     }
 
     /**
@@ -107,16 +190,10 @@ public final class SceneController {
 
     /** Displays the main menu with a specific transition. */
     private void showMenu(TransitionStrategy transition) {
-        stopActiveGame();
-        Parent root = load("/com/game/arkanoid/fxml/MenuView.fxml", loader -> {
-            loader.setControllerFactory(cls -> {
-                if (cls == MenuController.class) {
-                    return new MenuController(this);
-                }
-                throw buildUnknownController(cls);
-            });
-        });
-        setScene(SceneId.MENU, root, transition);
+        showScreen(SceneId.MENU, "/com/game/arkanoid/fxml/MenuView.fxml",
+                () -> new MenuController(this), transition);
+        // Both "start" and a level-1 "continue" land here next
+        prepareGameView(roundViewPath(1));
     }
 
     /** Displays the settings scene using the default transition. */
@@ -126,16 +203,8 @@ public final class SceneController {
 
     /** Displays the settings scene with a specific transition. */
     private void showSettings(TransitionStrategy transition) {
-        stopActiveGame();
-        Parent root = load("/com/game/arkanoid/fxml/SettingsView.fxml", loader -> {
-            loader.setControllerFactory(cls -> {
-                if (cls == SettingsController.class) {
-                    return new SettingsController(this);
-                }
-                throw buildUnknownController(cls);
-            });
-        });
-        setScene(SceneId.SETTINGS, root, transition);
+        showScreen(SceneId.SETTINGS, "/com/game/arkanoid/fxml/SettingsView.fxml",
+                () -> new SettingsController(this), transition);
     }
 
     /** Displays the rankings scene using the default transition. */
@@ -145,14 +214,8 @@ public final class SceneController {
 
     /** Displays the rankings scene with a specific transition. */
     private void showRankings(TransitionStrategy transition) {
-        stopActiveGame();
-        Parent root = load("/com/game/arkanoid/fxml/RankingsView.fxml", loader -> {
-            loader.setControllerFactory(cls -> {
-                if (cls == RankingsController.class) return new RankingsController(this);
-                throw buildUnknownController(cls);
-            });
-        });
-        setScene(SceneId.RANKINGS, root, transition);
+        showScreen(SceneId.RANKINGS, "/com/game/arkanoid/fxml/RankingsView.fxml",
+                () -> new RankingsController(this), transition);
     }
 
     /** Displays the login screen using the default transition. */
@@ -162,6 +225,7 @@ public final class SceneController {
 
     /** Displays the login screen with a specific transition. */
     private void showLogin(TransitionStrategy transition) {
+        long started = System.nanoTime();
         stopActiveGame();
         Parent root = load("/com/game/arkanoid/fxml/LoginView.fxml", loader -> {
             loader.setControllerFactory(cls -> {
@@ -169,7 +233,7 @@ public final class SceneController {
                 throw buildUnknownController(cls);
             });
         });
-        setScene(SceneId.LOGIN, root, transition);
+        setScene(SceneId.LOGIN, root, transition, started);
     }
 
     /** Displays the signup screen using the default transition. */
@@ -179,6 +243,7 @@ public final class SceneController {
 
     /** Displays the signup screen with a specific transition. */
     private void showSignup(TransitionStrategy transition) {
+        long started = System.nanoTime();
         stopActiveGame();
         Parent root = load("/com/game/arkanoid/fxml/SignupView.fxml", loader -> {
             loader.setControllerFactory(cls -> {
@@ -186,7 +251,7 @@ public final class SceneController {
                 throw buildUnknownController(cls);
             });
         });
-        setScene(SceneId.SIGNUP, root, transition);
+        setScene(SceneId.SIGNUP, root, transition, started);
     }
 
     // ===============================================================
@@ -200,17 +265,12 @@ public final class SceneController {
 
     /** Displays the gameplay scene with a specific transition. */
     private void showGame(TransitionStrategy transition) {
+        long started = System.nanoTime();
+        StartupTimings.markGameRequested();
         stopActiveGame();
-        Container container = Container.getInstance();
-        Parent root = load("/com/game/arkanoid/fxml/Round1View.fxml", loader -> {
-            loader.setControllerFactory(cls -> {
-                if (cls == GameController.class) {
-                    return new GameController(container.getGameState(), container.getGameService(), this);
-                }
-                throw buildUnknownController(cls);
-            });
-        });
-        setScene(SceneId.GAME, root, transition);
+        Parent root = loadGameView(roundViewPath(1));
+        setScene(SceneId.GAME, root, transition, started);
+        prepareGameView(roundViewPath(2));
     }
 
     /**
@@ -219,20 +279,12 @@ public final class SceneController {
      * @param round the round number to display
      */
     public void showGameRound(int round) {
+        long started = System.nanoTime();
+        StartupTimings.markGameRequested();
         stopActiveGame();
-        Container container = Container.getInstance();
-        String path = String.format("/com/game/arkanoid/fxml/Round%dView.fxml", round);
-
-        Parent root = load(path, loader -> {
-            loader.setControllerFactory(cls -> {
-                if (cls == GameController.class) {
-                    return new GameController(container.getGameState(), container.getGameService(), this);
-                }
-                throw buildUnknownController(cls);
-            });
-        });
-
-        setScene(SceneId.GAME, root, transitionManager.levelBannerTransition());
+        Parent root = loadGameView(roundViewPath(round));
+        setScene(SceneId.GAME, root, transitionManager.levelBannerTransition(), started);
+        prepareGameView(roundViewPath(round + 1));
     }
 
     /** Displays the Game Over screen using the default transition. */
@@ -242,6 +294,7 @@ public final class SceneController {
 
     /** Displays the Game Over screen with a specific transition. */
     private void showGameOver(TransitionStrategy transition) {
+        long started = System.nanoTime();
         final int finalScore;
 
         if (activeGameController != null) {
@@ -261,7 +314,7 @@ public final class SceneController {
             });
         });
 
-        setScene(SceneId.GAME_OVER, root, transition);
+        setScene(SceneId.GAME_OVER, root, transition, started);
     }
 
     /** Displays the victory (Win) screen using the default transition. */
@@ -271,6 +324,7 @@ public final class SceneController {
 
     /** Displays the victory (Win) screen with a specific transition. */
     private void showWin(TransitionStrategy transition) {
+        long started = System.nanoTime();
         final int finalScore;
         if (activeGameController != null) {
             finalScore = activeGameController.getScore();
@@ -289,7 +343,7 @@ public final class SceneController {
             });
         });
 
-        setScene(SceneId.WIN, root, transition);
+        setScene(SceneId.WIN, root, transition, started);
     }
 
     /** Resumes the current game (if paused). Placeholder for future use. */
@@ -303,25 +357,17 @@ public final class SceneController {
      * @param snapshot the saved game state snapshot
      */
     public void startGameFromSnapshot(com.game.arkanoid.models.GameStateSnapshot snapshot) {
+        long started = System.nanoTime();
         int round = Math.max(1, snapshot.currentLevel);
+        StartupTimings.markGameRequested();
         stopActiveGame();
-        Container container = Container.getInstance();
-        String path = String.format("/com/game/arkanoid/fxml/Round%dView.fxml", round);
-
-        Parent root = load(path, loader -> {
-            loader.setControllerFactory(cls -> {
-                if (cls == GameController.class) {
-                    return new GameController(container.getGameState(), container.getGameService(), this);
-                }
-                throw buildUnknownController(cls);
-            });
-        });
-
-        setScene(SceneId.GAME, root, transitionManager.gameTransition());
+        Parent root = loadGameView(roundViewPath(round));
+        setScene(SceneId.GAME, root, transitionManager.gameTransition(), started);
         if (activeGameController != null) {
             activeGameController.applySnapshot(snapshot);
             activeGameController.resumeWithCountdown();
         }
+        prepareGameView(roundViewPath(round + 1));
     }
 
     // ===============================================================
@@ -338,11 +384,8 @@ public final class SceneController {
         if (u == null) return;
 
         com.game.arkanoid.models.GameStateSnapshot snap = activeGameController.captureSnapshot();
-        try {
-            app.db().saveInProgress(u.getId(), snap).join();
-        } catch (Exception ignore) {
-            // ignore on shutdown
-        }
+        // Durable locally once this returns; reaches the database in the background or on next start
+        app.progress().saveInProgress(u.getId(), snap);
     }
 
     /** Closes the application window. */
@@ -376,6 +419,85 @@ public final class SceneController {
         }
     }
 
+    /**
+     * Loads a game view bound to the current {@link Container}, taking it from the
+     * background preload when that prepared the same view.
+     *
+     * @param resource the FXML resource path
+     * @return the loaded root node
+     */
+    private Parent loadGameView(String resource) {
+        Container container = Container.getInstance();
+        PreparedGameView prepared = takePreparedGameView(resource);
+        if (prepared != null) {
+            prepared.controller().bind(container.getGameState(), container.getGameService());
+            activeGameController = prepared.controller();
+            return prepared.root();
+        }
+        return load(resource, loader -> {
+            loader.setControllerFactory(cls -> {
+                if (cls == GameController.class) {
+                    return new GameController(container.getGameState(), container.getGameService(), this);
+                }
+                throw buildUnknownController(cls);
+            });
+        });
+    }
+
+    /**
+     * Starts parsing a game view on a background thread, replacing any other prepared view.
+     * The view is not bound to a game until it is shown.
+     *
+     * @param resource the FXML resource path
+     */
+    private void prepareGameView(String resource) {
+        if (resource.equals(preparedResource)) return;
+        preparedResource = resource;
+        preparedGame = CompletableFuture.supplyAsync(() -> {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource(resource));
+            GameController controller = new GameController(this);
+            loader.setControllerFactory(cls -> {
+                if (cls == GameController.class) return controller;
+                throw buildUnknownController(cls);
+            });
+            try {
+                return new PreparedGameView(loader.load(), controller);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load " + resource, e);
+            }
+        }, PRELOADER);
+    }
+
+    /**
+     * Takes the prepared game view if it is for the given resource, waiting for it to finish.
+     *
+     * @param resource the FXML resource path
+     * @return the prepared view, or null if none matches or preparing it failed
+     */
+    private PreparedGameView takePreparedGameView(String resource) {
+        if (!resource.equals(preparedResource)) return null;
+        CompletableFuture<PreparedGameView> future = preparedGame;
+        preparedResource = null;
+        preparedGame = null;
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            System.err.println("Game view preload failed, loading directly: " + e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the FXML view for a round; level packs longer than the shipped views reuse them in turn.
+     *
+     * @param round the 1-based round number
+     * @return the FXML resource path
+     */
+    private static String roundViewPath(int round) {
+        int view = (Math.max(1, round) - 1) % ROUND_VIEWS + 1;
+        return String.format("/com/game/arkanoid/fxml/Round%dView.fxml", view);
+    }
+
     /**
      * Builds a descriptive exception when an unexpected controller type is requested.
      *
@@ -385,4 +507,12 @@ public final class SceneController {
     private RuntimeException buildUnknownController(Class<?> cls) {
         return new IllegalArgumentException("Unsupported controller request: " + cls.getName());
     }
+
+    /** A reusable screen's scene and controller. */
+    private record CachedScreen(Scene scene, ReusableScreen controller) {
+    }
+
+    /** A game view loaded ahead of time and not yet bound to a game. */
+    private record PreparedGameView(Parent root, GameController controller) {
+    }
 }
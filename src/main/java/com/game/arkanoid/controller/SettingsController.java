@@ -18,7 +18,7 @@ import javafx.scene.control.Slider;
  * synchronizing them with {@link GameSettings} and {@link SoundManager}.
  * </p>
  */
-public final class SettingsController {
+public final class SettingsController implements ReusableScreen {
     private final GameEventBus eventBus = GameEventBus.getInstance();
 
     /** ComboBox for selecting the game difficulty level. */
@@ -74,6 +74,16 @@ public final class SettingsController {
         sfxSlider.valueProperty().bindBidirectional(sound.sfxVolumeProperty());
     }
 
+    /**
+     * Re-selects the current difficulty; the sliders stay bound between visits.
+     */
+    @Override
+    public void onShow() {
+        if (difficultyCombo.getSelectionModel().getSelectedItem() != GameSettings.getDifficulty()) {
+            difficultyCombo.getSelectionModel().select(GameSettings.getDifficulty());
+        }
+    }
+
     /**
      * Called when the user changes the difficulty.
      *
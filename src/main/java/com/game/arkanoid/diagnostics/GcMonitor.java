@@ -0,0 +1,60 @@
+package com.game.arkanoid.diagnostics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Tracks garbage-collection activity between samples using the platform MX beans.
+ */
+public final class GcMonitor {
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long lastCount;
+    private long lastTimeMs;
+    private long deltaCount;
+    private long deltaTimeMs;
+
+    public GcMonitor() {
+        sample();
+        deltaCount = 0;
+        deltaTimeMs = 0;
+    }
+
+    /**
+     * Read the collectors and update the deltas since the previous call.
+     */
+    public void sample() {
+        long count = 0;
+        long time = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            GarbageCollectorMXBean gc = collectors.get(i);
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        deltaCount = count - lastCount;
+        deltaTimeMs = time - lastTimeMs;
+        lastCount = count;
+        lastTimeMs = time;
+    }
+
+    /** @return collections since the previous sample */
+    public long collectionsSinceLastSample() {
+        return deltaCount;
+    }
+
+    /** @return accumulated collection time in ms since the previous sample */
+    public long pauseMsSinceLastSample() {
+        return deltaTimeMs;
+    }
+
+    /** @return total collections since JVM start */
+    public long totalCollections() {
+        return lastCount;
+    }
+
+    /** @return total collection time in ms since JVM start */
+    public long totalPauseMs() {
+        return lastTimeMs;
+    }
+}
@@ -0,0 +1,82 @@
+package com.game.arkanoid.diagnostics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram backed by striped adders, so recording threads never contend
+ * with each other or with a scraper. Values are in seconds, matching Prometheus conventions.
+ */
+public final class Histogram {
+
+    /** Default latency buckets in seconds, from 50 us to 2.5 s. */
+    public static final double[] LATENCY_BUCKETS = {
+        0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5
+    };
+
+    private final double[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+
+    /**
+     * @param bounds ascending upper bounds of the buckets; +Inf is implicit
+     */
+    public Histogram(double[] bounds) {
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+    }
+
+    /**
+     * Record a value in seconds.
+     * @param seconds
+     */
+    public void observe(double seconds) {
+        int i = 0;
+        while (i < bounds.length && seconds > bounds[i]) i++;
+        buckets[i].increment();
+        count.increment();
+        sum.add(seconds);
+    }
+
+    /**
+     * Record a duration in nanoseconds.
+     * @param nanos
+     */
+    public void observeNanos(long nanos) {
+        observe(nanos / 1e9);
+    }
+
+    /** @return number of bucket bounds, excluding +Inf */
+    public int bucketCount() {
+        return bounds.length;
+    }
+
+    /**
+     * @param i bucket index
+     * @return upper bound of the bucket
+     */
+    public double bound(int i) {
+        return bounds[i];
+    }
+
+    /**
+     * Non-cumulative count of a bucket; index {@link #bucketCount()} is the +Inf bucket.
+     * @param i bucket index
+     * @return observations in the bucket
+     */
+    public long bucket(int i) {
+        return buckets[i].sum();
+    }
+
+    /** @return number of observations */
+    public long count() {
+        return count.sum();
+    }
+
+    /** @return sum of observations in seconds */
+    public double sum() {
+        return sum.sum();
+    }
+}
@@ -0,0 +1,252 @@
+package com.game.arkanoid.diagnostics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide game metrics rendered in the Prometheus text exposition format.
+ * <p>
+ * Counters and histograms use {@link LongAdder} stripes, so the FX thread, the database
+ * threads and the scraper never contend on a shared cache line. After a label value has been
+ * seen once, recording is allocation-free.
+ * </p>
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    /** Frames rendered by the game loop. */
+    public final LongAdder framesRendered = new LongAdder();
+
+    /** Frames whose interval exceeded {@link #DROPPED_FRAME_NANOS}. */
+    public final LongAdder droppedFrames = new LongAdder();
+
+    /** Simulation tick duration. */
+    public final Histogram tickSeconds = new Histogram(Histogram.LATENCY_BUCKETS);
+
+    /** A frame interval longer than this counts as dropped (1.5 x 60 Hz). */
+    public static final long DROPPED_FRAME_NANOS = 25_000_000L;
+
+    /** Event types counted separately; publishes of any further types share the last slot. */
+    static final int MAX_EVENT_TYPES = 64;
+
+    private final Map<String, Histogram> dbSeconds = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> dbErrors = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> navigationSeconds = new ConcurrentHashMap<>();
+    private final LongAdder[] busPublishes = new LongAdder[MAX_EVENT_TYPES];
+    private final String[] busTypes = new String[MAX_EVENT_TYPES]; // guarded by itself
+    private int eventTypes;                                         // guarded by busTypes
+    /** Slot of each event type, assigned on its first publish. */
+    private final ClassValue<Integer> busOrdinal = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return assignOrdinal(type);
+        }
+    };
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    /** Keyed by name, a NUL and the label set, so every series of one family sorts together. */
+    private final Map<String, SampledCounter> sampledCounters = new ConcurrentSkipListMap<>();
+
+    private record SampledCounter(String name, String help, String labels, LongSupplier value) { }
+
+    // Written by the game loop, read by the scraper
+    private volatile long balls;
+    private volatile long bricks;
+    private volatile long bullets;
+    private volatile long enemies;
+    private volatile long powerUps;
+
+    private MetricsRegistry() {
+        for (int i = 0; i < MAX_EVENT_TYPES; i++) busPublishes[i] = new LongAdder();
+    }
+
+    /**
+     * Get the singleton instance.
+     * @return the singleton instance
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record a database operation.
+     * @param operation operation name
+     * @param nanos execution time
+     * @param success false if the operation threw
+     */
+    public void recordDbCall(String operation, long nanos, boolean success) {
+        dbSeconds.computeIfAbsent(operation, k -> new Histogram(Histogram.LATENCY_BUCKETS)).observeNanos(nanos);
+        if (!success) dbErrors.computeIfAbsent(operation, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Record a scene navigation, from the request until the new scene is attached.
+     * @param scene scene name
+     * @param nanos navigation time
+     */
+    public void recordNavigation(String scene, long nanos) {
+        navigationSeconds.computeIfAbsent(scene, k -> new Histogram(Histogram.LATENCY_BUCKETS)).observeNanos(nanos);
+    }
+
+    /**
+     * Count one event-bus publish. Allocation-free once the type has been seen.
+     * @param type event class
+     */
+    public void countPublish(Class<?> type) {
+        busPublishes[busOrdinal.get(type)].increment();
+    }
+
+    private int assignOrdinal(Class<?> type) {
+        synchronized (busTypes) {
+            int slot = Math.min(eventTypes, MAX_EVENT_TYPES - 1);
+            if (slot < MAX_EVENT_TYPES - 1) {
+                busTypes[slot] = type.getSimpleName();
+                eventTypes++;
+            } else {
+                busTypes[slot] = "other";
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Publish the live entity counts of the current game.
+     * @param balls
+     * @param bricks
+     * @param bullets
+     * @param enemies
+     * @param powerUps
+     */
+    public void setEntities(int balls, int bricks, int bullets, int enemies, int powerUps) {
+        this.balls = balls;
+        this.bricks = bricks;
+        this.bullets = bullets;
+        this.enemies = enemies;
+        this.powerUps = powerUps;
+    }
+
+    /**
+     * Register a gauge sampled at scrape time, replacing any gauge with the same name.
+     * @param name metric name
+     * @param supplier value source; must be thread-safe
+     */
+    public void registerGauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * Register a monotonically increasing total owned elsewhere, sampled at scrape time.
+     * Series registered under the same name are rendered as one counter family.
+     * @param name metric name, ending in {@code _total}
+     * @param help help text for the family
+     * @param labels label set such as {@code reason="no_voice"}, or empty
+     * @param supplier value source; must be thread-safe and never decrease
+     */
+    public void registerCounter(String name, String help, String labels, LongSupplier supplier) {
+        sampledCounters.put(name + '\0' + labels, new SampledCounter(name, help, labels, supplier));
+    }
+
+    /**
+     * Remove a gauge.
+     * @param name metric name
+     */
+    public void unregisterGauge(String name) {
+        gauges.remove(name);
+    }
+
+    /**
+     * Render all metrics in the Prometheus text format (version 0.0.4).
+     * @return exposition text
+     */
+    public String scrape() {
+        StringBuilder sb = new StringBuilder(4096);
+        counter(sb, "arkanoid_frames_rendered_total", "Frames rendered by the game loop", framesRendered.sum());
+        counter(sb, "arkanoid_dropped_frames_total", "Frames whose interval exceeded 25 ms", droppedFrames.sum());
+
+        header(sb, "arkanoid_tick_seconds", "Simulation tick duration", "histogram");
+        histogram(sb, "arkanoid_tick_seconds", "", tickSeconds);
+
+        header(sb, "arkanoid_db_call_seconds", "Database operation execution time", "histogram");
+        dbSeconds.forEach((op, h) -> histogram(sb, "arkanoid_db_call_seconds", "operation=\"" + escape(op) + "\"", h));
+
+        header(sb, "arkanoid_db_call_errors_total", "Database operations that failed", "counter");
+        dbErrors.forEach((op, c) -> sample(sb, "arkanoid_db_call_errors_total", "operation=\"" + escape(op) + "\"", c.sum()));
+
+        header(sb, "arkanoid_navigation_seconds", "Scene navigation latency", "histogram");
+        navigationSeconds.forEach((scene, h) ->
+                histogram(sb, "arkanoid_navigation_seconds", "scene=\"" + escape(scene) + "\"", h));
+
+        header(sb, "arkanoid_event_bus_publishes_total", "Events published on the game event bus", "counter");
+        String[] types;
+        synchronized (busTypes) {
+            types = busTypes.clone();
+        }
+        for (int i = 0; i < MAX_EVENT_TYPES; i++) {
+            if (types[i] == null) continue;
+            sample(sb, "arkanoid_event_bus_publishes_total", "type=\"" + escape(types[i]) + "\"", busPublishes[i].sum());
+        }
+
+        header(sb, "arkanoid_active_entities", "Live entities in the current game", "gauge");
+        sample(sb, "arkanoid_active_entities", "kind=\"ball\"", balls);
+        sample(sb, "arkanoid_active_entities", "kind=\"brick\"", bricks);
+        sample(sb, "arkanoid_active_entities", "kind=\"bullet\"", bullets);
+        sample(sb, "arkanoid_active_entities", "kind=\"enemy\"", enemies);
+        sample(sb, "arkanoid_active_entities", "kind=\"power_up\"", powerUps);
+
+        gauges.forEach((name, supplier) -> {
+            header(sb, name, name.replace('_', ' '), "gauge");
+            sample(sb, name, "", supplier.getAsLong());
+        });
+        String family = null;
+        for (SampledCounter c : sampledCounters.values()) {
+            if (!c.name().equals(family)) {
+                family = c.name();
+                header(sb, family, c.help(), "counter");
+            }
+            sample(sb, family, c.labels(), c.value().getAsLong());
+        }
+        return sb.toString();
+    }
+
+    private static void counter(StringBuilder sb, String name, String help, long value) {
+        header(sb, name, help, "counter");
+        sample(sb, name, "", value);
+    }
+
+    private static void header(StringBuilder sb, String name, String help, String type) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String name, String labels, long value) {
+        sb.append(name);
+        if (!labels.isEmpty()) sb.append('{').append(labels).append('}');
+        sb.append(' ').append(value).append('\n');
+    }
+
+    private static void histogram(StringBuilder sb, String name, String labels, Histogram h) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < h.bucketCount(); i++) {
+            cumulative += h.bucket(i);
+            sb.append(name).append("_bucket{").append(prefix).append("le=\"")
+              .append(format(h.bound(i))).append("\"} ").append(cumulative).append('\n');
+        }
+        cumulative += h.bucket(h.bucketCount());
+        sb.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+        String suffix = labels.isEmpty() ? "" : "{" + labels + "}";
+        sb.append(name).append("_sum").append(suffix).append(' ').append(format(h.sum())).append('\n');
+        sb.append(name).append("_count").append(suffix).append(' ').append(cumulative).append('\n');
+    }
+
+    private static String format(double v) {
+        return Double.toString(v);
+    }
+
+    private static String escape(String v) {
+        return v.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,89 @@
+package com.game.arkanoid.diagnostics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves {@link MetricsRegistry#scrape()} at {@code /metrics} on the loopback interface.
+ * <p>
+ * Enabled by the {@code arkanoid.metrics.port} system property or the
+ * {@code ARKANOID_METRICS_PORT} environment variable; port 0 picks a free port.
+ * </p>
+ */
+public final class MetricsServer implements AutoCloseable {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Bind and start the server.
+     * @param registry metrics to expose
+     * @param port TCP port on 127.0.0.1, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public MetricsServer(MetricsRegistry registry, int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "metrics-http");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", exchange -> handle(exchange, registry));
+        server.start();
+    }
+
+    /**
+     * Start a server if a port is configured.
+     * @return the running server, or null if disabled or the port is unavailable
+     */
+    public static MetricsServer startIfConfigured() {
+        String port = System.getProperty("arkanoid.metrics.port", System.getenv("ARKANOID_METRICS_PORT"));
+        if (port == null || port.isBlank()) return null;
+        try {
+            MetricsServer server = new MetricsServer(MetricsRegistry.getInstance(), Integer.parseInt(port.trim()));
+            System.out.println("[MetricsServer] Serving http://127.0.0.1:" + server.port() + "/metrics");
+            return server;
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("[MetricsServer] Disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return bound port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    private static void handle(HttpExchange exchange, MetricsRegistry registry) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,97 @@
+package com.game.arkanoid.diagnostics;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+
+/**
+ * In-game text overlay showing {@link TickProfiler} percentiles, GC activity and
+ * scene-graph size. Refreshes a few times per second to keep its own cost out of the numbers.
+ */
+public final class ProfilerOverlay {
+
+    private static final long REFRESH_NANOS = 250_000_000L;
+
+    private final TickProfiler profiler;
+    private final GcMonitor gc = new GcMonitor();
+    private final Label label = new Label();
+    private final StringBuilder text = new StringBuilder(1024);
+    private Parent sceneRoot;
+    private long lastRefresh;
+
+    /**
+     * Create the overlay and attach it, hidden, to a host pane.
+     * @param profiler profiler to report
+     * @param host pane the label is added to
+     */
+    public ProfilerOverlay(TickProfiler profiler, StackPane host) {
+        this.profiler = profiler;
+        label.setMouseTransparent(true);
+        label.setVisible(false);
+        label.setPadding(new Insets(6));
+        label.setStyle("-fx-background-color: rgba(0,0,0,0.7); -fx-text-fill: #7CFC00;"
+                + " -fx-font-family: 'monospace'; -fx-font-size: 11px;");
+        StackPane.setAlignment(label, Pos.TOP_LEFT);
+        host.getChildren().add(label);
+        sceneRoot = host;
+    }
+
+    /**
+     * Show or hide the overlay; recording follows visibility.
+     */
+    public void toggle() {
+        boolean show = !label.isVisible();
+        label.setVisible(show);
+        profiler.setEnabled(show);
+        if (show) {
+            profiler.reset();
+            gc.sample();
+            lastRefresh = 0;
+        }
+    }
+
+    /**
+     * @return true if the overlay is shown
+     */
+    public boolean isVisible() {
+        return label.isVisible();
+    }
+
+    /**
+     * Refresh the text if visible and the refresh interval has elapsed.
+     * @param now frame timestamp in nanoseconds
+     */
+    public void update(long now) {
+        if (!label.isVisible() || now - lastRefresh < REFRESH_NANOS) return;
+        lastRefresh = now;
+        if (label.getScene() != null) sceneRoot = label.getScene().getRoot();
+        gc.sample();
+
+        text.setLength(0);
+        text.append(String.format("%-12s %8s %8s%n", "section", "p50 us", "p99 us"));
+        for (TickProfiler.Section s : TickProfiler.sections()) {
+            if (profiler.sampleCount(s) == 0) continue;
+            text.append(String.format("%-12s %8.1f %8.1f%n", s.label(),
+                    profiler.percentile(s, 50) / 1_000.0,
+                    profiler.percentile(s, 99) / 1_000.0));
+        }
+        text.append(String.format("gc: %d (%d ms) last 250ms, %d (%d ms) total%n",
+                gc.collectionsSinceLastSample(), gc.pauseMsSinceLastSample(),
+                gc.totalCollections(), gc.totalPauseMs()));
+        text.append("nodes: ").append(countNodes(sceneRoot));
+        label.setText(text.toString());
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,105 @@
+package com.game.arkanoid.diagnostics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Locale;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * Long-run trace of a soak test, printed as one CSV line per sample.
+ * <p>
+ * The driver records the duration of every tick with {@link #recordTick} and calls
+ * {@link #sample} at its own interval. Each line reports the ticks since the previous sample
+ * with their mean and maximum duration, the bytes allocated per tick by all threads, heap in
+ * use after the interval, garbage collections, and two counts from the driver: scene-graph
+ * nodes (-1 without a display) and game entities. A leak shows up as heap, nodes or
+ * entities climbing across samples; a slowdown as rising tick times.
+ * </p>
+ */
+public final class SoakTrace {
+
+    /** Column names, printed once when the trace starts. */
+    public static final String HEADER =
+            "elapsed_s,ticks,tick_mean_us,tick_max_us,alloc_bytes_per_tick,heap_used_mb,gc_count,gc_ms,nodes,entities";
+
+    private final PrintStream out;
+    private final GcMonitor gc = new GcMonitor();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final com.sun.management.ThreadMXBean threads;
+    private final long startNanos = System.nanoTime();
+
+    private long ticks;
+    private long tickNanos;
+    private long maxTickNanos;
+    private long lastAllocated;
+
+    /**
+     * Start a trace and print its header.
+     * @param out destination of the CSV lines
+     */
+    public SoakTrace(PrintStream out) {
+        this.out = out;
+        this.threads = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t
+                && t.isThreadAllocatedMemorySupported() ? t : null;
+        if (threads != null && !threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+        lastAllocated = allocatedBytes();
+        out.println(HEADER);
+    }
+
+    /**
+     * Record one tick.
+     * @param nanos its duration
+     */
+    public void recordTick(long nanos) {
+        ticks++;
+        tickNanos += nanos;
+        if (nanos > maxTickNanos) maxTickNanos = nanos;
+    }
+
+    /**
+     * Count a scene-graph subtree.
+     * @param parent root of the subtree
+     * @return the root and all its descendants
+     */
+    public static int countNodes(Parent parent) {
+        int count = 1;
+        for (Node child : parent.getChildrenUnmodifiable()) {
+            count += child instanceof Parent p ? countNodes(p) : 1;
+        }
+        return count;
+    }
+
+    /**
+     * Print a line for the ticks recorded since the previous sample and start a new interval.
+     * @param nodes scene-graph nodes of the game view, or -1 without a display
+     * @param entities balls, bricks, bullets, enemies and power-ups in play
+     */
+    public void sample(int nodes, int entities) {
+        gc.sample();
+        long allocated = allocatedBytes();
+        long perTick = ticks > 0 && allocated >= 0 ? (allocated - lastAllocated) / ticks : -1;
+        out.println(String.format(Locale.ROOT, "%.1f,%d,%.1f,%.1f,%d,%.1f,%d,%d,%d,%d",
+                (System.nanoTime() - startNanos) / 1e9,
+                ticks,
+                ticks > 0 ? tickNanos / 1e3 / ticks : 0.0,
+                maxTickNanos / 1e3,
+                perTick,
+                memory.getHeapMemoryUsage().getUsed() / (1024.0 * 1024.0),
+                gc.collectionsSinceLastSample(),
+                gc.pauseMsSinceLastSample(),
+                nodes,
+                entities));
+        out.flush();
+        lastAllocated = allocated;
+        ticks = 0;
+        tickNanos = 0;
+        maxTickNanos = 0;
+    }
+
+    /** @return bytes allocated by all threads so far, or -1 if the JVM cannot tell */
+    private long allocatedBytes() {
+        return threads != null ? threads.getTotalThreadAllocatedBytes() : -1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.game.arkanoid.diagnostics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Records the two startup latencies players notice: JVM start to login screen, and
+ * game-scene request to the first rendered game frame. Each is recorded once per process,
+ * logged, and exported as a gauge.
+ */
+public final class StartupTimings {
+
+    private static final long UNSET = -1;
+
+    private static volatile long loginMillis = UNSET;
+    private static volatile long gameRequestedNanos = UNSET;
+    private static volatile long firstGameFrameMillis = UNSET;
+
+    static {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.registerGauge("arkanoid_startup_login_millis", StartupTimings::loginMillis);
+        metrics.registerGauge("arkanoid_startup_first_game_frame_millis", StartupTimings::firstGameFrameMillis);
+    }
+
+    private StartupTimings() {
+    }
+
+    /**
+     * Record that the login screen is on screen; measured from JVM start.
+     */
+    public static synchronized void markLoginShown() {
+        if (loginMillis != UNSET) return;
+        loginMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.out.println("[Startup] login screen after " + loginMillis + " ms");
+    }
+
+    /**
+     * Record that the first game scene was requested. Later calls are ignored.
+     */
+    public static synchronized void markGameRequested() {
+        if (gameRequestedNanos == UNSET) gameRequestedNanos = System.nanoTime();
+    }
+
+    /**
+     * Record that a game frame was rendered; only the first one after
+     * {@link #markGameRequested()} counts.
+     */
+    public static void markGameFrame() {
+        if (firstGameFrameMillis != UNSET || gameRequestedNanos == UNSET) return;
+        synchronized (StartupTimings.class) {
+            if (firstGameFrameMillis != UNSET) return;
+            firstGameFrameMillis = (System.nanoTime() - gameRequestedNanos) / 1_000_000L;
+        }
+        System.out.println("[Startup] first game frame after " + firstGameFrameMillis + " ms");
+    }
+
+    /** @return JVM start to login screen in ms, or -1 if not reached yet */
+    public static long loginMillis() {
+        return loginMillis;
+    }
+
+    /** @return game-scene request to first game frame in ms, or -1 if not reached yet */
+    public static long firstGameFrameMillis() {
+        return firstGameFrameMillis;
+    }
+}
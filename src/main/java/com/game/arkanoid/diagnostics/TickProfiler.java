@@ -0,0 +1,147 @@
+package com.game.arkanoid.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * Low-overhead per-section frame profiler.
+ * <p>
+ * Each section records {@link System#nanoTime()} durations into a preallocated ring buffer;
+ * percentiles are computed on demand over the last {@link #WINDOW} samples. Recording never
+ * allocates. When disabled, {@link #start()} returns 0 and {@link #stop(Section, long)} returns
+ * immediately, so an instrumented call site costs one field read and a branch. Launching with
+ * {@code -Darkanoid.profiler=false} removes even that, since {@link #AVAILABLE} is a constant
+ * the JIT folds away.
+ * </p>
+ * <p>
+ * Not thread-safe: record and read from the game loop thread.
+ * </p>
+ */
+public final class TickProfiler {
+
+    /** Instrumented parts of a frame, in loop order. */
+    public enum Section {
+        INPUT("input"),
+        ENEMIES("enemies"),
+        BALLS("balls"),
+        BULLETS("bullets"),
+        POWER_UPS("powerUps"),
+        LOGIC("logic total"),
+        RENDER_PADDLE("r.paddle"),
+        RENDER_BALLS("r.balls"),
+        RENDER_POWER_UPS("r.powerUps"),
+        RENDER_BULLETS("r.bullets"),
+        RENDER_BRICKS("r.bricks"),
+        RENDER_LIVES("r.lives"),
+        RENDER_ENEMIES("r.enemies"),
+        HUD("hud"),
+        FRAME("frame total");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    /** Samples kept per section; a power of two. */
+    public static final int WINDOW = 512;
+
+    /** Master switch, fixed at startup. */
+    public static final boolean AVAILABLE =
+            Boolean.parseBoolean(System.getProperty("arkanoid.profiler", "true"));
+
+    private static final Section[] SECTIONS = Section.values();
+
+    private final long[][] samples = new long[SECTIONS.length][WINDOW];
+    private final long[] written = new long[SECTIONS.length];
+    private final long[] scratch = new long[WINDOW];
+    private boolean enabled;
+
+    /**
+     * Is recording on?
+     * @return true if sections are being recorded
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn recording on or off. Ignored when the profiler is not {@link #AVAILABLE}.
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = AVAILABLE && enabled;
+    }
+
+    /**
+     * Begin timing a section.
+     * @return start timestamp, or 0 when disabled
+     */
+    public long start() {
+        return AVAILABLE && enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Finish timing a section started with {@link #start()}.
+     * @param section section to record
+     * @param startNanos value returned by {@link #start()}
+     */
+    public void stop(Section section, long startNanos) {
+        if (!AVAILABLE || startNanos == 0L) return;
+        record(section, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Record a duration measured elsewhere.
+     * @param section section to record
+     * @param nanos duration in nanoseconds
+     */
+    public void record(Section section, long nanos) {
+        int s = section.ordinal();
+        samples[s][(int) (written[s] & (WINDOW - 1))] = nanos;
+        written[s]++;
+    }
+
+    /**
+     * Number of samples currently in a section's window.
+     * @param section
+     * @return sample count, at most {@link #WINDOW}
+     */
+    public int sampleCount(Section section) {
+        return (int) Math.min(written[section.ordinal()], WINDOW);
+    }
+
+    /**
+     * Percentile of a section's recent durations.
+     * @param section section to query
+     * @param percentile value in [0, 100]
+     * @return duration in nanoseconds, or 0 without samples
+     */
+    public long percentile(Section section, double percentile) {
+        int n = sampleCount(section);
+        if (n == 0) return 0L;
+        System.arraycopy(samples[section.ordinal()], 0, scratch, 0, n);
+        Arrays.sort(scratch, 0, n);
+        int rank = (int) Math.ceil(percentile / 100.0 * n) - 1;
+        return scratch[Math.max(0, Math.min(n - 1, rank))];
+    }
+
+    /**
+     * Drop all recorded samples.
+     */
+    public void reset() {
+        Arrays.fill(written, 0L);
+    }
+
+    /**
+     * All sections, shared to avoid {@code values()} copies. Do not modify.
+     * @return sections in loop order
+     */
+    public static Section[] sections() {
+        return SECTIONS;
+    }
+}
@@ -0,0 +1,31 @@
+package com.game.arkanoid.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One {@code DatabaseService} operation. The event duration is the execution time on the
+ * I/O thread; {@link #queueWait} is the part of it spent waiting for a pooled connection.
+ */
+@Name("com.game.arkanoid.DatabaseCall")
+@Label("Database Call")
+@Category({"Arkanoid", "Persistence"})
+@Enabled(false)
+public final class DatabaseCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Queue Wait")
+    @Description("Time spent waiting for a free pooled connection")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWait;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,56 @@
+package com.game.arkanoid.diagnostics.jfr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Starts an in-process flight recording with the game's events when requested by
+ * {@code -Darkanoid.jfr=<file.jfr>}. Recordings started with
+ * {@code -XX:StartFlightRecording} can use {@code arkanoid.jfc} directly instead.
+ */
+public final class GameRecording {
+
+    /** Settings resource enabling every game event. */
+    public static final String SETTINGS = "/com/game/arkanoid/diagnostics/arkanoid.jfc";
+
+    private GameRecording() {}
+
+    /**
+     * Start a recording if {@code arkanoid.jfr} names an output file.
+     * The recording is dumped to that file when the JVM exits.
+     * @return the recording, or null if none was requested or it could not start
+     */
+    public static Recording startIfRequested() {
+        String file = System.getProperty("arkanoid.jfr");
+        if (file == null || file.isBlank()) return null;
+        try (InputStream in = GameRecording.class.getResourceAsStream(SETTINGS)) {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setSettings(merged(recording, in));
+            recording.setDestination(Path.of(file));
+            recording.setToDisk(true);
+            recording.setDumpOnExit(true);
+            recording.start();
+            return recording;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            System.err.println("[GameRecording] Cannot start recording: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, String> merged(Recording base, InputStream in)
+            throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(base.getSettings());
+        if (in != null) {
+            settings.putAll(Configuration.create(new InputStreamReader(in, StandardCharsets.UTF_8)).getSettings());
+        }
+        return settings;
+    }
+}
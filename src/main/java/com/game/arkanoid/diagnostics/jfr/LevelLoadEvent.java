@@ -0,0 +1,26 @@
+package com.game.arkanoid.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Loading a level layout in {@code RoundService.loadLevel}.
+ */
+@Name("com.game.arkanoid.LevelLoad")
+@Label("Level Load")
+@Category({"Arkanoid", "Simulation"})
+@Enabled(false)
+public final class LevelLoadEvent extends Event {
+
+    @Label("Level")
+    public int level;
+
+    @Label("Resource")
+    public String resource;
+
+    @Label("Bricks")
+    public int bricks;
+}
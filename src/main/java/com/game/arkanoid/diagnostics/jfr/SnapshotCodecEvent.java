@@ -0,0 +1,28 @@
+package com.game.arkanoid.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Encoding or decoding the JSON columns of a game-state snapshot.
+ */
+@Name("com.game.arkanoid.SnapshotCodec")
+@Label("Snapshot Codec")
+@Category({"Arkanoid", "Persistence"})
+@Enabled(false)
+public final class SnapshotCodecEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Characters")
+    @DataAmount(DataAmount.BYTES)
+    public long characters;
+
+    @Label("Bricks")
+    public int bricks;
+}
@@ -0,0 +1,28 @@
+package com.game.arkanoid.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A sound effect or music play request handled by {@code SoundManager}.
+ */
+@Name("com.game.arkanoid.SoundPlay")
+@Label("Sound Play")
+@Category({"Arkanoid", "Audio"})
+@Enabled(false)
+@StackTrace(false)
+public final class SoundPlayEvent extends Event {
+
+    @Label("Key")
+    public String key;
+
+    @Label("Music")
+    public boolean music;
+
+    @Label("Found")
+    public boolean found;
+}
@@ -0,0 +1,55 @@
+package com.game.arkanoid.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One simulation tick of {@code GameService.update}, with entity and collision counts.
+ * Disabled by default; enable it with {@code arkanoid.jfc} or {@code settings=}.
+ */
+@Name("com.game.arkanoid.Tick")
+@Label("Game Tick")
+@Category({"Arkanoid", "Simulation"})
+@Description("Duration and collision work of one simulation tick")
+@Enabled(false)
+@StackTrace(false)
+public final class TickEvent extends Event {
+
+    /** Registered type, checked before allocating so a disabled event costs nothing per tick. */
+    public static final EventType TYPE = EventType.getEventType(TickEvent.class);
+
+    @Label("Delta Time")
+    public double dt;
+
+    @Label("Balls")
+    public int balls;
+
+    @Label("Bullets")
+    public int bullets;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Grid Queries")
+    @Description("Broadphase queries issued during the tick")
+    public int gridQueries;
+
+    @Label("Grid Candidates")
+    @Description("Objects returned by broadphase queries and tested precisely")
+    public int gridCandidates;
+
+    @Label("Paddle Hits")
+    public int paddleHits;
+
+    @Label("Brick Hits")
+    public int brickHits;
+
+    @Label("Bullet Impacts")
+    public int bulletImpacts;
+}
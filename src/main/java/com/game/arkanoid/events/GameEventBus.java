@@ -1,27 +1,46 @@
 package com.game.arkanoid.events;
 
-import java.util.List;
+import com.game.arkanoid.diagnostics.MetricsRegistry;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
- * Simple singleton event bus for publishing game domain events without leaking presentation code
- * into the services layer.
+ * Simple event bus for publishing game domain events without leaking presentation code
+ * into the services layer. The application uses one shared bus; headless sessions each
+ * create their own so their events stay separate.
  */
 public final class GameEventBus {
 
-    private static final GameEventBus INSTANCE = new GameEventBus();
+    private static final GameEventBus INSTANCE = new GameEventBus(MetricsRegistry.getInstance());
 
-    private final Map<Class<?>, CopyOnWriteArrayList<Consumer<?>>> subscribers = new ConcurrentHashMap<>();
+    private static final Consumer<?>[] NO_HANDLERS = new Consumer<?>[0];
 
-    private GameEventBus() {
+    /**
+     * Handlers per event type, kept as copy-on-write arrays so publishing iterates
+     * a plain array and never allocates an iterator.
+     */
+    private final Map<Class<?>, Consumer<?>[]> subscribers = new ConcurrentHashMap<>();
+    private final MetricsRegistry metrics;
+    private volatile Thread mutedThread;
+
+    /**
+     * Create a bus of its own, e.g. for one headless game session. Its publishes are not
+     * counted in the metrics registry.
+     */
+    public GameEventBus() {
+        this(null);
+    }
+
+    private GameEventBus(MetricsRegistry metrics) {
+        this.metrics = metrics;
     }
 
     /**
-     * Get the singleton instance.
+     * Get the application's bus, which the game view and sound subscribe to.
      * @return the singleton instance
      */
     public static GameEventBus getInstance() {
@@ -38,29 +57,62 @@ public final class GameEventBus {
     public <T> Subscription subscribe(Class<T> type, Consumer<T> handler) {
         Objects.requireNonNull(type, "type");
         Objects.requireNonNull(handler, "handler");
-        subscribers.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(handler);
+        subscribers.merge(type, new Consumer<?>[] {handler}, (current, added) -> {
+            Consumer<?>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = added[0];
+            return next;
+        });
         return new Subscription(type, handler);
     }
 
+    /**
+     * Subscribe to events of the given type, handling them on an executor instead of the
+     * publishing thread. View code uses this to stay on the FX thread when events are
+     * published by the simulation thread.
+     * @param <T>
+     * @param type
+     * @param handler
+     * @param executor runs the handler for each event
+     * @return
+     */
+    public <T> Subscription subscribe(Class<T> type, Consumer<T> handler, Executor executor) {
+        Objects.requireNonNull(handler, "handler");
+        Objects.requireNonNull(executor, "executor");
+        return subscribe(type, event -> executor.execute(() -> handler.accept(event)));
+    }
+
     /**
      * Publish an event to all subscribers.
      * @param event
      */
     public void publish(Object event) {
-        if (event == null) {
-            return;
-        }
-        List<Consumer<?>> handlers = subscribers.get(event.getClass());
-        if (handlers == null || handlers.isEmpty()) {
+        if (event == null || mutedThread == Thread.currentThread()) {
             return;
         }
-        for (Consumer<?> rawHandler : handlers) {
+        if (metrics != null) metrics.countPublish(event.getClass());
+        Consumer<?>[] handlers = subscribers.getOrDefault(event.getClass(), NO_HANDLERS);
+        for (int i = 0; i < handlers.length; i++) {
             @SuppressWarnings("unchecked")
-            Consumer<Object> handler = (Consumer<Object>) rawHandler;
+            Consumer<Object> handler = (Consumer<Object>) handlers[i];
             handler.accept(event);
         }
     }
 
+    /**
+     * Run an action with every event the calling thread publishes dropped, e.g. while
+     * re-simulating ticks whose sounds have already played. Other threads publish as usual.
+     * Only one thread may be muted at a time.
+     * @param action
+     */
+    public void muted(Runnable action) {
+        mutedThread = Thread.currentThread();
+        try {
+            action.run();
+        } finally {
+            mutedThread = null;
+        }
+    }
+
     /**
      * Subscription handle returned from subscribe() to allow unsubscription.
      */
@@ -80,10 +132,17 @@ public final class GameEventBus {
                 return;
             }
             closed = true;
-            List<Consumer<?>> handlers = subscribers.get(type);
-            if (handlers != null) {
-                handlers.remove(handler);
-            }
+            subscribers.computeIfPresent(type, (key, current) -> {
+                for (int i = 0; i < current.length; i++) {
+                    if (current[i] == handler) {
+                        Consumer<?>[] next = new Consumer<?>[current.length - 1];
+                        System.arraycopy(current, 0, next, 0, i);
+                        System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                        return next.length == 0 ? null : next;
+                    }
+                }
+                return current;
+            });
         }
     }
 }
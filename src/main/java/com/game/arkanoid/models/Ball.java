@@ -70,6 +70,18 @@ public class Ball extends MovableObject {
         if (isMoving) move(dt);
     }
 
+    /**
+     * Make this ball an exact copy of another.
+     * @param other source
+     */
+    public void copyFrom(Ball other) {
+        copyMotion(other);
+        this.radius = other.radius;
+        this.isMoving = other.isMoving;
+        this.isStuck = other.isStuck;
+        this.stuckOffsetX = other.stuckOffsetX;
+    }
+
     public double left() {
         return x - radius;
     }
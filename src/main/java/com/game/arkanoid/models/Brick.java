@@ -25,6 +25,15 @@ public class Brick extends GameObject {
         }
     }
 
+    /**
+     * Make this brick an exact copy of another, including an indestructible one.
+     * @param other source
+     */
+    public void copyFrom(Brick other) {
+        copyGeometry(other);
+        this.health = other.health;
+    }
+
     /**
      * Check if the brick is destroyed.
      * @return
@@ -19,6 +19,14 @@ public final class Bullet extends MovableObject {
         move(dt);
     }
 
+    /**
+     * Make this bullet an exact copy of another.
+     * @param other source
+     */
+    public void copyFrom(Bullet other) {
+        copyMotion(other);
+    }
+
     public double bottom() {
         return y + height;
     }
@@ -17,6 +17,26 @@ public final class Enemy extends MovableObject {
         this.type = type;
     }
 
+    /**
+     * Copy constructor.
+     * @param other source
+     */
+    public Enemy(Enemy other) {
+        super(other.x, other.y, other.width, other.height);
+        this.type = other.type;
+        copyFrom(other);
+    }
+
+    /**
+     * Make this enemy an exact copy of another of the same type.
+     * @param other source
+     */
+    public void copyFrom(Enemy other) {
+        if (other.type != type) throw new IllegalArgumentException("Enemy type differs: " + other.type);
+        copyMotion(other);
+        this.zigzagTimer = other.zigzagTimer;
+    }
+
      public double getZigzagTimer() {
         return zigzagTimer;
     }
@@ -64,4 +64,15 @@ public abstract class GameObject {
         this.width = w;
         this.height = h;
     }
-}
\ No newline at end of file
+
+    /**
+     * Copy position and size from another object.
+     * @param other source
+     */
+    protected void copyGeometry(GameObject other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.width = other.width;
+        this.height = other.height;
+    }
+}
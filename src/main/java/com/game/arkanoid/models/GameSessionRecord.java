@@ -0,0 +1,41 @@
+package com.game.arkanoid.models;
+
+import java.time.Instant;
+
+/**
+ * One finished game, as kept in the game history.
+ * @param userId player
+ * @param seed state of the game's random source when it started
+ * @param levelReached last level played
+ * @param score final score
+ * @param durationMillis time played, not counting pauses or level intros
+ * @param livesLost lives lost during the game
+ * @param powerUpsCollected power-ups caught with the paddle
+ * @param completed whether every level was cleared
+ * @param endedAt when the game ended
+ */
+public record GameSessionRecord(int userId, long seed, int levelReached, int score, long durationMillis,
+                                int livesLost, int powerUpsCollected, boolean completed, Instant endedAt) {
+
+    /**
+     * Record a game that just ended.
+     * @param userId player
+     * @param state the finished game
+     * @param endedAt when it ended
+     * @return the record
+     */
+    public static GameSessionRecord of(int userId, GameState state, Instant endedAt) {
+        return new GameSessionRecord(userId, state.seed, state.level, state.score,
+                Math.round(state.elapsed * 1000), state.livesLost, state.powerUpsCollected,
+                state.gameCompleted, endedAt);
+    }
+
+    /**
+     * @param id another user id, e.g. the database id of a local user
+     * @return this record for that user
+     */
+    public GameSessionRecord withUserId(int id) {
+        return new GameSessionRecord(id, seed, levelReached, score, durationMillis, livesLost,
+                powerUpsCollected, completed, endedAt);
+    }
+}
@@ -1,10 +1,9 @@
 package com.game.arkanoid.models;
 
 import com.game.arkanoid.utils.Constants;
+import com.game.arkanoid.utils.GameRandom;
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * All runtime state for a single play session.
@@ -18,7 +17,12 @@ public final class GameState {
     public final List<Bullet> bullets = new ArrayList<>();
     public final List<PowerUp> powerUps = new ArrayList<>();
     public final List<Enemy> enemies = new ArrayList<>();
-    public final Map<PowerUpType, Double> activePowerUps = new EnumMap<>(PowerUpType.class);
+    public final PowerUpTimers activePowerUps = new PowerUpTimers();
+
+    /** Source of every random decision of this game; seed it to replay a session. */
+    public final GameRandom rng = new GameRandom(System.nanoTime());
+    /** State of {@link #rng} when this game started. */
+    public long seed = rng.getState();
 
     public int score = Constants.DEFAULT_SCORE;
     public int highScore = 0;
@@ -34,6 +38,12 @@ public final class GameState {
     public double basePaddleWidth;
     public double basePaddleSpeed;
     public double laserCooldown;
+    /** Power-ups caught with the paddle this game. */
+    public int powerUpsCollected;
+    /** Lives lost this game. */
+    public int livesLost;
+    /** Seconds played this game, not counting pauses or level intros. */
+    public double elapsed;
 
     public GameState(Ball ball, Paddle paddle) {
         this.ball = ball;
@@ -41,6 +51,128 @@ public final class GameState {
         this.balls.add(ball);
     }
 
+    /**
+     * Create an independent copy of this game, e.g. to simulate ahead without touching it.
+     * @return the copy
+     */
+    public GameState fork() {
+        GameState copy = new GameState(new Ball(0, 0, ball.getRadius()), new Paddle(0, 0, 0, 0, 0));
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Make this state an exact, independent copy of another.
+     * <p>
+     * Entities this state already holds are overwritten in place rather than replaced, so
+     * copying repeatedly into the same target, as lookahead does, allocates nothing once the
+     * target has seen the largest entity counts. Power-ups and enemies are only reused for
+     * the same type, since renderers rely on a model's type never changing.
+     * </p>
+     * @param other source; not modified
+     */
+    public void copyFrom(GameState other) {
+        if (other == this) return;
+        ball.copyFrom(other.ball);
+        paddle.copyFrom(other.paddle);
+        copyBalls(other);
+        int n = other.bricks.size();
+        for (int i = 0; i < n; i++) {
+            Brick src = other.bricks.get(i);
+            if (i < bricks.size()) {
+                bricks.get(i).copyFrom(src);
+            } else {
+                Brick b = new Brick(0, 0, 0, 0, 0);
+                b.copyFrom(src);
+                bricks.add(b);
+            }
+        }
+        truncate(bricks, n);
+        n = other.bullets.size();
+        for (int i = 0; i < n; i++) {
+            Bullet src = other.bullets.get(i);
+            if (i < bullets.size()) {
+                bullets.get(i).copyFrom(src);
+            } else {
+                Bullet b = new Bullet(0, 0, 0, 0, 0);
+                b.copyFrom(src);
+                bullets.add(b);
+            }
+        }
+        truncate(bullets, n);
+        n = other.powerUps.size();
+        for (int i = 0; i < n; i++) {
+            PowerUp src = other.powerUps.get(i);
+            if (i < powerUps.size() && powerUps.get(i).getType() == src.getType()) {
+                powerUps.get(i).copyFrom(src);
+            } else if (i < powerUps.size()) {
+                powerUps.set(i, new PowerUp(src));
+            } else {
+                powerUps.add(new PowerUp(src));
+            }
+        }
+        truncate(powerUps, n);
+        n = other.enemies.size();
+        for (int i = 0; i < n; i++) {
+            Enemy src = other.enemies.get(i);
+            if (i < enemies.size() && enemies.get(i).getType() == src.getType()) {
+                enemies.get(i).copyFrom(src);
+            } else if (i < enemies.size()) {
+                enemies.set(i, new Enemy(src));
+            } else {
+                enemies.add(new Enemy(src));
+            }
+        }
+        truncate(enemies, n);
+        activePowerUps.copyFrom(other.activePowerUps);
+        rng.setState(other.rng.getState());
+
+        score = other.score;
+        highScore = other.highScore;
+        lives = other.lives;
+        level = other.level;
+        gameCompleted = other.gameCompleted;
+        gameOver = other.gameOver;
+        running = other.running;
+        paused = other.paused;
+        levelTransitionPending = other.levelTransitionPending;
+        timeScale = other.timeScale;
+        basePaddleWidth = other.basePaddleWidth;
+        basePaddleSpeed = other.basePaddleSpeed;
+        laserCooldown = other.laserCooldown;
+        powerUpsCollected = other.powerUpsCollected;
+        seed = other.seed;
+        livesLost = other.livesLost;
+        elapsed = other.elapsed;
+    }
+
+    /** The primary ball keeps its place in the list; extra balls are reused by position. */
+    private void copyBalls(GameState other) {
+        int n = other.balls.size();
+        for (int i = 0; i < n; i++) {
+            Ball src = other.balls.get(i);
+            if (src == other.ball) {
+                if (i < balls.size()) balls.set(i, ball);
+                else balls.add(ball);
+                continue;
+            }
+            Ball target = i < balls.size() ? balls.get(i) : null;
+            if (target == null || target == ball) {
+                target = new Ball(0, 0, src.getRadius());
+                if (i < balls.size()) balls.set(i, target);
+                else balls.add(target);
+            }
+            target.copyFrom(src);
+        }
+        truncate(balls, n);
+    }
+
+    private static void truncate(List<?> list, int size) {
+        for (int i = list.size() - 1; i >= size; i--) {
+            list.remove(i);
+        }
+    }
+
     /**
      * Reset transient state for a new life.
      */
@@ -55,6 +187,10 @@ public final class GameState {
      */
     public void resetForLevel() {
         score = 0;
+        powerUpsCollected = 0;
+        livesLost = 0;
+        elapsed = 0.0;
+        seed = rng.getState();
         lives = Constants.DEFAULT_LIVES;
         level = Constants.DEFAULT_LEVEL;
         running = true;
@@ -78,6 +214,7 @@ public final class GameState {
      */
     public void decrementLives() {
         lives--;
+        livesLost++;
     }
 
     /**
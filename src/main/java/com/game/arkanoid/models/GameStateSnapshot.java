@@ -1,6 +1,9 @@
 package com.game.arkanoid.models;
 
 import com.game.arkanoid.utils.Constants;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,6 +12,10 @@ import java.util.List;
  * Only contains fields needed to restore gameplay on Continue.
  */
 public final class GameStateSnapshot {
+
+    /** Current binary format version, see {@link #write}. */
+    public static final int VERSION = 1;
+
     public int currentLevel;
     public int score;
     public int lives;
@@ -125,8 +132,10 @@ public final class GameStateSnapshot {
         snap.timeScale = s.timeScale;
         snap.laserCooldown = s.laserCooldown;
 
-        for (var e : s.activePowerUps.entrySet()) {
-            snap.activeEffects.add(new ActiveEffect(e.getKey().name(), e.getValue()));
+        for (PowerUpType type : PowerUpTimers.types()) {
+            if (s.activePowerUps.containsKey(type)) {
+                snap.activeEffects.add(new ActiveEffect(type.name(), s.activePowerUps.get(type)));
+            }
         }
         for (Brick b : s.bricks) {
             int hp = Math.max(0, b.getHealth());
@@ -264,4 +273,116 @@ public final class GameStateSnapshot {
         s.running = false;  // countdown before resume will start running
         s.paused = true;
     }
+
+    /**
+     * Write the compact binary form: a version byte, the scalar fields, then each list as a
+     * count followed by its entries.
+     * @param out destination
+     * @throws IOException on write failure
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeInt(currentLevel);
+        out.writeInt(score);
+        out.writeInt(lives);
+        out.writeDouble(paddleX);
+        out.writeDouble(ballX);
+        out.writeDouble(ballY);
+        out.writeDouble(ballDx);
+        out.writeDouble(ballDy);
+        out.writeBoolean(ballMoving);
+        out.writeBoolean(ballDownward);
+        out.writeBoolean(ballStuck);
+        out.writeDouble(ballStuckOffsetX);
+        out.writeDouble(paddleWidth);
+        out.writeDouble(timeScale);
+        out.writeDouble(laserCooldown);
+
+        out.writeInt(activeEffects.size());
+        for (ActiveEffect ef : activeEffects) {
+            out.writeUTF(ef.type);
+            out.writeDouble(ef.remaining);
+        }
+        out.writeInt(bricks.size());
+        for (BrickState b : bricks) {
+            out.writeDouble(b.x);
+            out.writeDouble(b.y);
+            out.writeInt(b.health);
+        }
+        out.writeInt(fallingPowerUps.size());
+        for (PowerUpState p : fallingPowerUps) {
+            out.writeUTF(p.type);
+            out.writeDouble(p.x);
+            out.writeDouble(p.y);
+            out.writeBoolean(p.collected);
+        }
+        out.writeInt(balls.size());
+        for (BallsState b : balls) {
+            out.writeDouble(b.x);
+            out.writeDouble(b.y);
+            out.writeDouble(b.dx);
+            out.writeDouble(b.dy);
+            out.writeBoolean(b.moving);
+            out.writeDouble(b.radius);
+        }
+        out.writeInt(enemies.size());
+        for (EnemyState e : enemies) {
+            out.writeUTF(e.type);
+            out.writeDouble(e.x);
+            out.writeDouble(e.y);
+            out.writeDouble(e.dx);
+            out.writeDouble(e.dy);
+        }
+    }
+
+    /**
+     * Read the binary form written by {@link #write}.
+     * @param in source positioned at the version byte
+     * @return the snapshot
+     * @throws IOException if the data is truncated or of an unsupported version
+     */
+    public static GameStateSnapshot read(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+        GameStateSnapshot snap = new GameStateSnapshot();
+        snap.currentLevel = in.readInt();
+        snap.score = in.readInt();
+        snap.lives = in.readInt();
+        snap.paddleX = in.readDouble();
+        snap.ballX = in.readDouble();
+        snap.ballY = in.readDouble();
+        snap.ballDx = in.readDouble();
+        snap.ballDy = in.readDouble();
+        snap.ballMoving = in.readBoolean();
+        snap.ballDownward = in.readBoolean();
+        snap.ballStuck = in.readBoolean();
+        snap.ballStuckOffsetX = in.readDouble();
+        snap.paddleWidth = in.readDouble();
+        snap.timeScale = in.readDouble();
+        snap.laserCooldown = in.readDouble();
+
+        for (int i = count(in); i > 0; i--) {
+            snap.activeEffects.add(new ActiveEffect(in.readUTF(), in.readDouble()));
+        }
+        for (int i = count(in); i > 0; i--) {
+            snap.bricks.add(new BrickState(in.readDouble(), in.readDouble(), in.readInt()));
+        }
+        for (int i = count(in); i > 0; i--) {
+            snap.fallingPowerUps.add(new PowerUpState(in.readUTF(), in.readDouble(), in.readDouble(), in.readBoolean()));
+        }
+        for (int i = count(in); i > 0; i--) {
+            snap.balls.add(new BallsState(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+                    in.readBoolean(), in.readDouble()));
+        }
+        for (int i = count(in); i > 0; i--) {
+            snap.enemies.add(new EnemyState(in.readUTF(), in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble()));
+        }
+        return snap;
+    }
+
+    private static int count(DataInput in) throws IOException {
+        int n = in.readInt();
+        if (n < 0 || n > 0xFFFF) throw new IOException("Corrupt snapshot list size " + n);
+        return n;
+    }
 }
@@ -4,9 +4,37 @@ package com.game.arkanoid.models;
  * Represents the current input state.
  */
 public final class InputState {
+    /** Bit masks used by {@link #toBits()} to pass input between threads as one int. */
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int LAUNCH = 1 << 2;
+    public static final int FIRE = 1 << 3;
+    public static final int PAUSE = 1 << 4;
+
     public boolean left;
     public boolean right;
     public boolean launch;
     public boolean fire;
     public boolean pause;
+
+    /**
+     * Pack this state into bits.
+     * @return combination of {@link #LEFT}, {@link #RIGHT}, {@link #LAUNCH}, {@link #FIRE} and {@link #PAUSE}
+     */
+    public int toBits() {
+        return (left ? LEFT : 0) | (right ? RIGHT : 0) | (launch ? LAUNCH : 0)
+                | (fire ? FIRE : 0) | (pause ? PAUSE : 0);
+    }
+
+    /**
+     * Replace this state with packed bits.
+     * @param bits value from {@link #toBits()}
+     */
+    public void setBits(int bits) {
+        left = (bits & LEFT) != 0;
+        right = (bits & RIGHT) != 0;
+        launch = (bits & LAUNCH) != 0;
+        fire = (bits & FIRE) != 0;
+        pause = (bits & PAUSE) != 0;
+    }
 }
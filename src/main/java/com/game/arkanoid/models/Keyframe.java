@@ -0,0 +1,273 @@
+package com.game.arkanoid.models;
+
+import java.util.List;
+
+/**
+ * A game state packed into primitive arrays, as kept by the rewind buffer.
+ * <p>
+ * Positions, velocities and the other changing fields of the paddle, balls, bullets,
+ * power-ups and enemies go into one {@code double[]}, their types into an {@code int[]}.
+ * Bricks never move and only lose health within a level, so only the bricks whose health
+ * differs from the level's start are stored, as (index, health) pairs. The arrays are
+ * reused and only grow, so capturing allocates nothing once the largest entity counts have
+ * been seen. Restoring reuses the target's entities where it can, as
+ * {@link GameState#copyFrom} does.
+ * </p>
+ */
+public final class Keyframe {
+
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+    private static final EnemyType[] ENEMY_TYPES = EnemyType.values();
+
+    /** Values per part of the state. */
+    private static final int SCALARS = 16;
+    private static final int TIMERS = 2 * POWER_UP_TYPES.length;
+    private static final int PADDLE = 9;
+    private static final int BALL = 10;
+    private static final int BULLET = 6;
+    private static final int POWER_UP = 7;
+    private static final int ENEMY = 7;
+
+    /** Tick of the rewind buffer this state was captured at, before that tick's update. */
+    public long tick;
+
+    private long rngState;
+    private long seed;
+    private int balls;
+    private int primaryBall; // index of the state's primary ball in its ball list, or -1
+    private int bullets;
+    private int powerUps;
+    private int enemies;
+    private double[] values = new double[256];
+    private int[] types = new int[16];
+    private int[] brickDeltas = new int[32];
+    private int brickDeltaCount; // ints used, two per changed brick
+
+    /**
+     * Pack a state into this keyframe.
+     * @param s source; not modified
+     * @param baseHealth health of every brick at the start of the level
+     */
+    public void capture(GameState s, int[] baseHealth) {
+        balls = s.balls.size();
+        bullets = s.bullets.size();
+        powerUps = s.powerUps.size();
+        enemies = s.enemies.size();
+        int size = SCALARS + TIMERS + PADDLE + BALL * (balls + 1)
+                + BULLET * bullets + POWER_UP * powerUps + ENEMY * enemies;
+        if (values.length < size) values = new double[Math.max(size, values.length * 2)];
+        if (types.length < powerUps + enemies) types = new int[Math.max(powerUps + enemies, types.length * 2)];
+        if (brickDeltas.length < 2 * s.bricks.size()) brickDeltas = new int[2 * s.bricks.size()];
+
+        double[] v = values;
+        int at = 0;
+        v[at++] = s.score;
+        v[at++] = s.highScore;
+        v[at++] = s.lives;
+        v[at++] = s.level;
+        v[at++] = s.gameCompleted ? 1 : 0;
+        v[at++] = s.gameOver ? 1 : 0;
+        v[at++] = s.running ? 1 : 0;
+        v[at++] = s.paused ? 1 : 0;
+        v[at++] = s.levelTransitionPending ? 1 : 0;
+        v[at++] = s.timeScale;
+        v[at++] = s.basePaddleWidth;
+        v[at++] = s.basePaddleSpeed;
+        v[at++] = s.laserCooldown;
+        v[at++] = s.powerUpsCollected;
+        v[at++] = s.livesLost;
+        v[at++] = s.elapsed;
+        for (PowerUpType t : POWER_UP_TYPES) {
+            v[at++] = s.activePowerUps.containsKey(t) ? 1 : 0;
+            v[at++] = s.activePowerUps.get(t);
+        }
+
+        Paddle p = s.paddle;
+        at = putMotion(v, at, p);
+        v[at++] = p.getSpeed();
+        v[at++] = p.getMinWidth();
+        v[at++] = p.getMaxWidth();
+
+        at = putBall(v, at, s.ball);
+        primaryBall = -1;
+        for (int i = 0; i < balls; i++) {
+            Ball b = s.balls.get(i);
+            if (b == s.ball) primaryBall = i;
+            else at = putBall(v, at, b);
+        }
+        for (int i = 0; i < bullets; i++) {
+            at = putMotion(v, at, s.bullets.get(i));
+        }
+        int k = 0;
+        for (int i = 0; i < powerUps; i++) {
+            PowerUp u = s.powerUps.get(i);
+            types[k++] = u.getType().ordinal();
+            at = putMotion(v, at, u);
+            v[at++] = u.isCollected() ? 1 : 0;
+        }
+        for (int i = 0; i < enemies; i++) {
+            Enemy e = s.enemies.get(i);
+            types[k++] = e.getType().ordinal();
+            at = putMotion(v, at, e);
+            v[at++] = e.getZigzagTimer();
+        }
+
+        brickDeltaCount = 0;
+        for (int i = 0; i < s.bricks.size(); i++) {
+            int health = s.bricks.get(i).getHealth();
+            if (i < baseHealth.length && health == baseHealth[i]) continue;
+            brickDeltas[brickDeltaCount++] = i;
+            brickDeltas[brickDeltaCount++] = health;
+        }
+
+        rngState = s.rng.getState();
+        seed = s.seed;
+    }
+
+    /**
+     * Make a state what it was when this keyframe was captured. The state must still hold
+     * the bricks of the same level.
+     * @param s target
+     * @param baseHealth the health passed to {@link #capture}
+     */
+    public void restore(GameState s, int[] baseHealth) {
+        double[] v = values;
+        int at = 0;
+        s.score = (int) v[at++];
+        s.highScore = (int) v[at++];
+        s.lives = (int) v[at++];
+        s.level = (int) v[at++];
+        s.gameCompleted = v[at++] != 0;
+        s.gameOver = v[at++] != 0;
+        s.running = v[at++] != 0;
+        s.paused = v[at++] != 0;
+        s.levelTransitionPending = v[at++] != 0;
+        s.timeScale = v[at++];
+        s.basePaddleWidth = v[at++];
+        s.basePaddleSpeed = v[at++];
+        s.laserCooldown = v[at++];
+        s.powerUpsCollected = (int) v[at++];
+        s.livesLost = (int) v[at++];
+        s.elapsed = v[at++];
+        for (PowerUpType t : POWER_UP_TYPES) {
+            boolean active = v[at++] != 0;
+            double remaining = v[at++];
+            if (active) s.activePowerUps.put(t, remaining);
+            else s.activePowerUps.remove(t);
+        }
+
+        Paddle p = s.paddle;
+        at = getMotion(v, at, p);
+        p.setSpeed(v[at++]);
+        double minWidth = v[at++];
+        p.setWidthBounds(minWidth, v[at++]);
+
+        at = getBall(v, at, s.ball);
+        for (int i = 0; i < balls; i++) {
+            if (i == primaryBall) {
+                if (i < s.balls.size()) s.balls.set(i, s.ball);
+                else s.balls.add(s.ball);
+                continue;
+            }
+            Ball b = i < s.balls.size() ? s.balls.get(i) : null;
+            if (b == null || b == s.ball) {
+                b = new Ball(0, 0, v[at + 6]);
+                if (i < s.balls.size()) s.balls.set(i, b);
+                else s.balls.add(b);
+            }
+            at = getBall(v, at, b);
+        }
+        truncate(s.balls, balls);
+
+        for (int i = 0; i < bullets; i++) {
+            if (i == s.bullets.size()) s.bullets.add(new Bullet(0, 0, 0, 0, 0));
+            at = getMotion(v, at, s.bullets.get(i));
+        }
+        truncate(s.bullets, bullets);
+
+        int k = 0;
+        for (int i = 0; i < powerUps; i++) {
+            PowerUpType type = POWER_UP_TYPES[types[k++]];
+            boolean collected = v[at + 6] != 0;
+            PowerUp u = i < s.powerUps.size() ? s.powerUps.get(i) : null;
+            // A power-up cannot be uncollected, and its type never changes
+            if (u == null || u.getType() != type || (u.isCollected() && !collected)) {
+                u = new PowerUp(type, 0, 0, 0, 0, 0);
+                if (i < s.powerUps.size()) s.powerUps.set(i, u);
+                else s.powerUps.add(u);
+            }
+            at = getMotion(v, at, u);
+            at++;
+            if (collected) u.markCollected();
+        }
+        truncate(s.powerUps, powerUps);
+
+        for (int i = 0; i < enemies; i++) {
+            EnemyType type = ENEMY_TYPES[types[k++]];
+            Enemy e = i < s.enemies.size() ? s.enemies.get(i) : null;
+            if (e == null || e.getType() != type) {
+                e = new Enemy(type, 0, 0, 0, 0, 0, 0);
+                if (i < s.enemies.size()) s.enemies.set(i, e);
+                else s.enemies.add(e);
+            }
+            at = getMotion(v, at, e);
+            e.setZigzagTimer(v[at++]);
+        }
+        truncate(s.enemies, enemies);
+
+        int n = Math.min(s.bricks.size(), baseHealth.length);
+        for (int i = 0; i < n; i++) {
+            s.bricks.get(i).setHealth(baseHealth[i]);
+        }
+        for (int i = 0; i < brickDeltaCount; i += 2) {
+            s.bricks.get(brickDeltas[i]).setHealth(brickDeltas[i + 1]);
+        }
+
+        s.rng.setState(rngState);
+        s.seed = seed;
+    }
+
+    private static int putMotion(double[] v, int at, MovableObject o) {
+        v[at++] = o.x;
+        v[at++] = o.y;
+        v[at++] = o.width;
+        v[at++] = o.height;
+        v[at++] = o.dx;
+        v[at++] = o.dy;
+        return at;
+    }
+
+    private static int getMotion(double[] v, int at, MovableObject o) {
+        o.x = v[at++];
+        o.y = v[at++];
+        o.width = v[at++];
+        o.height = v[at++];
+        o.dx = v[at++];
+        o.dy = v[at++];
+        return at;
+    }
+
+    private static int putBall(double[] v, int at, Ball b) {
+        at = putMotion(v, at, b);
+        v[at++] = b.getRadius();
+        v[at++] = b.isMoving() ? 1 : 0;
+        v[at++] = b.isStuck() ? 1 : 0;
+        v[at++] = b.getStuckOffsetX();
+        return at;
+    }
+
+    private static int getBall(double[] v, int at, Ball b) {
+        at = getMotion(v, at, b);
+        b.setRadius(v[at++]);
+        b.setMoving(v[at++] != 0);
+        b.setStuck(v[at++] != 0);
+        b.setStuckOffsetX(v[at++]);
+        return at;
+    }
+
+    private static void truncate(List<?> list, int size) {
+        for (int i = list.size() - 1; i >= size; i--) {
+            list.remove(i);
+        }
+    }
+}
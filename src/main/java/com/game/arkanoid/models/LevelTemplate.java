@@ -0,0 +1,215 @@
+package com.game.arkanoid.models;
+
+import com.game.arkanoid.utils.Constants;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, parsed brick layout of one level.
+ * <p>
+ * Brick positions and health are precomputed into parallel arrays, so instantiating a level
+ * is one pass that only allocates the bricks themselves. A template can be parsed from the
+ * text level format or read from the compact binary {@code .lvl} format:
+ * </p>
+ * <pre>
+ *   "ARKL"  magic
+ *   u8      version ({@link #VERSION})
+ *   u8      rows
+ *   u8      cols
+ *   u8[rows * cols]  health per cell, row-major, 0 = empty
+ * </pre>
+ */
+public final class LevelTemplate {
+
+    /** "ARKL" in ASCII. */
+    public static final int MAGIC = 0x41524B4C;
+
+    /** Current binary format version. */
+    public static final int VERSION = 1;
+
+    /** Left edge of the brick field. */
+    public static final double ORIGIN_X = 22;
+
+    /** Top edge of the brick field. */
+    public static final double ORIGIN_Y = 250;
+
+    private final int rows;
+    private final int cols;
+    private final byte[] cells;
+
+    // Precomputed bricks, in row-major order
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] healths;
+    private final int destructible;
+
+    private LevelTemplate(int rows, int cols, byte[] cells) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = cells;
+
+        int count = 0;
+        for (byte c : cells) {
+            if (c != 0) count++;
+        }
+        xs = new double[count];
+        ys = new double[count];
+        healths = new int[count];
+        int alive = 0;
+        int k = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int health = cells[row * cols + col] & 0xFF;
+                if (health == 0) continue;
+                xs[k] = col * Constants.BRICK_WIDTH + ORIGIN_X;
+                ys[k] = row * Constants.BRICK_HEIGHT + ORIGIN_Y;
+                healths[k] = health;
+                if (health != 9) alive++; // 9 is the indestructible silver brick
+                k++;
+            }
+        }
+        destructible = alive;
+    }
+
+    /**
+     * Build a template from a health grid.
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param cells row-major health values in [0, 255], 0 = empty; copied
+     * @return the template
+     */
+    public static LevelTemplate of(int rows, int cols, byte[] cells) {
+        if (rows < 0 || rows > 255 || cols < 0 || cols > 255) {
+            throw new IllegalArgumentException("Level size out of range: " + rows + "x" + cols);
+        }
+        if (cells.length != rows * cols) {
+            throw new IllegalArgumentException("Expected " + rows * cols + " cells, got " + cells.length);
+        }
+        return new LevelTemplate(rows, cols, cells.clone());
+    }
+
+    /**
+     * Parse the text level format: one line per row of whitespace-separated health values.
+     * Blank lines are skipped, tokens that are not positive integers leave the cell empty,
+     * columns past {@link Constants#BRICK_COLS} are ignored and health is capped at 255.
+     *
+     * @param lines level file lines
+     * @return the template
+     */
+    public static LevelTemplate parse(List<String> lines) {
+        List<String[]> rowTokens = new ArrayList<>();
+        int cols = 0;
+        for (String raw : lines) {
+            String line = raw.trim();
+            if (line.isEmpty()) continue;
+            String[] tokens = line.split("\\s+");
+            rowTokens.add(tokens);
+            cols = Math.max(cols, Math.min(tokens.length, Constants.BRICK_COLS));
+        }
+
+        int rows = rowTokens.size();
+        byte[] cells = new byte[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            String[] tokens = rowTokens.get(row);
+            int maxCols = Math.min(tokens.length, cols);
+            for (int col = 0; col < maxCols; col++) {
+                int health;
+                try {
+                    health = Integer.parseInt(tokens[col]);
+                } catch (NumberFormatException ex) {
+                    continue;
+                }
+                if (health <= 0) continue;
+                cells[row * cols + col] = (byte) Math.min(health, 255);
+            }
+        }
+        return of(rows, cols, cells);
+    }
+
+    /**
+     * Read the binary {@code .lvl} format.
+     * @param in stream positioned at the magic number; not closed
+     * @return the template
+     * @throws IOException if the stream is truncated or not a supported level file
+     */
+    public static LevelTemplate read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) throw new IOException("Not a level file");
+        int version = data.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported level version " + version);
+        int rows = data.readUnsignedByte();
+        int cols = data.readUnsignedByte();
+        byte[] cells = new byte[rows * cols];
+        data.readFully(cells);
+        return new LevelTemplate(rows, cols, cells);
+    }
+
+    /**
+     * Write the binary {@code .lvl} format.
+     * @param out destination; flushed, not closed
+     * @throws IOException on write failure
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(rows);
+        data.writeByte(cols);
+        data.write(cells);
+        data.flush();
+    }
+
+    /**
+     * Create fresh bricks for this layout.
+     * @return a new mutable list of new bricks
+     */
+    public List<Brick> instantiate() {
+        List<Brick> out = new ArrayList<>(healths.length);
+        instantiateInto(out);
+        return out;
+    }
+
+    /**
+     * Append fresh bricks for this layout to a list.
+     * @param out list to append to
+     */
+    public void instantiateInto(List<Brick> out) {
+        for (int i = 0; i < healths.length; i++) {
+            out.add(new Brick(xs[i], ys[i], Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT, healths[i]));
+        }
+    }
+
+    /** @return number of rows */
+    public int rows() {
+        return rows;
+    }
+
+    /** @return number of columns */
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * @param row row index
+     * @param col column index
+     * @return health of the cell, 0 if empty
+     */
+    public int health(int row, int col) {
+        return cells[row * cols + col] & 0xFF;
+    }
+
+    /** @return number of bricks, including indestructible ones */
+    public int brickCount() {
+        return healths.length;
+    }
+
+    /** @return number of bricks that can be destroyed */
+    public int destructibleCount() {
+        return destructible;
+    }
+}
@@ -33,4 +33,14 @@ public abstract class MovableObject extends GameObject {
         this.dx = dx;
         this.dy = dy;
     }
-}
\ No newline at end of file
+
+    /**
+     * Copy position, size and velocity from another object.
+     * @param other source
+     */
+    protected void copyMotion(MovableObject other) {
+        copyGeometry(other);
+        this.dx = other.dx;
+        this.dy = other.dy;
+    }
+}
@@ -54,6 +54,17 @@ public class Paddle extends MovableObject {
         this.minWidth = minW; this.maxWidth = maxW;
     }
 
+    /**
+     * Make this paddle an exact copy of another.
+     * @param other source
+     */
+    public void copyFrom(Paddle other) {
+        copyMotion(other);
+        this.speed = other.speed;
+        this.minWidth = other.minWidth;
+        this.maxWidth = other.maxWidth;
+    }
+
     /**
      * Set width clamped within minWidth and maxWidth.
      * @param newWidth
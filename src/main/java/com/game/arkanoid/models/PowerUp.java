@@ -23,6 +23,26 @@ public final class PowerUp extends MovableObject {
         setVelocity(0, fallSpeed);
     }
 
+    /**
+     * Copy constructor.
+     * @param other source
+     */
+    public PowerUp(PowerUp other) {
+        super(other.x, other.y, other.width, other.height);
+        this.type = other.type;
+        copyFrom(other);
+    }
+
+    /**
+     * Make this power-up an exact copy of another of the same type.
+     * @param other source
+     */
+    public void copyFrom(PowerUp other) {
+        if (other.type != type) throw new IllegalArgumentException("Power-up type differs: " + other.type);
+        copyMotion(other);
+        this.collected = other.collected;
+    }
+
     public PowerUpType getType() {
         return type;
     }
@@ -0,0 +1,96 @@
+package com.game.arkanoid.models;
+
+/**
+ * Remaining duration of every timed power-up, stored as a primitive array indexed by
+ * {@link PowerUpType#ordinal()}.
+ * <p>
+ * Replaces an {@code EnumMap<PowerUpType, Double>} so ticking the timers every frame
+ * neither boxes values nor allocates key-set copies.
+ * </p>
+ */
+public final class PowerUpTimers {
+
+    private static final PowerUpType[] TYPES = PowerUpType.values();
+
+    private final double[] remaining = new double[TYPES.length];
+    private final boolean[] active = new boolean[TYPES.length];
+
+    /**
+     * Check whether a power-up is currently active.
+     * @param type power-up type
+     * @return true if a timer is running for the type
+     */
+    public boolean containsKey(PowerUpType type) {
+        return active[type.ordinal()];
+    }
+
+    /**
+     * Get the remaining duration of a power-up.
+     * @param type power-up type
+     * @return remaining duration, or 0 if not active
+     */
+    public double get(PowerUpType type) {
+        return active[type.ordinal()] ? remaining[type.ordinal()] : 0.0;
+    }
+
+    /**
+     * Start or refresh the timer of a power-up.
+     * @param type power-up type
+     * @param duration remaining duration
+     */
+    public void put(PowerUpType type, double duration) {
+        remaining[type.ordinal()] = duration;
+        active[type.ordinal()] = true;
+    }
+
+    /**
+     * Stop the timer of a power-up.
+     * @param type power-up type
+     * @return true if the power-up was active
+     */
+    public boolean remove(PowerUpType type) {
+        boolean was = active[type.ordinal()];
+        active[type.ordinal()] = false;
+        remaining[type.ordinal()] = 0.0;
+        return was;
+    }
+
+    /**
+     * Stop all timers.
+     */
+    public void clear() {
+        for (int i = 0; i < TYPES.length; i++) {
+            active[i] = false;
+            remaining[i] = 0.0;
+        }
+    }
+
+    /**
+     * Check whether no power-up is active.
+     * @return true if no timer is running
+     */
+    public boolean isEmpty() {
+        for (boolean a : active) {
+            if (a) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Make these timers an exact copy of others.
+     * @param other source
+     */
+    public void copyFrom(PowerUpTimers other) {
+        System.arraycopy(other.remaining, 0, remaining, 0, remaining.length);
+        System.arraycopy(other.active, 0, active, 0, active.length);
+    }
+
+    /**
+     * All power-up types in ordinal order, shared to avoid {@code values()} copies.
+     * Callers must not modify the returned array.
+     * @return power-up types
+     */
+    public static PowerUpType[] types() {
+        return TYPES;
+    }
+}
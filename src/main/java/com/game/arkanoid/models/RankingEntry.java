@@ -1,27 +1,53 @@
 package com.game.arkanoid.models;
 
+import java.util.Comparator;
+
 /**
  * Row data for the Rankings view.
  */
 public final class RankingEntry {
+
+    /**
+     * Ranking order: best round, then best score, then user id, all descending. The id makes
+     * the order total, so a page can continue right after any entry.
+     */
+    public static final Comparator<RankingEntry> ORDER = Comparator
+            .comparingInt(RankingEntry::getBestRound)
+            .thenComparingInt(RankingEntry::getBestScore)
+            .thenComparingInt(RankingEntry::getId)
+            .reversed();
+
+    private final int id;
     private final String name;
     private final int bestScore;
     private final int bestRound;
 
     /**
-     * Constructor.
+     * Constructor for an entry without a known user id.
      * @param name
      * @param bestScore
      * @param bestRound
      */
     public RankingEntry(String name, int bestScore, int bestRound) {
+        this(0, name, bestScore, bestRound);
+    }
+
+    /**
+     * Constructor.
+     * @param id user id
+     * @param name
+     * @param bestScore
+     * @param bestRound
+     */
+    public RankingEntry(int id, String name, int bestScore, int bestRound) {
+        this.id = id;
         this.name = name;
         this.bestScore = bestScore;
         this.bestRound = bestRound;
     }
 
+    public int getId() { return id; }
     public String getName() { return name; }
     public int getBestScore() { return bestScore; }
     public int getBestRound() { return bestRound; }
 }
-
@@ -0,0 +1,183 @@
+package com.game.arkanoid.models;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything the view needs to draw one frame, copied out of a {@link GameState}.
+ * <p>
+ * Renderers read a frame instead of the live state, so the simulation can run on another
+ * thread and hand frames over through a {@link com.game.arkanoid.utils.TripleBuffer}.
+ * Entities keep their live model object as an identity key for the renderers' node maps, but
+ * every value that changes is copied. Frames are reused and grow as needed, so capturing is
+ * allocation-free once the largest level has been seen.
+ * </p>
+ */
+public final class RenderFrame {
+
+    public final Layer<Ball> balls = new Layer<>();
+    public final Layer<Brick> bricks = new Layer<>();
+    public final Layer<Bullet> bullets = new Layer<>();
+    public final Layer<PowerUp> powerUps = new Layer<>();
+    public final Layer<Enemy> enemies = new Layer<>();
+
+    /** Copy of the paddle; not the live paddle. */
+    public final Paddle paddle = new Paddle(0, 0, 0, 0, 0);
+
+    public int score;
+    public int highScore;
+    public int lives;
+    public int level;
+    public boolean gameOver;
+    public boolean gameCompleted;
+
+    /** The game is paused or waiting for a level transition, so ticks change nothing. */
+    public boolean paused;
+
+    /** Number of captures into this frame's buffer; 0 until the first capture. */
+    public long sequence;
+
+    /**
+     * Copy the drawable parts of a game state into this frame.
+     * @param state source state; must not change during the call
+     * @param sequence capture number
+     */
+    public void capture(GameState state, long sequence) {
+        balls.clear();
+        for (int i = 0; i < state.balls.size(); i++) {
+            Ball b = state.balls.get(i);
+            balls.add(b, b.getX(), b.getY(), b.getRadius(), b.getRadius(), 0);
+        }
+        captureAll(bricks, state.bricks);
+        captureAll(bullets, state.bullets);
+        captureAll(powerUps, state.powerUps);
+        captureAll(enemies, state.enemies);
+
+        Paddle p = state.paddle;
+        paddle.setPosition(p.getX(), p.getY());
+        paddle.setSize(p.getWidth(), p.getHeight());
+
+        score = state.score;
+        highScore = state.highScore;
+        lives = state.lives;
+        level = state.level;
+        gameOver = state.gameOver;
+        gameCompleted = state.gameCompleted;
+        paused = state.paused || state.levelTransitionPending;
+        this.sequence = sequence;
+    }
+
+    private static <T extends GameObject> void captureAll(Layer<T> layer, List<T> source) {
+        layer.clear();
+        for (int i = 0; i < source.size(); i++) {
+            T o = source.get(i);
+            layer.add(o, o.getX(), o.getY(), o.getWidth(), o.getHeight(), o instanceof Brick b ? b.getHealth() : 0);
+        }
+    }
+
+    /**
+     * Entities of one kind, stored as parallel arrays.
+     * @param <T> model type used as the identity key
+     */
+    public static final class Layer<T> {
+        private Object[] keys = new Object[16];
+        private double[] x = new double[16];
+        private double[] y = new double[16];
+        private double[] w = new double[16];
+        private double[] h = new double[16];
+        private int[] value = new int[16];
+        private int size;
+
+        void clear() {
+            Arrays.fill(keys, 0, size, null);
+            size = 0;
+        }
+
+        void add(T key, double x, double y, double w, double h, int value) {
+            if (size == keys.length) grow();
+            keys[size] = key;
+            this.x[size] = x;
+            this.y[size] = y;
+            this.w[size] = w;
+            this.h[size] = h;
+            this.value[size] = value;
+            size++;
+        }
+
+        private void grow() {
+            int n = keys.length * 2;
+            keys = Arrays.copyOf(keys, n);
+            x = Arrays.copyOf(x, n);
+            y = Arrays.copyOf(y, n);
+            w = Arrays.copyOf(w, n);
+            h = Arrays.copyOf(h, n);
+            value = Arrays.copyOf(value, n);
+        }
+
+        /** @return number of entities */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Live model object, for identity only: its mutable fields belong to the simulation.
+         * @param i entity index
+         * @return the key
+         */
+        @SuppressWarnings("unchecked")
+        public T key(int i) {
+            return (T) keys[i];
+        }
+
+        /**
+         * @param key model object
+         * @return true if the key is in this layer, compared by identity
+         */
+        public boolean contains(Object key) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) return true;
+            }
+            return false;
+        }
+
+        /**
+         * @param i entity index
+         * @return x position
+         */
+        public double x(int i) {
+            return x[i];
+        }
+
+        /**
+         * @param i entity index
+         * @return y position
+         */
+        public double y(int i) {
+            return y[i];
+        }
+
+        /**
+         * @param i entity index
+         * @return width, or radius for balls
+         */
+        public double width(int i) {
+            return w[i];
+        }
+
+        /**
+         * @param i entity index
+         * @return height, or radius for balls
+         */
+        public double height(int i) {
+            return h[i];
+        }
+
+        /**
+         * @param i entity index
+         * @return brick health; 0 for other entities
+         */
+        public int value(int i) {
+            return value[i];
+        }
+    }
+}
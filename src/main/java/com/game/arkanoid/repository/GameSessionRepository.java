@@ -0,0 +1,163 @@
+package com.game.arkanoid.repository;
+
+import com.game.arkanoid.config.DatabaseConfig;
+import com.game.arkanoid.models.GameSessionRecord;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Repository for the game history.
+ * <p>
+ * The {@code game_sessions} table is range-partitioned by month of {@code ended_at}. The
+ * partition of a month is created before the first row of that month is written, so the
+ * aggregates, which always cover a range of days, only read the partitions of those days,
+ * and through an index that covers the column they aggregate.
+ * </p>
+ */
+public final class GameSessionRepository {
+
+    /** Months whose partition exists or cannot be created; either way, not to be tried again. */
+    private final Set<YearMonth> partitions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Create the partitions of this month and the next if needed; the table itself is
+     * created by a migration. Safe to run on every start.
+     * @throws SQLException
+     */
+    public void ensureCurrentPartitions() throws SQLException {
+        try (Connection c = DatabaseConfig.getConnection()) {
+            YearMonth now = YearMonth.now(ZoneOffset.UTC);
+            ensurePartition(c, now);
+            ensurePartition(c, now.plusMonths(1));
+        }
+    }
+
+    /**
+     * Insert finished games with one JDBC batch in one transaction. Creates the partitions of
+     * their months first, if needed.
+     * @param c connection; must be in auto-commit mode, and is again afterwards
+     * @param sessions
+     * @throws SQLException
+     */
+    public void insertBatch(Connection c, List<GameSessionRecord> sessions) throws SQLException {
+        if (sessions.isEmpty()) return;
+        for (GameSessionRecord s : sessions) {
+            ensurePartition(c, YearMonth.from(s.endedAt().atOffset(ZoneOffset.UTC)));
+        }
+        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/game_session/insert_game_session.sql");
+        c.setAutoCommit(false);
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
+            for (GameSessionRecord s : sessions) {
+                ps.setInt(1, s.userId());
+                ps.setLong(2, s.seed());
+                ps.setInt(3, s.levelReached());
+                ps.setInt(4, s.score());
+                ps.setLong(5, s.durationMillis());
+                ps.setInt(6, s.livesLost());
+                ps.setInt(7, s.powerUpsCollected());
+                ps.setBoolean(8, s.completed());
+                ps.setObject(9, s.endedAt().atOffset(ZoneOffset.UTC));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            c.commit();
+        } catch (SQLException e) {
+            c.rollback();
+            throw e;
+        } finally {
+            c.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Count the distinct players of each UTC day.
+     * @param from first day
+     * @param to day after the last
+     * @return players per day, in day order; days without games are left out
+     * @throws SQLException
+     */
+    public Map<LocalDate, Integer> dailyActivePlayers(LocalDate from, LocalDate to) throws SQLException {
+        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/game_session/select_daily_active_players.sql");
+        Map<LocalDate, Integer> days = new LinkedHashMap<>();
+        try (Connection c = DatabaseConfig.getConnection();
+             PreparedStatement ps = c.prepareStatement(sql)) {
+            ps.setObject(1, startOf(from));
+            ps.setObject(2, startOf(to));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    days.put(rs.getObject("day", LocalDate.class), rs.getInt("players"));
+                }
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Count games by final score, in equal-width buckets.
+     * @param from first day
+     * @param to day after the last
+     * @param maxScore upper end of the last bucket; higher scores are counted in it too
+     * @param buckets number of buckets
+     * @return games per bucket; bucket {@code i} holds scores from {@code i * maxScore / buckets}
+     * @throws SQLException
+     */
+    public long[] scoreDistribution(LocalDate from, LocalDate to, int maxScore, int buckets) throws SQLException {
+        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/game_session/select_score_distribution.sql");
+        long[] games = new long[buckets];
+        try (Connection c = DatabaseConfig.getConnection();
+             PreparedStatement ps = c.prepareStatement(sql)) {
+            ps.setInt(1, maxScore);
+            ps.setInt(2, buckets);
+            ps.setObject(3, startOf(from));
+            ps.setObject(4, startOf(to));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    // width_bucket numbers buckets from 1, with 0 below the range and n + 1 above
+                    int bucket = Math.clamp(rs.getInt("bucket") - 1, 0, buckets - 1);
+                    games[bucket] += rs.getLong("games");
+                }
+            }
+        }
+        return games;
+    }
+
+    /**
+     * Create the partition of a month unless it is known to exist or known to fail. A failure,
+     * e.g. because the default partition already holds rows of that month, is logged and the
+     * rows go to the default partition. Such a failure is permanent, so the month is not tried
+     * again by this process; only a transient one (lock timeout, deadlock, lack of resources)
+     * is retried by the next batch.
+     */
+    private void ensurePartition(Connection c, YearMonth month) throws SQLException {
+        if (partitions.contains(month)) return;
+        String sql = String.format(
+                com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/game_session/create_partition.sql"),
+                String.format("%04d_%02d", month.getYear(), month.getMonthValue()),
+                month.atDay(1) + " 00:00:00+00",
+                month.plusMonths(1).atDay(1) + " 00:00:00+00");
+        try (Statement st = c.createStatement()) {
+            st.execute(sql);
+            partitions.add(month);
+        } catch (SQLException e) {
+            String state = e.getSQLState() == null ? "" : e.getSQLState();
+            if (state.startsWith("08")) throw e;
+            System.err.println("Could not create game_sessions partition for " + month + ": " + e.getMessage());
+            boolean transientFailure = e instanceof SQLTransientException
+                    || state.startsWith("40") || state.startsWith("53") || state.startsWith("55") || state.startsWith("57");
+            if (!transientFailure) partitions.add(month);
+        }
+    }
+
+    private static OffsetDateTime startOf(LocalDate day) {
+        return day.atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+}
@@ -1,6 +1,7 @@
 package com.game.arkanoid.repository;
 
 import com.game.arkanoid.config.DatabaseConfig;
+import com.game.arkanoid.diagnostics.jfr.SnapshotCodecEvent;
 import com.game.arkanoid.models.GameStateSnapshot;
 
 import java.sql.*;
@@ -19,26 +20,33 @@ public final class GameStateRepository {
      */
     public void upsertInProgress(int userId, GameStateSnapshot snap) throws SQLException {
         try (Connection c = DatabaseConfig.getConnection()) {
-            // Try update-by-user first (single-row-per-user policy)
-            String updateByUser = com.game.arkanoid.utils.SqlLoader.load(
-                "/com/game/arkanoid/sql/game_state/update_state_by_user.sql"
-            );
-            try (PreparedStatement ps = c.prepareStatement(updateByUser)) {
-                int idx = bindCore(ps, snap); // sets 1..6
-                ps.setString(idx++, Json.encodeBricks(snap));
-                ps.setString(idx++, Json.encodePowerUps(snap));
-                ps.setString(idx++, Json.encodeEnemies(snap));
-                ps.setString(idx++, Json.encodeBalls(snap));
-                ps.setString(idx++, Json.encodeEffects(snap));
-                ps.setInt(idx, userId);
-                int updated = ps.executeUpdate();
-                if (updated > 0) return;
-            }
-            // No row existed → insert
-            insert(c, userId, snap);
+            upsertInProgress(c, userId, snap);
         }
     }
 
+    /**
+     * Upsert the in-progress game state on a connection the caller manages.
+     * @param c connection
+     * @param userId
+     * @param snap
+     * @throws SQLException
+     */
+    public void upsertInProgress(Connection c, int userId, GameStateSnapshot snap) throws SQLException {
+        // Try update-by-user first (single-row-per-user policy)
+        String updateByUser = com.game.arkanoid.utils.SqlLoader.load(
+            "/com/game/arkanoid/sql/game_state/update_state_by_user.sql"
+        );
+        try (PreparedStatement ps = c.prepareStatement(updateByUser)) {
+            int idx = bindCore(ps, snap); // sets 1..6
+            idx = bindJson(ps, snap, idx);
+            ps.setInt(idx, userId);
+            int updated = ps.executeUpdate();
+            if (updated > 0) return;
+        }
+        // No row existed → insert
+        insert(c, userId, snap);
+    }
+
     /**
      * Find the latest in-progress game state for the given user.
      * @param userId
@@ -46,11 +54,23 @@ public final class GameStateRepository {
      * @throws SQLException
      */
     public Optional<GameStateSnapshot> findLatestInProgress(int userId) throws SQLException {
+        try (Connection c = DatabaseConfig.getConnection()) {
+            return findLatestInProgress(c, userId);
+        }
+    }
+
+    /**
+     * Find the latest in-progress game state on a connection the caller manages.
+     * @param c connection
+     * @param userId
+     * @return
+     * @throws SQLException
+     */
+    public Optional<GameStateSnapshot> findLatestInProgress(Connection c, int userId) throws SQLException {
         String sql = com.game.arkanoid.utils.SqlLoader.load(
             "/com/game/arkanoid/sql/game_state/select_latest_state.sql"
         );
-        try (Connection c = DatabaseConfig.getConnection();
-            PreparedStatement ps = c.prepareStatement(sql)) {
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setInt(1, userId);
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
@@ -79,11 +99,21 @@ public final class GameStateRepository {
                     String effectsJson = rs.getString("effects");
 
                     // Decode JSON data
+                    SnapshotCodecEvent event = new SnapshotCodecEvent();
+                    event.begin();
                     Json.decodeBricks(bricksJson, s);
                     Json.decodePowerUps(powerupsJson, s);
                     Json.decodeEnemies(enemiesJson, s);
                     Json.decodeBalls(ballsJson, s);
                     Json.decodeEffects(effectsJson, s);
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.operation = "decode";
+                        event.characters = length(bricksJson) + length(powerupsJson) + length(enemiesJson)
+                                + length(ballsJson) + length(effectsJson);
+                        event.bricks = s.bricks.size();
+                        event.commit();
+                    }
 
                     return Optional.of(s);
                 }
@@ -99,9 +129,20 @@ public final class GameStateRepository {
      * @throws SQLException
      */
      public void clearInProgressForUser(int userId) throws SQLException {
+        try (Connection c = DatabaseConfig.getConnection()) {
+            clearInProgressForUser(c, userId);
+        }
+    }
+
+    /**
+     * Clear in-progress state on a connection the caller manages.
+     * @param c connection
+     * @param userId
+     * @throws SQLException
+     */
+    public void clearInProgressForUser(Connection c, int userId) throws SQLException {
         String sql = "UPDATE game_states SET in_progress = FALSE WHERE user_id = ?";
-        try (Connection c = DatabaseConfig.getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setInt(1, userId);
             ps.executeUpdate();
         }
@@ -137,11 +178,7 @@ public final class GameStateRepository {
         );
         try (PreparedStatement ps = c.prepareStatement(sql)) {
             int idx = bindCore(ps, s);
-            ps.setString(idx++, Json.encodeBricks(s));
-            ps.setString(idx++, Json.encodePowerUps(s));
-            ps.setString(idx++, Json.encodeEnemies(s));
-            ps.setString(idx++, Json.encodeBalls(s));
-            ps.setString(idx++, Json.encodeEffects(s)); // add idx++
+            idx = bindJson(ps, s, idx);
             ps.setInt(idx, id);                         // correct index now
             ps.executeUpdate();
         }
@@ -157,11 +194,45 @@ public final class GameStateRepository {
     private void bind(PreparedStatement ps, int userId, GameStateSnapshot s) throws SQLException {
         ps.setInt(1, userId);
         int idx = bindCore(ps, s, 2);
-        ps.setString(idx++, Json.encodeBricks(s));
-        ps.setString(idx++, Json.encodePowerUps(s));
-        ps.setString(idx++, Json.encodeEnemies(s));
-        ps.setString(idx++, Json.encodeBalls(s));
-        ps.setString(idx++, Json.encodeEffects(s)); // add idx++
+        bindJson(ps, s, idx);
+    }
+
+    /**
+     * Encode and bind the JSON columns (bricks, power-ups, enemies, balls, effects).
+     * @param ps
+     * @param s
+     * @param startIdx
+     * @return next parameter index
+     * @throws SQLException
+     */
+    private int bindJson(PreparedStatement ps, GameStateSnapshot s, int startIdx) throws SQLException {
+        SnapshotCodecEvent event = new SnapshotCodecEvent();
+        event.begin();
+        String bricks = Json.encodeBricks(s);
+        String powerUps = Json.encodePowerUps(s);
+        String enemies = Json.encodeEnemies(s);
+        String balls = Json.encodeBalls(s);
+        String effects = Json.encodeEffects(s);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "encode";
+            event.characters = (long) bricks.length() + powerUps.length() + enemies.length()
+                    + balls.length() + effects.length();
+            event.bricks = s.bricks.size();
+            event.commit();
+        }
+
+        int i = startIdx;
+        ps.setString(i++, bricks);
+        ps.setString(i++, powerUps);
+        ps.setString(i++, enemies);
+        ps.setString(i++, balls);
+        ps.setString(i++, effects);
+        return i;
+    }
+
+    private static long length(String s) {
+        return s == null ? 0 : s.length();
     }
 
     /**
@@ -0,0 +1,704 @@
+package com.game.arkanoid.repository;
+
+import com.game.arkanoid.models.GameStateSnapshot;
+import com.game.arkanoid.models.RankingEntry;
+import com.game.arkanoid.models.User;
+import com.game.arkanoid.utils.PasswordHasher;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Embedded store holding everything the game needs to run without the database: known users
+ * with their bests, each user's in-progress game, and the last rankings fetched.
+ * <p>
+ * State lives in memory and is persisted as an append-only log ({@code local.log}) of
+ * CRC-framed records, each forced to disk before the call that wrote it returns. Every
+ * {@link #COMPACT_AFTER} records the whole state is written to an index file
+ * ({@code local.idx}), atomically replaced, and the log is emptied. On open the index is
+ * loaded and the log replayed on top of it; records already in the index are skipped by
+ * sequence number, and a torn last record is cut off.
+ * </p>
+ * <p>
+ * Local changes to a user's bests or in-progress game are pending until
+ * {@link #markSynced} reports them written to the database. Users created while the
+ * database was unreachable get negative ids until {@link #link} gives them their real one;
+ * the old id keeps resolving for the rest of the session.
+ * </p>
+ */
+public final class LocalStore implements AutoCloseable {
+
+    /** Log records after which the state is compacted into the index. */
+    public static final int COMPACT_AFTER = 4096;
+
+    private static final byte BEST = 1;
+    private static final byte SAVE = 2;
+    private static final byte SYNCED = 3;
+    private static final byte USER = 4;
+    private static final byte LINK = 5;
+    private static final byte RANKINGS = 6;
+    private static final byte CONFLICT = 7;
+
+    /** "ARKS" in ASCII. */
+    private static final int INDEX_MAGIC = 0x41524B53;
+    private static final int INDEX_VERSION = 1;
+    private static final int MAX_RECORD = 1 << 20;
+
+    /** A change to a user not yet written to the database. */
+    public record Pending(int id, String name, String passwordHash, boolean remote,
+                          int bestRound, int bestScore,
+                          boolean pushSave, GameStateSnapshot save, long changed) {}
+
+    /** Everything known about one user. Guarded by the store. */
+    private static final class Row {
+        int id;
+        String name;
+        String passwordHash;
+        int bestRound;
+        int bestScore;
+        boolean remote;      // exists in the database under this id
+        boolean conflict;    // name taken in the database by someone else; never synced
+        boolean saveKnown;   // save below is authoritative, so no need to ask the database
+        GameStateSnapshot save;
+        long changed;        // seq of the latest local change to bests or save
+        long saveChanged;    // seq of the latest local change to the save
+        long synced;         // changes up to this seq are in the database
+    }
+
+    private final Path dir;                   // null when kept in memory only
+    private final int compactAfter;
+    private FileChannel log;
+    private final Map<Integer, Row> rows = new LinkedHashMap<>();
+    private final Map<String, Row> byName = new HashMap<>();
+    private final Map<Integer, Integer> aliases = new HashMap<>();
+    private List<RankingEntry> rankings = List.of();
+    private long seq;
+    private int nextLocalId = -1;
+    private int logRecords;
+
+    private LocalStore(Path dir, int compactAfter) {
+        this.dir = dir;
+        this.compactAfter = compactAfter;
+    }
+
+    /**
+     * Open the store in a directory, creating it if needed.
+     * @param dir directory holding {@code local.log} and {@code local.idx}
+     * @return the store
+     * @throws IOException if the directory or files cannot be read or created
+     */
+    public static LocalStore open(Path dir) throws IOException {
+        return open(dir, COMPACT_AFTER);
+    }
+
+    static LocalStore open(Path dir, int compactAfter) throws IOException {
+        LocalStore store = new LocalStore(dir, compactAfter);
+        Files.createDirectories(dir);
+        store.loadIndex();
+        store.log = FileChannel.open(dir.resolve("local.log"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        store.replay();
+        return store;
+    }
+
+    /**
+     * Open the store in {@link #defaultDir()}, or keep it in memory if that fails.
+     * @return the store
+     */
+    public static LocalStore openDefault() {
+        try {
+            return open(defaultDir());
+        } catch (IOException e) {
+            System.err.println("Local store unavailable, keeping data in memory: " + e);
+            return inMemory();
+        }
+    }
+
+    /**
+     * @return a store that forgets everything when the application exits
+     */
+    public static LocalStore inMemory() {
+        return new LocalStore(null, COMPACT_AFTER);
+    }
+
+    /**
+     * @return the directory named by {@code -Darkanoid.data}, else {@code ~/.arkanoid}
+     */
+    public static Path defaultDir() {
+        String path = System.getProperty("arkanoid.data");
+        if (path != null) return Path.of(path);
+        return Path.of(System.getProperty("user.home"), ".arkanoid");
+    }
+
+    // ---------------------------------------------------------------
+    //  Users
+    // ---------------------------------------------------------------
+
+    /**
+     * @param normalizedName name as returned by {@code PasswordHasher.normalize}
+     * @return the user known by that name
+     */
+    public synchronized Optional<User> findUser(String normalizedName) {
+        Row r = byName.get(normalizedName);
+        return r == null ? Optional.empty() : Optional.of(toUser(r));
+    }
+
+    /**
+     * @param id user id, possibly one replaced by {@link #link}
+     * @return the id the user has now
+     */
+    public synchronized int resolve(int id) {
+        return aliases.getOrDefault(id, id);
+    }
+
+    /**
+     * Remember a user read from the database. Bests only ever go up; local changes not yet
+     * synced are kept.
+     * @param user user as stored in the database
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void putRemoteUser(User user) throws IOException {
+        byte[] body = record(USER, out -> {
+            out.writeInt(user.getId());
+            out.writeUTF(user.getName());
+            out.writeUTF(user.getPasswordHash() == null ? "" : user.getPasswordHash());
+            out.writeInt(user.getBestRound());
+            out.writeInt(user.getBestScore());
+        });
+        append(body, () -> applyUser(user.getId(), user.getName(), user.getPasswordHash(),
+                user.getBestRound(), user.getBestScore()));
+    }
+
+    /**
+     * Create a user that exists only here until it is synced.
+     * @param name display name
+     * @param normalizedName name as returned by {@code PasswordHasher.normalize}
+     * @param passwordHash password hash
+     * @return the user, with a negative id; empty if the name is already known
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized Optional<User> createLocalUser(String name, String normalizedName, String passwordHash)
+            throws IOException {
+        if (byName.containsKey(normalizedName)) return Optional.empty();
+        int id = nextLocalId;
+        byte[] body = record(USER, out -> {
+            out.writeInt(id);
+            out.writeUTF(name);
+            out.writeUTF(passwordHash);
+            out.writeInt(0);
+            out.writeInt(0);
+        });
+        append(body, () -> applyUser(id, name, passwordHash, 0, 0));
+        return Optional.of(toUser(rows.get(id)));
+    }
+
+    /**
+     * Give a user created here the id the database assigned it.
+     * @param localId negative id from {@link #createLocalUser}
+     * @param remoteId id in the database
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void link(int localId, int remoteId) throws IOException {
+        append(record(LINK, out -> {
+            out.writeInt(localId);
+            out.writeInt(remoteId);
+        }), () -> applyLink(localId, remoteId));
+    }
+
+    /**
+     * Stop syncing a user whose name the database already gives to someone else. The user
+     * keeps playing locally.
+     * @param id user id
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void markConflict(int id) throws IOException {
+        int target = resolve(id);
+        append(record(CONFLICT, out -> out.writeInt(target)), () -> applyConflict(target));
+    }
+
+    // ---------------------------------------------------------------
+    //  Progress
+    // ---------------------------------------------------------------
+
+    /**
+     * Raise a user's bests; pending until synced.
+     * @param id user id
+     * @param bestRound round reached
+     * @param bestScore score reached
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void updateBest(int id, int bestRound, int bestScore) throws IOException {
+        int target = resolve(id);
+        append(record(BEST, out -> {
+            out.writeInt(target);
+            out.writeInt(bestRound);
+            out.writeInt(bestScore);
+        }), () -> applyBest(target, bestRound, bestScore, seq));
+    }
+
+    /**
+     * Replace a user's in-progress game; pending until synced.
+     * @param id user id
+     * @param snap game to keep, or null to clear it
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void saveInProgress(int id, GameStateSnapshot snap) throws IOException {
+        writeSave(resolve(id), snap, true);
+    }
+
+    /**
+     * Remember a user's in-progress game as read from the database, unless there is a local
+     * change to it that is not synced yet.
+     * @param id user id
+     * @param snap the database's game, or null if it has none
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void cacheInProgress(int id, GameStateSnapshot snap) throws IOException {
+        int target = resolve(id);
+        Row r = rows.get(target);
+        if (r != null && r.saveChanged > r.synced) return;
+        writeSave(target, snap, false);
+    }
+
+    /**
+     * @param id user id
+     * @return true if {@link #inProgress} is authoritative for the user
+     */
+    public synchronized boolean knowsInProgress(int id) {
+        Row r = rows.get(resolve(id));
+        return r != null && r.saveKnown;
+    }
+
+    /**
+     * @param id user id
+     * @return the user's in-progress game, if one is known
+     */
+    public synchronized Optional<GameStateSnapshot> inProgress(int id) {
+        Row r = rows.get(resolve(id));
+        return r == null ? Optional.empty() : Optional.ofNullable(r.save);
+    }
+
+    // ---------------------------------------------------------------
+    //  Sync
+    // ---------------------------------------------------------------
+
+    /**
+     * @param max maximum number of users
+     * @return users with local changes not yet in the database, oldest change first
+     */
+    public synchronized List<Pending> pending(int max) {
+        List<Pending> out = new ArrayList<>();
+        rows.values().stream()
+                .filter(LocalStore::isPending)
+                .sorted(Comparator.comparingLong(r -> r.changed))
+                .limit(max)
+                .forEach(r -> out.add(new Pending(r.id, r.name, r.passwordHash, r.remote,
+                        r.bestRound, r.bestScore, r.saveChanged > r.synced, r.save, r.changed)));
+        return out;
+    }
+
+    /** @return number of users with local changes not yet in the database */
+    public synchronized int pendingCount() {
+        int n = 0;
+        for (Row r : rows.values()) {
+            if (isPending(r)) n++;
+        }
+        return n;
+    }
+
+    /**
+     * Record that a user's changes up to a point are in the database.
+     * @param id user id
+     * @param upTo {@link Pending#changed} of the synced state
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void markSynced(int id, long upTo) throws IOException {
+        int target = resolve(id);
+        append(record(SYNCED, out -> {
+            out.writeInt(target);
+            out.writeLong(upTo);
+        }), () -> applySynced(target, upTo));
+    }
+
+    // ---------------------------------------------------------------
+    //  Rankings
+    // ---------------------------------------------------------------
+
+    /**
+     * Remember the rankings last read from the database.
+     * @param entries rankings, best first
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void cacheRankings(List<RankingEntry> entries) throws IOException {
+        List<RankingEntry> copy = List.copyOf(entries);
+        append(record(RANKINGS, out -> writeRankings(out, copy)), () -> rankings = copy);
+    }
+
+    /**
+     * The top of the cached rankings, with the bests of users known here merged in.
+     * @param limit maximum number of entries
+     * @return entries in {@link RankingEntry#ORDER}
+     */
+    public List<RankingEntry> rankings(int limit) {
+        return rankingsPage(null, limit);
+    }
+
+    /**
+     * One page of the cached rankings, with the bests of users known here merged in.
+     * @param after last entry of the previous page, or null for the first page
+     * @param limit maximum number of entries
+     * @return entries in {@link RankingEntry#ORDER}
+     */
+    public synchronized List<RankingEntry> rankingsPage(RankingEntry after, int limit) {
+        return merged().stream()
+                .filter(e -> after == null || RankingEntry.ORDER.compare(e, after) > 0)
+                .limit(Math.max(1, limit))
+                .toList();
+    }
+
+    /**
+     * @param id user id
+     * @return the user's 1-based position in {@link #rankings}, or 0 if not ranked
+     */
+    public synchronized int rankOf(int id) {
+        int target = resolve(id);
+        List<RankingEntry> all = merged();
+        for (int i = 0; i < all.size(); i++) {
+            if (all.get(i).getId() == target) return i + 1;
+        }
+        return 0;
+    }
+
+    private List<RankingEntry> merged() {
+        Map<String, RankingEntry> merged = new LinkedHashMap<>();
+        for (RankingEntry e : rankings) merged.put(e.getName(), e);
+        for (Row r : rows.values()) {
+            if (r.bestRound == 0 && r.bestScore == 0) continue;
+            RankingEntry cached = merged.get(r.name);
+            int round = Math.max(r.bestRound, cached == null ? 0 : cached.getBestRound());
+            int score = Math.max(r.bestScore, cached == null ? 0 : cached.getBestScore());
+            merged.put(r.name, new RankingEntry(r.id, r.name, score, round));
+        }
+        List<RankingEntry> sorted = new ArrayList<>(merged.values());
+        sorted.sort(RankingEntry.ORDER);
+        return sorted;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+    }
+
+    // ---------------------------------------------------------------
+    //  In-memory state
+    // ---------------------------------------------------------------
+
+    private static boolean isPending(Row r) {
+        return !r.conflict && r.changed > r.synced;
+    }
+
+    private static User toUser(Row r) {
+        return new User(r.id, r.name, r.passwordHash, r.bestScore, r.bestRound, null);
+    }
+
+    private Row row(int id) {
+        return rows.computeIfAbsent(id, k -> {
+            Row r = new Row();
+            r.id = k;
+            return r;
+        });
+    }
+
+    private Row applyUser(int id, String name, String passwordHash, int bestRound, int bestScore) {
+        Row r = row(id);
+        if (r.name != null) byName.remove(PasswordHasher.normalize(r.name));
+        r.name = name;
+        r.passwordHash = passwordHash;
+        r.bestRound = Math.max(r.bestRound, bestRound);
+        r.bestScore = Math.max(r.bestScore, bestScore);
+        if (id < 0) {
+            r.saveKnown = true; // nothing to ask the database for
+            nextLocalId = Math.min(nextLocalId, id - 1);
+        } else {
+            r.remote = true;
+        }
+        byName.put(PasswordHasher.normalize(name), r);
+        return r;
+    }
+
+    private void applyBest(int id, int bestRound, int bestScore, long at) {
+        Row r = row(id);
+        r.bestRound = Math.max(r.bestRound, bestRound);
+        r.bestScore = Math.max(r.bestScore, bestScore);
+        r.changed = at;
+    }
+
+    private void applySave(int id, GameStateSnapshot snap, boolean dirty, long at) {
+        Row r = row(id);
+        r.save = snap;
+        r.saveKnown = true;
+        if (dirty) {
+            r.changed = at;
+            r.saveChanged = at;
+        }
+    }
+
+    private void applySynced(int id, long upTo) {
+        Row r = row(id);
+        r.synced = Math.max(r.synced, upTo);
+    }
+
+    private void applyLink(int localId, int remoteId) {
+        Row r = rows.remove(localId);
+        if (r == null) return;
+        Row existing = rows.get(remoteId);
+        if (existing != null) {
+            // Same player already known under the real id: keep the furthest progress
+            r.bestRound = Math.max(r.bestRound, existing.bestRound);
+            r.bestScore = Math.max(r.bestScore, existing.bestScore);
+        }
+        r.id = remoteId;
+        r.remote = true;
+        rows.put(remoteId, r);
+        byName.put(PasswordHasher.normalize(r.name), r);
+        aliases.put(localId, remoteId);
+        // Links made earlier to this local id now point at the real one too
+        aliases.replaceAll((from, to) -> to == localId ? remoteId : to);
+    }
+
+    private void applyConflict(int id) {
+        row(id).conflict = true;
+    }
+
+    private void writeSave(int id, GameStateSnapshot snap, boolean dirty) throws IOException {
+        append(record(SAVE, out -> {
+            out.writeInt(id);
+            out.writeBoolean(dirty);
+            out.writeBoolean(snap != null);
+            if (snap != null) snap.write(out);
+        }), () -> applySave(id, snap, dirty, seq));
+    }
+
+    // ---------------------------------------------------------------
+    //  Log
+    // ---------------------------------------------------------------
+
+    private interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /** Encode the next record: kind, sequence number, body. */
+    private byte[] record(byte kind, Body body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(kind == SAVE ? 1024 : 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(kind);
+        out.writeLong(seq + 1);
+        body.write(out);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Append an encoded record and force it to disk, then advance the sequence number and
+     * apply the change in memory.
+     */
+    private void append(byte[] payload, Runnable apply) throws IOException {
+        if (dir != null) {
+            if (log == null) throw new IOException("Local store is closed");
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            ByteBuffer frame = ByteBuffer.allocate(8 + payload.length);
+            frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+            while (frame.hasRemaining()) log.write(frame);
+            log.force(false);
+        }
+        seq++;
+        apply.run();
+        if (dir != null && ++logRecords >= compactAfter) compact();
+    }
+
+    private void replay() throws IOException {
+        ByteBuffer all = ByteBuffer.allocate((int) Math.min(log.size(), Integer.MAX_VALUE));
+        while (all.hasRemaining() && log.read(all, all.position()) > 0) {
+            // keep reading
+        }
+        all.flip();
+        long valid = 0;
+        CRC32 crc = new CRC32();
+        while (all.remaining() >= 8) {
+            int length = all.getInt();
+            int checksum = all.getInt();
+            if (length <= 0 || length > MAX_RECORD || length > all.remaining()) break;
+            byte[] payload = new byte[length];
+            all.get(payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) break;
+            try {
+                apply(payload);
+            } catch (IOException ex) {
+                break;
+            }
+            logRecords++;
+            valid = all.position();
+        }
+        log.truncate(valid);
+        log.position(valid);
+    }
+
+    private void apply(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte kind = in.readByte();
+        long at = in.readLong();
+        if (at <= seq) return; // already in the index
+        switch (kind) {
+            case USER -> {
+                int id = in.readInt();
+                String name = in.readUTF();
+                String hash = in.readUTF();
+                applyUser(id, name, hash, in.readInt(), in.readInt());
+            }
+            case BEST -> applyBest(in.readInt(), in.readInt(), in.readInt(), at);
+            case SAVE -> {
+                int id = in.readInt();
+                boolean dirty = in.readBoolean();
+                GameStateSnapshot snap = in.readBoolean() ? GameStateSnapshot.read(in) : null;
+                applySave(id, snap, dirty, at);
+            }
+            case SYNCED -> applySynced(in.readInt(), in.readLong());
+            case LINK -> applyLink(in.readInt(), in.readInt());
+            case RANKINGS -> rankings = readRankings(in);
+            case CONFLICT -> applyConflict(in.readInt());
+            default -> throw new IOException("Unknown local store record " + kind);
+        }
+        seq = at;
+    }
+
+    // ---------------------------------------------------------------
+    //  Index
+    // ---------------------------------------------------------------
+
+    /** Write the whole state to the index, then empty the log. */
+    private void compact() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(INDEX_MAGIC);
+        out.writeByte(INDEX_VERSION);
+        out.writeLong(seq);
+        out.writeInt(nextLocalId);
+        out.writeInt(rows.size());
+        for (Row r : rows.values()) {
+            out.writeInt(r.id);
+            out.writeUTF(r.name == null ? "" : r.name);
+            out.writeUTF(r.passwordHash == null ? "" : r.passwordHash);
+            out.writeInt(r.bestRound);
+            out.writeInt(r.bestScore);
+            out.writeBoolean(r.remote);
+            out.writeBoolean(r.conflict);
+            out.writeBoolean(r.saveKnown);
+            out.writeBoolean(r.save != null);
+            if (r.save != null) r.save.write(out);
+            out.writeLong(r.changed);
+            out.writeLong(r.saveChanged);
+            out.writeLong(r.synced);
+        }
+        out.writeInt(aliases.size());
+        for (Map.Entry<Integer, Integer> a : aliases.entrySet()) {
+            out.writeInt(a.getKey());
+            out.writeInt(a.getValue());
+        }
+        writeRankings(out, rankings);
+        out.flush();
+
+        byte[] body = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        Path tmp = dir.resolve("local.idx.tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocate(4 + body.length);
+            buf.putInt((int) crc.getValue()).put(body).flip();
+            while (buf.hasRemaining()) ch.write(buf);
+            ch.force(true);
+        }
+        Files.move(tmp, dir.resolve("local.idx"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // Records still in the log are skipped on replay, so a crash here loses nothing
+        log.truncate(0);
+        log.force(false);
+        logRecords = 0;
+    }
+
+    private void loadIndex() throws IOException {
+        Path file = dir.resolve("local.idx");
+        if (!Files.exists(file)) return;
+        byte[] all = Files.readAllBytes(file);
+        if (all.length < 4) throw new IOException("Corrupt local store index");
+        CRC32 crc = new CRC32();
+        crc.update(all, 4, all.length - 4);
+        if (ByteBuffer.wrap(all).getInt() != (int) crc.getValue()) throw new IOException("Corrupt local store index");
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(all, 4, all.length - 4));
+        if (in.readInt() != INDEX_MAGIC) throw new IOException("Not a local store index");
+        int version = in.readUnsignedByte();
+        if (version != INDEX_VERSION) throw new IOException("Unsupported local store index version " + version);
+        seq = in.readLong();
+        nextLocalId = in.readInt();
+        for (int i = in.readInt(); i > 0; i--) {
+            Row r = row(in.readInt());
+            r.name = in.readUTF();
+            r.passwordHash = in.readUTF();
+            r.bestRound = in.readInt();
+            r.bestScore = in.readInt();
+            r.remote = in.readBoolean();
+            r.conflict = in.readBoolean();
+            r.saveKnown = in.readBoolean();
+            r.save = in.readBoolean() ? GameStateSnapshot.read(in) : null;
+            r.changed = in.readLong();
+            r.saveChanged = in.readLong();
+            r.synced = in.readLong();
+            byName.put(PasswordHasher.normalize(r.name), r);
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            aliases.put(in.readInt(), in.readInt());
+        }
+        rankings = readRankings(in);
+    }
+
+    private static void writeRankings(DataOutputStream out, List<RankingEntry> entries) throws IOException {
+        out.writeInt(entries.size());
+        for (RankingEntry e : entries) {
+            out.writeInt(e.getId());
+            out.writeUTF(e.getName());
+            out.writeInt(e.getBestScore());
+            out.writeInt(e.getBestRound());
+        }
+    }
+
+    private static List<RankingEntry> readRankings(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0 || n > 0xFFFF) throw new IOException("Corrupt rankings size " + n);
+        List<RankingEntry> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(new RankingEntry(in.readInt(), in.readUTF(), in.readInt(), in.readInt()));
+        }
+        return List.copyOf(list);
+    }
+}
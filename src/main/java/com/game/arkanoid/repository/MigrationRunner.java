@@ -0,0 +1,161 @@
+package com.game.arkanoid.repository;
+
+import com.game.arkanoid.config.DatabaseConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Brings the database schema up to date.
+ * <p>
+ * The scripts to run are listed in order, each with a version, in
+ * {@code sql/migration/manifest.txt}. Every script not applied yet runs in a transaction of
+ * its own, together with its row in {@code schema_migrations}, so a script is either applied
+ * and recorded or neither. The table is locked for the length of that transaction, which
+ * lets several clients start at once against the same database.
+ * </p>
+ */
+public final class MigrationRunner {
+
+    /** Manifest shipped with the game. */
+    public static final String MANIFEST = "/com/game/arkanoid/sql/migration/manifest.txt";
+
+    private static final String SQL_ROOT = "/com/game/arkanoid/sql/";
+
+    /**
+     * One line of the manifest.
+     * @param version position in the schema's history
+     * @param script path under {@code sql/}
+     */
+    public record Migration(int version, String script) {
+
+        /** @return contents of the script */
+        public String sql() {
+            return com.game.arkanoid.utils.SqlLoader.load(SQL_ROOT + script);
+        }
+
+        /** @return checksum of the script, to notice one edited after it was applied */
+        public long checksum() {
+            CRC32 crc = new CRC32();
+            crc.update(sql().getBytes(StandardCharsets.UTF_8));
+            return crc.getValue();
+        }
+    }
+
+    private final List<Migration> migrations;
+
+    /**
+     * Runner for the manifest shipped with the game.
+     */
+    public MigrationRunner() {
+        this(readManifest(MANIFEST));
+    }
+
+    /**
+     * Runner for a given list of migrations.
+     * @param migrations in version order
+     */
+    public MigrationRunner(List<Migration> migrations) {
+        this.migrations = List.copyOf(migrations);
+    }
+
+    /** @return the migrations this runner applies, in order */
+    public List<Migration> migrations() {
+        return migrations;
+    }
+
+    /**
+     * Apply every migration not applied yet, in order. Safe to run on every start.
+     * @return number of migrations applied
+     * @throws SQLException if one fails; those before it stay applied
+     */
+    public int migrate() throws SQLException {
+        try (Connection c = DatabaseConfig.getConnection()) {
+            try (Statement st = c.createStatement()) {
+                st.execute(com.game.arkanoid.utils.SqlLoader.load(SQL_ROOT + "migration/create_table_schema_migrations.sql"));
+            }
+            int applied = 0;
+            for (Migration m : migrations) {
+                if (apply(c, m)) applied++;
+            }
+            return applied;
+        }
+    }
+
+    /**
+     * Apply one migration in its own transaction unless it is recorded as applied.
+     * @return whether it was applied now
+     */
+    private boolean apply(Connection c, Migration m) throws SQLException {
+        String sql = m.sql();
+        long checksum = m.checksum();
+        c.setAutoCommit(false);
+        try {
+            try (Statement st = c.createStatement()) {
+                st.execute(com.game.arkanoid.utils.SqlLoader.load(SQL_ROOT + "migration/lock_schema_migrations.sql"));
+            }
+            try (PreparedStatement ps = c.prepareStatement(com.game.arkanoid.utils.SqlLoader.load(SQL_ROOT + "migration/select_applied_migration.sql"))) {
+                ps.setInt(1, m.version());
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        if (rs.getLong("checksum") != checksum) {
+                            System.err.println("Migration " + m.version() + " (" + m.script() + ") changed after it was applied");
+                        }
+                        c.rollback();
+                        return false;
+                    }
+                }
+            }
+            try (Statement st = c.createStatement()) {
+                st.execute(sql);
+            }
+            try (PreparedStatement ps = c.prepareStatement(com.game.arkanoid.utils.SqlLoader.load(SQL_ROOT + "migration/insert_migration.sql"))) {
+                ps.setInt(1, m.version());
+                ps.setString(2, m.script());
+                ps.setLong(3, checksum);
+                ps.executeUpdate();
+            }
+            c.commit();
+            return true;
+        } catch (SQLException e) {
+            c.rollback();
+            throw new SQLException("Migration " + m.version() + " (" + m.script() + ") failed: " + e.getMessage(),
+                    e.getSQLState(), e);
+        } finally {
+            c.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Read a manifest: one {@code <version> <script>} per line; blank lines and lines
+     * starting with {@code #} are skipped.
+     * @param resource classpath path of the manifest
+     * @return migrations in file order
+     * @throws IllegalArgumentException if a line is malformed or versions do not increase
+     */
+    public static List<Migration> readManifest(String resource) {
+        List<Migration> list = new ArrayList<>();
+        int last = 0;
+        for (String line : com.game.arkanoid.utils.SqlLoader.load(resource).split("\n")) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] parts = line.split("\\s+");
+            if (parts.length != 2) throw new IllegalArgumentException("Bad manifest line in " + resource + ": " + line);
+            int version;
+            try {
+                version = Integer.parseInt(parts[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad version in " + resource + ": " + line);
+            }
+            if (version <= last) {
+                throw new IllegalArgumentException("Versions must increase in " + resource + ": " + line);
+            }
+            last = version;
+            list.add(new Migration(version, parts[1]));
+        }
+        return list;
+    }
+}
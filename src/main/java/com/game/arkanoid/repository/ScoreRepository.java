@@ -9,32 +9,77 @@ import java.util.List;
 
 /**
  * Repository for fetching scores and rankings.
+ * <p>
+ * Rankings are read a page at a time with keyset pagination on
+ * {@code (best_round, best_score, id)}, so the cost of a page does not depend on how many
+ * users rank ahead of it.
+ * </p>
  */
 public final class ScoreRepository {
 
     /**
-     * Fetch rankings from the database.
+     * Fetch the top of the rankings.
      * @param limit
      * @return
      * @throws SQLException
      */
     public List<RankingEntry> fetchRankings(int limit) throws SQLException {
-        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/score/select_rankings.sql");
-        List<RankingEntry> list = new ArrayList<>();
+        return fetchRankingsPage(null, limit);
+    }
+
+    /**
+     * Fetch one page of the rankings. Rows are streamed from the server with a fetch size of
+     * one page.
+     * @param after last entry of the previous page, or null for the first page
+     * @param limit page size
+     * @return entries in {@link RankingEntry#ORDER}
+     * @throws SQLException
+     */
+    public List<RankingEntry> fetchRankingsPage(RankingEntry after, int limit) throws SQLException {
+        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/score/select_rankings_page.sql");
+        int size = Math.max(1, limit);
+        List<RankingEntry> list = new ArrayList<>(size);
+        try (Connection c = DatabaseConfig.getConnection()) {
+            // The driver only fetches in chunks inside a transaction; the pool ends it on return
+            c.setAutoCommit(false);
+            try (PreparedStatement ps = c.prepareStatement(sql)) {
+                ps.setFetchSize(size);
+                ps.setInt(1, after == null ? Integer.MAX_VALUE : after.getBestRound());
+                ps.setInt(2, after == null ? Integer.MAX_VALUE : after.getBestScore());
+                ps.setInt(3, after == null ? Integer.MAX_VALUE : after.getId());
+                ps.setInt(4, size);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        list.add(new RankingEntry(
+                                rs.getInt("id"),
+                                rs.getString("name"),
+                                rs.getInt("best_score"),
+                                rs.getInt("best_round")
+                        ));
+                    }
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Find a user's position in the rankings. Counting the users ahead costs a range scan as
+     * long as the rank, so it stops at {@code maxRank}.
+     * @param userId
+     * @param maxRank highest rank counted exactly
+     * @return 1-based rank, {@code maxRank + 1} if below that, or 0 if there is no such user
+     * @throws SQLException
+     */
+    public int findRank(int userId, int maxRank) throws SQLException {
+        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/score/select_rank.sql");
         try (Connection c = DatabaseConfig.getConnection();
              PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setInt(1, Math.max(1, limit));
+            ps.setInt(1, userId);
+            ps.setInt(2, maxRank);
             try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    list.add(new RankingEntry(
-                            rs.getString("name"),
-                            rs.getInt("best_score"),
-                            rs.getInt("best_round")
-                    ));
-                }
+                return rs.next() ? rs.getInt("rank") : 0;
             }
         }
-        return list;
     }
 }
-
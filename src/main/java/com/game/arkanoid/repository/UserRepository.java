@@ -2,6 +2,7 @@ package com.game.arkanoid.repository;
 
 import com.game.arkanoid.config.DatabaseConfig;
 import com.game.arkanoid.models.User;
+import com.game.arkanoid.utils.PasswordHasher;
 
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -13,36 +14,33 @@ import java.util.Optional;
 public final class UserRepository {
 
     /**
-     * Find user by exact name.
-     * @param name
+     * Find the user a login name refers to, in one indexed query. Rows already upgraded match
+     * on their normalized name; rows the upgrade has not reached yet match case-insensitively.
+     * When legacy rows differ only in case, the one spelled exactly as typed wins.
+     * @param username name as typed
      * @return
      * @throws SQLException
      */
-    public Optional<User> findByName(String name) throws SQLException {
-        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/user/select_user_by_name.sql");
-        try (Connection c = DatabaseConfig.getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, name);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapUser(rs));
-                }
-                return Optional.empty();
-            }
+    public Optional<User> findForLogin(String username) throws SQLException {
+        try (Connection c = DatabaseConfig.getConnection()) {
+            return findForLogin(c, username);
         }
     }
 
     /**
-     * Find user by name, case insensitive.
-     * @param name
+     * Same as {@link #findForLogin(String)}, on a connection the caller manages.
+     * @param c connection
+     * @param username name as typed
      * @return
      * @throws SQLException
      */
-    public Optional<User> findByNameInsensitive(String name) throws SQLException {
-        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/user/select_user_by_name_insensitive.sql");
-        try (Connection c = DatabaseConfig.getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, name);
+    public Optional<User> findForLogin(Connection c, String username) throws SQLException {
+        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/user/select_user_for_login.sql");
+        String normalizedName = PasswordHasher.normalize(username);
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
+            ps.setString(1, normalizedName);
+            ps.setString(2, normalizedName);
+            ps.setString(3, username.trim());
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) return Optional.of(mapUser(rs));
                 return Optional.empty();
@@ -51,54 +49,32 @@ public final class UserRepository {
     }
 
     /**
-     * Update password hash for user.
-     * @param userId
-     * @param newHash
-     * @throws SQLException
-     */
-    public void updatePasswordHash(int userId, String newHash) throws SQLException {
-        String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/user/update_password.sql");
-        try (Connection c = DatabaseConfig.getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, newHash);
-            ps.setInt(2, userId);
-            ps.executeUpdate();
-        }
-    }
-
-    /**
-     * Try to update user name.
-     * @param userId
-     * @param newName
+     * Insert new user.
+     * @param name
+     * @param passwordHash
      * @return
      * @throws SQLException
      */
-    public boolean tryUpdateName(int userId, String newName) throws SQLException {
-        String sql = "UPDATE users SET name = ? WHERE id = ?";
-        try (Connection c = DatabaseConfig.getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, newName);
-            ps.setInt(2, userId);
-            return ps.executeUpdate() > 0;
-        } catch (SQLException ex) {
-            // If conflict due to UNIQUE(name), just ignore and keep existing
-            return false;
+    public User insert(String name, String passwordHash) throws SQLException {
+        try (Connection c = DatabaseConfig.getConnection()) {
+            return insert(c, name, passwordHash);
         }
     }
 
     /**
-     * Insert new user.
+     * Insert new user on a connection the caller manages.
+     * @param c connection
      * @param name
      * @param passwordHash
      * @return
      * @throws SQLException
      */
-    public User insert(String name, String passwordHash) throws SQLException {
+    public User insert(Connection c, String name, String passwordHash) throws SQLException {
         String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/user/insert_user.sql");
-        try (Connection c = DatabaseConfig.getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setString(1, name);
-            ps.setString(2, passwordHash);
+            ps.setString(2, PasswordHasher.normalize(name));
+            ps.setString(3, passwordHash);
             try (ResultSet rs = ps.executeQuery()) {
                 if (!rs.next()) throw new SQLException("Insert user failed");
                 return mapUser(rs);
@@ -114,9 +90,22 @@ public final class UserRepository {
      * @throws SQLException
      */
     public void updateBest(int userId, int bestRound, int bestScore) throws SQLException {
+        try (Connection c = DatabaseConfig.getConnection()) {
+            updateBest(c, userId, bestRound, bestScore);
+        }
+    }
+
+    /**
+     * Update best score and round for user on a connection the caller manages.
+     * @param c connection
+     * @param userId
+     * @param bestRound
+     * @param bestScore
+     * @throws SQLException
+     */
+    public void updateBest(Connection c, int userId, int bestRound, int bestScore) throws SQLException {
         String sql = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/user/update_best.sql");
-        try (Connection c = DatabaseConfig.getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setInt(1, bestRound);
             ps.setInt(2, bestScore);
             ps.setInt(3, userId);
@@ -124,6 +113,44 @@ public final class UserRepository {
         }
     }
 
+    /**
+     * Upgrade one batch of rows written before logins were normalized: fill in the normalized
+     * name and replace a plaintext password with its hash. When several rows normalize to the
+     * same name, the first one upgraded keeps it; the others are marked as name conflicts, so
+     * later runs skip them, and stay reachable by their exact name.
+     * @param afterId upgrade rows with a greater id
+     * @param limit maximum number of rows
+     * @return id of the last row examined, or -1 if there were none left
+     * @throws SQLException
+     */
+    public int upgradeLegacyBatch(int afterId, int limit) throws SQLException {
+        String select = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/user/select_legacy_users.sql");
+        String update = com.game.arkanoid.utils.SqlLoader.load("/com/game/arkanoid/sql/user/upgrade_legacy_user.sql");
+        int lastId = -1;
+        try (Connection c = DatabaseConfig.getConnection();
+             PreparedStatement ps = c.prepareStatement(select);
+             PreparedStatement up = c.prepareStatement(update)) {
+            ps.setInt(1, afterId);
+            ps.setInt(2, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    lastId = rs.getInt("id");
+                    String norm = PasswordHasher.normalize(rs.getString("name"));
+                    String password = rs.getString("password");
+                    boolean plaintext = !PasswordHasher.isHash(password);
+                    up.setString(1, plaintext ? PasswordHasher.hash(norm, password) : password);
+                    up.setString(2, norm);
+                    up.setString(3, norm);
+                    up.setString(4, norm);
+                    up.setInt(5, lastId);
+                    // One statement at a time, so a later duplicate sees the name already taken
+                    up.executeUpdate();
+                }
+            }
+        }
+        return lastId;
+    }
+
     /**
      * Map ResultSet row to User object.
      * @param rs
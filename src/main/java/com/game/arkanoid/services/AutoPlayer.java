@@ -0,0 +1,135 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.Ball;
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.InputState;
+import com.game.arkanoid.models.Paddle;
+import com.game.arkanoid.models.PowerUpType;
+
+/**
+ * Bot that plays the game by producing {@link InputState} from the current {@link GameState}.
+ * <p>
+ * It moves the paddle to where the ball that arrives first will cross the paddle line,
+ * predicted from the ball's velocity with wall and ceiling reflections as
+ * {@link BallService#bounceWorld} applies them; bricks are ignored. The paddle is shifted so
+ * the ball hits off-centre and leaves at an angle. Balls waiting on the paddle are launched
+ * and the laser fires while {@link PowerUpType#LASER_PADDLE} is active.
+ * </p>
+ * <p>
+ * Its one parameter is a reaction horizon: balls further than that many ticks from the paddle
+ * are ignored, so shorter horizons make a weaker player. Immutable and allocation-free, so
+ * one instance can drive any number of games, including
+ * headless {@code GameSession}s, the {@link SimulationThread} and the game view's loop.
+ * </p>
+ */
+public final class AutoPlayer {
+
+    /** Inner edges of the side walls and the ceiling, matching {@link BallService#bounceWorld}. */
+    private static final double WALL = 22;
+    private static final double CEILING = 172;
+
+    /** Where on the paddle to catch the ball, as a fraction of its width from the centre. */
+    private static final double[] AIMS = {-0.3, 0.15, -0.15, 0.3};
+
+    private final double horizon;
+
+    /**
+     * Create a bot that sees every ball coming.
+     */
+    public AutoPlayer() {
+        this(Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Create a bot with a limited reaction horizon.
+     * @param horizon ticks before reaching the paddle from which a ball is tracked
+     */
+    public AutoPlayer(double horizon) {
+        if (!(horizon > 0)) throw new IllegalArgumentException("horizon must be positive: " + horizon);
+        this.horizon = horizon;
+    }
+
+    /** @return ticks before reaching the paddle from which a ball is tracked */
+    public double getHorizon() {
+        return horizon;
+    }
+
+    /**
+     * Overwrite an input with the bot's move for this tick.
+     * @param state game to play; read only
+     * @param worldW width of the play field
+     * @param in input to fill
+     */
+    public void fill(GameState state, double worldW, InputState in) {
+        Paddle paddle = state.paddle;
+        double centre = paddle.getX() + paddle.getWidth() / 2.0;
+        double soonest = Double.POSITIVE_INFINITY;
+        double target = centre;
+        boolean waiting = false;
+        for (int i = 0; i < state.balls.size(); i++) {
+            Ball ball = state.balls.get(i);
+            if (!ball.isMoving()) {
+                waiting = true;
+                continue;
+            }
+            double t = timeToPaddle(ball, paddle.getY());
+            if (t < soonest && t <= horizon) {
+                soonest = t;
+                target = interceptX(ball, t, worldW);
+            }
+        }
+        boolean tracking = soonest != Double.POSITIVE_INFINITY;
+        if (tracking) {
+            // Vary the aim with every brick scored so the ball does not retrace the same path
+            target -= AIMS[Math.floorMod(state.score, AIMS.length)] * paddle.getWidth();
+        }
+        double tolerance = Math.max(1.0, paddle.getSpeed() / 2.0);
+        in.left = target < centre - tolerance;
+        in.right = target > centre + tolerance;
+        in.launch = waiting && !tracking;
+        in.fire = state.activePowerUps.containsKey(PowerUpType.LASER_PADDLE);
+        in.pause = false;
+    }
+
+    /**
+     * Ticks until the bottom of a ball reaches the paddle line, going via the ceiling when
+     * it is moving up.
+     * @param ball moving ball
+     * @param paddleTop y of the top of the paddle
+     * @return ticks, or infinity if the ball is already past the paddle or not moving vertically
+     */
+    static double timeToPaddle(Ball ball, double paddleTop) {
+        double r = ball.getRadius();
+        double bottom = ball.getCenterY() + r;
+        double dy = ball.getDy();
+        if (dy > 0) {
+            double t = (paddleTop - bottom) / dy;
+            return t >= 0 ? t : Double.POSITIVE_INFINITY;
+        }
+        if (dy < 0) {
+            double up = (ball.getCenterY() - r - CEILING) / -dy;
+            double down = (paddleTop - CEILING - 2 * r) / -dy;
+            return Math.max(0, up) + down;
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Horizontal position of a ball's centre after some ticks, folded between the walls.
+     * @param ball moving ball
+     * @param ticks ticks ahead
+     * @param worldW width of the play field
+     * @return predicted centre x
+     */
+    static double interceptX(Ball ball, double ticks, double worldW) {
+        double r = ball.getRadius();
+        double lo = WALL + r;
+        double span = worldW - WALL - r - lo;
+        double x = ball.getCenterX() + ball.getDx() * ticks;
+        if (span <= 0) return x;
+        double u = (x - lo) % (2 * span);
+        if (u < 0) u += 2 * span;
+        if (u > span) u = 2 * span - u;
+        return lo + u;
+    }
+}
@@ -1,6 +1,6 @@
 package com.game.arkanoid.services;
 
-import com.game.arkanoid.config.GameSettings;
+import com.game.arkanoid.config.SessionSettings;
 import com.game.arkanoid.events.GameEventBus;
 import com.game.arkanoid.events.sound.WallHitSoundEvent;
 import com.game.arkanoid.models.Ball;
@@ -14,6 +14,30 @@ import com.game.arkanoid.utils.Constants;
  */
 public class BallService {
 
+    /** Shared sound event; it carries no data. */
+    private static final WallHitSoundEvent WALL_HIT_SOUND = new WallHitSoundEvent();
+
+    private final GameEventBus eventBus;
+    private final double baseSpeed;
+
+    /**
+     * Service publishing on the application bus, at the difficulty currently selected.
+     */
+    public BallService() {
+        this(GameEventBus.getInstance(), SessionSettings.fromGlobal());
+    }
+
+    /**
+     * Service for one session.
+     *
+     * @param eventBus bus receiving sound events
+     * @param settings session settings; the ball speed is fixed from them
+     */
+    public BallService(GameEventBus eventBus, SessionSettings settings) {
+        this.eventBus = eventBus;
+        this.baseSpeed = Constants.BALL_SPEED * settings.ballSpeedMultiplier();
+    }
+
     /**
      * Launches a stationary ball with initial velocity at a predefined angle.
      * If the ball is already moving, this method does nothing.
@@ -68,7 +92,7 @@ public class BallService {
             ball.setVelocity(ball.getDx(), Math.abs(ball.getDy()) * Constants.BALL_RESTITUTION);
             check = true;
         }
-        if (check) GameEventBus.getInstance().publish(new WallHitSoundEvent());
+        if (check) eventBus.publish(WALL_HIT_SOUND);
     }
 
     /**
@@ -234,11 +258,11 @@ public class BallService {
     }
 
     /**
-     * Returns the base speed of the ball, modified by game settings.
+     * Returns the base speed of the ball, modified by the session's difficulty.
      *
      * @return base speed for the ball
      */
-    private double baseSpeed() {
-        return Constants.BALL_SPEED * GameSettings.getBallSpeedMultiplier();
+    public double baseSpeed() {
+        return baseSpeed;
     }
 }
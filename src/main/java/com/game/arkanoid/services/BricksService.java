@@ -1,21 +1,33 @@
 package com.game.arkanoid.services;
 
 import com.game.arkanoid.models.Brick;
+import com.game.arkanoid.models.LevelTemplate;
 import com.game.arkanoid.utils.Constants;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service class responsible for creating, managing, and updating bricks in the game.
  * Handles creation from 2D layouts or resource files, brick hits, and remaining brick count.
+ * <p>
+ * Level resources are parsed once per process into immutable {@link LevelTemplate}s; a
+ * precompiled {@code .lvl} file next to a {@code .txt} level is preferred when present.
+ * </p>
  */
 public final class BricksService {
 
+    /** Parsed levels keyed by resource path, shared by every service instance */
+    private static final Map<String, LevelTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
     /** Number of non-indestructible bricks still alive */
     private int bricksRemaining;
 
@@ -56,37 +68,33 @@ public final class BricksService {
      * @return list of created Brick objects
      */
     public List<Brick> createBricksFromResource(String resourcePath) {
-        List<String> lines = readResourceLines(resourcePath);
-        List<Brick> bricks = new ArrayList<>();
-
-        for (int row = 0; row < lines.size(); row++) {
-            String line = lines.get(row).trim();
-            String[] tokens = line.isEmpty() ? new String[0] : line.split("\\s+");
-            int maxCols = Math.min(tokens.length, Constants.BRICK_COLS);
-
-            for (int col = 0; col < maxCols; col++) {
-                String token = tokens[col];
-                if (token.isEmpty()) continue;
-
-                int health;
-                try {
-                    health = Integer.parseInt(token);
-                } catch (NumberFormatException ex) {
-                    continue;
-                }
-                if (health <= 0) continue;
-
-                double x = col * Constants.BRICK_WIDTH + 22;
-                double y = row * Constants.BRICK_HEIGHT + 250;
-                
-                bricks.add(new Brick( x, y, Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT, health ));
-            }
-        }
+        return createBricks(loadTemplate(resourcePath));
+    }
 
-        bricksRemaining = countAlive(bricks);
+    /**
+     * Creates fresh bricks from a parsed level.
+     *
+     * @param template parsed level
+     * @return list of created Brick objects
+     */
+    public List<Brick> createBricks(LevelTemplate template) {
+        List<Brick> bricks = template.instantiate();
+        bricksRemaining = template.destructibleCount();
         return bricks;
     }
 
+    /**
+     * Returns the parsed level for a resource, reading it on first use.
+     *
+     * @param resourcePath path to a {@code .txt} or {@code .lvl} level resource
+     * @return the cached template
+     */
+    public LevelTemplate loadTemplate(String resourcePath) {
+        LevelTemplate cached = TEMPLATES.get(resourcePath);
+        if (cached != null) return cached;
+        return TEMPLATES.computeIfAbsent(resourcePath, this::readTemplate);
+    }
+
     /**
      * Handles a hit on a brick.
      * Decreases brick health and updates remaining brick count if destroyed.
@@ -112,9 +120,11 @@ public final class BricksService {
      * @return true if all destructible bricks are destroyed
      */
     public boolean allBricksCleared(List<Brick> bricks) {
-        return bricks.stream()
-                     .filter(b -> !b.isIndestructible())
-                     .allMatch(Brick::isDestroyed);
+        for (int i = 0, n = bricks.size(); i < n; i++) {
+            Brick b = bricks.get(i);
+            if (!b.isIndestructible() && !b.isDestroyed()) return false;
+        }
+        return true;
     }
 
     /**
@@ -142,7 +152,60 @@ public final class BricksService {
      * @return count of alive bricks
      */
     private int countAlive(List<Brick> bricks) {
-        return (int) bricks.stream().filter(b -> !b.isDestroyed() && !b.isIndestructible()).count();
+        int alive = 0;
+        for (int i = 0, n = bricks.size(); i < n; i++) {
+            Brick b = bricks.get(i);
+            if (!b.isDestroyed() && !b.isIndestructible()) alive++;
+        }
+        return alive;
+    }
+
+    /**
+     * Reads a level resource, preferring its compiled {@code .lvl} sibling unless the text
+     * level has been edited since it was compiled.
+     *
+     * @param resourcePath path to the resource
+     * @return parsed template
+     */
+    private LevelTemplate readTemplate(String resourcePath) {
+        String compiled = resourcePath.endsWith(".txt")
+                ? resourcePath.substring(0, resourcePath.length() - 4) + ".lvl"
+                : resourcePath;
+        if (!compiled.equals(resourcePath)) {
+            URL lvl = getClass().getResource(compiled);
+            URL txt = getClass().getResource(resourcePath);
+            if (lvl == null || (txt != null && lastModified(txt) > lastModified(lvl))) {
+                return LevelTemplate.parse(readResourceLines(resourcePath));
+            }
+        }
+        try (InputStream in = getClass().getResourceAsStream(compiled)) {
+            if (in != null) return LevelTemplate.read(in);
+        } catch (IOException e) {
+            if (compiled.equals(resourcePath)) {
+                throw new RuntimeException("Failed reading level: " + resourcePath, e);
+            }
+            System.err.println("Ignoring unreadable compiled level " + compiled + " (" + e.getMessage() + ")");
+        }
+        if (compiled.equals(resourcePath)) throw new IllegalArgumentException("Missing resource: " + resourcePath);
+        return LevelTemplate.parse(readResourceLines(resourcePath));
+    }
+
+    /**
+     * Modification time of a resource, from the file system or the jar entry.
+     *
+     * @param resource resource location
+     * @return epoch millis, or 0 if unknown
+     */
+    private static long lastModified(URL resource) {
+        try {
+            URLConnection conn = resource.openConnection();
+            conn.setUseCaches(false);
+            long modified = conn.getLastModified();
+            conn.getInputStream().close();
+            return modified;
+        } catch (IOException e) {
+            return 0L;
+        }
     }
 
     /**
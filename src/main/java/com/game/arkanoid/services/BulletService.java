@@ -7,8 +7,8 @@ import com.game.arkanoid.models.Bullet;
 import com.game.arkanoid.models.GameState;
 import com.game.arkanoid.models.Paddle;
 import com.game.arkanoid.utils.Constants;
+import com.game.arkanoid.utils.ListUtils;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -19,22 +19,60 @@ public final class BulletService {
 
     /**
      * Represents the result of a bullet impacting a brick.
-     *
-     * @param brick the brick that was hit
-     * @param destroyed true if the brick was destroyed by this hit
+     * <p>
+     * Instances are pooled by the service and reused on the next {@link #update} call,
+     * so callers must not keep references across frames.
+     * </p>
      */
-    public record Impact(Brick brick, boolean destroyed) { }
+    public static final class Impact {
+        private Brick brick;
+        private boolean destroyed;
+
+        private Impact() {}
+
+        /** @return the brick that was hit */
+        public Brick brick() {
+            return brick;
+        }
+
+        /** @return true if the brick was destroyed by this hit */
+        public boolean destroyed() {
+            return destroyed;
+        }
+    }
+
+    /** Shared sound event; it carries no data. */
+    private static final BulletFireSoundEvent BULLET_FIRE_SOUND = new BulletFireSoundEvent();
 
     /** Service to manage brick state */
     private final BricksService bricksService;
 
+    /** Impacts returned by the last {@link #update} call. */
+    private final List<Impact> impacts = new ArrayList<>();
+
+    /** Pool of impact instances backing {@link #impacts}. */
+    private final List<Impact> impactPool = new ArrayList<>();
+
+    private final GameEventBus eventBus;
+
     /**
-     * Constructor for BulletService.
+     * Constructor for BulletService publishing on the application bus.
      *
      * @param bricksService service used to handle brick hits
      */
     public BulletService(BricksService bricksService) {
+        this(bricksService, GameEventBus.getInstance());
+    }
+
+    /**
+     * Constructor for BulletService.
+     *
+     * @param bricksService service used to handle brick hits
+     * @param eventBus bus receiving sound events
+     */
+    public BulletService(BricksService bricksService, GameEventBus eventBus) {
         this.bricksService = bricksService;
+        this.eventBus = eventBus;
     }
 
     /**
@@ -72,13 +110,16 @@ public final class BulletService {
         state.bullets.add(new Bullet(leftX, y, width, height, Constants.BULLET_SPEED));
         state.bullets.add(new Bullet(rightX, y, width, height, Constants.BULLET_SPEED));
         state.laserCooldown = Constants.LASER_FIRE_COOLDOWN;
-        GameEventBus.getInstance().publish(new BulletFireSoundEvent());
+        eventBus.publish(BULLET_FIRE_SOUND);
         return true;
     }
 
     /**
      * Updates all bullets' positions and checks for collisions with bricks.
      * Removes bullets that leave the game bounds.
+     * <p>
+     * The returned list and its impacts are reused by the next call.
+     * </p>
      *
      * @param state current game state
      * @param bricks list of all bricks in the level
@@ -87,32 +128,65 @@ public final class BulletService {
      * @return list of impacts representing bullets that hit bricks
      */
     public List<Impact> update(GameState state, List<Brick> bricks, double dt, double worldH) {
-        List<Impact> impacts = new ArrayList<>();
-        Iterator<Bullet> iterator = state.bullets.iterator();
-        while (iterator.hasNext()) {
-            Bullet bullet = iterator.next();
-            bullet.update(dt);
+        return update(state, bricks, null, dt, worldH);
+    }
 
-            if (bullet.bottom() < 172) {
-                iterator.remove();
-                continue;
-            }
+    /**
+     * Same as {@link #update(GameState, List, double, double)} but looks up bricks through
+     * a broadphase grid that indexes {@code state.bricks}.
+     *
+     * @param state current game state
+     * @param grid broadphase built for this tick
+     * @param dt time delta in seconds
+     * @param worldH the height of the game world
+     * @return list of impacts representing bullets that hit bricks
+     */
+    public List<Impact> update(GameState state, CollisionGrid grid, double dt, double worldH) {
+        return update(state, state.bricks, grid, dt, worldH);
+    }
+
+    private List<Impact> update(GameState state, List<Brick> bricks, CollisionGrid grid, double dt, double worldH) {
+        impacts.clear();
+        List<Bullet> bullets = state.bullets;
+        int i = 0;
+        while (i < bullets.size()) {
+            Bullet bullet = bullets.get(i);
+            bullet.update(dt);
 
-            if (bullet.top() > worldH) {
-                iterator.remove();
+            if (bullet.bottom() < 172 || bullet.top() > worldH) {
+                ListUtils.swapRemove(bullets, i);
                 continue;
             }
 
-            Brick hit = firstHit(bricks, bullet);
+            Brick hit = grid != null ? firstHit(bricks, grid, bullet) : firstHit(bricks, bullet);
             if (hit != null) {
-                iterator.remove();
+                ListUtils.swapRemove(bullets, i);
                 boolean destroyed = bricksService.handleBrickHit(hit);
-                impacts.add(new Impact(hit, destroyed));
+                addImpact(hit, destroyed);
+                continue;
             }
+            i++;
         }
         return impacts;
     }
 
+    /**
+     * Records an impact using a pooled instance.
+     *
+     * @param brick the brick that was hit
+     * @param destroyed true if the brick was destroyed
+     */
+    private void addImpact(Brick brick, boolean destroyed) {
+        int n = impacts.size();
+        if (n == impactPool.size()) {
+            impactPool.add(new Impact());
+        }
+        Impact impact = impactPool.get(n);
+        impact.brick = brick;
+        impact.destroyed = destroyed;
+        impacts.add(impact);
+    }
+
     /**
      * Finds the first brick that a bullet intersects with.
      *
@@ -121,7 +195,8 @@ public final class BulletService {
      * @return the first brick hit by the bullet, or null if none
      */
     private Brick firstHit(List<Brick> bricks, Bullet bullet) {
-        for (Brick brick : bricks) {
+        for (int i = 0, n = bricks.size(); i < n; i++) {
+            Brick brick = bricks.get(i);
             if (brick.isDestroyed()) {
                 continue;
             }
@@ -132,6 +207,26 @@ public final class BulletService {
         return null;
     }
 
+    /**
+     * Finds the first brick, in list order, that a bullet intersects with,
+     * visiting only bricks near the bullet.
+     *
+     * @param bricks list of bricks indexed by the grid
+     * @param grid broadphase built for this tick
+     * @param bullet bullet to test
+     * @return the first brick hit by the bullet, or null if none
+     */
+    private Brick firstHit(List<Brick> bricks, CollisionGrid grid, Bullet bullet) {
+        int candidates = grid.queryBricks(bullet.left(), bullet.top(), bullet.right(), bullet.bottom());
+        for (int k = 0; k < candidates; k++) {
+            Brick brick = bricks.get(grid.result(k));
+            if (!brick.isDestroyed() && intersects(bullet, brick)) {
+                return brick;
+            }
+        }
+        return null;
+    }
+
     /**
      * Checks whether a bullet intersects a brick.
      *
@@ -0,0 +1,69 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.LevelTemplate;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Levels bundled with the game as classpath resources, parsed through the
+ * {@link BricksService} template cache.
+ */
+public final class ClasspathLevelSource implements LevelSource {
+
+    /** The four levels shipped with the game. */
+    public static final List<String> BUILT_IN = List.of(
+        "/com/game/arkanoid/levels/level1.txt",
+        "/com/game/arkanoid/levels/level2.txt",
+        "/com/game/arkanoid/levels/level3.txt",
+        "/com/game/arkanoid/levels/level4.txt"
+    );
+
+    private static final Executor PREFETCH = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final BricksService bricksService;
+    private final List<String> resources;
+
+    /**
+     * @param bricksService service owning the template cache
+     * @param resources level resource paths, in play order
+     */
+    public ClasspathLevelSource(BricksService bricksService, List<String> resources) {
+        this.bricksService = bricksService;
+        this.resources = List.copyOf(resources);
+    }
+
+    @Override
+    public int levelCount() {
+        return resources.size();
+    }
+
+    @Override
+    public LevelTemplate load(int level) {
+        return bricksService.loadTemplate(resource(level));
+    }
+
+    @Override
+    public void prefetch(int level) {
+        if (level < 1 || level > resources.size()) return;
+        PREFETCH.execute(() -> {
+            try {
+                load(level);
+            } catch (RuntimeException e) {
+                System.err.println("Level prefetch failed: " + describe(level) + " (" + e.getMessage() + ")");
+            }
+        });
+    }
+
+    @Override
+    public String describe(int level) {
+        return resource(level);
+    }
+
+    private String resource(int level) {
+        if (level < 1 || level > resources.size()) {
+            throw new IllegalArgumentException("No level " + level + " (have " + resources.size() + ")");
+        }
+        return resources.get(level - 1);
+    }
+}
@@ -0,0 +1,287 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.Ball;
+import com.game.arkanoid.models.Brick;
+import com.game.arkanoid.models.Bullet;
+import com.game.arkanoid.models.GameObject;
+import com.game.arkanoid.models.GameState;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform-grid broadphase over live bricks, balls and bullets.
+ * <p>
+ * Rebuilt once per tick by {@link GameService}; each layer is stored as intrusive linked
+ * lists in primitive arrays (cell head, entry next, entry item), so rebuilding and querying
+ * do not allocate once the arrays have grown to the working-set size.
+ * </p>
+ * <p>
+ * A query collects the list indices of every candidate whose cells overlap the query box,
+ * de-duplicated and sorted ascending, so callers can keep "first match in list order"
+ * semantics. Results live in a shared buffer that is overwritten by the next query.
+ * Objects are indexed by their {@link GameObject} box ({@code x .. x + width}).
+ * </p>
+ */
+public final class CollisionGrid {
+
+    /** Default cell edge in world units, roughly one brick wide. */
+    public static final double DEFAULT_CELL_SIZE = 48.0;
+
+    private final double cellSize;
+    private double worldW = -1;
+    private double worldH = -1;
+    private int cols;
+    private int rows;
+
+    private final Layer bricks = new Layer();
+    private final Layer balls = new Layer();
+    private final Layer bullets = new Layer();
+
+    private int[] results = new int[16];
+    private int resultCount;
+
+    private int queryCount;
+    private int candidateCount;
+
+    /**
+     * Creates a grid with the default cell size.
+     */
+    public CollisionGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates a grid.
+     *
+     * @param cellSize cell edge in world units
+     */
+    public CollisionGrid(double cellSize) {
+        if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0");
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Re-indexes every layer from the current state.
+     * Destroyed bricks are skipped.
+     *
+     * @param state current game state
+     * @param worldW width of the game world
+     * @param worldH height of the game world
+     */
+    public void rebuild(GameState state, double worldW, double worldH) {
+        queryCount = 0;
+        candidateCount = 0;
+        resize(worldW, worldH);
+        indexBricks(state.bricks);
+        indexBalls(state.balls);
+        indexBullets(state.bullets);
+    }
+
+    /**
+     * Re-indexes the brick layer, skipping destroyed bricks.
+     *
+     * @param list bricks to index
+     */
+    public void indexBricks(List<Brick> list) {
+        bricks.reset(cols * rows, list.size());
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Brick brick = list.get(i);
+            if (brick.isDestroyed()) continue;
+            insert(bricks, i, brick);
+        }
+    }
+
+    /**
+     * Re-indexes the ball layer, e.g. after a ball was removed mid-tick.
+     *
+     * @param list balls to index
+     */
+    public void indexBalls(List<Ball> list) {
+        balls.reset(cols * rows, list.size());
+        for (int i = 0, n = list.size(); i < n; i++) {
+            insert(balls, i, list.get(i));
+        }
+    }
+
+    /**
+     * Re-indexes the bullet layer, e.g. after a bullet was removed mid-tick.
+     *
+     * @param list bullets to index
+     */
+    public void indexBullets(List<Bullet> list) {
+        bullets.reset(cols * rows, list.size());
+        for (int i = 0, n = list.size(); i < n; i++) {
+            insert(bullets, i, list.get(i));
+        }
+    }
+
+    /**
+     * Collects indices of live bricks whose cells overlap the box.
+     *
+     * @param minX left edge of the query box
+     * @param minY top edge of the query box
+     * @param maxX right edge of the query box
+     * @param maxY bottom edge of the query box
+     * @return number of candidates, read with {@link #result(int)}
+     */
+    public int queryBricks(double minX, double minY, double maxX, double maxY) {
+        return query(bricks, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Collects indices of balls whose cells overlap the box.
+     *
+     * @param minX left edge of the query box
+     * @param minY top edge of the query box
+     * @param maxX right edge of the query box
+     * @param maxY bottom edge of the query box
+     * @return number of candidates, read with {@link #result(int)}
+     */
+    public int queryBalls(double minX, double minY, double maxX, double maxY) {
+        return query(balls, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Collects indices of bullets whose cells overlap the box.
+     *
+     * @param minX left edge of the query box
+     * @param minY top edge of the query box
+     * @param maxX right edge of the query box
+     * @param maxY bottom edge of the query box
+     * @return number of candidates, read with {@link #result(int)}
+     */
+    public int queryBullets(double minX, double minY, double maxX, double maxY) {
+        return query(bullets, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Candidate list index from the last query, in ascending order.
+     *
+     * @param k position in the result, {@code 0 <= k < count}
+     * @return list index of the candidate
+     */
+    public int result(int k) {
+        if (k < 0 || k >= resultCount) throw new IndexOutOfBoundsException(k);
+        return results[k];
+    }
+
+    /**
+     * @return queries issued since the last {@link #rebuild}
+     */
+    public int queryCount() {
+        return queryCount;
+    }
+
+    /**
+     * @return candidates returned by queries since the last {@link #rebuild}
+     */
+    public int candidateCount() {
+        return candidateCount;
+    }
+
+    private void resize(double w, double h) {
+        if (w == worldW && h == worldH) return;
+        worldW = w;
+        worldH = h;
+        cols = Math.max(1, (int) Math.ceil(w / cellSize));
+        rows = Math.max(1, (int) Math.ceil(h / cellSize));
+    }
+
+    private int col(double x) {
+        int c = (int) Math.floor(x / cellSize);
+        return c < 0 ? 0 : Math.min(c, cols - 1);
+    }
+
+    private int row(double y) {
+        int r = (int) Math.floor(y / cellSize);
+        return r < 0 ? 0 : Math.min(r, rows - 1);
+    }
+
+    private void insert(Layer layer, int item, GameObject obj) {
+        int c0 = col(obj.getX());
+        int c1 = col(obj.getX() + obj.getWidth());
+        int r0 = row(obj.getY());
+        int r1 = row(obj.getY() + obj.getHeight());
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                layer.add(r * cols + c, item);
+            }
+        }
+    }
+
+    private int query(Layer layer, double minX, double minY, double maxX, double maxY) {
+        resultCount = 0;
+        queryCount++;
+        if (layer.entryCount == 0) return 0;
+        int stamp = layer.nextStamp();
+        int c0 = col(minX);
+        int c1 = col(maxX);
+        int r0 = row(minY);
+        int r1 = row(maxY);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                for (int e = layer.head[r * cols + c]; e >= 0; e = layer.next[e]) {
+                    int item = layer.item[e];
+                    if (layer.mark[item] == stamp) continue;
+                    layer.mark[item] = stamp;
+                    addResult(item);
+                }
+            }
+        }
+        candidateCount += resultCount;
+        return resultCount;
+    }
+
+    /** Inserts keeping ascending order; candidate sets are small. */
+    private void addResult(int item) {
+        if (resultCount == results.length) {
+            results = Arrays.copyOf(results, resultCount * 2);
+        }
+        int i = resultCount++;
+        while (i > 0 && results[i - 1] > item) {
+            results[i] = results[i - 1];
+            i--;
+        }
+        results[i] = item;
+    }
+
+    /** One indexed category of objects. */
+    private static final class Layer {
+        int[] head = new int[0];
+        int[] next = new int[64];
+        int[] item = new int[64];
+        int[] mark = new int[16];
+        int entryCount;
+        int stamp;
+
+        void reset(int cellCount, int itemCount) {
+            if (head.length != cellCount) {
+                head = new int[cellCount];
+            }
+            Arrays.fill(head, -1);
+            if (mark.length < itemCount) {
+                mark = new int[Math.max(itemCount, mark.length * 2)];
+                stamp = 0;
+            }
+            entryCount = 0;
+        }
+
+        void add(int cell, int itemIndex) {
+            if (entryCount == next.length) {
+                next = Arrays.copyOf(next, entryCount * 2);
+                item = Arrays.copyOf(item, entryCount * 2);
+            }
+            item[entryCount] = itemIndex;
+            next[entryCount] = head[cell];
+            head[cell] = entryCount++;
+        }
+
+        int nextStamp() {
+            if (++stamp == 0) {
+                Arrays.fill(mark, 0);
+                stamp = 1;
+            }
+            return stamp;
+        }
+    }
+}
@@ -1,51 +1,189 @@
 package com.game.arkanoid.services;
 
+import com.game.arkanoid.config.ConnectionPool;
+import com.game.arkanoid.config.DatabaseConfig;
+import com.game.arkanoid.diagnostics.MetricsRegistry;
+import com.game.arkanoid.diagnostics.jfr.DatabaseCallEvent;
+import com.game.arkanoid.models.GameSessionRecord;
 import com.game.arkanoid.models.GameStateSnapshot;
 import com.game.arkanoid.models.RankingEntry;
 import com.game.arkanoid.models.User;
+import com.game.arkanoid.repository.GameSessionRepository;
 import com.game.arkanoid.repository.GameStateRepository;
+import com.game.arkanoid.repository.LocalStore;
+import com.game.arkanoid.repository.MigrationRunner;
 import com.game.arkanoid.repository.ScoreRepository;
 import com.game.arkanoid.repository.UserRepository;
 import com.game.arkanoid.utils.PasswordHasher;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Handles all database operations asynchronously using a fixed thread pool
- * to keep the JavaFX UI responsive.
+ * Handles all database operations asynchronously to keep the JavaFX UI responsive.
+ * <p>
+ * Every call runs on its own virtual thread, so a slow query never holds up an unrelated
+ * one; how many run against the database at once is bounded by the permits of the
+ * {@link com.game.arkanoid.config.ConnectionPool}. Each operation has a timeout, after
+ * which, as when the returned future is cancelled, its thread is interrupted.
+ * </p>
+ * <p>
+ * Works offline first: every user seen, their bests and in-progress games are kept in a
+ * {@link LocalStore}. Progress is written there, durably, and the call completes at once;
+ * a background sync then pushes pending changes to the database in batches whenever it can
+ * be reached. Known users log in and find their saved game without touching the network.
+ * When both sides have changed, bests keep the higher round and score, and of two
+ * in-progress games the one further along (higher round, then score) wins.
+ * </p>
+ * <p>
+ * Finished games go to the game history through a {@link GameSessionWriter}, which inserts
+ * them in batches.
+ * </p>
  * <p>
  * Provides methods for user authentication, registration, saving/loading
  * in-progress game states, updating best scores, and fetching rankings.
  */
-public final class DatabaseService {
+public final class DatabaseService implements ProgressStore {
+
+    /** Rows upgraded per background batch; interactive calls queue between batches. */
+    private static final int LEGACY_BATCH_SIZE = 200;
+
+    /** SQLSTATE of a unique constraint violation, e.g. two signups racing for one name. */
+    private static final String UNIQUE_VIOLATION = "23505";
 
-    /** Thread pool for performing database I/O tasks */
-    private final ExecutorService ioPool = Executors.newFixedThreadPool(2, r -> {
-        Thread t = new Thread(r, "db-io");
-        t.setDaemon(true);
-        return t;
-    });
+    /** Users whose pending changes are pushed in one transaction. */
+    private static final int SYNC_BATCH_SIZE = 50;
 
+    /** First and longest wait before retrying a sync that failed. */
+    private static final long SYNC_BACKOFF_MS = 1_000;
+    private static final long MAX_SYNC_BACKOFF_MS = 30_000;
+
+    /** Ranks counted exactly by {@link #getRank}; lower ones are reported as this plus one. */
+    public static final int MAX_EXACT_RANK = 10_000;
+
+    /** Timeout of operations without one of their own. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    /** One virtual thread per database call */
+    private final ExecutorService io = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("db-io-", 0).factory());
+    private final Map<String, Duration> timeouts = new ConcurrentHashMap<>(Map.of(
+            "login", Duration.ofSeconds(5),
+            "signup", Duration.ofSeconds(5),
+            "initializeSchema", Duration.ofSeconds(30),
+            "upgradeLegacyUsers", Duration.ofSeconds(60)));
+
+    private final MigrationRunner migrations = new MigrationRunner();
     private final UserRepository users = new UserRepository();
     private final ScoreRepository scores = new ScoreRepository();
     private final GameStateRepository states = new GameStateRepository();
+    private final GameSessionRepository sessions = new GameSessionRepository();
+
+    private final LocalStore local;
+    private final AtomicBoolean syncing = new AtomicBoolean();
+    private final GameSessionWriter history = new GameSessionWriter(this::writeSessions);
+    private CompletableFuture<Void> schema;
 
     /**
-     * Initializes the database schema if needed.
-     * Currently a no-op because schema is managed externally.
+     * Creates the service on the local store in {@link LocalStore#defaultDir()}.
+     */
+    public DatabaseService() {
+        this(LocalStore.openDefault());
+    }
+
+    /**
+     * Creates the service and exposes the number of calls waiting for a connection, the
+     * connections in use and the users with unsynced changes as metrics. Changes left
+     * pending by a previous run start syncing right away.
      *
-     * @return a completed CompletableFuture
+     * @param local store serving reads and holding writes until they are synced
      */
-    public CompletableFuture<Void> initializeSchema() {
-        return CompletableFuture.completedFuture(null);
+    public DatabaseService(LocalStore local) {
+        this.local = local;
+        MetricsRegistry.getInstance().registerGauge("arkanoid_db_io_queue_depth", () -> DatabaseConfig.pool().waiting());
+        MetricsRegistry.getInstance().registerGauge("arkanoid_db_connections_in_use", () -> DatabaseConfig.pool().inUse());
+        MetricsRegistry.getInstance().registerGauge("arkanoid_db_sync_pending", local::pendingCount);
+        MetricsRegistry.getInstance().registerGauge("arkanoid_db_history_pending", history::pending);
+        requestSync();
+    }
+
+    /**
+     * Returns how long an operation may take before it fails with a {@link TimeoutException}.
+     *
+     * @param operation operation name, which is the name of the method
+     * @return the timeout
+     */
+    public Duration getTimeout(String operation) {
+        return timeouts.getOrDefault(operation, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Changes the timeout of an operation for calls made from now on.
+     *
+     * @param operation operation name, which is the name of the method
+     * @param timeout new timeout
+     */
+    public void setTimeout(String operation, Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        timeouts.put(operation, timeout);
+    }
+
+    /**
+     * Brings the database schema up to date with the {@link MigrationRunner} and creates
+     * this month's game history partitions, then starts upgrading legacy user rows in the
+     * background. Runs once; later calls return the same future, so logins can wait on it.
+     *
+     * @return a CompletableFuture that completes once the schema is ready
+     */
+    public synchronized CompletableFuture<Void> initializeSchema() {
+        if (schema == null || schema.isCompletedExceptionally()) {
+            schema = runAsync("initializeSchema", () -> {
+                migrations.migrate();
+                sessions.ensureCurrentPartitions();
+                return null;
+            });
+            schema.thenRun(() -> upgradeLegacyUsers().exceptionally(e -> {
+                System.err.println("Legacy user upgrade stopped: " + e);
+                return null;
+            }));
+        }
+        return schema;
+    }
+
+    /**
+     * Upgrades user rows written before logins were normalized, in small batches on the I/O
+     * pool so that interactive calls are never stuck behind the whole job.
+     *
+     * @return a CompletableFuture resolving to the number of batches run
+     */
+    public CompletableFuture<Integer> upgradeLegacyUsers() {
+        return upgradeLegacyUsers(0, 0);
+    }
+
+    private CompletableFuture<Integer> upgradeLegacyUsers(int afterId, int batches) {
+        return runAsync("upgradeLegacyUsers", () -> users.upgradeLegacyBatch(afterId, LEGACY_BATCH_SIZE))
+                .thenCompose(lastId -> lastId < 0
+                        ? CompletableFuture.completedFuture(batches)
+                        : upgradeLegacyUsers(lastId, batches + 1));
     }
 
     /**
      * Attempts to authenticate a user with a username and password.
      * Supports legacy plaintext passwords and normalizes username.
+     * A user known to the local store logs in without the database; others are looked up
+     * there and remembered.
      *
      * @param username the user's username
      * @param password the user's password
@@ -54,128 +192,155 @@ public final class DatabaseService {
      * @throws UserNotFoundException if no user exists with the given username
      */
     public CompletableFuture<User> login(String username, String password) {
-        return runAsync(() -> {
+        String unameNorm = PasswordHasher.normalize(username);
+        String computed = PasswordHasher.hash(unameNorm, password);
+        Optional<User> known = local.findUser(unameNorm);
+        // The local store only ever holds hashes
+        if (known.isPresent() && computed.equals(known.get().getPasswordHash())) {
+            if (known.get().getId() > 0) refreshUser(known.get().getName());
+            return CompletableFuture.completedFuture(known.get());
+        }
+        return initializeSchema().thenCompose(ready -> runAsync("login", () -> {
             try {
-                String unameNorm = PasswordHasher.normalize(username);
-
-                Optional<User> found = users.findByName(username);
-                if (found.isEmpty()) {
-                    found = users.findByNameInsensitive(username);
-                }
-
-                if (found.isPresent()) {
-                    User u = found.get();
-                    String computed = PasswordHasher.hash(unameNorm, password);
-                    if (computed.equals(u.getPasswordHash())) {
-                        if (!u.getName().equals(unameNorm)) {
-                            users.tryUpdateName(u.getId(), unameNorm);
-                        }
-                        return u;
-                    }
-                    if (password != null && password.equals(u.getPasswordHash())) {
-                        users.updatePasswordHash(u.getId(), computed);
-                        if (!u.getName().equals(unameNorm)) {
-                            users.tryUpdateName(u.getId(), unameNorm);
-                        }
-                        return new User(u.getId(), unameNorm, computed, u.getBestScore(), u.getBestRound(), u.getLastLogin());
-                    }
-                    throw new InvalidCredentialsException();
-                }
-                throw new UserNotFoundException();
+                Optional<User> found = users.findForLogin(username);
+                if (found.isEmpty()) throw new UserNotFoundException();
+                User u = found.get();
+                if (!matches(u, computed, password)) throw new InvalidCredentialsException();
+                return remember(u);
             } catch (SQLException e) {
                 throw new CompletionException(e);
             }
-        });
+        })).whenComplete((u, e) -> {
+            // Warm the local store so the menu finds the saved game without waiting
+            if (u != null) loadInProgressState(u.getId());
+        }).exceptionallyCompose(e -> known.isPresent() && isUnavailable(e)
+                ? CompletableFuture.failedFuture(new InvalidCredentialsException())
+                : CompletableFuture.failedFuture(e));
     }
 
     /**
-     * Loads the latest in-progress game state for a given user.
+     * Loads the latest in-progress game state for a given user, from the local store if it
+     * knows it, else from the database.
      *
      * @param userId ID of the user
      * @return a CompletableFuture resolving to an Optional containing the snapshot if present
      */
+    @Override
     public CompletableFuture<Optional<GameStateSnapshot>> loadInProgressState(int userId) {
-        return runAsync(() -> {
+        int id = local.resolve(userId);
+        if (local.knowsInProgress(id)) return CompletableFuture.completedFuture(local.inProgress(id));
+        return runAsync("loadInProgressState", () -> {
             try {
-                return states.findLatestInProgress(userId);
+                Optional<GameStateSnapshot> found = states.findLatestInProgress(id);
+                local.cacheInProgress(id, found.orElse(null));
+                return local.inProgress(id);
             } catch (SQLException e) {
                 throw new CompletionException(e);
             }
-        });
+        }).exceptionallyCompose(e -> isUnavailable(e)
+                ? CompletableFuture.completedFuture(Optional.empty())
+                : CompletableFuture.failedFuture(e));
     }
 
     /**
-     * Saves the current in-progress game state for a user.
+     * Saves the current in-progress game state for a user. Durable locally once this
+     * returns; reaches the database with the next sync.
      *
      * @param userId ID of the user
      * @param snap snapshot of the current game state
      * @return a CompletableFuture that completes when saving finishes
      */
+    @Override
     public CompletableFuture<Void> saveInProgress(int userId, GameStateSnapshot snap) {
-        return runAsync(() -> {
-            try {
-                states.upsertInProgress(userId, snap);
-                return null;
-            } catch (SQLException e) {
-                throw new CompletionException(e);
-            }
-        });
+        return writeLocal(() -> local.saveInProgress(userId, snap));
     }
 
     /**
-     * Clears any in-progress game state for a user.
+     * Clears any in-progress game state for a user. Durable locally once this returns;
+     * reaches the database with the next sync.
      *
      * @param userId ID of the user
      * @return a CompletableFuture that completes when clearing finishes
      */
+    @Override
     public CompletableFuture<Void> clearInProgress(int userId) {
-        return runAsync(() -> {
-            try {
-                states.clearInProgressForUser(userId);
-                return null;
-            } catch (SQLException e) {
-                throw new CompletionException(e);
-            }
-        });
+        return writeLocal(() -> local.saveInProgress(userId, null));
     }
 
     /**
-     * Updates the best round and score for a user if higher than previous.
+     * Updates the best round and score for a user if higher than previous. Durable locally
+     * once this returns; reaches the database with the next sync.
      *
      * @param userId ID of the user
      * @param bestRound best round achieved
      * @param bestScore best score achieved
      * @return a CompletableFuture that completes when update finishes
      */
+    @Override
     public CompletableFuture<Void> updateBest(int userId, int bestRound, int bestScore) {
-        return runAsync(() -> {
+        return writeLocal(() -> local.updateBest(userId, bestRound, bestScore));
+    }
+
+    /**
+     * Fetches top rankings up to a specified limit, with unsynced local bests merged in.
+     * Without the database, the last rankings fetched are used.
+     *
+     * @param limit maximum number of entries to return
+     * @return a CompletableFuture resolving to a list of RankingEntry objects
+     */
+    public CompletableFuture<List<RankingEntry>> getRankings(int limit) {
+        return getRankingsPage(null, limit);
+    }
+
+    /**
+     * Fetches one page of the rankings. The first page is cached locally, with unsynced
+     * local bests merged in; without the database, pages come from that cache.
+     *
+     * @param after last entry of the previous page, or null for the first page
+     * @param limit page size
+     * @return a CompletableFuture resolving to the entries, in {@link RankingEntry#ORDER}
+     */
+    public CompletableFuture<List<RankingEntry>> getRankingsPage(RankingEntry after, int limit) {
+        return runAsync("getRankings", () -> {
             try {
-                users.updateBest(userId, bestRound, bestScore);
-                return null;
+                List<RankingEntry> page = scores.fetchRankingsPage(after, limit);
+                if (after != null) return page;
+                local.cacheRankings(page);
+                return local.rankings(limit);
             } catch (SQLException e) {
                 throw new CompletionException(e);
             }
-        });
+        }).exceptionallyCompose(e -> isUnavailable(e)
+                ? CompletableFuture.completedFuture(local.rankingsPage(after, limit))
+                : CompletableFuture.failedFuture(e));
     }
 
     /**
-     * Fetches top rankings up to a specified limit.
+     * Finds a user's position in the rankings. Users not in the database yet are ranked
+     * among the locally cached rankings. Ranks are counted exactly up to
+     * {@link #MAX_EXACT_RANK}, which bounds the query however many users there are.
      *
-     * @param limit maximum number of entries to return
-     * @return a CompletableFuture resolving to a list of RankingEntry objects
+     * @param userId ID of the user
+     * @return a CompletableFuture resolving to the 1-based rank, {@code MAX_EXACT_RANK + 1}
+     *         for any rank below that, or 0 if not ranked
      */
-    public CompletableFuture<List<RankingEntry>> getRankings(int limit) {
-        return runAsync(() -> {
+    public CompletableFuture<Integer> getRank(int userId) {
+        int id = local.resolve(userId);
+        if (id < 0) return CompletableFuture.completedFuture(local.rankOf(id));
+        return runAsync("getRank", () -> {
             try {
-                return scores.fetchRankings(limit);
+                return scores.findRank(id, MAX_EXACT_RANK);
             } catch (SQLException e) {
                 throw new CompletionException(e);
             }
-        });
+        }).exceptionallyCompose(e -> isUnavailable(e)
+                ? CompletableFuture.completedFuture(local.rankOf(id))
+                : CompletableFuture.failedFuture(e));
     }
 
     /**
-     * Registers a new user with the given username and password.
+     * Registers a new user with the given username and password. When the database cannot
+     * be reached the user is created locally and registered by the next sync.
      *
      * @param username desired username
      * @param password desired password
@@ -183,44 +348,336 @@ public final class DatabaseService {
      * @throws NameExistsException if a user with the same name already exists (case-insensitive)
      */
     public CompletableFuture<User> signup(String username, String password) {
-        return runAsync(() -> {
+        String unameNorm = PasswordHasher.normalize(username);
+        String hash = PasswordHasher.hash(unameNorm, password);
+        if (local.findUser(unameNorm).isPresent()) return CompletableFuture.failedFuture(new NameExistsException());
+        return initializeSchema().thenCompose(ready -> runAsync("signup", () -> {
             try {
-                String unameNorm = PasswordHasher.normalize(username);
-                if (users.findByNameInsensitive(unameNorm).isPresent()) {
+                if (users.findForLogin(username).isPresent()) {
                     throw new NameExistsException();
                 }
-                String hash = PasswordHasher.hash(unameNorm, password);
-                return users.insert(unameNorm, hash);
+                User u = users.insert(unameNorm, hash);
+                remember(u);
+                return u;
             } catch (SQLException e) {
+                if (UNIQUE_VIOLATION.equals(e.getSQLState())) throw new NameExistsException();
                 throw new CompletionException(e);
             }
+        })).exceptionallyCompose(e -> {
+            if (!isUnavailable(e)) return CompletableFuture.failedFuture(e);
+            // Offline: the account is created here and in the database with the next sync
+            try {
+                Optional<User> created = local.createLocalUser(unameNorm, unameNorm, hash);
+                if (created.isEmpty()) return CompletableFuture.failedFuture(new NameExistsException());
+                requestSync();
+                return CompletableFuture.completedFuture(created.get());
+            } catch (IOException io) {
+                return CompletableFuture.failedFuture(io);
+            }
         });
     }
 
     /**
-     * Shuts down the database I/O thread pool.
+     * Pushes changes the local store holds to the database now, in the background, unless a
+     * sync is already running. Retries with backoff until the database takes them.
+     */
+    public void requestSync() {
+        if (local.pendingCount() == 0 || !syncing.compareAndSet(false, true)) return;
+        try {
+            io.execute(this::syncLoop);
+        } catch (RejectedExecutionException e) {
+            syncing.set(false); // shut down
+        }
+    }
+
+    /** @return number of users whose local changes are not in the database yet */
+    public int pendingSync() {
+        return local.pendingCount();
+    }
+
+    /**
+     * Add a finished game to the game history. Returns at once; games are written in
+     * batches. Games of a local user are written once the user is in the database.
+     *
+     * @param session the game
+     */
+    public void recordGameSession(GameSessionRecord session) {
+        history.record(session);
+    }
+
+    /**
+     * Counts the distinct players of each UTC day.
+     *
+     * @param from first day
+     * @param to day after the last
+     * @return a CompletableFuture resolving to players per day, in day order
+     */
+    public CompletableFuture<Map<LocalDate, Integer>> getDailyActivePlayers(LocalDate from, LocalDate to) {
+        return initializeSchema().thenCompose(ready -> runAsync("getDailyActivePlayers",
+                () -> sessions.dailyActivePlayers(from, to)));
+    }
+
+    /**
+     * Counts games by final score in equal-width buckets.
+     *
+     * @param from first day
+     * @param to day after the last
+     * @param maxScore upper end of the last bucket, which also counts higher scores
+     * @param buckets number of buckets
+     * @return a CompletableFuture resolving to games per bucket
+     */
+    public CompletableFuture<long[]> getScoreDistribution(LocalDate from, LocalDate to, int maxScore, int buckets) {
+        return initializeSchema().thenCompose(ready -> runAsync("getScoreDistribution",
+                () -> sessions.scoreDistribution(from, to, maxScore, buckets)));
+    }
+
+    /**
+     * Interrupts every running database call, refuses new ones, writes what it can of the
+     * game history and closes the local store.
      */
     public void shutdown() { 
-        ioPool.shutdownNow(); 
+        history.close();
+        io.shutdownNow(); 
+        try {
+            local.close();
+        } catch (IOException e) {
+            System.err.println("Could not close local store: " + e);
+        }
+    }
+
+    private void syncLoop() {
+        long backoff = SYNC_BACKOFF_MS;
+        while (true) {
+            try {
+                if (!syncBatch()) {
+                    syncing.set(false);
+                    // A change may have arrived after the last batch but before the flag cleared
+                    if (local.pendingCount() == 0 || !syncing.compareAndSet(false, true)) return;
+                }
+                backoff = SYNC_BACKOFF_MS;
+            } catch (SQLException | IOException | RuntimeException e) {
+                if (!isUnavailable(e)) System.err.println("Sync to database failed: " + e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    syncing.set(false);
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_SYNC_BACKOFF_MS);
+            }
+        }
+    }
+
+    /**
+     * Push one batch of pending users in a single transaction, then record the outcome in
+     * the local store.
+     *
+     * @return false if nothing was pending
+     */
+    private boolean syncBatch() throws SQLException, IOException {
+        List<LocalStore.Pending> batch = local.pending(SYNC_BATCH_SIZE);
+        if (batch.isEmpty()) return false;
+        initializeSchema().join();
+        List<SyncOutcome> outcomes = new ArrayList<>(batch.size());
+        try (Connection c = DatabaseConfig.getConnection()) {
+            c.setAutoCommit(false);
+            try {
+                for (LocalStore.Pending p : batch) outcomes.add(push(c, p));
+                c.commit();
+            } catch (SQLException e) {
+                c.rollback();
+                throw e;
+            }
+        }
+        for (SyncOutcome o : outcomes) {
+            LocalStore.Pending p = o.pending();
+            if (o.conflict()) {
+                System.err.println("Not syncing local user '" + p.name() + "': the name is taken in the database");
+                local.markConflict(p.id());
+                continue;
+            }
+            if (o.remoteId() != p.id()) local.link(p.id(), o.remoteId());
+            local.markSynced(o.remoteId(), p.changed());
+            // Keeps the database's game only if nothing was saved locally since
+            if (o.newerSave() != null) local.cacheInProgress(o.remoteId(), o.newerSave());
+        }
+        return true;
+    }
+
+    /** What pushing one pending user did. */
+    private record SyncOutcome(LocalStore.Pending pending, int remoteId, boolean conflict, GameStateSnapshot newerSave) {}
+
+    private SyncOutcome push(Connection c, LocalStore.Pending p) throws SQLException {
+        int remoteId = p.id();
+        if (!p.remote()) {
+            Savepoint before = c.setSavepoint();
+            try {
+                remoteId = users.insert(c, p.name(), p.passwordHash()).getId();
+            } catch (SQLException e) {
+                if (!UNIQUE_VIOLATION.equals(e.getSQLState())) throw e;
+                c.rollback(before);
+                Optional<User> taken = users.findForLogin(c, p.name());
+                // The same name and password is the same player, signed up from two places
+                if (taken.isEmpty() || !p.passwordHash().equals(taken.get().getPasswordHash())) {
+                    return new SyncOutcome(p, p.id(), true, null);
+                }
+                remoteId = taken.get().getId();
+            }
+        }
+        users.updateBest(c, remoteId, p.bestRound(), p.bestScore());
+        if (!p.pushSave()) return new SyncOutcome(p, remoteId, false, null);
+        if (p.save() == null) {
+            states.clearInProgressForUser(c, remoteId);
+            return new SyncOutcome(p, remoteId, false, null);
+        }
+        Optional<GameStateSnapshot> theirs = states.findLatestInProgress(c, remoteId);
+        if (theirs.isPresent() && isFurther(theirs.get(), p.save())) {
+            return new SyncOutcome(p, remoteId, false, theirs.get());
+        }
+        states.upsertInProgress(c, remoteId, p.save());
+        return new SyncOutcome(p, remoteId, false, null);
+    }
+
+    /**
+     * Write a batch of the game history; called on the writer's thread. Games of local users
+     * wait while a sync is pending, which may put them in the database; once nothing is
+     * pending, a user still local has a conflicting name and their games are left out.
+     */
+    private void writeSessions(List<GameSessionRecord> batch) throws SQLException {
+        initializeSchema().join();
+        List<GameSessionRecord> rows = new ArrayList<>(batch.size());
+        for (GameSessionRecord r : batch) {
+            int id = local.resolve(r.userId());
+            if (id > 0) {
+                rows.add(id == r.userId() ? r : r.withUserId(id));
+            } else if (local.pendingCount() > 0) {
+                throw new SQLTransientException("Game history waits for local user " + id + " to sync");
+            }
+        }
+        try (Connection c = DatabaseConfig.getConnection()) {
+            sessions.insertBatch(c, rows);
+        }
+    }
+
+    /** Whether game {@code a} is further along than game {@code b}. */
+    static boolean isFurther(GameStateSnapshot a, GameStateSnapshot b) {
+        if (a.currentLevel != b.currentLevel) return a.currentLevel > b.currentLevel;
+        return a.score > b.score;
+    }
+
+    /**
+     * Whether a failure means the database could not be reached, rather than that it
+     * refused the request.
+     */
+    static boolean isUnavailable(Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof TimeoutException || c instanceof SQLTransientException
+                    || c instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (c instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(User u, String computed, String password) {
+        // Not upgraded yet; the background upgrade will hash it
+        return computed.equals(u.getPasswordHash()) || (password != null && password.equals(u.getPasswordHash()));
     }
 
     /**
-     * Helper method to run a callable asynchronously in the I/O thread pool.
+     * Keep a user read from the database in the local store; called on an I/O thread. A row
+     * the upgrade has not reached yet holds its plaintext password, which is hashed here so
+     * that it never reaches the disk.
+     * @param u user as read from the database
+     * @return the user as remembered
+     */
+    User remember(User u) {
+        User hashed = PasswordHasher.isHash(u.getPasswordHash()) ? u
+                : new User(u.getId(), u.getName(), PasswordHasher.hash(u.getName(), u.getPasswordHash()),
+                        u.getBestScore(), u.getBestRound(), u.getLastLogin());
+        try {
+            local.putRemoteUser(hashed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        requestSync();
+        return hashed;
+    }
+
+    /** Pull a locally known user's bests from the database in the background. */
+    private void refreshUser(String name) {
+        runAsync("refreshUser", () -> {
+            try {
+                users.findForLogin(name).ifPresent(this::remember);
+                return null;
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }).exceptionally(e -> null);
+    }
+
+    private interface LocalWrite {
+        void run() throws IOException;
+    }
+
+    private CompletableFuture<Void> writeLocal(LocalWrite write) {
+        try {
+            write.run();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        requestSync();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Helper method to run a callable asynchronously on a new virtual thread.
+     * Each call is reported as a {@link DatabaseCallEvent} with the time it waited for a
+     * pooled connection.
+     * <p>
+     * The future fails with a {@link TimeoutException} once the operation's timeout has
+     * passed. Timing out or cancelling the future interrupts the call, which makes the JDBC
+     * driver abandon a blocked socket read; the pool then discards that connection.
+     * </p>
      *
+     * @param operation name of the operation, for diagnostics and its timeout
      * @param task task to execute
      * @param <T> return type
      * @return a CompletableFuture that completes with the result or exception
      */
-    private <T> CompletableFuture<T> runAsync(Callable<T> task) {
-        return CompletableFuture.supplyAsync(() -> {
+    private <T> CompletableFuture<T> runAsync(String operation, Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Future<?> call = io.submit(() -> {
+            DatabaseCallEvent event = new DatabaseCallEvent();
+            event.begin();
+            long started = System.nanoTime();
+            boolean success = false;
             try { 
-                return task.call(); 
-            } catch (RuntimeException re) { 
-                throw re; 
+                T result = task.call();
+                success = true;
+                future.complete(result);
+            } catch (CompletionException ce) {
+                future.completeExceptionally(ce);
             } catch (Exception e) { 
-                throw new CompletionException(e); 
+                future.completeExceptionally(new CompletionException(e));
+            } finally {
+                MetricsRegistry.getInstance().recordDbCall(operation, System.nanoTime() - started, success);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = operation;
+                    event.queueWait = ConnectionPool.takeAcquireWaitNanos();
+                    event.success = success;
+                    event.commit();
+                }
             }
-        }, ioPool);
+        });
+        future.whenComplete((r, e) -> {
+            if (e != null) call.cancel(true);
+        });
+        return future.orTimeout(getTimeout(operation).toMillis(), TimeUnit.MILLISECONDS);
     }
 
     // --- Domain-specific exceptions ---
@@ -5,10 +5,9 @@ import com.game.arkanoid.events.enemy.ExplosionEvent;
 import com.game.arkanoid.events.sound.ExplosionSoundEvent;
 import com.game.arkanoid.models.*;
 import com.game.arkanoid.utils.Constants;
+import com.game.arkanoid.utils.ListUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Service responsible for handling enemies in the game.
@@ -19,13 +18,50 @@ import java.util.Random;
  */
 public final class EnemyService {
 
-    private final Random random = new Random();
-    private final GameEventBus eventBus = GameEventBus.getInstance();
+    /** Shared sound event; it carries no data. */
+    private static final ExplosionSoundEvent EXPLOSION_SOUND = new ExplosionSoundEvent();
 
-    /** Maximum number of enemies allowed on screen simultaneously */
-    private static final int MAX_ENEMIES = 3;
+    private final GameEventBus eventBus;
 
-    public EnemyService() {}
+    /** Default maximum number of enemies allowed on screen simultaneously */
+    public static final int DEFAULT_MAX_ENEMIES = 3;
+
+    private final int maxEnemies;
+
+    /** Broadphase used by the standalone {@link #update(GameState, double, double, double)}. */
+    private final CollisionGrid ownGrid = new CollisionGrid();
+
+    public EnemyService() {
+        this(DEFAULT_MAX_ENEMIES);
+    }
+
+    /**
+     * Constructor with a custom enemy cap, e.g. for stress testing.
+     *
+     * @param maxEnemies maximum number of enemies on screen
+     */
+    public EnemyService(int maxEnemies) {
+        this(maxEnemies, GameEventBus.getInstance());
+    }
+
+    /**
+     * Constructor for one session.
+     *
+     * @param maxEnemies maximum number of enemies on screen
+     * @param eventBus bus receiving explosion and sound events
+     */
+    public EnemyService(int maxEnemies, GameEventBus eventBus) {
+        if (maxEnemies < 0) throw new IllegalArgumentException("maxEnemies must be >= 0");
+        this.maxEnemies = maxEnemies;
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * @return maximum number of enemies on screen
+     */
+    public int getMaxEnemies() {
+        return maxEnemies;
+    }
 
     /**
      * Spawns a new enemy at the specified position, if under the limit.
@@ -35,11 +71,11 @@ public final class EnemyService {
      * @param y initial y-coordinate
      */
     public void spawnEnemy(GameState state, double x, double y) {
-        if (state.enemies.size() >= MAX_ENEMIES) return;
+        if (state.enemies.size() >= maxEnemies) return;
 
         EnemyType[] types = EnemyType.values();
-        EnemyType type = types[random.nextInt(types.length)];
-        double initialVx = Constants.ENEMY_SPEED_X * (random.nextBoolean() ? 1 : -1);
+        EnemyType type = types[state.rng.nextInt(types.length)];
+        double initialVx = Constants.ENEMY_SPEED_X * (state.rng.nextBoolean() ? 1 : -1);
 
         Enemy enemy = new Enemy(type, x, y, Constants.ENEMY_WIDTH, Constants.ENEMY_HEIGHT, initialVx, Constants.ENEMY_SPEED_Y);
         state.enemies.add(enemy);
@@ -55,48 +91,74 @@ public final class EnemyService {
      * @param worldH height of the game world
      */
     public void update(GameState state, double dt, double worldW, double worldH) {
-        List<Enemy> toRemove = new ArrayList<>();
-        List<Bullet> toRemoveBullets = new ArrayList<>();
+        ownGrid.rebuild(state, worldW, worldH);
+        update(state, ownGrid, dt, worldW, worldH);
+    }
 
-        for (Enemy enemy : state.enemies) {
-            if (enemy.getY() > Constants.DOOR_TOP_Y + 22);
+    /**
+     * Updates all enemies using a broadphase grid already built for this tick.
+     * Ball and bullet layers are re-indexed when an enemy removes one of them.
+     *
+     * @param state the current game state
+     * @param grid broadphase indexing the state's bricks, balls and bullets
+     * @param dt time delta in seconds
+     * @param worldW width of the game world
+     * @param worldH height of the game world
+     */
+    public void update(GameState state, CollisionGrid grid, double dt, double worldW, double worldH) {
+        List<Enemy> enemies = state.enemies;
+        int i = 0;
+        while (i < enemies.size()) {
+            Enemy enemy = enemies.get(i);
             enemy.update(dt);
 
             handleWallCollision(enemy, worldW, worldH);
-            handleBrickCollision(enemy, state);
+            handleBrickCollision(enemy, state, grid);
 
             if (intersects(enemy, state.paddle)) {
                 applyEnemyEffectOnPaddle(enemy, state);
                 spawnExplosion(enemy);
-                toRemove.add(enemy);
+                ListUtils.swapRemove(enemies, i);
                 continue;
             }
 
-            for (Ball ball : state.balls) {
+            boolean remove = false;
+            double minX = enemy.getX();
+            double minY = enemy.getY();
+            double maxX = minX + enemy.getWidth();
+            double maxY = minY + enemy.getHeight();
+
+            int candidates = grid.queryBalls(minX, minY, maxX, maxY);
+            for (int k = 0; k < candidates; k++) {
+                Ball ball = state.balls.get(grid.result(k));
                 if (intersects(enemy, ball)) {
+                    int ballsBefore = state.balls.size();
                     applyEnemyEffectOnBall(enemy, state, ball);
+                    if (state.balls.size() != ballsBefore) grid.indexBalls(state.balls);
                     spawnExplosion(enemy);
-                    toRemove.add(enemy);
+                    remove = true;
                     break;
                 }
             }
 
-            for (Bullet bullet : state.bullets) {
-                if (intersects(enemy, bullet)) {
+            candidates = grid.queryBullets(minX, minY, maxX, maxY);
+            for (int k = 0; k < candidates; k++) {
+                int b = grid.result(k);
+                if (intersects(enemy, state.bullets.get(b))) {
                     spawnExplosion(enemy);
-                    toRemove.add(enemy);
-                    toRemoveBullets.add(bullet);
+                    ListUtils.swapRemove(state.bullets, b);
+                    grid.indexBullets(state.bullets);
+                    remove = true;
                     break;
                 }
             }
 
-            if (enemy.getY() > worldH) {
-                toRemove.add(enemy);
+            if (remove || enemy.getY() > worldH) {
+                ListUtils.swapRemove(enemies, i);
+                continue;
             }
+            i++;
         }
-
-        state.enemies.removeAll(toRemove);
-        state.bullets.removeAll(toRemoveBullets);
     }
 
     /**
@@ -162,7 +224,8 @@ public final class EnemyService {
      * @param state the game state
      */
     private void fastAllBalls(GameState state) {
-        for (Ball ball : state.balls) {
+        for (int i = 0; i < state.balls.size(); i++) {
+            Ball ball = state.balls.get(i);
             ball.setVelocity(ball.getDx() * 1.3, ball.getDy() * 1.3);
         }
     }
@@ -194,40 +257,54 @@ public final class EnemyService {
     }
 
     /**
-     * Handles collisions between an enemy and bricks.
+     * Handles collisions between an enemy and live bricks.
      *
      * @param enemy the enemy
      * @param state the game state
+     * @param grid broadphase indexing the live bricks
      */
-    private void handleBrickCollision(Enemy enemy, GameState state) {
-        boolean collidedY = false;
-        for (GameObject brick : state.bricks) {
-            if (intersects(enemy, brick)) {
-                collidedY = true;
-                if (enemy.getVy() > 0) {
-                    enemy.setY(brick.getY() - enemy.getHeight());
-                } else if (enemy.getVy() < 0) {
-                    enemy.setY(brick.getY() + brick.getHeight());
-                }
-                enemy.setVy(0);
-                break;
+    private void handleBrickCollision(Enemy enemy, GameState state, CollisionGrid grid) {
+        Brick brick = firstBrickHit(enemy, state.bricks, grid);
+        if (brick != null) {
+            if (enemy.getVy() > 0) {
+                enemy.setY(brick.getY() - enemy.getHeight());
+            } else if (enemy.getVy() < 0) {
+                enemy.setY(brick.getY() + brick.getHeight());
             }
-        }
-        if (!collidedY) {
+            enemy.setVy(0);
+        } else {
             enemy.setVy(Constants.ENEMY_SPEED_Y);
         }
 
-        for (GameObject brick : state.bricks) {
-            if (intersects(enemy, brick)) {
-                if (enemy.getVx() > 0) {
-                    enemy.setX(brick.getX() - enemy.getWidth());
-                } else if (enemy.getVx() < 0) {
-                    enemy.setX(brick.getX() + brick.getWidth());
-                }
-                enemy.setVx(-enemy.getVx());
-                break;
+        brick = firstBrickHit(enemy, state.bricks, grid);
+        if (brick != null) {
+            if (enemy.getVx() > 0) {
+                enemy.setX(brick.getX() - enemy.getWidth());
+            } else if (enemy.getVx() < 0) {
+                enemy.setX(brick.getX() + brick.getWidth());
+            }
+            enemy.setVx(-enemy.getVx());
+        }
+    }
+
+    /**
+     * Finds the first live brick, in list order, that intersects the enemy.
+     *
+     * @param enemy the enemy
+     * @param bricks bricks of the level
+     * @param grid broadphase indexing the live bricks
+     * @return the brick hit, or null if none
+     */
+    private Brick firstBrickHit(Enemy enemy, List<Brick> bricks, CollisionGrid grid) {
+        int candidates = grid.queryBricks(enemy.getX(), enemy.getY(),
+                enemy.getX() + enemy.getWidth(), enemy.getY() + enemy.getHeight());
+        for (int k = 0; k < candidates; k++) {
+            Brick brick = bricks.get(grid.result(k));
+            if (!brick.isDestroyed() && intersects(enemy, brick)) {
+                return brick;
             }
         }
+        return null;
     }
 
     /**
@@ -236,7 +313,7 @@ public final class EnemyService {
      * @param enemy the enemy to explode
      */
     private void spawnExplosion(Enemy enemy) {
-        eventBus.publish(new ExplosionSoundEvent());
+        eventBus.publish(EXPLOSION_SOUND);
         eventBus.publish(new ExplosionEvent(
                 enemy.getX(),
                 enemy.getY(),
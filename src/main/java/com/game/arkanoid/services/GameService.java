@@ -1,5 +1,9 @@
 package com.game.arkanoid.services;
 
+import com.game.arkanoid.diagnostics.MetricsRegistry;
+import com.game.arkanoid.diagnostics.TickProfiler;
+import com.game.arkanoid.diagnostics.TickProfiler.Section;
+import com.game.arkanoid.diagnostics.jfr.TickEvent;
 import com.game.arkanoid.events.GameEventBus;
 import com.game.arkanoid.events.game.GameOverEvent;
 import com.game.arkanoid.events.game.LevelClearedEvent;
@@ -13,7 +17,6 @@ import com.game.arkanoid.models.GameState;
 import com.game.arkanoid.models.InputState;
 import com.game.arkanoid.models.PowerUp;
 import com.game.arkanoid.utils.Constants;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -76,6 +79,14 @@ public final class GameService {
         return roundSvc;
     }
 
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
     public GameState getBoundState() {
         return boundState;
     }
@@ -86,6 +97,26 @@ public final class GameService {
 
     private GameState boundState;
 
+    /** Per-section timings of the update loop; disabled until the overlay is shown. */
+    private final TickProfiler profiler = new TickProfiler();
+
+    /** Process-wide metrics, or null for sessions that are not exported. */
+    private final MetricsRegistry metrics;
+
+    private final GameEventBus eventBus;
+
+    /** Broadphase shared by every collision query of a tick. */
+    private final CollisionGrid grid = new CollisionGrid();
+
+    // Collision counts of the current tick, reported by TickEvent
+    private int paddleHits;
+    private int brickHits;
+    private int bulletImpacts;
+
+    // Field-less sound events are shared so the per-frame path does not allocate.
+    private static final PaddleHitSoundEvent PADDLE_HIT_SOUND = new PaddleHitSoundEvent();
+    private static final BrickHitSoundEvent BRICK_HIT_SOUND = new BrickHitSoundEvent();
+
     // --- Constructor -------------------------------------------------------
 
     /**
@@ -107,6 +138,34 @@ public final class GameService {
             BulletService bulletSvc,
             RoundService roundSvc,
             EnemyService enemySvc
+    ) {
+        this(ballSvc, paddleSvc, bricksSvc, powerUpSvc, bulletSvc, roundSvc, enemySvc,
+                GameEventBus.getInstance(), MetricsRegistry.getInstance());
+    }
+
+    /**
+     * Constructs the GameService of one session.
+     *
+     * @param ballSvc Ball movement and physics service.
+     * @param paddleSvc Paddle movement and collision service.
+     * @param bricksSvc Brick collision and state management service.
+     * @param powerUpSvc Power-up spawning and effects service.
+     * @param bulletSvc Laser bullets update and collision service.
+     * @param roundSvc Level loading and round management service.
+     * @param enemySvc Enemy spawning, movement, and collision service.
+     * @param eventBus Bus receiving the session's game and sound events.
+     * @param metrics Registry receiving tick metrics, or null to record none.
+     */
+    public GameService(
+            BallService ballSvc,
+            PaddleService paddleSvc,
+            BricksService bricksSvc,
+            PowerUpService powerUpSvc,
+            BulletService bulletSvc,
+            RoundService roundSvc,
+            EnemyService enemySvc,
+            GameEventBus eventBus,
+            MetricsRegistry metrics
     ) {
         this.ballSvc = ballSvc;
         this.paddleSvc = paddleSvc;
@@ -115,6 +174,8 @@ public final class GameService {
         this.bulletSvc = bulletSvc;
         this.roundSvc = roundSvc;
         this.enemySvc = enemySvc;
+        this.eventBus = eventBus;
+        this.metrics = metrics;
     }
 
     // ======================================================================
@@ -133,17 +194,69 @@ public final class GameService {
      */
     public void update(GameState state, InputState in, double dt, double worldW, double worldH) {
         if (!state.running || state.paused || state.levelTransitionPending) return;
-
+        state.elapsed += dt * Constants.NANOS_PER_DT / 1e9;
+
+        long tickNanos = System.nanoTime();
+        TickEvent tickEvent = TickEvent.TYPE.isEnabled() ? new TickEvent() : null;
+        if (tickEvent != null) tickEvent.begin();
+        paddleHits = 0;
+        brickHits = 0;
+        bulletImpacts = 0;
+        long tickStart = profiler.start();
         double scaledDt = dt * state.timeScale;
+        long t = profiler.start();
         handleInput(state, in, scaledDt, worldW);
+        profiler.stop(Section.INPUT, t);
+
+        t = profiler.start();
+        grid.rebuild(state, worldW, worldH);
+        enemySvc.update(state, grid, scaledDt, worldW, worldH);
+        profiler.stop(Section.ENEMIES, t);
 
-        enemySvc.update(state, scaledDt, worldW, worldH);
         bulletSvc.tickCooldown(state, scaledDt);
+        t = profiler.start();
         updateBalls(state, scaledDt, worldW, worldH);
+        profiler.stop(Section.BALLS, t);
+
+        t = profiler.start();
         updateBullets(state, scaledDt, worldH);
+        profiler.stop(Section.BULLETS, t);
+
+        t = profiler.start();
         powerUpSvc.update(state, scaledDt, worldW, worldH);
+        profiler.stop(Section.POWER_UPS, t);
+
         checkLevelCleared(state);
         handleBallFall(state);
+        profiler.stop(Section.LOGIC, tickStart);
+        if (metrics != null) {
+            metrics.tickSeconds.observeNanos(System.nanoTime() - tickNanos);
+            metrics.setEntities(state.balls.size(), bricksSvc.getBricksRemaining(), state.bullets.size(),
+                    state.enemies.size(), state.powerUps.size());
+        }
+        if (tickEvent != null) commitTick(tickEvent, state, dt);
+    }
+
+    /**
+     * Fills and commits the flight-recorder event of the tick.
+     *
+     * @param event Event started at the beginning of the tick.
+     * @param state Current game state.
+     * @param dt Unscaled delta time.
+     */
+    private void commitTick(TickEvent event, GameState state, double dt) {
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.dt = dt;
+        event.balls = state.balls.size();
+        event.bullets = state.bullets.size();
+        event.enemies = state.enemies.size();
+        event.gridQueries = grid.queryCount();
+        event.gridCandidates = grid.candidateCount();
+        event.paddleHits = paddleHits;
+        event.brickHits = brickHits;
+        event.bulletImpacts = bulletImpacts;
+        event.commit();
     }
 
     /**
@@ -159,7 +272,8 @@ public final class GameService {
         if (in.right) paddleSvc.moveRight(state.paddle, dt, worldW);
 
         // Keep balls attached to paddle if not moving
-        for (Ball ball : state.balls) {
+        for (int i = 0; i < state.balls.size(); i++) {
+            Ball ball = state.balls.get(i);
             if (!ball.isMoving()) {
                 if (ball.isStuck()) {
                     double paddleX = state.paddle.getX();
@@ -176,7 +290,8 @@ public final class GameService {
         }
 
         if (in.launch) {
-            for (Ball ball : state.balls) {
+            for (int i = 0; i < state.balls.size(); i++) {
+                Ball ball = state.balls.get(i);
                 if (!ball.isMoving()) {
                     ballSvc.launch(ball);
                     break;
@@ -205,16 +320,19 @@ public final class GameService {
      * @param worldH Height of the game world.
      */
     private void updateBalls(GameState state, double dt, double worldW, double worldH) {
-        Iterator<Ball> iterator = state.balls.iterator();
-        while (iterator.hasNext()) {
-            Ball ball = iterator.next();
+        List<Ball> balls = state.balls;
+        int i = 0;
+        while (i < balls.size()) {
+            Ball ball = balls.get(i);
             ballSvc.step(ball, dt);
             ballSvc.bounceWorld(ball, worldW, worldH);
             handlePaddleCollision(ball, state);
             handleBrickCollisions(ball, state);
             if (ballSvc.fellBelow(ball, worldH)) {
-                iterator.remove();
+                balls.remove(i);
+                continue;
             }
+            i++;
         }
     }
 
@@ -229,9 +347,10 @@ public final class GameService {
     private void updateBullets(GameState state, double dt, double worldH) {
         if (state.levelTransitionPending) return;
 
-        List<BulletService.Impact> impacts = bulletSvc.update(state, state.bricks, dt, worldH);
-        for (BulletService.Impact impact : impacts) {
-            Brick brick = impact.brick();
+        List<BulletService.Impact> impacts = bulletSvc.update(state, grid, dt, worldH);
+        bulletImpacts += impacts.size();
+        for (int i = 0; i < impacts.size(); i++) {
+            Brick brick = impacts.get(i).brick();
             boolean destroyed = bricksSvc.handleBrickHit(brick);
             if (destroyed) processDestroyedBrick(state, brick);
         }
@@ -250,7 +369,8 @@ public final class GameService {
      */
     private void handlePaddleCollision(Ball ball, GameState state) {
         if (ballSvc.checkCollision(ball, state.paddle)) {
-            GameEventBus.getInstance().publish(new PaddleHitSoundEvent());
+            paddleHits++;
+            eventBus.publish(PADDLE_HIT_SOUND);
             ballSvc.bounceOff(ball, state.paddle);
             ball.setCenter(ball.getCenterX(), state.paddle.getY() - ball.getRadius() - Constants.BALL_NUDGE);
         }
@@ -264,18 +384,24 @@ public final class GameService {
      * @param state Current game state.
      */
     private void handleBrickCollisions(Ball ball, GameState state) {
-        for (Brick brick : state.bricks) {
+        List<Brick> bricks = state.bricks;
+        double r = ball.getRadius();
+        int candidates = grid.queryBricks(ball.getCenterX() - r, ball.getCenterY() - r,
+                ball.getCenterX() + r, ball.getCenterY() + r);
+        for (int k = 0; k < candidates; k++) {
+            Brick brick = bricks.get(grid.result(k));
             if (brick.isDestroyed()) continue;
 
             if (ballSvc.checkCollision(ball, brick)) {
                 ballSvc.bounceOff(ball, brick);
-                GameEventBus.getInstance().publish(new BrickHitSoundEvent());
+                brickHits++;
+                eventBus.publish(BRICK_HIT_SOUND);
                 boolean destroyed = bricksSvc.handleBrickHit(brick);
                 if (destroyed) {
                     state.score += 100;
                     PowerUp spawned = null;
                     if (countAliveBricks(state) > 0) {
-                        spawned = powerUpSvc.spawnPowerUpIfAny(brick.getX(), brick.getY(), brick.getWidth());
+                        spawned = powerUpSvc.spawnPowerUpIfAny(state, brick.getX(), brick.getY(), brick.getWidth());
                     }
                     if (spawned != null) {
                         state.powerUps.add(spawned);
@@ -305,8 +431,8 @@ public final class GameService {
 
         if (state.lives < 0) {
             state.running = false;
-            GameEventBus.getInstance().publish(new ExplodePaddleEvent());
-            GameEventBus.getInstance().publish(new GameOverEvent());
+            eventBus.publish(new ExplodePaddleEvent());
+            eventBus.publish(new GameOverEvent());
         } else {
             state.balls.add(state.ball);
             ballSvc.resetOnPaddle(state.ball, state.paddle);
@@ -324,7 +450,7 @@ public final class GameService {
         state.score++;
 
         if (countAliveBricks(state) > 1) {
-            PowerUp spawned = powerUpSvc.spawnPowerUpIfAny(brick.getX(), brick.getY(), brick.getWidth());
+            PowerUp spawned = powerUpSvc.spawnPowerUpIfAny(state, brick.getX(), brick.getY(), brick.getWidth());
             if (spawned != null) state.powerUps.add(spawned);
         }
         checkLevelCleared(state);
@@ -340,10 +466,9 @@ public final class GameService {
         if (state.levelTransitionPending) return;
 
         if (bricksSvc.allBricksCleared(state.bricks)) {
-            System.out.println("[GameService] All bricks cleared at level " + state.level);
             state.levelTransitionPending = true;
             state.running = false;
-            GameEventBus.getInstance().publish(new LevelClearedEvent(state.level));
+            eventBus.publish(new LevelClearedEvent(state.level));
         }
     }
 
@@ -355,8 +480,9 @@ public final class GameService {
      */
     private int countAliveBricks(GameState state) {
         int alive = 0;
-        for (Brick brick : state.bricks) {
-            if (!brick.isDestroyed()) alive++;
+        List<Brick> bricks = state.bricks;
+        for (int i = 0, n = bricks.size(); i < n; i++) {
+            if (!bricks.get(i).isDestroyed()) alive++;
         }
         return alive;
     }
@@ -409,6 +535,15 @@ public final class GameService {
         roundSvc.loadLevel(state, levelIndex);
     }
 
+    /**
+     * Returns the number of levels in the campaign.
+     *
+     * @return level count
+     */
+    public int getLevelCount() {
+        return roundSvc.getLevelCount();
+    }
+
     // ======================================================================
     // region 6. MISC / SETUP
     // ======================================================================
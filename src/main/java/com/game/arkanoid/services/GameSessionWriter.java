@@ -0,0 +1,166 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.GameSessionRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes finished games to the game history in batches, on a thread of its own.
+ * <p>
+ * {@link #record} only queues; a batch is written once it is full or once its oldest game
+ * has waited for the flush interval, whichever comes first. A batch that fails because the
+ * database is unavailable is kept and retried after another interval, while new games wait in
+ * the queue; any other failure would only repeat, so it is logged and the batch dropped. The
+ * queue is bounded: when the history cannot be written for long, the newest games are dropped
+ * rather than let memory grow, since the history is for analytics and nothing in the game
+ * reads it.
+ * </p>
+ */
+public final class GameSessionWriter implements AutoCloseable {
+
+    /** Writes one batch, e.g. with a JDBC batch insert. */
+    @FunctionalInterface
+    public interface Sink {
+        void write(List<GameSessionRecord> batch) throws Exception;
+    }
+
+    /** Games written per batch by default. */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /** Longest a game waits to be written by default. */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(5);
+
+    /** Games that may wait before new ones are dropped. */
+    private static final int MAX_QUEUED = 10_000;
+
+    /** How long {@link #close} waits for the last batch. */
+    private static final long CLOSE_TIMEOUT_MS = 2_000;
+
+    private final Sink sink;
+    private final int batchSize;
+    private final long intervalNanos;
+    private final BlockingQueue<GameSessionRecord> queue = new LinkedBlockingQueue<>(MAX_QUEUED);
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean closed;
+    private volatile int inFlight; // size of the batch being built or retried
+
+    /**
+     * Create a writer with {@link #DEFAULT_BATCH_SIZE} and {@link #DEFAULT_FLUSH_INTERVAL}.
+     * @param sink where batches go
+     */
+    public GameSessionWriter(Sink sink) {
+        this(sink, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Create a writer and start its thread.
+     * @param sink where batches go
+     * @param batchSize games per batch
+     * @param flushInterval longest a game waits before its batch is written
+     */
+    public GameSessionWriter(Sink sink, int batchSize, Duration flushInterval) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.intervalNanos = flushInterval.toNanos();
+        this.thread = new Thread(this::run, "game-session-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queue a finished game. Never blocks.
+     * @param session
+     * @return false if it was dropped because the writer is closed or too far behind
+     */
+    public boolean record(GameSessionRecord session) {
+        if (closed || !queue.offer(session)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /** @return games queued or in a batch not written yet */
+    public int pending() {
+        return queue.size() + inFlight;
+    }
+
+    /** @return games dropped so far */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Stop taking games, try once to write what is queued, and stop the thread.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        thread.interrupt();
+        try {
+            thread.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<GameSessionRecord> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+        while (!closed) {
+            try {
+                if (batch.isEmpty()) {
+                    batch.add(queue.take());
+                    deadline = System.nanoTime() + intervalNanos;
+                } else if (batch.size() < batchSize) {
+                    long wait = deadline - System.nanoTime();
+                    GameSessionRecord next = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : null;
+                    if (next != null) batch.add(next);
+                } else {
+                    // A failed full batch: wait out the retry interval
+                    long wait = deadline - System.nanoTime();
+                    if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            inFlight = batch.size();
+            if (batch.size() >= batchSize || System.nanoTime() - deadline >= 0) {
+                if (flush(batch)) {
+                    batch.clear();
+                    inFlight = 0;
+                } else {
+                    deadline = System.nanoTime() + intervalNanos;
+                }
+            }
+        }
+        // Closing: one last attempt for everything still waiting
+        Thread.interrupted();
+        queue.drainTo(batch);
+        if (!batch.isEmpty() && !flush(batch)) dropped.addAndGet(batch.size());
+        inFlight = 0;
+    }
+
+    /** @return false if the batch should be retried, true once it was written or dropped */
+    private boolean flush(List<GameSessionRecord> batch) {
+        try {
+            sink.write(List.copyOf(batch));
+            return true;
+        } catch (Exception e) {
+            if (DatabaseService.isUnavailable(e)) return false;
+            System.err.println("Could not write game history, dropping " + batch.size() + " games: " + e);
+            dropped.addAndGet(batch.size());
+            return true;
+        }
+    }
+}
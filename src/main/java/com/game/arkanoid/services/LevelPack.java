@@ -0,0 +1,550 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.LevelTemplate;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A campaign of levels stored on disk, either as a directory of {@code .lvl}/{@code .txt}
+ * files or as a single archive of concatenated {@code .lvl} records.
+ * <p>
+ * The first open scans the pack once and writes a fixed-record index beside it
+ * ({@code <pack>.idx}, outside a directory pack so writing it does not touch the pack); later opens
+ * memory-map that index and read nothing else, so opening costs the same for four levels or
+ * four thousand. Level bodies are read on demand and kept in a small LRU cache.
+ * </p>
+ * <pre>
+ * index  := header entry[count] names
+ * header := "ARKI" i32 version, i32 count, i32 reserved, i64 source stamp
+ * entry  := i32 id, i64 offset, i32 length, i16 rows, i16 cols,
+ *           i32 bricks, i32 destructible, i32 end of name in names
+ * </pre>
+ * <p>
+ * In a directory pack, offset and length hold the level file's modification time and size.
+ * A directory index is rebuilt when the directory's modification time changes (a level added,
+ * removed or saved through a rename); an archive index when the archive's size or
+ * modification time changes. A level edited in place changes neither, so loading a level's
+ * body checks that one file: when it differs from its entry, or a newer {@code .txt} now sits
+ * beside its {@code .lvl}, the current file is read and the index is deleted, to be rebuilt by
+ * the next open. Until then the counts read from the index describe the level as indexed.
+ * </p>
+ */
+public final class LevelPack implements LevelSource, AutoCloseable {
+
+    /** "ARKI" in ASCII. */
+    public static final int INDEX_MAGIC = 0x41524B49;
+
+    /** Current index format version. */
+    public static final int INDEX_VERSION = 2;
+
+    /** Bodies kept in memory unless configured otherwise. */
+    public static final int DEFAULT_CACHE_SIZE = 8;
+
+    private static final int HEADER_BYTES = 24;
+    private static final int ENTRY_BYTES = 32;
+    private static final Executor PREFETCH = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Path source;
+    private final boolean directory;
+    private final ByteBuffer index;
+    private final int count;
+    private final FileChannel archive;
+    private final Map<Integer, CompletableFuture<LevelTemplate>> cache;
+    private final AtomicInteger bodyReads = new AtomicInteger();
+    private volatile boolean indexStale;
+
+    private LevelPack(Path source, boolean directory, ByteBuffer index, FileChannel archive, int cacheSize) {
+        this.source = source;
+        this.directory = directory;
+        this.index = index;
+        this.count = index.getInt(8);
+        this.archive = archive;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CompletableFuture<LevelTemplate>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Open a pack with the default cache size.
+     *
+     * @param source pack directory or archive file
+     * @return the opened pack
+     * @throws IOException if the pack or its index cannot be read
+     */
+    public static LevelPack open(Path source) throws IOException {
+        return open(source, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Open a pack, building its index if missing or stale.
+     *
+     * @param source pack directory or archive file
+     * @param cacheSize number of level bodies kept in memory
+     * @return the opened pack
+     * @throws IOException if the pack or its index cannot be read
+     */
+    public static LevelPack open(Path source, int cacheSize) throws IOException {
+        if (cacheSize <= 0) throw new IllegalArgumentException("cacheSize must be > 0");
+        boolean directory = Files.isDirectory(source);
+        long stamp = stampOf(source, directory);
+        Path indexPath = indexPathFor(source);
+
+        ByteBuffer index = mapIfCurrent(indexPath, stamp);
+        if (index == null) {
+            byte[] built = directory ? indexDirectory(source, stamp) : indexArchive(source, stamp);
+            index = writeAndMap(indexPath, built);
+        }
+        FileChannel archive = directory ? null : FileChannel.open(source, StandardOpenOption.READ);
+        return new LevelPack(source, directory, index, archive, cacheSize);
+    }
+
+    /**
+     * @param source pack directory or archive file
+     * @return where the index of that pack is kept
+     */
+    public static Path indexPathFor(Path source) {
+        Path abs = source.toAbsolutePath();
+        return abs.resolveSibling(abs.getFileName() + ".idx");
+    }
+
+    /**
+     * Write levels as a single archive of concatenated {@code .lvl} records.
+     *
+     * @param levels levels in play order
+     * @param target archive file to create or replace
+     * @throws IOException on write failure
+     */
+    public static void writeArchive(List<LevelTemplate> levels, Path target) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            for (LevelTemplate level : levels) {
+                level.write(out);
+            }
+        }
+    }
+
+    @Override
+    public int levelCount() {
+        return count;
+    }
+
+    @Override
+    public LevelTemplate load(int level) {
+        checkLevel(level);
+        CompletableFuture<LevelTemplate> future;
+        boolean owner = false;
+        synchronized (cache) {
+            future = cache.get(level);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                cache.put(level, future);
+                owner = true;
+            }
+        }
+        if (owner) {
+            try {
+                future.complete(readBody(level));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                synchronized (cache) {
+                    cache.remove(level, future);
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    @Override
+    public void prefetch(int level) {
+        if (level < 1 || level > count || isCached(level)) return;
+        PREFETCH.execute(() -> {
+            try {
+                load(level);
+            } catch (RuntimeException e) {
+                System.err.println("Level prefetch failed: " + describe(level) + " (" + e.getMessage() + ")");
+            }
+        });
+    }
+
+    @Override
+    public String describe(int level) {
+        checkLevel(level);
+        String name = name(level);
+        return directory ? source.resolve(name).toString() : source + "#" + level;
+    }
+
+    /**
+     * @param level 1-based level number
+     * @return true if the level body is cached or being loaded
+     */
+    public boolean isCached(int level) {
+        synchronized (cache) {
+            return cache.containsKey(level);
+        }
+    }
+
+    /**
+     * @param level 1-based level number
+     * @return number of bricks, read from the index without loading the body
+     */
+    public int bricks(int level) {
+        return index.getInt(entry(level) + 20);
+    }
+
+    /**
+     * @param level 1-based level number
+     * @return number of destructible bricks, read from the index
+     */
+    public int destructibleBricks(int level) {
+        return index.getInt(entry(level) + 24);
+    }
+
+    /**
+     * @param level 1-based level number
+     * @return grid rows, read from the index
+     */
+    public int rows(int level) {
+        return index.getShort(entry(level) + 16);
+    }
+
+    /**
+     * @param level 1-based level number
+     * @return grid columns, read from the index
+     */
+    public int cols(int level) {
+        return index.getShort(entry(level) + 18);
+    }
+
+    /** @return number of level bodies read from disk so far */
+    int bodyReads() {
+        return bodyReads.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (archive != null) archive.close();
+    }
+
+    // ---------------------------------------------------------------
+    //  Body loading
+    // ---------------------------------------------------------------
+
+    private LevelTemplate readBody(int level) {
+        bodyReads.incrementAndGet();
+        int e = entry(level);
+        try {
+            if (directory) {
+                Path file = currentFile(level);
+                if (file.toString().endsWith(".txt")) {
+                    return LevelTemplate.parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+                }
+                try (InputStream in = Files.newInputStream(file)) {
+                    return LevelTemplate.read(in);
+                }
+            }
+            long offset = index.getLong(e + 4);
+            int length = index.getInt(e + 12);
+            ByteBuffer body = ByteBuffer.allocate(length);
+            while (body.hasRemaining()) {
+                if (archive.read(body, offset + body.position()) < 0) throw new EOFException("Archive truncated");
+            }
+            return LevelTemplate.read(new ByteArrayInputStream(body.array()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed reading level " + level + " of " + source, ex);
+        }
+    }
+
+    /** The file to read a directory level from, noticing edits made since the index was built. */
+    private Path currentFile(int level) throws IOException {
+        int e = entry(level);
+        String name = name(level);
+        Path file = source.resolve(name);
+        Path current = file;
+        if (name.endsWith(".lvl")) {
+            Path txt = source.resolve(name.substring(0, name.length() - 4) + ".txt");
+            if (Files.exists(txt) && prefer(txt, file)) current = txt;
+        }
+        if (current != file || Files.size(file) != index.getInt(e + 12)
+                || Files.getLastModifiedTime(file).toMillis() != index.getLong(e + 4)) {
+            invalidateIndex();
+        }
+        return current;
+    }
+
+    private void invalidateIndex() {
+        if (indexStale) return;
+        indexStale = true;
+        try {
+            Files.deleteIfExists(indexPathFor(source));
+        } catch (IOException e) {
+            System.err.println("Cannot drop stale level index of " + source + " (" + e.getMessage() + ")");
+        }
+    }
+
+    private int entry(int level) {
+        checkLevel(level);
+        return HEADER_BYTES + (level - 1) * ENTRY_BYTES;
+    }
+
+    private String name(int level) {
+        int e = entry(level);
+        int end = index.getInt(e + 28);
+        int start = level == 1 ? 0 : index.getInt(e - ENTRY_BYTES + 28);
+        byte[] bytes = new byte[end - start];
+        index.get(HEADER_BYTES + count * ENTRY_BYTES + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void checkLevel(int level) {
+        if (level < 1 || level > count) {
+            throw new IllegalArgumentException("No level " + level + " (have " + count + ")");
+        }
+    }
+
+    // ---------------------------------------------------------------
+    //  Index building
+    // ---------------------------------------------------------------
+
+    private static long stampOf(Path source, boolean directory) throws IOException {
+        long modified = Files.getLastModifiedTime(source).toMillis();
+        return directory ? modified : modified * 31 + Files.size(source);
+    }
+
+    /** Maps an existing index if it matches the pack; null if missing, stale or corrupt. */
+    private static ByteBuffer mapIfCurrent(Path indexPath, long stamp) {
+        if (!Files.isRegularFile(indexPath)) return null;
+        try (FileChannel ch = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < HEADER_BYTES) return null;
+            ByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (map.getInt(0) != INDEX_MAGIC || map.getInt(4) != INDEX_VERSION || map.getLong(16) != stamp) {
+                return null;
+            }
+            int count = map.getInt(8);
+            if (count < 0 || size < HEADER_BYTES + (long) count * ENTRY_BYTES) return null;
+            return map;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** Persists a freshly built index and maps it; keeps it on the heap if the pack is read-only. */
+    private static ByteBuffer writeAndMap(Path indexPath, byte[] built) {
+        try {
+            Path tmp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+            Files.write(tmp, built);
+            try {
+                Files.move(tmp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, indexPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (FileChannel ch = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+                return ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            }
+        } catch (IOException e) {
+            System.err.println("Cannot persist level index " + indexPath + " (" + e.getMessage() + ")");
+            return ByteBuffer.wrap(built);
+        }
+    }
+
+    private static byte[] indexArchive(Path archive, long stamp) throws IOException {
+        IndexWriter writer = new IndexWriter();
+        try (CountingInputStream in = new CountingInputStream(new BufferedInputStream(Files.newInputStream(archive)))) {
+            while (true) {
+                long offset = in.position();
+                in.mark(1);
+                if (in.read() < 0) break;
+                in.reset();
+                LevelTemplate level = LevelTemplate.read(in);
+                writer.add(offset, (int) (in.position() - offset), level, "");
+            }
+        }
+        return writer.toBytes(stamp);
+    }
+
+    private static byte[] indexDirectory(Path dir, long stamp) throws IOException {
+        Map<String, Path> byLevel = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.{lvl,txt}")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String base = name.substring(0, name.length() - 4);
+                Path other = byLevel.get(base);
+                if (other == null || prefer(file, other)) byLevel.put(base, file);
+            }
+        }
+        List<String> bases = new ArrayList<>(byLevel.keySet());
+        bases.sort(LevelPack::naturalCompare);
+
+        IndexWriter writer = new IndexWriter();
+        for (String base : bases) {
+            Path file = byLevel.get(base);
+            String name = file.getFileName().toString();
+            LevelTemplate level;
+            if (name.endsWith(".txt")) {
+                level = LevelTemplate.parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+            } else {
+                try (InputStream in = Files.newInputStream(file)) {
+                    level = LevelTemplate.read(in);
+                }
+            }
+            writer.add(Files.getLastModifiedTime(file).toMillis(), (int) Files.size(file), level, name);
+        }
+        return writer.toBytes(stamp);
+    }
+
+    /** A compiled .lvl wins over the text level it was built from, unless the text was edited since. */
+    private static boolean prefer(Path file, Path other) throws IOException {
+        Path lvl = file.getFileName().toString().endsWith(".lvl") ? file : other;
+        Path txt = lvl == file ? other : file;
+        boolean textIsNewer = Files.getLastModifiedTime(txt).compareTo(Files.getLastModifiedTime(lvl)) > 0;
+        return file == (textIsNewer ? txt : lvl);
+    }
+
+    /**
+     * Compares file names with embedded numbers by value, so "level2" sorts before "level10".
+     *
+     * @param a first name
+     * @param b second name
+     * @return negative, zero or positive as for {@link String#compareTo}
+     */
+    public static int naturalCompare(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(j);
+            if (Character.isDigit(ca) && Character.isDigit(cb)) {
+                int si = i;
+                int sj = j;
+                while (i < a.length() && Character.isDigit(a.charAt(i))) i++;
+                while (j < b.length() && Character.isDigit(b.charAt(j))) j++;
+                String na = a.substring(si, i).replaceFirst("^0+(?=.)", "");
+                String nb = b.substring(sj, j).replaceFirst("^0+(?=.)", "");
+                int cmp = na.length() != nb.length() ? Integer.compare(na.length(), nb.length()) : na.compareTo(nb);
+                if (cmp != 0) return cmp;
+            } else {
+                if (ca != cb) return Character.compare(ca, cb);
+                i++;
+                j++;
+            }
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    /** Accumulates index entries and names. */
+    private static final class IndexWriter {
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        private final DataOutputStream entryData = new DataOutputStream(entries);
+        private final ByteArrayOutputStream names = new ByteArrayOutputStream();
+        private int count;
+
+        void add(long offset, int length, LevelTemplate level, String name) throws IOException {
+            names.write(name.getBytes(StandardCharsets.UTF_8));
+            count++;
+            entryData.writeInt(count);
+            entryData.writeLong(offset);
+            entryData.writeInt(length);
+            entryData.writeShort(level.rows());
+            entryData.writeShort(level.cols());
+            entryData.writeInt(level.brickCount());
+            entryData.writeInt(level.destructibleCount());
+            entryData.writeInt(names.size());
+        }
+
+        byte[] toBytes(long stamp) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_BYTES + entries.size() + names.size());
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(INDEX_MAGIC);
+            data.writeInt(INDEX_VERSION);
+            data.writeInt(count);
+            data.writeInt(0);
+            data.writeLong(stamp);
+            entries.writeTo(data);
+            names.writeTo(data);
+            data.flush();
+            return out.toByteArray();
+        }
+    }
+
+    /** Tracks how many bytes have been consumed, so archive records know their offsets. */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long position;
+        private long markPosition;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long position() {
+            return position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) position++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            int n = super.read(buf, off, len);
+            if (n > 0) position += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public synchronized void mark(int limit) {
+            super.mark(limit);
+            markPosition = position;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            super.reset();
+            position = markPosition;
+        }
+    }
+}
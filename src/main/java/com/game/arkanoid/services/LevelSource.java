@@ -0,0 +1,40 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.LevelTemplate;
+
+/**
+ * Supplies level layouts to {@link RoundService} by 1-based level number.
+ */
+public interface LevelSource {
+
+    /**
+     * @return number of levels available
+     */
+    int levelCount();
+
+    /**
+     * Load a level, blocking if it is not cached.
+     *
+     * @param level 1-based level number
+     * @return the parsed level
+     * @throws IllegalArgumentException if the level does not exist
+     */
+    LevelTemplate load(int level);
+
+    /**
+     * Start loading a level in the background so a later {@link #load(int)} is cheap.
+     * Out-of-range levels are ignored.
+     *
+     * @param level 1-based level number
+     */
+    default void prefetch(int level) {
+    }
+
+    /**
+     * Human-readable origin of a level, for diagnostics.
+     *
+     * @param level 1-based level number
+     * @return resource path, file name or archive entry
+     */
+    String describe(int level);
+}
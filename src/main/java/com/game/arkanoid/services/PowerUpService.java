@@ -1,6 +1,6 @@
 package com.game.arkanoid.services;
 
-import com.game.arkanoid.config.GameSettings;
+import com.game.arkanoid.config.SessionSettings;
 import com.game.arkanoid.events.GameEventBus;
 import com.game.arkanoid.events.powerup.PowerUpActivatedEvent;
 import com.game.arkanoid.events.powerup.PowerUpExpiredEvent;
@@ -9,12 +9,12 @@ import com.game.arkanoid.models.Ball;
 import com.game.arkanoid.models.GameState;
 import com.game.arkanoid.models.Paddle;
 import com.game.arkanoid.models.PowerUp;
+import com.game.arkanoid.models.PowerUpTimers;
 import com.game.arkanoid.models.PowerUpType;
 import com.game.arkanoid.utils.Constants;
+import com.game.arkanoid.utils.ListUtils;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Service responsible for managing power-ups in the game.
@@ -28,29 +28,48 @@ import java.util.Random;
  */
 public final class PowerUpService {
 
-    private final Random random = new Random();
-    private final GameEventBus eventBus = GameEventBus.getInstance();
+    /** Field-less sound event shared across ticks to keep the update path allocation-free. */
+    private static final PowerUpHitSoundEvent POWER_UP_HIT_SOUND = new PowerUpHitSoundEvent();
+
+    /** Angle offsets (degrees) of the two extra balls spawned by MULTI_BALL. */
+    private static final double[] MULTI_BALL_ANGLES = {-15.0, 15.0};
+
+    private final GameEventBus eventBus;
+    private final double baseBallSpeed;
 
     /**
-     * Default constructor.
+     * Service publishing on the application bus, at the difficulty currently selected.
      */
     public PowerUpService() {
+        this(GameEventBus.getInstance(), SessionSettings.fromGlobal());
+    }
+
+    /**
+     * Service for one session.
+     *
+     * @param eventBus bus receiving power-up and sound events
+     * @param settings session settings
+     */
+    public PowerUpService(GameEventBus eventBus, SessionSettings settings) {
+        this.eventBus = eventBus;
+        this.baseBallSpeed = Constants.BALL_SPEED * settings.ballSpeedMultiplier();
     }
 
     /**
      * Randomly spawns a power-up at the specified position with a drop chance.
      *
+     * @param state Game whose random source decides the drop.
      * @param x X-coordinate of the brick.
      * @param y Y-coordinate of the brick.
      * @param width Width of the brick to center the power-up.
      * @return A new PowerUp instance or null if no power-up is spawned.
      */
-    public PowerUp spawnPowerUpIfAny(double x, double y, double width) {
-        if (random.nextDouble() > Constants.POWER_UP_DROP_CHANCE) {
+    public PowerUp spawnPowerUpIfAny(GameState state, double x, double y, double width) {
+        if (state.rng.nextDouble() > Constants.POWER_UP_DROP_CHANCE) {
             return null;
         }
         PowerUpType[] types = PowerUpType.values();
-        PowerUpType type = types[random.nextInt(types.length)];
+        PowerUpType type = types[state.rng.nextInt(types.length)];
         double spawnX = x + (width - Constants.POWER_UP_WIDTH) / 2.0;
         double spawnY = y + Constants.BRICK_HEIGHT;
         return new PowerUp(type, spawnX, spawnY, Constants.POWER_UP_WIDTH, Constants.POWER_UP_HEIGHT, Constants.POWER_UP_FALL_SPEED);
@@ -67,20 +86,24 @@ public final class PowerUpService {
      * @param worldH Height of the game world.
      */
     public void update(GameState state, double dt, double worldW, double worldH) {
-        List<PowerUp> toRemove = new ArrayList<>();
-        for (PowerUp powerUp : state.powerUps) {
+        List<PowerUp> powerUps = state.powerUps;
+        int i = 0;
+        while (i < powerUps.size()) {
+            PowerUp powerUp = powerUps.get(i);
             powerUp.update(dt);
             if (powerUp.getY() > worldH) {
-                toRemove.add(powerUp);
+                ListUtils.swapRemove(powerUps, i);
                 continue;
             }
             if (intersects(powerUp, state.paddle)) {
-                GameEventBus.getInstance().publish(new PowerUpHitSoundEvent());
+                eventBus.publish(POWER_UP_HIT_SOUND);
+                state.powerUpsCollected++;
                 applyPowerUp(state, powerUp.getType(), worldW);
-                toRemove.add(powerUp);
+                ListUtils.swapRemove(powerUps, i);
+                continue;
             }
+            i++;
         }
-        state.powerUps.removeAll(toRemove);
         tickActiveEffects(state, dt, worldW);
     }
 
@@ -132,7 +155,8 @@ public final class PowerUpService {
                 state.laserCooldown = 0.0;
             }
             case CATCH_BALL -> {
-                for (Ball ball : state.balls) {
+                for (int i = 0; i < state.balls.size(); i++) {
+                    Ball ball = state.balls.get(i);
                     if (ball.isMoving()) ball.setStuck(true);
                 }
             }
@@ -154,7 +178,8 @@ public final class PowerUpService {
      */
     private void spawnAdditionalBalls(GameState state) {
         List<Ball> newBall = new ArrayList<>();
-        for (Ball source : state.balls) {
+        for (int i = 0; i < state.balls.size(); i++) {
+            Ball source = state.balls.get(i);
             if (!source.isMoving()) {
                 continue;
             }
@@ -162,11 +187,10 @@ public final class PowerUpService {
             double baseSpeed = Math.hypot(source.getDx(), source.getDy());
 
             if (baseSpeed < 1e-3) {
-                baseSpeed = Constants.BALL_SPEED * GameSettings.getBallSpeedMultiplier();
+                baseSpeed = baseBallSpeed;
             }
 
-            double[] angles = {-15.0, 15.0};
-            for (double angleOffset : angles) {
+            for (double angleOffset : MULTI_BALL_ANGLES) {
                 Ball extra = new Ball(source.getCenterX(), source.getCenterY(), source.getRadius());
                 double angle = Math.toDegrees(Math.atan2(source.getDy(), source.getDx())) + angleOffset;
                 double rad = Math.toRadians(angle);
@@ -204,15 +228,15 @@ public final class PowerUpService {
      * @param worldW Width of the game world for clamping the paddle when effects expire.
      */
     private void tickActiveEffects(GameState state, double dt, double worldW) {
-        Iterator<PowerUpType> iterator = new ArrayList<>(state.activePowerUps.keySet()).iterator();
-        while (iterator.hasNext()) {
-            PowerUpType type = iterator.next();
-            double remaining = state.activePowerUps.get(type) - dt;
+        PowerUpTimers timers = state.activePowerUps;
+        for (PowerUpType type : PowerUpTimers.types()) {
+            if (!timers.containsKey(type)) continue;
+            double remaining = timers.get(type) - dt;
             if (remaining <= 0) {
-                state.activePowerUps.remove(type);
+                timers.remove(type);
                 onEffectExpired(state, type, worldW);
             } else {
-                state.activePowerUps.put(type, remaining);
+                timers.put(type, remaining);
             }
         }
     }
@@ -0,0 +1,39 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.GameStateSnapshot;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Where a player's progress is kept: the in-progress game and the best round and score.
+ * All operations are asynchronous and must be safe to repeat.
+ */
+public interface ProgressStore {
+
+    /**
+     * @param userId ID of the user
+     * @return a CompletableFuture resolving to the saved in-progress game, if any
+     */
+    CompletableFuture<Optional<GameStateSnapshot>> loadInProgressState(int userId);
+
+    /**
+     * @param userId ID of the user
+     * @param snap game to save, replacing any previous one
+     * @return a CompletableFuture that completes once the game is stored
+     */
+    CompletableFuture<Void> saveInProgress(int userId, GameStateSnapshot snap);
+
+    /**
+     * @param userId ID of the user
+     * @return a CompletableFuture that completes once the in-progress game is gone
+     */
+    CompletableFuture<Void> clearInProgress(int userId);
+
+    /**
+     * @param userId ID of the user
+     * @param bestRound round reached; kept only if higher than the stored one
+     * @param bestScore score reached; kept only if higher than the stored one
+     * @return a CompletableFuture that completes once the bests are stored
+     */
+    CompletableFuture<Void> updateBest(int userId, int bestRound, int bestScore);
+}
@@ -0,0 +1,189 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.Brick;
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.InputState;
+import com.game.arkanoid.models.Keyframe;
+import com.game.arkanoid.utils.Constants;
+
+/**
+ * The last seconds of play, for rewinding.
+ * <p>
+ * Every tick's input and time step go into a ring of primitives, and every few ticks the
+ * whole state is packed into a {@link Keyframe} in a second ring. Both rings are allocated
+ * up front, so recording costs a few microseconds every few ticks and allocates nothing.
+ * Rewinding restores the newest keyframe at or before the target tick and replays the
+ * recorded inputs from there, which {@link GameService#update} and the state's
+ * {@link GameState#rng} make deterministic. Replayed ticks publish no events, since their
+ * sounds have already played.
+ * </p>
+ * <p>
+ * Only ticks that change the game are recorded. A change made outside
+ * {@link GameService#update}, e.g. an enemy spawned by a timer or the end of a pause, cannot
+ * be replayed, so the caller must report it with {@link #forceKeyframe()}. A new level
+ * clears the buffer: rewinding stays within the level being played.
+ * </p>
+ */
+public final class RewindBuffer {
+
+    /** Seconds of play kept by default. */
+    public static final double DEFAULT_SECONDS = 10.0;
+
+    /** Ticks between keyframes by default; a rewind replays fewer ticks than this. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 8;
+
+    private final int capacity;
+    private final int interval;
+    private final int[] inputs;
+    private final double[] dts;
+    private final double[] widths;
+    private final double[] heights;
+    private final Keyframe[] keyframes;
+    private final InputState replay = new InputState();
+
+    private long tick;       // ticks recorded so far; the next tick to record
+    private int newest = -1; // slot of the newest keyframe
+    private int keyframeCount;
+    private boolean forced;
+
+    private int[] baseHealth = new int[0];
+    private Brick firstBrick; // identifies the bricks of the level baseHealth belongs to
+    private int level;
+
+    /**
+     * Buffer for {@link #DEFAULT_SECONDS} at a given tick rate.
+     * @param ticksPerSecond ticks per second of play, e.g. {@link Constants#SIMULATION_HZ}
+     */
+    public RewindBuffer(int ticksPerSecond) {
+        this(DEFAULT_SECONDS, ticksPerSecond, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Create a buffer.
+     * @param seconds seconds of play to keep
+     * @param ticksPerSecond ticks per second of play
+     * @param keyframeInterval ticks between keyframes
+     */
+    public RewindBuffer(double seconds, int ticksPerSecond, int keyframeInterval) {
+        if (keyframeInterval <= 0) throw new IllegalArgumentException("keyframeInterval must be positive: " + keyframeInterval);
+        this.capacity = Math.max(1, (int) Math.ceil(seconds * ticksPerSecond));
+        this.interval = keyframeInterval;
+        this.inputs = new int[capacity];
+        this.dts = new double[capacity];
+        this.widths = new double[capacity];
+        this.heights = new double[capacity];
+        // Room for forced keyframes on top of the regular ones
+        this.keyframes = new Keyframe[2 * (capacity / keyframeInterval + 1)];
+        for (int i = 0; i < keyframes.length; i++) keyframes[i] = new Keyframe();
+    }
+
+    /**
+     * Record a tick. Call right before {@link GameService#update}, with its arguments.
+     * @param s state about to be updated
+     * @param in input of the tick
+     * @param dt time step of the tick
+     * @param worldW
+     * @param worldH
+     */
+    public void record(GameState s, InputState in, double dt, double worldW, double worldH) {
+        if (!s.running || s.paused || s.levelTransitionPending) return; // the update changes nothing
+        Brick first = s.bricks.isEmpty() ? null : s.bricks.get(0);
+        if (s.level != level || first != firstBrick || s.bricks.size() != baseHealth.length) {
+            startLevel(s);
+        }
+        if (forced || keyframeCount == 0 || tick - keyframes[newest].tick >= interval) {
+            newest = (newest + 1) % keyframes.length;
+            keyframes[newest].capture(s, baseHealth);
+            keyframes[newest].tick = tick;
+            keyframeCount = Math.min(keyframeCount + 1, keyframes.length);
+            forced = false;
+        }
+        int slot = (int) (tick % capacity);
+        inputs[slot] = in.toBits();
+        dts[slot] = dt;
+        widths[slot] = worldW;
+        heights[slot] = worldH;
+        tick++;
+        // Keyframes whose inputs have been overwritten can no longer be replayed from
+        while (keyframeCount > 1 && oldest().tick < tick - capacity) keyframeCount--;
+    }
+
+    /**
+     * Capture a keyframe with the next recorded tick, because the state was changed outside
+     * {@link GameService#update}.
+     */
+    public void forceKeyframe() {
+        forced = true;
+    }
+
+    /**
+     * Forget everything recorded.
+     */
+    public void clear() {
+        keyframeCount = 0;
+        newest = -1;
+        forced = false;
+    }
+
+    /** @return seconds of play that can be rewound, measured in time steps */
+    public double available() {
+        if (keyframeCount == 0) return 0;
+        return Math.max(0, seconds(oldest().tick, tick));
+    }
+
+    /**
+     * Go back in time: restore the state as it was the given time ago, or as far back as is
+     * kept, and continue recording from there.
+     * @param s state to rewind; the one recorded
+     * @param game services to replay ticks with
+     * @param seconds time to go back, measured in time steps
+     * @return seconds actually rewound
+     */
+    public double rewind(GameState s, GameService game, double seconds) {
+        if (keyframeCount == 0) return 0;
+        long first = oldest().tick;
+        long target = tick;
+        double back = 0;
+        while (target > first && back < seconds) {
+            target--;
+            back += seconds(target, target + 1);
+        }
+        // Newest keyframe at or before the target; later ones describe a future now undone
+        while (keyframes[newest].tick > target) {
+            newest = (newest - 1 + keyframes.length) % keyframes.length;
+            keyframeCount--;
+        }
+        Keyframe from = keyframes[newest];
+        from.restore(s, baseHealth);
+        long replayTo = target;
+        game.getEventBus().muted(() -> {
+            for (long t = from.tick; t < replayTo; t++) {
+                int slot = (int) (t % capacity);
+                replay.setBits(inputs[slot]);
+                game.update(s, replay, dts[slot], widths[slot], heights[slot]);
+            }
+        });
+        tick = target;
+        return back;
+    }
+
+    private void startLevel(GameState s) {
+        clear();
+        int n = s.bricks.size();
+        if (baseHealth.length != n) baseHealth = new int[n];
+        for (int i = 0; i < n; i++) baseHealth[i] = s.bricks.get(i).getHealth();
+        firstBrick = n > 0 ? s.bricks.get(0) : null;
+        level = s.level;
+    }
+
+    private Keyframe oldest() {
+        return keyframes[(newest - keyframeCount + 1 + keyframes.length) % keyframes.length];
+    }
+
+    /** Seconds of play from tick {@code from} up to, not including, tick {@code to}. */
+    private double seconds(long from, long to) {
+        double steps = 0;
+        for (long t = from; t < to; t++) steps += dts[(int) (t % capacity)];
+        return steps * Constants.NANOS_PER_DT / 1e9;
+    }
+}
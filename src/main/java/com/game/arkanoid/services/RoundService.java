@@ -1,7 +1,9 @@
 package com.game.arkanoid.services;
 
+import com.game.arkanoid.diagnostics.jfr.LevelLoadEvent;
 import com.game.arkanoid.models.Brick;
 import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.LevelTemplate;
 
 import java.util.List;
 
@@ -10,6 +12,8 @@ import java.util.List;
  * <p>
  * Pure logic; no JavaFX types are used to maintain MVC separation.
  * Handles resetting game state when a new level is loaded and advancing levels.
+ * Levels come from a {@link LevelSource}: the built-in classpath levels by default, or a
+ * {@link LevelPack} for larger campaigns.
  * </p>
  */
 public final class RoundService {
@@ -18,24 +22,43 @@ public final class RoundService {
     private final BallService ballService;
     private final PaddleService paddleService;
 
-    private final String[] levelResources = new String[] {
-        "/com/game/arkanoid/levels/level1.txt",
-        "/com/game/arkanoid/levels/level2.txt",
-        "/com/game/arkanoid/levels/level3.txt",
-        "/com/game/arkanoid/levels/level4.txt"
-    };
+    private final LevelSource levels;
 
     /**
-     * Constructor for RoundService.
+     * Constructor for RoundService using the built-in levels.
      *
      * @param bricksService Service for handling bricks.
      * @param ballService Service for handling balls.
      * @param paddleService Service for handling the paddle.
      */
     public RoundService(BricksService bricksService, BallService ballService, PaddleService paddleService) {
+        this(bricksService, ballService, paddleService,
+                new ClasspathLevelSource(bricksService, ClasspathLevelSource.BUILT_IN));
+    }
+
+    /**
+     * Constructor for RoundService with a custom level source.
+     *
+     * @param bricksService Service for handling bricks.
+     * @param ballService Service for handling balls.
+     * @param paddleService Service for handling the paddle.
+     * @param levels Where level layouts come from.
+     */
+    public RoundService(BricksService bricksService, BallService ballService, PaddleService paddleService,
+                        LevelSource levels) {
         this.bricksService = bricksService;
         this.ballService = ballService;
         this.paddleService = paddleService;
+        this.levels = levels;
+    }
+
+    /**
+     * Returns the number of levels in the campaign.
+     *
+     * @return level count
+     */
+    public int getLevelCount() {
+        return levels.levelCount();
     }
 
     /**
@@ -47,10 +70,12 @@ public final class RoundService {
      * @param levelIndex 1-based index of the level to load.
      */
     public void loadLevel(GameState state, int levelIndex) {
-        int idx = Math.max(1, Math.min(levelResources.length, levelIndex));
-        String resource = levelResources[idx - 1];
+        int idx = Math.max(1, Math.min(levels.levelCount(), levelIndex));
 
-        List<Brick> bricks = bricksService.createBricksFromResource(resource);
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        LevelTemplate template = levels.load(idx);
+        List<Brick> bricks = bricksService.createBricks(template);
 
         state.bricks.clear();
         state.bricks.addAll(bricks);
@@ -68,20 +93,29 @@ public final class RoundService {
         state.balls.add(state.ball);
         // Reset ball position on paddle for the new level
         ballService.resetOnPaddle(state.ball, state.paddle);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.level = idx;
+            event.resource = levels.describe(idx);
+            event.bricks = bricks.size();
+            event.commit();
+        }
     }
 
     /**
-     * Loads the next level if available.
+     * Loads the next level if available and prefetches the one after it.
      * If the current level is the last one, marks the game as completed.
      *
      * @param state Current game state to modify.
      */
     public void loadNextLevel(GameState state) {
         int nextIndex = state.level + 1;
-        if (nextIndex > levelResources.length) {
+        if (nextIndex > levels.levelCount()) {
             state.gameCompleted = true;
             return;
         }
         loadLevel(state, nextIndex);
+        levels.prefetch(nextIndex + 1);
     }
 }
@@ -0,0 +1,258 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.InputState;
+import com.game.arkanoid.models.RenderFrame;
+import com.game.arkanoid.utils.Constants;
+import com.game.arkanoid.utils.SpscIntQueue;
+import com.game.arkanoid.utils.TripleBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs {@link GameService#update} at a fixed rate on a dedicated thread.
+ * <p>
+ * While running, the simulation thread owns the {@link GameState}; no other thread may touch
+ * it. The FX thread talks to it in three ways, none of which blocks:
+ * </p>
+ * <ul>
+ *   <li>input is packed with {@link InputState#toBits()} into a single-producer queue;</li>
+ *   <li>every tick is copied into a {@link RenderFrame} and published through a
+ *       {@link TripleBuffer}, so the renderer always reads the latest complete frame;</li>
+ *   <li>other state changes are submitted as commands with {@link #execute}, which run on the
+ *       simulation thread before the next tick.</li>
+ * </ul>
+ * <p>
+ * When the thread is not running, commands run immediately on the caller.
+ * </p>
+ */
+public final class SimulationThread implements Executor, AutoCloseable {
+
+    /** Ticks the schedule may fall behind before it is reset instead of caught up. */
+    private static final int MAX_LAG_TICKS = 5;
+
+    private final GameState state;
+    private final GameService game;
+    private final long periodNanos;
+    private final double dt;
+
+    private final TripleBuffer<RenderFrame> frames = new TripleBuffer<>(RenderFrame::new);
+    private final SpscIntQueue inputs = new SpscIntQueue(64);
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final InputState input = new InputState(); // simulation thread only
+
+    private volatile double width;
+    private volatile double height;
+    private volatile boolean running;
+    private volatile AutoPlayer autoPlayer;
+    private volatile RewindBuffer rewind;
+    private Thread thread;
+    private long sequence;
+
+    /**
+     * Create a simulation at {@link Constants#SIMULATION_HZ}.
+     * @param state game to simulate
+     * @param game services that update it
+     */
+    public SimulationThread(GameState state, GameService game) {
+        this(state, game, Constants.SIMULATION_HZ);
+    }
+
+    /**
+     * Create a simulation.
+     * @param state game to simulate
+     * @param game services that update it
+     * @param hz ticks per second
+     */
+    public SimulationThread(GameState state, GameService game, int hz) {
+        this.state = state;
+        this.game = game;
+        this.periodNanos = 1_000_000_000L / hz;
+        this.dt = periodNanos / Constants.NANOS_PER_DT;
+    }
+
+    /**
+     * Set the size of the play field. May be called from any thread.
+     * @param width
+     * @param height
+     */
+    public void setBounds(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Let a bot replace the offered input, or hand control back. May be called from any thread.
+     * @param bot bot that plays from the next tick on, or null
+     */
+    public void setAutoPlayer(AutoPlayer bot) {
+        this.autoPlayer = bot;
+    }
+
+    /**
+     * Record play so that it can be rewound, or stop recording. May be called from any thread.
+     * @param buffer buffer that records from the next tick on, or null
+     */
+    public void setRewindBuffer(RewindBuffer buffer) {
+        this.rewind = buffer;
+    }
+
+    /**
+     * Go back in time by replaying from the rewind buffer, on the simulation thread before its
+     * next tick. Does nothing without a rewind buffer.
+     * @param seconds time to go back
+     */
+    public void rewind(double seconds) {
+        execute(() -> {
+            RewindBuffer buffer = rewind;
+            if (buffer != null) buffer.rewind(state, game, seconds);
+        });
+    }
+
+    /**
+     * Start ticking on a new thread.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::run, "game-simulation");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Stop ticking and wait for the thread to finish, after which the caller owns the state.
+     * Pending commands run on the caller before this returns.
+     */
+    public synchronized void stop() {
+        if (thread == null) return;
+        running = false;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        thread = null;
+        drainCommands();
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /** @return true while the simulation thread owns the state */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Hand this frame's input to the simulation. Must always be called from the same thread.
+     * @param in input to send; copied
+     */
+    public void offerInput(InputState in) {
+        // A full queue means the simulation is stalled; dropping input is better than blocking
+        inputs.offer(in.toBits());
+    }
+
+    /**
+     * Run a state change on the simulation thread before its next tick, or immediately when
+     * the simulation is not running.
+     * @param command the change
+     */
+    @Override
+    public void execute(Runnable command) {
+        if (!running) {
+            command.run();
+            return;
+        }
+        commands.add(command);
+        // The thread may have stopped between the check and the add; stop() drains afterwards
+        if (!running) drainCommands();
+    }
+
+    /**
+     * Reader side: the latest published frame. Its {@link RenderFrame#sequence} is 0 until
+     * the first tick. Must always be called from the same thread.
+     * @return the frame, which stays unchanged until the next call
+     */
+    public RenderFrame latestFrame() {
+        return frames.read();
+    }
+
+    private void run() {
+        long next = System.nanoTime();
+        try {
+            while (running) {
+                tick();
+                next += periodNanos;
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (-wait > MAX_LAG_TICKS * periodNanos) {
+                    next = System.nanoTime(); // too far behind: drop the backlog
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Simulation stopped: " + e);
+            e.printStackTrace();
+            running = false;
+        }
+    }
+
+    /**
+     * Run one tick: pending commands, queued or bot input, one recorded update, and a
+     * published frame.
+     */
+    void tick() {
+        RewindBuffer buffer = rewind;
+        // Commands change the state outside the update, so the recording cannot replay them
+        if (drainCommands() && buffer != null) buffer.forceKeyframe();
+        drainInput();
+        AutoPlayer bot = autoPlayer;
+        if (bot != null && !state.paused) bot.fill(state, width, input);
+        if (buffer != null) buffer.record(state, input, dt, width, height);
+        game.update(state, input, dt, width, height);
+        RenderFrame frame = frames.back();
+        frame.capture(state, ++sequence);
+        frames.publish();
+    }
+
+    /** @return whether any command ran */
+    private boolean drainCommands() {
+        boolean ran = false;
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
+            ran = true;
+        }
+        return ran;
+    }
+
+    /**
+     * Fold every input since the last tick into one: movement follows the newest sample,
+     * while a launch or fire press anywhere in between still counts. Without a new sample the
+     * previous input is held, since the FX thread samples held keys every frame.
+     */
+    private void drainInput() {
+        int latest = inputs.poll(-1);
+        if (latest < 0) return;
+        int pressed = latest;
+        int bits;
+        while ((bits = inputs.poll(-1)) >= 0) {
+            latest = bits;
+            pressed |= bits;
+        }
+        input.setBits(latest);
+        input.launch = (pressed & InputState.LAUNCH) != 0;
+        input.fire = (pressed & InputState.FIRE) != 0;
+    }
+}
@@ -0,0 +1,99 @@
+package com.game.arkanoid.tools;
+
+import com.game.arkanoid.models.LevelTemplate;
+import com.game.arkanoid.services.LevelPack;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Build-time tool that compiles text levels into the binary {@code .lvl} format.
+ * <p>
+ * Usage: {@code LevelCompiler <source dir> <output dir>}. Every {@code *.txt} file in the
+ * source directory is written as a {@code .lvl} file with the same base name. Run by the
+ * {@code compile-levels} Maven profile.
+ * </p>
+ * <p>
+ * {@code LevelCompiler --pack <source dir> <archive>} instead writes every text level, in
+ * natural file-name order, into one {@link LevelPack} archive.
+ * </p>
+ */
+public final class LevelCompiler {
+
+    private LevelCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && args[0].equals("--pack")) {
+            int packed = packAll(Path.of(args[1]), Path.of(args[2]));
+            System.out.println("Packed " + packed + " level(s) into " + args[2]);
+            return;
+        }
+        if (args.length != 2) {
+            System.err.println("Usage: LevelCompiler [--pack] <source dir> <output dir | archive>");
+            System.exit(2);
+        }
+        int compiled = compileAll(Path.of(args[0]), Path.of(args[1]));
+        System.out.println("Compiled " + compiled + " level(s) into " + args[1]);
+    }
+
+    /**
+     * Compile every text level of a directory.
+     * @param sourceDir directory containing {@code *.txt} levels
+     * @param outputDir directory receiving {@code *.lvl} files; created if missing
+     * @return number of levels written
+     * @throws IOException on read or write failure
+     */
+    public static int compileAll(Path sourceDir, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        int count = 0;
+        try (DirectoryStream<Path> levels = Files.newDirectoryStream(sourceDir, "*.txt")) {
+            for (Path source : levels) {
+                String name = source.getFileName().toString();
+                Path target = outputDir.resolve(name.substring(0, name.length() - 4) + ".lvl");
+                compile(source, target);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Write every text level of a directory into one archive.
+     * @param sourceDir directory containing {@code *.txt} levels
+     * @param archive archive file to create or replace
+     * @return number of levels written
+     * @throws IOException on read or write failure
+     */
+    public static int packAll(Path sourceDir, Path archive) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        try (DirectoryStream<Path> levels = Files.newDirectoryStream(sourceDir, "*.txt")) {
+            levels.forEach(sources::add);
+        }
+        sources.sort((a, b) -> LevelPack.naturalCompare(a.getFileName().toString(), b.getFileName().toString()));
+        List<LevelTemplate> templates = new ArrayList<>(sources.size());
+        for (Path source : sources) {
+            templates.add(LevelTemplate.parse(Files.readAllLines(source, StandardCharsets.UTF_8)));
+        }
+        LevelPack.writeArchive(templates, archive);
+        return templates.size();
+    }
+
+    /**
+     * Compile one text level.
+     * @param source text level file
+     * @param target binary level file to write
+     * @throws IOException on read or write failure
+     */
+    public static void compile(Path source, Path target) throws IOException {
+        LevelTemplate template = LevelTemplate.parse(Files.readAllLines(source, StandardCharsets.UTF_8));
+        try (OutputStream out = Files.newOutputStream(target)) {
+            template.write(out);
+        }
+    }
+}
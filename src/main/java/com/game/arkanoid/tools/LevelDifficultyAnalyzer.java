@@ -0,0 +1,198 @@
+package com.game.arkanoid.tools;
+
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.container.GameSession;
+import com.game.arkanoid.events.GameEventBus;
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.InputState;
+import com.game.arkanoid.services.AutoPlayer;
+import com.game.arkanoid.services.LevelPack;
+import com.game.arkanoid.services.LevelSource;
+import com.game.arkanoid.utils.Constants;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Estimates how hard a level is by letting the {@link AutoPlayer} play it many times.
+ * <p>
+ * Every game is a headless {@link GameSession} seeded with its index, so a run is
+ * reproducible. Games are split into ranges on a work-stealing {@link ForkJoinPool}; each
+ * range adds up plain counters and the counters are merged as ranges complete. A game ends
+ * when the level is cleared, the last life is lost, or it reaches the tick limit.
+ * </p>
+ * <p>
+ * Usage: {@code LevelDifficultyAnalyzer [--pack <dir | archive>] <level> [games] [horizon] [max ticks]},
+ * with 2000 games, an unlimited reaction horizon and 36000 ticks (10 minutes) by default.
+ * </p>
+ */
+public final class LevelDifficultyAnalyzer {
+
+    /** Games run by one task before it stops splitting. */
+    private static final int GAMES_PER_TASK = 8;
+
+    private LevelDifficultyAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int a = 0;
+        LevelSource levels = null;
+        if (args.length > 1 && args[0].equals("--pack")) {
+            levels = LevelPack.open(Path.of(args[1]));
+            a = 2;
+        }
+        if (args.length <= a) {
+            System.err.println("Usage: LevelDifficultyAnalyzer [--pack <dir | archive>] <level> [games] [horizon] [max ticks]");
+            System.exit(2);
+        }
+        int level = Integer.parseInt(args[a]);
+        int games = args.length > a + 1 ? Integer.parseInt(args[a + 1]) : 2000;
+        double horizon = args.length > a + 2 ? Double.parseDouble(args[a + 2]) : Double.POSITIVE_INFINITY;
+        int maxTicks = args.length > a + 3 ? Integer.parseInt(args[a + 3]) : 36_000;
+
+        Report report = analyze(levels, level, games, new AutoPlayer(horizon), maxTicks, ForkJoinPool.commonPool());
+        System.out.println(report.format());
+    }
+
+    /**
+     * Outcome of an analysis.
+     * @param level level played
+     * @param games games played
+     * @param cleared games that cleared the level
+     * @param meanTicksToClear mean ticks of the cleared games, NaN if none
+     * @param meanLivesLost mean lives lost per game
+     * @param meanPowerUps mean power-ups caught per game
+     * @param ticks ticks simulated in total
+     * @param gamesPerSecond games played per wall-clock second
+     * @param ticksPerSecond ticks simulated per wall-clock second
+     * @param threads worker threads used
+     */
+    public record Report(int level, int games, int cleared, double meanTicksToClear, double meanLivesLost,
+                         double meanPowerUps, long ticks, double gamesPerSecond, double ticksPerSecond, int threads) {
+
+        /** @return fraction of games that cleared the level */
+        public double clearRate() {
+            return games == 0 ? 0 : (double) cleared / games;
+        }
+
+        /** @return a human-readable summary */
+        public String format() {
+            double tickSeconds = Constants.NANOS_PER_DT / 1e9;
+            return String.format(Locale.ROOT,
+                    "Level %d, %d games on %d thread(s)%n"
+                            + "  clear rate        %6.1f %%%n"
+                            + "  time to clear     %6.1f s of play (%.0f ticks)%n"
+                            + "  lives lost        %6.2f per game%n"
+                            + "  power-ups caught  %6.2f per game%n"
+                            + "  simulation        %,.0f games/s, %,.0f ticks/s",
+                    level, games, threads, clearRate() * 100, meanTicksToClear * tickSeconds, meanTicksToClear,
+                    meanLivesLost, meanPowerUps, gamesPerSecond, ticksPerSecond);
+        }
+    }
+
+    /**
+     * Play a level many times.
+     * @param levels level source, or null for the built-in levels; shared by all workers
+     * @param level 1-based level to play
+     * @param games number of games
+     * @param bot player
+     * @param maxTicks ticks after which an unfinished game counts as not cleared
+     * @param pool pool running the games
+     * @return the report
+     */
+    public static Report analyze(LevelSource levels, int level, int games, AutoPlayer bot, int maxTicks,
+                                 ForkJoinPool pool) {
+        long start = System.nanoTime();
+        Tally t = pool.invoke(new Games(levels, level, bot, maxTicks, 0, games));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Report(level, games, t.cleared,
+                t.cleared > 0 ? (double) t.clearTicks / t.cleared : Double.NaN,
+                games > 0 ? (double) t.livesLost / games : 0,
+                games > 0 ? (double) t.powerUps / games : 0,
+                t.ticks, games / seconds, t.ticks / seconds, pool.getParallelism());
+    }
+
+    /** Counters of a range of games. */
+    private static final class Tally {
+        int cleared;
+        long clearTicks;
+        long livesLost;
+        long powerUps;
+        long ticks;
+
+        Tally merge(Tally other) {
+            cleared += other.cleared;
+            clearTicks += other.clearTicks;
+            livesLost += other.livesLost;
+            powerUps += other.powerUps;
+            ticks += other.ticks;
+            return this;
+        }
+    }
+
+    /** Plays games {@code [from, to)}, splitting the range while it is large. */
+    private static final class Games extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        // Tasks are never serialized; ForkJoinTask just happens to be Serializable
+        private final transient LevelSource levels;
+        private final int level;
+        private final transient AutoPlayer bot;
+        private final int maxTicks;
+        private final int from;
+        private final int to;
+
+        Games(LevelSource levels, int level, AutoPlayer bot, int maxTicks, int from, int to) {
+            this.levels = levels;
+            this.level = level;
+            this.bot = bot;
+            this.maxTicks = maxTicks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from > GAMES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                Games left = new Games(levels, level, bot, maxTicks, from, mid);
+                left.fork();
+                Tally right = new Games(levels, level, bot, maxTicks, mid, to).compute();
+                return right.merge(left.join());
+            }
+            Tally tally = new Tally();
+            InputState in = new InputState();
+            for (int game = from; game < to; game++) {
+                play(game, in, tally);
+            }
+            return tally;
+        }
+
+        private void play(long seed, InputState in, Tally tally) {
+            GameSession session = new GameSession(new GameEventBus(), SessionSettings.defaults(), null, levels);
+            GameState state = session.getGameState();
+            state.rng.setState(seed);
+            session.startAt(level);
+            int played = state.level;
+            int lives = state.lives;
+            int ticks = 0;
+            while (ticks < maxTicks) {
+                bot.fill(state, Constants.GAME_WIDTH, in);
+                boolean playing = session.step(in);
+                ticks++;
+                if (state.lives < lives) tally.livesLost += lives - state.lives;
+                lives = state.lives;
+                if (state.level != played || state.gameCompleted) {
+                    tally.cleared++;
+                    tally.clearTicks += ticks;
+                    break;
+                }
+                if (!playing) break;
+            }
+            tally.ticks += ticks;
+            tally.powerUps += state.powerUpsCollected;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.game.arkanoid.tools;
+
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.container.GameSession;
+import com.game.arkanoid.diagnostics.SoakTrace;
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.InputState;
+import com.game.arkanoid.models.RenderFrame;
+import com.game.arkanoid.services.AutoPlayer;
+import com.game.arkanoid.utils.Constants;
+import com.game.arkanoid.view.renderer.BallsRenderer;
+import com.game.arkanoid.view.renderer.BricksRenderer;
+import com.game.arkanoid.view.renderer.BulletRenderer;
+import com.game.arkanoid.view.renderer.EnemyRenderer;
+import com.game.arkanoid.view.renderer.LifeRenderer;
+import com.game.arkanoid.view.renderer.PaddleRenderer;
+import com.game.arkanoid.view.renderer.PowerUpRenderer;
+import java.awt.GraphicsEnvironment;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Headless soak test: the {@link AutoPlayer} plays every bundled level in turn for a fixed
+ * time each, as fast as the simulation runs, while a {@link SoakTrace} is printed to stdout.
+ * <p>
+ * Usage: {@code Soak [seconds per level] [seconds per sample]}, 600 and 10 by default. A game
+ * that ends or clears its level early is restarted on the same level, so every run stays on
+ * the level it soaks. When a display is available, each sample also pushes the current frame
+ * through the game's renderers off screen and reports the nodes they keep; without one the
+ * node column is -1. Run by the {@code soak} Maven profile; to soak the game view itself,
+ * start the game with {@code -Darkanoid.autoplay=true}.
+ * </p>
+ */
+public final class Soak {
+
+    private Soak() {
+    }
+
+    public static void main(String[] args) {
+        double perLevel = args.length > 0 ? Double.parseDouble(args[0]) : 600;
+        double perSample = args.length > 1 ? Double.parseDouble(args[1]) : 10;
+        run(perLevel, perSample);
+    }
+
+    /**
+     * Play every level for a fixed time, printing a trace line at each sample.
+     * @param secondsPerLevel wall-clock time spent on each level
+     * @param secondsPerSample interval between trace lines
+     * @return total ticks simulated
+     */
+    public static long run(double secondsPerLevel, double secondsPerSample) {
+        AutoPlayer bot = new AutoPlayer();
+        InputState in = new InputState();
+        SoakTrace trace = new SoakTrace(System.out);
+        SceneProbe probe = SceneProbe.start();
+        long samplePeriod = (long) (secondsPerSample * 1e9);
+        long nextSample = System.nanoTime() + samplePeriod;
+        long total = 0;
+        GameSession session = newSession(1);
+        int levels = session.getGameService().getLevelCount();
+        for (int level = 1; level <= levels; level++) {
+            System.out.println("# level " + level);
+            session = newSession(level);
+            long levelEnd = System.nanoTime() + (long) (secondsPerLevel * 1e9);
+            long now = System.nanoTime();
+            while (now < levelEnd) {
+                bot.fill(session.getGameState(), Constants.GAME_WIDTH, in);
+                long start = System.nanoTime();
+                boolean playing = session.step(in);
+                now = System.nanoTime();
+                trace.recordTick(now - start);
+                total++;
+                // Auto-advance would carry the run into the next level
+                if (!playing || session.getGameState().level != level) session = newSession(level);
+                if (now >= nextSample) {
+                    trace.sample(nodes(probe, session.getGameState()), entities(session.getGameState()));
+                    nextSample = System.nanoTime() + samplePeriod;
+                }
+            }
+        }
+        trace.sample(nodes(probe, session.getGameState()), entities(session.getGameState()));
+        if (probe != null) Platform.exit();
+        return total;
+    }
+
+    private static GameSession newSession(int level) {
+        GameSession session = new GameSession(SessionSettings.defaults(), level);
+        session.startAt(level);
+        return session;
+    }
+
+    private static int nodes(SceneProbe probe, GameState state) {
+        return probe != null ? probe.render(state) : -1;
+    }
+
+    private static int entities(GameState state) {
+        return state.balls.size() + state.bricks.size() + state.bullets.size()
+                + state.enemies.size() + state.powerUps.size();
+    }
+
+    /**
+     * The game's entity renderers attached to an off-screen pane, so the node count reflects
+     * what the game view would hold for the same frame.
+     */
+    private static final class SceneProbe {
+        private final Pane pane = new Pane();
+        private final HBox lifeBox = new HBox();
+        private final StackPane root = new StackPane(pane, lifeBox);
+        private final RenderFrame frame = new RenderFrame();
+        private PaddleRenderer paddle;
+        private BallsRenderer balls;
+        private BricksRenderer bricks;
+        private PowerUpRenderer powerUps;
+        private BulletRenderer bullets;
+        private LifeRenderer lives;
+        private EnemyRenderer enemies;
+
+        /** @return a probe, or null when the JavaFX toolkit cannot start */
+        static SceneProbe start() {
+            if (GraphicsEnvironment.isHeadless()) return null;
+            CountDownLatch started = new CountDownLatch(1);
+            Thread.ofPlatform().daemon().start(() -> {
+                try {
+                    Platform.startup(started::countDown);
+                } catch (RuntimeException e) {
+                    System.err.println("No JavaFX toolkit, node counts unavailable (" + e.getMessage() + ")");
+                }
+            });
+            try {
+                if (!started.await(10, TimeUnit.SECONDS)) return null;
+                SceneProbe probe = new SceneProbe();
+                onFx(probe::createRenderers);
+                return probe;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        private void createRenderers() {
+            paddle = new PaddleRenderer(pane);
+            balls = new BallsRenderer(pane);
+            bricks = new BricksRenderer(pane);
+            powerUps = new PowerUpRenderer(pane);
+            bullets = new BulletRenderer(pane);
+            lives = new LifeRenderer(lifeBox);
+            enemies = new EnemyRenderer(pane);
+        }
+
+        /**
+         * Render a state and count the nodes. Blocks until the FX thread is done, so the
+         * state must not change meanwhile.
+         * @param state state to draw
+         * @return scene-graph nodes after rendering
+         */
+        int render(GameState state) {
+            frame.capture(state, frame.sequence + 1);
+            int[] nodes = {-1};
+            onFx(() -> {
+                paddle.render(frame.paddle);
+                balls.render(frame.balls);
+                bricks.render(frame.bricks);
+                powerUps.render(frame.powerUps);
+                bullets.render(frame.bullets);
+                lives.render(frame.lives);
+                enemies.render(frame.enemies);
+                nodes[0] = SoakTrace.countNodes(root);
+            });
+            return nodes[0];
+        }
+
+        private static void onFx(Runnable action) {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            Platform.runLater(() -> {
+                try {
+                    action.run();
+                    done.complete(null);
+                } catch (RuntimeException e) {
+                    done.completeExceptionally(e);
+                }
+            });
+            done.join();
+        }
+    }
+}
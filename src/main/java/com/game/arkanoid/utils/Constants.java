@@ -10,6 +10,10 @@ public class Constants {
     public static final double GAME_WIDTH  = 600.0;
     public static final double GAME_HEIGHT = 800.0;
 
+    // Simulation timing
+    public static final double NANOS_PER_DT = 11_000_000.0; // one dt unit of GameService.update
+    public static final int SIMULATION_HZ = 120;             // fixed rate of the simulation thread
+
     // Ball constants
     public static final double BALL_RADIUS = 5.0;
     public static final double BALL_SPEED  = 5.0;      // px/s launch & nominal speed
@@ -56,6 +60,8 @@ public class Constants {
     public static final int MAX_ENEMIES = 5;
     public static final double ENEMY_SPEED_Y = 0.5;
     public static final double ENEMY_SPEED_X = 0.5;
+    public static final int STRESS_MAX_ENEMIES = 64;            // enemy cap in stress mode
+    public static final double STRESS_ENEMY_SPAWN_SECONDS = 0.5; // spawn interval in stress mode
     
     // Laser paddle / bullets
     public static final double BULLET_WIDTH = 8.0;
@@ -0,0 +1,67 @@
+package com.game.arkanoid.utils;
+
+/**
+ * Small, unsynchronised SplitMix64 generator for game logic.
+ * <p>
+ * {@link java.util.Random} updates its seed with a compare-and-set on every call, which is
+ * wasted work for state that only one thread touches and a shared cache line when many
+ * sessions run side by side. Each {@link com.game.arkanoid.models.GameState} owns one of
+ * these instead; its whole state is one {@code long}, so a game can be replayed or copied by
+ * copying that value.
+ * </p>
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Create a generator.
+     * @param seed initial state
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /** @return the next 64 random bits */
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @param bound exclusive upper bound, positive
+     * @return a uniformly distributed value in [0, bound)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive: " + bound);
+        // Multiply-shift of the top 31 bits; the bias is below 2^-31 for game-sized bounds
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    /** @return a uniformly distributed value in [0, 1) */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /** @return a random boolean */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /** @return the current state, to restore later with {@link #setState} */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restore a state from {@link #getState()}, or seed the generator.
+     * @param state the state
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,27 @@
+package com.game.arkanoid.utils;
+
+import java.util.List;
+
+/**
+ * Allocation-free list helpers used on the per-frame update path.
+ */
+public final class ListUtils {
+
+    private ListUtils() {}
+
+    /**
+     * Removes the element at {@code index} by moving the last element into its slot.
+     * O(1) and allocation-free; does not preserve order.
+     *
+     * @param list list to remove from
+     * @param index index of the element to remove
+     * @param <T> element type
+     */
+    public static <T> void swapRemove(List<T> list, int index) {
+        int last = list.size() - 1;
+        if (index != last) {
+            list.set(index, list.get(last));
+        }
+        list.remove(last);
+    }
+}
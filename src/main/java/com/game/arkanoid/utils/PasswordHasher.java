@@ -4,6 +4,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Minimal SHA-256 password hasher for the Arkanoid game.
@@ -21,6 +22,9 @@ import java.util.Locale;
  */
 public final class PasswordHasher {
 
+    /** What {@link #hash} produces. */
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
     /** Private constructor to prevent instantiation. */
     private PasswordHasher() {}
 
@@ -69,6 +73,16 @@ public final class PasswordHasher {
         return hash(username, plain).equals(expectedHash);
     }
 
+    /**
+     * Tell a stored hash from a legacy plaintext password.
+     *
+     * @param stored the stored password field
+     * @return true if it has the form {@link #hash} produces
+     */
+    public static boolean isHash(String stored) {
+        return stored != null && HASH.matcher(stored).matches();
+    }
+
     /**
      * Convert a byte array to a lowercase hexadecimal string.
      *
@@ -0,0 +1,69 @@
+package com.game.arkanoid.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, lock-free queue of ints for exactly one producer thread and one consumer thread.
+ * <p>
+ * A power-of-two ring indexed by two monotonically increasing counters; each side only writes
+ * its own counter, with release semantics, so no compare-and-set is needed. Allocation-free.
+ * </p>
+ */
+public final class SpscIntQueue {
+
+    private final int[] ring;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // next read, consumer only
+    private final AtomicLong tail = new AtomicLong(); // next write, producer only
+
+    /**
+     * Create a queue.
+     * @param capacity maximum number of queued values, rounded up to a power of two
+     */
+    public SpscIntQueue(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        ring = new int[Math.max(1, size)];
+        mask = ring.length - 1;
+    }
+
+    /**
+     * Producer side: append a value.
+     * @param value value to append
+     * @return false if the queue is full and the value was dropped
+     */
+    public boolean offer(int value) {
+        long t = tail.getPlain();
+        if (t - head.getAcquire() == ring.length) return false;
+        ring[(int) t & mask] = value;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    /**
+     * Consumer side: remove the oldest value.
+     * @param ifEmpty value returned when the queue is empty
+     * @return the oldest value, or {@code ifEmpty}
+     */
+    public int poll(int ifEmpty) {
+        long h = head.getPlain();
+        if (h == tail.getAcquire()) return ifEmpty;
+        int value = ring[(int) h & mask];
+        head.setRelease(h + 1);
+        return value;
+    }
+
+    /**
+     * @return number of values queued; exact only when called from one of the two threads
+     */
+    public int size() {
+        return (int) (tail.getAcquire() - head.getAcquire());
+    }
+
+    /**
+     * @return capacity of the ring
+     */
+    public int capacity() {
+        return ring.length;
+    }
+}
@@ -0,0 +1,69 @@
+package com.game.arkanoid.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer handing the latest value from one writer thread to one reader thread.
+ * <p>
+ * The writer fills its private back slot and publishes it by swapping it with the shared middle
+ * slot; the reader swaps the middle slot with its private front slot when a newer one is
+ * waiting. Neither side ever waits for the other, a slot is never written while the reader holds
+ * it, and the reader always sees the most recently published value. Slots are created once and
+ * reused, so steady-state use is allocation-free.
+ * </p>
+ *
+ * @param <T> slot type
+ */
+public final class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+
+    private final Object[] slots = new Object[3];
+
+    /** Index of the middle slot, plus {@link #FRESH} while it holds an unread value. */
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    private int back = 0;  // writer only
+    private int front = 2; // reader only
+
+    /**
+     * Create the buffer and its three slots.
+     * @param factory creates each slot
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+     * Writer side: the slot to fill before {@link #publish()}.
+     * @return the writer's slot
+     */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Writer side: make the filled slot the latest value. The next {@link #back()} returns
+     * another slot, which may hold an older value.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Reader side: the latest published value. It stays untouched until the next call.
+     * @return the reader's slot; one of the initial slots before anything was published
+     */
+    @SuppressWarnings("unchecked")
+    public T read() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) slots[front];
+    }
+}
@@ -0,0 +1,29 @@
+package com.game.arkanoid.view;
+
+import java.util.concurrent.Executor;
+import javafx.application.Platform;
+
+/**
+ * Runs tasks on the JavaFX application thread: immediately when already on it, otherwise
+ * through {@link Platform#runLater(Runnable)}.
+ * <p>
+ * Running in place keeps the single-threaded game loop synchronous, while events published
+ * by the simulation thread are marshalled to the FX thread.
+ * </p>
+ */
+public final class FxExecutor implements Executor {
+
+    public static final FxExecutor INSTANCE = new FxExecutor();
+
+    private FxExecutor() {
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+}
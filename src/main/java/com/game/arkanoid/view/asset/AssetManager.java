@@ -0,0 +1,256 @@
+package com.game.arkanoid.view.asset;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.image.Image;
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Decodes images and sounds on background virtual threads and caches them for the renderers
+ * and {@link com.game.arkanoid.view.sound.SoundManager}.
+ * <p>
+ * {@link #preload()} walks the manifest one {@link Group} at a time, in the order the scenes
+ * first need them, decoding every asset of a group in parallel. Lookups for an asset that is
+ * still loading wait for it; lookups for an asset that was never scheduled load it on the spot.
+ * </p>
+ */
+public final class AssetManager {
+
+    /** Asset groups, in the order the scenes first need them. */
+    public enum Group { MENU, GAME, RESULTS }
+
+    private static final String IMAGES = "/com/game/arkanoid/images/";
+    private static final String SOUNDS = "/com/game/arkanoid/sounds/";
+
+    private static AssetManager instance;
+
+    private final Function<String, Object> decoder;
+    private final Executor workers;
+    private final Executor notifier;
+    private final Map<Group, List<String>> manifest;
+    private final Set<String> manifestPaths = new HashSet<>();
+    private final int total;
+
+    private final Map<String, CompletableFuture<Object>> cache = new ConcurrentHashMap<>();
+    private final Map<Group, CompletableFuture<Void>> groups = new EnumMap<>(Group.class);
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0.0);
+    private boolean started;
+
+    private AssetManager() {
+        this(AssetManager::decode, Executors.newVirtualThreadPerTaskExecutor(), Platform::runLater, defaultManifest());
+    }
+
+    /**
+     * @param decoder turns a resource path into a decoded asset
+     * @param workers runs decoding tasks
+     * @param notifier runs progress updates (the FX thread in the application)
+     * @param manifest resource paths to preload, per group
+     */
+    AssetManager(Function<String, Object> decoder, Executor workers, Executor notifier, Map<Group, List<String>> manifest) {
+        this.decoder = decoder;
+        this.workers = workers;
+        this.notifier = notifier;
+        this.manifest = manifest;
+        for (List<String> paths : manifest.values()) {
+            manifestPaths.addAll(paths);
+        }
+        this.total = manifestPaths.size();
+        for (Group g : Group.values()) {
+            groups.put(g, new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Get singleton instance.
+     * @return AssetManager instance.
+     */
+    public static synchronized AssetManager getInstance() {
+        if (instance == null) {
+            instance = new AssetManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Start loading the manifest in the background. Later calls do nothing.
+     */
+    public synchronized void preload() {
+        if (started) return;
+        started = true;
+        loadGroup(0);
+    }
+
+    /** Loads one group, then chains the next once every asset of this one is decoded. */
+    private void loadGroup(int ordinal) {
+        Group[] order = Group.values();
+        if (ordinal >= order.length) return;
+        Group group = order[ordinal];
+        List<String> paths = manifest.getOrDefault(group, List.of());
+        CompletableFuture<?>[] parts = new CompletableFuture<?>[paths.size()];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = request(paths.get(i));
+        }
+        CompletableFuture.allOf(parts).whenComplete((v, e) -> {
+            groups.get(group).complete(null);
+            loadGroup(ordinal + 1);
+        });
+    }
+
+    /**
+     * @param group asset group
+     * @return future completing once every asset of the group is decoded
+     */
+    public CompletableFuture<Void> whenLoaded(Group group) {
+        return groups.get(group);
+    }
+
+    /**
+     * Fraction of the manifest decoded so far, updated on the notifier thread.
+     * @return progress in [0, 1]
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /** @return manifest assets decoded so far */
+    public int loadedCount() {
+        return loaded.get();
+    }
+
+    /** @return number of assets in the manifest */
+    public int totalCount() {
+        return total;
+    }
+
+    /**
+     * Image from the images folder, waiting for it if it is still loading.
+     * @param name file name, e.g. {@code ball.png}
+     * @return the image, or null if it could not be loaded
+     */
+    public Image image(String name) {
+        return (Image) get(IMAGES + name);
+    }
+
+    /**
+     * Sound effect from the sounds folder, waiting for it if it is still loading.
+     * @param name file name, e.g. {@code click.wav}
+     * @return the clip, or null if it could not be loaded
+     */
+    public AudioClip audioClip(String name) {
+        return (AudioClip) get(SOUNDS + name);
+    }
+
+    /**
+     * Music track from the sounds folder, waiting for it if it is still loading.
+     * @param name file name, e.g. {@code menu_sound.mp3}
+     * @return the media, or null if it could not be loaded
+     */
+    public Media media(String name) {
+        return (Media) get(SOUNDS + name);
+    }
+
+    /**
+     * Decoded asset for a resource path, loading it now if it was never requested.
+     * @param path resource path
+     * @return the asset, or null if it failed to load
+     */
+    Object get(String path) {
+        return request(path).join();
+    }
+
+    private CompletableFuture<Object> request(String path) {
+        return cache.computeIfAbsent(path, p -> CompletableFuture
+                .supplyAsync(() -> decoder.apply(p), workers)
+                .exceptionally(e -> {
+                    System.err.println("Cannot load asset: " + p + " (" + e.getMessage() + ")");
+                    return null;
+                })
+                .whenComplete((v, e) -> {
+                    if (manifestPaths.contains(p)) {
+                        double fraction = (double) loaded.incrementAndGet() / total;
+                        notifier.execute(() -> progress.set(fraction));
+                    }
+                }));
+    }
+
+    private static Object decode(String path) {
+        URL url = AssetManager.class.getResource(path);
+        if (url == null) throw new IllegalArgumentException("not found");
+        String location = url.toExternalForm();
+        if (path.endsWith(".mp3")) return new Media(location);
+        if (path.endsWith(".wav")) return new AudioClip(location);
+        return new Image(location);
+    }
+
+    /**
+     * The assets the game knows about, grouped by the first scene that uses them.
+     * @return manifest of resource paths
+     */
+    static Map<Group, List<String>> defaultManifest() {
+        Map<Group, List<String>> m = new EnumMap<>(Group.class);
+
+        List<String> menu = new ArrayList<>();
+        sound(menu, "menu_sound.mp3", "click.wav");
+        m.put(Group.MENU, menu);
+
+        List<String> game = new ArrayList<>();
+        sound(game, "round_start.wav", "countdown.wav", "game_sound.mp3",
+                "brick_hit.wav", "paddle_hit.wav", "wall_hit.wav", "bullet_fire.wav", "powerup_hit.wav");
+        image(game, "ball.png", "laser_bullet.png", "paddle_life.png",
+                "brick_blue.png", "brick_red.png", "brick_yellow.png", "brick_green.png", "brick_cyan.png",
+                "brick_pink.png", "brick_orange.png", "brick_gold.png", "brick_silver.png");
+        frames(game, "paddle_materialize_", 15);
+        frames(game, "paddle_pulsate_", 4);
+        frames(game, "paddle_wide_", 9);
+        frames(game, "paddle_wide_pulsate_", 4);
+        frames(game, "paddle_laser_", 16);
+        frames(game, "paddle_laser_pulsate_", 4);
+        frames(game, "paddle_explode_", 8);
+        frames(game, "door_top_left_", 7);
+        frames(game, "door_top_right_", 7);
+        for (String p : new String[] {"expand", "laser", "duplicate", "life", "slow", "catch"}) {
+            frames(game, "powerup_" + p + "_", 8);
+        }
+        for (String e : new String[] {"cone", "cube", "molecule", "pyramid"}) {
+            frames(game, "enemy_" + e + "_", 25);
+        }
+        frames(game, "enemy_explosion_", 10);
+        m.put(Group.GAME, game);
+
+        List<String> results = new ArrayList<>();
+        sound(results, "game_over.wav", "win_sound.mp3");
+        m.put(Group.RESULTS, results);
+
+        return Collections.unmodifiableMap(m);
+    }
+
+    private static void sound(List<String> out, String... names) {
+        for (String n : names) out.add(SOUNDS + n);
+    }
+
+    private static void image(List<String> out, String... names) {
+        for (String n : names) out.add(IMAGES + n);
+    }
+
+    private static void frames(List<String> out, String prefix, int count) {
+        for (int i = 1; i <= count; i++) out.add(IMAGES + prefix + i + ".png");
+    }
+}
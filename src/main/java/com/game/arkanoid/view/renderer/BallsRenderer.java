@@ -1,10 +1,11 @@
 package com.game.arkanoid.view.renderer;
 
 import com.game.arkanoid.models.Ball;
+import com.game.arkanoid.models.RenderFrame;
+import com.game.arkanoid.view.asset.AssetManager;
 
 import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 
 import javafx.scene.image.Image;
@@ -18,7 +19,7 @@ import javafx.scene.layout.Pane;
  * Automatically adds new balls to the scene and removes balls that no longer exist.
  * </p>
  */
-public final class BallsRenderer implements Renderer<List<Ball>> {
+public final class BallsRenderer implements Renderer<RenderFrame.Layer<Ball>> {
     private final Pane pane;
     private final Map<Ball, ImageView> nodes = new IdentityHashMap<>();
     private final Image ballImage;
@@ -30,7 +31,7 @@ public final class BallsRenderer implements Renderer<List<Ball>> {
      */
     public BallsRenderer(Pane pane) {
         this.pane = pane;
-        this.ballImage = new Image(getClass().getResourceAsStream("/com/game/arkanoid/images/ball.png"));
+        this.ballImage = AssetManager.getInstance().image("ball.png");
     }
 
     /**
@@ -40,9 +41,10 @@ public final class BallsRenderer implements Renderer<List<Ball>> {
      * Removes nodes corresponding to balls that are no longer present.
      * </p>
      *
-     * @param balls the list of balls to render
+     * @param balls the balls of the frame to render
      */
-    public void render(List<Ball> balls) {
+    @Override
+    public void render(RenderFrame.Layer<Ball> balls) {
         // Remove balls that no longer exist
         Iterator<Map.Entry<Ball, ImageView>> it = nodes.entrySet().iterator();
         while (it.hasNext()) {
@@ -54,22 +56,27 @@ public final class BallsRenderer implements Renderer<List<Ball>> {
         }
 
         // Update or create new ball nodes
-        for (Ball ball : balls) {
-            ImageView node = nodes.computeIfAbsent(ball, this::createNode);
-            node.setTranslateX(ball.getX() - ball.getRadius());
-            node.setTranslateY(ball.getY() - ball.getRadius());
+        for (int i = 0; i < balls.size(); i++) {
+            double radius = balls.width(i);
+            ImageView node = nodes.get(balls.key(i));
+            if (node == null) {
+                node = createNode(radius);
+                nodes.put(balls.key(i), node);
+            }
+            node.setTranslateX(balls.x(i) - radius);
+            node.setTranslateY(balls.y(i) - radius);
         }
     }
 
     /**
      * Create a new ImageView node for a ball and add it to the pane.
      *
-     * @param ball the Ball object
+     * @param radius the ball radius
      * @return the created ImageView node
      */
-    private ImageView createNode(Ball ball) {
+    private ImageView createNode(double radius) {
         ImageView view = new ImageView(ballImage);
-        double diameter = ball.getRadius() * 2;
+        double diameter = radius * 2;
 
         view.setFitWidth(diameter);
         view.setFitHeight(diameter);
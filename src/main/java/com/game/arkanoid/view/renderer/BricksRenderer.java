@@ -1,6 +1,8 @@
 package com.game.arkanoid.view.renderer;
 
 import com.game.arkanoid.models.Brick;
+import com.game.arkanoid.models.RenderFrame;
+import com.game.arkanoid.view.asset.AssetManager;
 import java.util.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -14,21 +16,21 @@ import javafx.scene.layout.Pane;
  * Bricks are rendered according to their current health and type.
  * </p>
  */
-public final class BricksRenderer implements Renderer<List<Brick>> {
+public final class BricksRenderer implements Renderer<RenderFrame.Layer<Brick>> {
 
     private final Pane pane;
     private final Map<Brick, ImageView> brickNodes = new HashMap<>();
 
     // Load brick images once
-    private final Image brick1Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_blue.png").toExternalForm());
-    private final Image brick2Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_red.png").toExternalForm());
-    private final Image brick3Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_yellow.png").toExternalForm());
-    private final Image brick4Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_green.png").toExternalForm());
-    private final Image brick5Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_cyan.png").toExternalForm());
-    private final Image brick6Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_pink.png").toExternalForm());
-    private final Image brick7Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_orange.png").toExternalForm());
-    private final Image brick8Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_gold.png").toExternalForm());
-    private final Image brick9Img = new Image(getClass().getResource("/com/game/arkanoid/images/brick_silver.png").toExternalForm());
+    private final Image brick1Img = AssetManager.getInstance().image("brick_blue.png");
+    private final Image brick2Img = AssetManager.getInstance().image("brick_red.png");
+    private final Image brick3Img = AssetManager.getInstance().image("brick_yellow.png");
+    private final Image brick4Img = AssetManager.getInstance().image("brick_green.png");
+    private final Image brick5Img = AssetManager.getInstance().image("brick_cyan.png");
+    private final Image brick6Img = AssetManager.getInstance().image("brick_pink.png");
+    private final Image brick7Img = AssetManager.getInstance().image("brick_orange.png");
+    private final Image brick8Img = AssetManager.getInstance().image("brick_gold.png");
+    private final Image brick9Img = AssetManager.getInstance().image("brick_silver.png");
     
     /**
      * Constructs a BricksRenderer attached to the given Pane.
@@ -40,32 +42,31 @@ public final class BricksRenderer implements Renderer<List<Brick>> {
     }
 
     /**
-     * Render the given list of bricks.
+     * Render the bricks of a frame.
      * <p>
      * Updates existing brick nodes or creates new ones if needed.
      * Sets position, size, and image according to brick health and type.
      * Hides bricks that are destroyed but still in the list.
      * </p>
      *
-     * @param bricks the list of bricks to render
+     * @param bricks the bricks of the frame to render
      */
     @Override
-    public void render(List<Brick> bricks) {
-        // Copy to avoid ConcurrentModificationException
-        List<Brick> snapshot = List.copyOf(bricks);
-
+    public void render(RenderFrame.Layer<Brick> bricks) {
         // Remove bricks that no longer exist (e.g., on level change)
         Iterator<Map.Entry<Brick, ImageView>> it = brickNodes.entrySet().iterator();
         while (it.hasNext()) {
             Map.Entry<Brick, ImageView> entry = it.next();
-            if (!snapshot.contains(entry.getKey())) {
+            if (!bricks.contains(entry.getKey())) {
                 pane.getChildren().remove(entry.getValue());
                 it.remove();
             }
         }
 
         // Render current bricks
-        for (Brick b : snapshot) {
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick b = bricks.key(i);
+            int health = bricks.value(i);
             ImageView iv = brickNodes.get(b);
             if (iv == null) {
                 // Create new node if not already mapped
@@ -76,16 +77,16 @@ public final class BricksRenderer implements Renderer<List<Brick>> {
             }
 
             // Set image according to health
-            iv.setImage(getBrickImage(b));
+            iv.setImage(getBrickImage(health));
 
             // Set position & size
-            iv.setX(b.getX());
-            iv.setY(b.getY());
-            iv.setFitWidth(b.getWidth());
-            iv.setFitHeight(b.getHeight());
+            iv.setX(bricks.x(i));
+            iv.setY(bricks.y(i));
+            iv.setFitWidth(bricks.width(i));
+            iv.setFitHeight(bricks.height(i));
 
             // Hide destroyed bricks (still in list)
-            iv.setVisible(!b.isDestroyed());
+            iv.setVisible(health == 9 || health > 0);
         }
     }
 
@@ -106,17 +107,17 @@ public final class BricksRenderer implements Renderer<List<Brick>> {
      * Other bricks are selected according to their remaining health.
      * </p>
      *
-     * @param b the Brick object
+     * @param health the brick's health in the frame
      * @return the Image representing the brick
      */
-    private Image getBrickImage(Brick b) {
+    private Image getBrickImage(int health) {
         // Prioritize indestructible brick (silver)
-        if (b.isIndestructible()) {
+        if (health == 9) {
             return brick9Img; // silver brick
         }
 
         // Otherwise select image based on remaining health
-        return switch (b.getHealth()) {
+        return switch (health) {
             case 8 -> brick8Img;
             case 7 -> brick7Img;
             case 6 -> brick6Img;
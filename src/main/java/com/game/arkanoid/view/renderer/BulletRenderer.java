@@ -1,9 +1,10 @@
 package com.game.arkanoid.view.renderer;
 
 import com.game.arkanoid.models.Bullet;
+import com.game.arkanoid.models.RenderFrame;
+import com.game.arkanoid.view.asset.AssetManager;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -17,7 +18,7 @@ import javafx.scene.layout.Pane;
  * when bullets are no longer active.
  * </p>
  */
-public final class BulletRenderer implements Renderer<List<Bullet>> {
+public final class BulletRenderer implements Renderer<RenderFrame.Layer<Bullet>> {
 
     private final Pane pane;
     private final Map<Bullet, ImageView> nodes = new IdentityHashMap<>();
@@ -30,7 +31,7 @@ public final class BulletRenderer implements Renderer<List<Bullet>> {
      */
     public BulletRenderer(Pane pane) {
         this.pane = pane;
-        this.bulletImage = new Image(getClass().getResourceAsStream("/com/game/arkanoid/images/laser_bullet.png"));
+        this.bulletImage = AssetManager.getInstance().image("laser_bullet.png");
     }
 
     /**
@@ -40,10 +41,10 @@ public final class BulletRenderer implements Renderer<List<Bullet>> {
      * Removes nodes corresponding to bullets that no longer exist.
      * </p>
      *
-     * @param bullets the list of bullets to render
+     * @param bullets the bullets of the frame to render
      */
     @Override
-    public void render(List<Bullet> bullets) {
+    public void render(RenderFrame.Layer<Bullet> bullets) {
         Iterator<Map.Entry<Bullet, ImageView>> it = nodes.entrySet().iterator();
         while (it.hasNext()) {
             Map.Entry<Bullet, ImageView> entry = it.next();
@@ -53,23 +54,28 @@ public final class BulletRenderer implements Renderer<List<Bullet>> {
             }
         }
 
-        for (Bullet bullet : bullets) {
-            ImageView view = nodes.computeIfAbsent(bullet, this::createNode);
-            view.setTranslateX(bullet.getX());
-            view.setTranslateY(bullet.getY());
+        for (int i = 0; i < bullets.size(); i++) {
+            ImageView view = nodes.get(bullets.key(i));
+            if (view == null) {
+                view = createNode(bullets.width(i), bullets.height(i));
+                nodes.put(bullets.key(i), view);
+            }
+            view.setTranslateX(bullets.x(i));
+            view.setTranslateY(bullets.y(i));
         }
     }
 
     /**
      * Creates a new ImageView node for the given bullet and adds it to the Pane.
      *
-     * @param bullet the Bullet object
+     * @param width the bullet width
+     * @param height the bullet height
      * @return the newly created ImageView node
      */
-    private ImageView createNode(Bullet bullet) {
+    private ImageView createNode(double width, double height) {
         ImageView view = new ImageView(bulletImage);
-        view.setFitWidth(bullet.getWidth());
-        view.setFitHeight(bullet.getHeight());
+        view.setFitWidth(width);
+        view.setFitHeight(height);
         view.setSmooth(true);
         pane.getChildren().add(view);
         return view;
@@ -17,6 +17,8 @@ import com.game.arkanoid.events.game.OpenDoorTopRightEvent;
 import com.game.arkanoid.events.game.CloseDoorTopLeftEvent;
 import com.game.arkanoid.events.game.CloseDoorTopRightEvent;
 import com.game.arkanoid.events.game.DoorOpenedEvent;
+import com.game.arkanoid.view.asset.AssetManager;
+import com.game.arkanoid.view.FxExecutor;
 
 /**
  * Renderer for the top doors in the game.
@@ -51,13 +53,10 @@ public final class DoorTopRenderer implements Renderer<Void> {
         this.pane = pane;
 
         // Load frames
+        AssetManager assets = AssetManager.getInstance();
         for (int i = 1; i <= 7; i++) {
-            leftFrames.add(new Image(getClass().getResourceAsStream(
-                    String.format("/com/game/arkanoid/images/door_top_left_%d.png", i)
-            )));
-            rightFrames.add(new Image(getClass().getResourceAsStream(
-                    String.format("/com/game/arkanoid/images/door_top_right_%d.png", i)
-            )));
+            leftFrames.add(assets.image("door_top_left_" + i + ".png"));
+            rightFrames.add(assets.image("door_top_right_" + i + ".png"));
         }
 
         leftReverseFrames.addAll(leftFrames);
@@ -98,10 +97,10 @@ public final class DoorTopRenderer implements Renderer<Void> {
      * Registers event listeners for door open/close events.
      */
     private void registerEventListeners() {
-        subscriptions.add(eventBus.subscribe(OpenDoorTopLeftEvent.class, e -> playLeftDoor(null)));
-        subscriptions.add(eventBus.subscribe(CloseDoorTopLeftEvent.class, e -> playLeftReverseDoor(null)));
-        subscriptions.add(eventBus.subscribe(OpenDoorTopRightEvent.class, e -> playRightDoor(null)));
-        subscriptions.add(eventBus.subscribe(CloseDoorTopRightEvent.class, e -> playRightReverseDoor(null)));
+        subscriptions.add(eventBus.subscribe(OpenDoorTopLeftEvent.class, e -> playLeftDoor(null), FxExecutor.INSTANCE));
+        subscriptions.add(eventBus.subscribe(CloseDoorTopLeftEvent.class, e -> playLeftReverseDoor(null), FxExecutor.INSTANCE));
+        subscriptions.add(eventBus.subscribe(OpenDoorTopRightEvent.class, e -> playRightDoor(null), FxExecutor.INSTANCE));
+        subscriptions.add(eventBus.subscribe(CloseDoorTopRightEvent.class, e -> playRightReverseDoor(null), FxExecutor.INSTANCE));
     }
 
     /**
@@ -4,6 +4,9 @@ import com.game.arkanoid.events.enemy.ExplosionEvent;
 import com.game.arkanoid.events.GameEventBus;
 import com.game.arkanoid.models.Enemy;
 import com.game.arkanoid.models.EnemyType;
+import com.game.arkanoid.models.RenderFrame;
+import com.game.arkanoid.view.asset.AssetManager;
+import com.game.arkanoid.view.FxExecutor;
 import javafx.animation.AnimationTimer;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -18,7 +21,7 @@ import java.util.*;
  * event-driven system. Supports animated frames for enemies and explosions.
  * </p>
  */
-public final class EnemyRenderer implements Renderer<List<Enemy>> {
+public final class EnemyRenderer implements Renderer<RenderFrame.Layer<Enemy>> {
 
     private final Pane pane;
     private final Map<Enemy, ImageView> enemyNodes = new IdentityHashMap<>();
@@ -51,24 +54,20 @@ public final class EnemyRenderer implements Renderer<List<Enemy>> {
 
     /** Loads sprite frames for all enemy types and explosion animations. */
     private void loadFrames() {
+        AssetManager assets = AssetManager.getInstance();
         // Load enemy frames
         for (EnemyType type : EnemyType.values()) {
             Image[] frames = new Image[ENEMY_FRAME_COUNT];
             String name = type.name().toLowerCase();
             for (int i = 1; i <= ENEMY_FRAME_COUNT; i++) {
-                frames[i - 1] = new Image(
-                        getClass().getResource("/com/game/arkanoid/images/enemy_" + name + "_" + i + ".png")
-                                .toExternalForm()
-                );
+                frames[i - 1] = assets.image("enemy_" + name + "_" + i + ".png");
             }
             enemySprites.put(type, frames);
         }
 
         // Load explosion frames
         for (int i = 1; i <= EXPLOSION_FRAME_COUNT; i++) {
-            explosionFrames[i - 1] = new Image(
-                    getClass().getResource("/com/game/arkanoid/images/enemy_explosion_" + i + ".png").toExternalForm()
-            );
+            explosionFrames[i - 1] = assets.image("enemy_explosion_" + i + ".png");
         }
     }
 
@@ -76,7 +75,7 @@ public final class EnemyRenderer implements Renderer<List<Enemy>> {
     private void subscribeToExplosionEvent() {
         subscriptions.add(eventBus.subscribe(ExplosionEvent.class, event -> {
             playExplosion(event.x(), event.y(), event.width(), event.height());
-        }));
+        }, FxExecutor.INSTANCE));
     }
 
     /**
@@ -101,10 +100,10 @@ public final class EnemyRenderer implements Renderer<List<Enemy>> {
      * Renders the list of enemies, adding new ones and updating positions.
      * Removes nodes for enemies that no longer exist.
      *
-     * @param enemies the list of current enemies
+     * @param enemies the enemies of the frame to render
      */
     @Override
-    public void render(List<Enemy> enemies) {
+    public void render(RenderFrame.Layer<Enemy> enemies) {
         // Remove enemy nodes that no longer exist
         Iterator<Map.Entry<Enemy, ImageView>> it = enemyNodes.entrySet().iterator();
         while (it.hasNext()) {
@@ -116,10 +115,14 @@ public final class EnemyRenderer implements Renderer<List<Enemy>> {
         }
 
         // Add or update enemy nodes
-        for (Enemy enemy : enemies) {
-            ImageView node = enemyNodes.computeIfAbsent(enemy, this::createEnemyNode);
-            node.setX(enemy.getX());
-            node.setY(enemy.getY());
+        for (int i = 0; i < enemies.size(); i++) {
+            ImageView node = enemyNodes.get(enemies.key(i));
+            if (node == null) {
+                node = createEnemyNode(enemies.key(i), enemies.width(i), enemies.height(i));
+                enemyNodes.put(enemies.key(i), node);
+            }
+            node.setX(enemies.x(i));
+            node.setY(enemies.y(i));
         }
     }
 
@@ -129,10 +132,10 @@ public final class EnemyRenderer implements Renderer<List<Enemy>> {
     }
 
     /** Creates a new ImageView for the given enemy with its first sprite frame. */
-    private ImageView createEnemyNode(Enemy enemy) {
+    private ImageView createEnemyNode(Enemy enemy, double width, double height) {
         ImageView imageView = new ImageView(enemySprites.get(enemy.getType())[0]);
-        imageView.setFitWidth(enemy.getWidth());
-        imageView.setFitHeight(enemy.getHeight());
+        imageView.setFitWidth(width);
+        imageView.setFitHeight(height);
         pane.getChildren().add(imageView);
         return imageView;
     }
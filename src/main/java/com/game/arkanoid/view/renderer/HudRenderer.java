@@ -0,0 +1,72 @@
+package com.game.arkanoid.view.renderer;
+
+import com.game.arkanoid.models.RenderFrame;
+import javafx.beans.property.StringProperty;
+
+/**
+ * Writes the score, lives and high score to the HUD only when they change.
+ * <p>
+ * Called every frame, but a frame where nothing changed costs three integer comparisons:
+ * no string is formatted and no label text is set, so the labels are not laid out again.
+ * Text targets are label {@code textProperty()}s; any of them may be null when a view has
+ * no such label. The high score shown is never below the current score.
+ * </p>
+ */
+public final class HudRenderer {
+
+    private final StringProperty livesText;
+    private final StringProperty scoreText;
+    private final StringProperty highScoreText;
+
+    private String lastPlayer;
+    private int lastLives = Integer.MIN_VALUE;
+    private int lastScore = Integer.MIN_VALUE;
+    private int lastHighScore = Integer.MIN_VALUE;
+
+    /**
+     * Constructs a HUD renderer.
+     *
+     * @param livesText     receives "PLAYER lives", may be null
+     * @param scoreText     receives the score, may be null
+     * @param highScoreText receives the high score, may be null
+     */
+    public HudRenderer(StringProperty livesText, StringProperty scoreText, StringProperty highScoreText) {
+        this.livesText = livesText;
+        this.scoreText = scoreText;
+        this.highScoreText = highScoreText;
+    }
+
+    /**
+     * Forgets the displayed values so the next {@link #render} writes every label.
+     */
+    public void reset() {
+        lastPlayer = null;
+        lastLives = Integer.MIN_VALUE;
+        lastScore = Integer.MIN_VALUE;
+        lastHighScore = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Updates the labels whose value changed since the last call.
+     *
+     * @param frame  the frame to display
+     * @param player name shown next to the lives
+     */
+    public void render(RenderFrame frame, String player) {
+        int lives = Math.max(0, frame.lives);
+        if (lives != lastLives || !player.equals(lastPlayer)) {
+            lastLives = lives;
+            lastPlayer = player;
+            if (livesText != null) livesText.set(player + " " + lives);
+        }
+        if (frame.score != lastScore) {
+            lastScore = frame.score;
+            if (scoreText != null) scoreText.set(Integer.toString(lastScore));
+        }
+        int highScore = Math.max(frame.highScore, frame.score);
+        if (highScore != lastHighScore) {
+            lastHighScore = highScore;
+            if (highScoreText != null) highScoreText.set(Integer.toString(lastHighScore));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.game.arkanoid.view.renderer;
 
+import com.game.arkanoid.view.asset.AssetManager;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -25,7 +26,7 @@ public class LifeRenderer implements Renderer<Integer> {
      */
     public LifeRenderer(HBox lifeBox) {
         this.lifeBox = lifeBox;
-        this.lifeIcon = new Image(getClass().getResourceAsStream("/com/game/arkanoid/images/paddle_life.png"));
+        this.lifeIcon = AssetManager.getInstance().image("paddle_life.png");
     }
 
     /**
@@ -7,6 +7,8 @@ import com.game.arkanoid.events.powerup.PowerUpActivatedEvent;
 import com.game.arkanoid.events.powerup.PowerUpExpiredEvent;
 import com.game.arkanoid.events.paddle.ExplodePaddleFinishedEvent;
 import com.game.arkanoid.models.Paddle;
+import com.game.arkanoid.view.asset.AssetManager;
+import com.game.arkanoid.view.FxExecutor;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
@@ -51,39 +53,30 @@ public final class PaddleRenderer implements Renderer<Paddle> {
      * @param pane the Pane to which the paddle node will be added
      */
     public PaddleRenderer(Pane pane) {
+        AssetManager assets = AssetManager.getInstance();
         // Load intro frames
         for (int i = 1; i <= 15; i++) {
-            introFrames.add(new Image(getClass().getResourceAsStream(
-                String.format("/com/game/arkanoid/images/paddle_materialize_%d.png", i)
-            )));
+            introFrames.add(assets.image("paddle_materialize_" + i + ".png"));
         }
 
         // Load pulsate frames
         for (int i = 1; i <= 4; i++) {
-            pulsateFrames.add(new Image(getClass().getResourceAsStream(
-                String.format("/com/game/arkanoid/images/paddle_pulsate_%d.png", i)
-            )));
+            pulsateFrames.add(assets.image("paddle_pulsate_" + i + ".png"));
         }
 
         // Load wide frames
         for (int i = 1; i <= 9; i++) {
-            wideFrames.add(new Image(getClass().getResourceAsStream(
-                String.format("/com/game/arkanoid/images/paddle_wide_%d.png", i)
-            )));
+            wideFrames.add(assets.image("paddle_wide_" + i + ".png"));
         }
 
         // Load laser frames
         for (int i = 1; i <= 16; i++) {
-            laserFrames.add(new Image(getClass().getResourceAsStream(
-                String.format("/com/game/arkanoid/images/paddle_laser_%d.png", i)
-            )));
+            laserFrames.add(assets.image("paddle_laser_" + i + ".png"));
         }
 
         // Load laser pulsate frames
         for (int i = 1; i <= 4; i++) {
-            laserPulsateFrames.add(new Image(getClass().getResourceAsStream(
-                String.format("/com/game/arkanoid/images/paddle_laser_pulsate_%d.png", i)
-            )));
+            laserPulsateFrames.add(assets.image("paddle_laser_pulsate_" + i + ".png"));
         }
 
         // shrink is reverse of wide frames
@@ -92,16 +85,12 @@ public final class PaddleRenderer implements Renderer<Paddle> {
 
         // Load wide pulsate frames
         for (int i = 1; i <= 4; i++) {
-            widePulsateFrames.add(new Image(getClass().getResourceAsStream(
-                String.format("/com/game/arkanoid/images/paddle_wide_pulsate_%d.png", i)
-            )));
+            widePulsateFrames.add(assets.image("paddle_wide_pulsate_" + i + ".png"));
         }
 
         // Load explode frames
         for (int i = 1; i <= 8; i++) {
-            explodeFrames.add(new Image(getClass().getResourceAsStream(
-                String.format("/com/game/arkanoid/images/paddle_explode_%d.png", i)
-            )));
+            explodeFrames.add(assets.image("paddle_explode_" + i + ".png"));
         }
 
         registerEventListeners();
@@ -114,8 +103,8 @@ public final class PaddleRenderer implements Renderer<Paddle> {
      * Registers event listeners for paddle intro and explosion events.
      */
     public void registerEventListeners() {
-        subscriptions.add(GameEventBus.getInstance().subscribe(IntroPaddleEvent.class, e -> playIntro(this::startPulsate)));
-        subscriptions.add(GameEventBus.getInstance().subscribe(ExplodePaddleEvent.class,e -> playExplosion()));
+        subscriptions.add(GameEventBus.getInstance().subscribe(IntroPaddleEvent.class, e -> playIntro(this::startPulsate), FxExecutor.INSTANCE));
+        subscriptions.add(GameEventBus.getInstance().subscribe(ExplodePaddleEvent.class,e -> playExplosion(), FxExecutor.INSTANCE));
     }
 
     /**
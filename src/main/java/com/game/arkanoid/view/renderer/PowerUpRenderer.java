@@ -2,6 +2,8 @@ package com.game.arkanoid.view.renderer;
 
 import com.game.arkanoid.models.PowerUp;
 import com.game.arkanoid.models.PowerUpType;
+import com.game.arkanoid.models.RenderFrame;
+import com.game.arkanoid.view.asset.AssetManager;
 import javafx.animation.AnimationTimer;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -9,7 +11,6 @@ import javafx.scene.layout.Pane;
 
 import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,7 +20,7 @@ import java.util.Map;
  * cycle through the frames for smooth animation.
  * </p>
  */
-public final class PowerUpRenderer implements Renderer<List<PowerUp>> {
+public final class PowerUpRenderer implements Renderer<RenderFrame.Layer<PowerUp>> {
     private final Pane pane;
     private final Map<PowerUp, ImageView> nodes = new IdentityHashMap<>();
 
@@ -64,9 +65,7 @@ public final class PowerUpRenderer implements Renderer<List<PowerUp>> {
     private Image[] loadFrames(String name) {
         Image[] frames = new Image[FRAME_COUNT];
         for (int i = 1; i <= FRAME_COUNT; i++) {
-            frames[i - 1] = new Image(
-                getClass().getResource("/com/game/arkanoid/images/powerup_" + name + "_" + i + ".png").toExternalForm()
-            );
+            frames[i - 1] = AssetManager.getInstance().image("powerup_" + name + "_" + i + ".png");
         }
         return frames;
     }
@@ -78,7 +77,7 @@ public final class PowerUpRenderer implements Renderer<List<PowerUp>> {
      * @param powerUps the list of active power-ups
      */
     @Override
-    public void render(List<PowerUp> powerUps) {
+    public void render(RenderFrame.Layer<PowerUp> powerUps) {
         Iterator<Map.Entry<PowerUp, ImageView>> it = nodes.entrySet().iterator();
         while (it.hasNext()) {
             Map.Entry<PowerUp, ImageView> entry = it.next();
@@ -88,10 +87,14 @@ public final class PowerUpRenderer implements Renderer<List<PowerUp>> {
             }
         }
 
-        for (PowerUp powerUp : powerUps) {
-            ImageView node = nodes.computeIfAbsent(powerUp, this::createNode);
-            node.setX(powerUp.getX());
-            node.setY(powerUp.getY());
+        for (int i = 0; i < powerUps.size(); i++) {
+            ImageView node = nodes.get(powerUps.key(i));
+            if (node == null) {
+                node = createNode(powerUps.key(i), powerUps.width(i), powerUps.height(i));
+                nodes.put(powerUps.key(i), node);
+            }
+            node.setX(powerUps.x(i));
+            node.setY(powerUps.y(i));
         }
     }
 
@@ -108,13 +111,15 @@ public final class PowerUpRenderer implements Renderer<List<PowerUp>> {
     /**
      * Creates a new ImageView node for the given power-up.
      *
-     * @param powerUp the power-up model
+     * @param powerUp the power-up model; only its type is read
+     * @param width the power-up width
+     * @param height the power-up height
      * @return the created ImageView
      */
-    private ImageView createNode(PowerUp powerUp) {
+    private ImageView createNode(PowerUp powerUp, double width, double height) {
         ImageView imageView = new ImageView(spriteMap.get(powerUp.getType())[0]);
-        imageView.setFitWidth(powerUp.getWidth());
-        imageView.setFitHeight(powerUp.getHeight());
+        imageView.setFitWidth(width);
+        imageView.setFitHeight(height);
         pane.getChildren().add(imageView);
         return imageView;
     }
@@ -0,0 +1,403 @@
+package com.game.arkanoid.view.sound;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-thread audio dispatcher with voice limits, priority-based voice stealing and
+ * per-clip rate limiting.
+ * <p>
+ * Producers (normally the FX thread) enqueue requests into a bounded lock-free ring of
+ * primitive slots, so submitting never blocks or allocates. A single dispatcher thread drains
+ * the ring and decides per request whether to play, steal a lower-priority voice, or drop it.
+ * A burst of hits therefore costs one thread regardless of its size.
+ * </p>
+ * <p>
+ * Voice lifetimes are estimated from each clip's declared duration because {@code AudioClip}
+ * does not report when a single instance finishes. Stealing stops every instance of the
+ * victim clip, the finest control {@code AudioClip} offers.
+ * </p>
+ */
+public final class AudioMixer implements AutoCloseable {
+
+    /**
+     * Mixing rules for one clip.
+     *
+     * @param key clip key
+     * @param priority higher values win when voices run out
+     * @param maxVoices simultaneous instances allowed for this clip
+     * @param minIntervalNanos minimum time between two starts of this clip
+     * @param durationNanos estimated playback length, used to free voices
+     */
+    public record ClipSpec(String key, int priority, int maxVoices, long minIntervalNanos, long durationNanos) { }
+
+    /** Output the mixer drives; implemented by {@link SoundManager} and by fakes in tests. */
+    public interface Sink {
+        /**
+         * Start one instance of a clip.
+         * @param key clip key
+         * @param volume volume in [0, 1]
+         */
+        void play(String key, double volume);
+
+        /**
+         * Stop every playing instance of a clip.
+         * @param key clip key
+         */
+        void stop(String key);
+
+        /**
+         * Replace the current music with a looping track.
+         * @param key track key
+         */
+        void playMusic(String key);
+
+        /**
+         * Stop the current music.
+         */
+        void stopMusic();
+    }
+
+    private static final int CMD_STOP_MUSIC = -1;
+    private static final int MUSIC_FLAG = 1 << 30;
+    private static final long NEVER = Long.MIN_VALUE / 2;
+
+    private final Sink sink;
+    private final LongSupplier clock;
+    private final int maxVoices;
+
+    // Clip table, fixed after the dispatcher starts
+    private final List<ClipSpec> clips = new ArrayList<>();
+    private final Map<String, Integer> clipIndex = new HashMap<>();
+    private final List<String> music = new ArrayList<>();
+    private final Map<String, Integer> musicIndex = new HashMap<>();
+    private int[] activePerClip = new int[0];
+    private long[] lastStart = new long[0];
+
+    // Voice table, dispatcher thread only
+    private final int[] voiceClip;
+    private final long[] voiceStart;
+    private final long[] voiceEnd;
+    private int voiceCount;
+
+    // Bounded MPMC ring (Vyukov), primitive slots
+    private final int mask;
+    private final AtomicLongArray sequence;
+    private final int[] slotCode;
+    private final double[] slotVolume;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    private final LongAdder played = new LongAdder();
+    private final LongAdder stolen = new LongAdder();
+    private final LongAdder droppedQueueFull = new LongAdder();
+    private final LongAdder droppedRateLimited = new LongAdder();
+    private final LongAdder droppedNoVoice = new LongAdder();
+
+    private volatile Thread dispatcher;
+    private volatile boolean running;
+
+    /**
+     * @param sink audio output
+     * @param clock nanosecond time source
+     * @param queueCapacity request ring size, rounded up to a power of two
+     * @param maxVoices simultaneous clip instances across all clips
+     */
+    public AudioMixer(Sink sink, LongSupplier clock, int queueCapacity, int maxVoices) {
+        if (maxVoices <= 0) throw new IllegalArgumentException("maxVoices must be > 0");
+        this.sink = sink;
+        this.clock = clock;
+        this.maxVoices = maxVoices;
+        this.voiceClip = new int[maxVoices];
+        this.voiceStart = new long[maxVoices];
+        this.voiceEnd = new long[maxVoices];
+
+        int capacity = Integer.highestOneBit(Math.max(2, queueCapacity) - 1) << 1;
+        this.mask = capacity - 1;
+        this.sequence = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) sequence.set(i, i);
+        this.slotCode = new int[capacity];
+        this.slotVolume = new double[capacity];
+    }
+
+    /**
+     * Declare a clip. Must be called before {@link #start()}.
+     * @param spec mixing rules
+     * @return handle to pass to {@link #submit(int, double)}
+     */
+    public synchronized int register(ClipSpec spec) {
+        if (dispatcher != null) throw new IllegalStateException("mixer already started");
+        Integer existing = clipIndex.get(spec.key());
+        int idx = existing != null ? existing : clips.size();
+        if (existing != null) clips.set(idx, spec); else clips.add(spec);
+        clipIndex.put(spec.key(), idx);
+        activePerClip = new int[clips.size()];
+        lastStart = new long[clips.size()];
+        Arrays.fill(lastStart, NEVER);
+        return idx;
+    }
+
+    /**
+     * Declare a music track. Must be called before {@link #start()}.
+     * @param key track key
+     * @return handle to pass to {@link #submitMusic(int)}
+     */
+    public synchronized int registerMusic(String key) {
+        if (dispatcher != null) throw new IllegalStateException("mixer already started");
+        return musicIndex.computeIfAbsent(key, k -> {
+            music.add(k);
+            return music.size() - 1;
+        });
+    }
+
+    /**
+     * Start the dispatcher thread.
+     */
+    public synchronized void start() {
+        if (dispatcher != null) return;
+        running = true;
+        Thread t = new Thread(this::runLoop, "audio-mixer");
+        t.setDaemon(true);
+        dispatcher = t;
+        t.start();
+    }
+
+    /**
+     * Request a clip. Never blocks; drops the request if the queue is full.
+     * @param clip handle from {@link #register(ClipSpec)}
+     * @param volume volume in [0, 1]
+     * @return false if the request was dropped because the queue is full
+     */
+    public boolean submit(int clip, double volume) {
+        return offer(clip, volume);
+    }
+
+    /**
+     * Request a music track, replacing the current one.
+     * @param track handle from {@link #registerMusic(String)}
+     * @return false if the queue is full
+     */
+    public boolean submitMusic(int track) {
+        return offer(track | MUSIC_FLAG, 0.0);
+    }
+
+    /**
+     * Request that the music stops.
+     * @return false if the queue is full
+     */
+    public boolean submitStopMusic() {
+        return offer(CMD_STOP_MUSIC, 0.0);
+    }
+
+    /**
+     * Handle of a registered clip.
+     * @param key clip key
+     * @return handle, or -1 if unknown
+     */
+    public int clip(String key) {
+        Integer idx = clipIndex.get(key);
+        return idx == null ? -1 : idx;
+    }
+
+    /**
+     * Handle of a registered music track.
+     * @param key track key
+     * @return handle, or -1 if unknown
+     */
+    public int musicTrack(String key) {
+        Integer idx = musicIndex.get(key);
+        return idx == null ? -1 : idx;
+    }
+
+    private boolean offer(int code, double volume) {
+        long pos = tail.get();
+        while (true) {
+            int slot = (int) (pos & mask);
+            long seq = sequence.get(slot);
+            long diff = seq - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slotCode[slot] = code;
+                    slotVolume[slot] = volume;
+                    sequence.set(slot, pos + 1);
+                    Thread t = dispatcher;
+                    if (t != null) LockSupport.unpark(t);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                droppedQueueFull.increment();
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Process every queued request on the calling thread.
+     * Used by the dispatcher loop and by tests driving the mixer without a thread.
+     * @return number of requests processed
+     */
+    int drain() {
+        int processed = 0;
+        while (true) {
+            long pos = head.get();
+            int slot = (int) (pos & mask);
+            if (sequence.get(slot) != pos + 1) return processed;
+            int code = slotCode[slot];
+            double volume = slotVolume[slot];
+            sequence.set(slot, pos + mask + 1);
+            head.set(pos + 1);
+            dispatch(code, volume);
+            processed++;
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                if (drain() == 0) LockSupport.parkNanos(this, 50_000_000L);
+            } catch (RuntimeException e) {
+                System.err.println("[AudioMixer] " + e.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(int code, double volume) {
+        if (code == CMD_STOP_MUSIC) {
+            sink.stopMusic();
+        } else if ((code & MUSIC_FLAG) != 0) {
+            sink.playMusic(music.get(code & ~MUSIC_FLAG));
+        } else if (code >= 0 && code < clips.size()) {
+            playClip(code, volume);
+        }
+    }
+
+    private void playClip(int clip, double volume) {
+        long now = clock.getAsLong();
+        expireVoices(now);
+        ClipSpec spec = clips.get(clip);
+
+        if (now - lastStart[clip] < spec.minIntervalNanos()) {
+            droppedRateLimited.increment();
+            return;
+        }
+        if (activePerClip[clip] >= spec.maxVoices()) {
+            droppedNoVoice.increment();
+            return;
+        }
+        if (voiceCount == maxVoices && !stealFor(spec.priority())) {
+            droppedNoVoice.increment();
+            return;
+        }
+
+        voiceClip[voiceCount] = clip;
+        voiceStart[voiceCount] = now;
+        voiceEnd[voiceCount] = now + spec.durationNanos();
+        voiceCount++;
+        activePerClip[clip]++;
+        lastStart[clip] = now;
+        sink.play(spec.key(), volume);
+        played.increment();
+    }
+
+    /** Stops the lowest-priority (then oldest) clip below {@code priority}; true if voices were freed. */
+    private boolean stealFor(int priority) {
+        int victim = -1;
+        for (int v = 0; v < voiceCount; v++) {
+            int p = clips.get(voiceClip[v]).priority();
+            if (p >= priority) continue;
+            if (victim < 0) {
+                victim = v;
+                continue;
+            }
+            int vp = clips.get(voiceClip[victim]).priority();
+            if (p < vp || (p == vp && voiceStart[v] < voiceStart[victim])) victim = v;
+        }
+        if (victim < 0) return false;
+        int clip = voiceClip[victim];
+        sink.stop(clips.get(clip).key());
+        removeVoicesOf(clip);
+        stolen.increment();
+        return true;
+    }
+
+    private void expireVoices(long now) {
+        int v = 0;
+        while (v < voiceCount) {
+            if (voiceEnd[v] <= now) {
+                removeVoice(v);
+            } else {
+                v++;
+            }
+        }
+    }
+
+    private void removeVoicesOf(int clip) {
+        int v = 0;
+        while (v < voiceCount) {
+            if (voiceClip[v] == clip) {
+                removeVoice(v);
+            } else {
+                v++;
+            }
+        }
+    }
+
+    private void removeVoice(int v) {
+        activePerClip[voiceClip[v]]--;
+        int last = --voiceCount;
+        voiceClip[v] = voiceClip[last];
+        voiceStart[v] = voiceStart[last];
+        voiceEnd[v] = voiceEnd[last];
+    }
+
+    /** @return voices currently considered playing (dispatcher view) */
+    int activeVoices() {
+        return voiceCount;
+    }
+
+    /** @return clips started */
+    public long played() {
+        return played.sum();
+    }
+
+    /** @return voices stolen for higher-priority clips */
+    public long stolen() {
+        return stolen.sum();
+    }
+
+    /** @return requests dropped because the queue was full */
+    public long droppedQueueFull() {
+        return droppedQueueFull.sum();
+    }
+
+    /** @return requests dropped by the per-clip rate limit */
+    public long droppedRateLimited() {
+        return droppedRateLimited.sum();
+    }
+
+    /** @return requests dropped because no voice was available */
+    public long droppedNoVoice() {
+        return droppedNoVoice.sum();
+    }
+
+    /**
+     * Stop the dispatcher thread. Queued requests are discarded.
+     */
+    @Override
+    public void close() {
+        running = false;
+        Thread t = dispatcher;
+        if (t != null) LockSupport.unpark(t);
+    }
+}
@@ -10,32 +10,42 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
+import com.game.arkanoid.diagnostics.MetricsRegistry;
+import com.game.arkanoid.diagnostics.jfr.SoundPlayEvent;
 import com.game.arkanoid.events.GameEventBus;
 import com.game.arkanoid.events.sound.*;
+import com.game.arkanoid.view.asset.AssetManager;
 
 /**
  * Manages game sounds (BGM and SFX).
+ * <p>
+ * Every request goes through one {@link AudioMixer} dispatcher thread, which enforces
+ * voice limits, priorities and rate limits, so event handlers never block.
+ * Clips and tracks are decoded by {@link AssetManager}; the first play of one that is still
+ * loading waits on the mixer thread, never on the caller.
+ * </p>
  */
 public final class SoundManager {
     private static SoundManager instance;
 
     private final GameEventBus eventBus = GameEventBus.getInstance();
-    private final Map<String, Media> bgmMap = new HashMap<>();
-    private final Map<String, AudioClip> sfxMap = new HashMap<>();
+    private final AssetManager assets = AssetManager.getInstance();
+    private final Map<String, String> bgmMap = new HashMap<>();
+    private final Map<String, String> sfxMap = new HashMap<>();
     private final List<GameEventBus.Subscription> subscriptions = new ArrayList<>();
-    private MediaPlayer bgmPlayer;
+    private volatile MediaPlayer bgmPlayer;
 
     private final DoubleProperty masterVolume = new SimpleDoubleProperty(1.0);
     private final DoubleProperty musicVolume = new SimpleDoubleProperty(0.7);
     private final DoubleProperty sfxVolume = new SimpleDoubleProperty(0.8);
 
-    private final ExecutorService soundExecutor = Executors.newCachedThreadPool();
+    /** Single dispatcher for every clip and music request. */
+    private final AudioMixer mixer = new AudioMixer(new MediaSink(), System::nanoTime, 256, 12);
 
     private SoundManager() {
-        loadSounds();
+        declareSounds();
+        configureMixer();
         registerEventListeners();
     }
 
@@ -51,52 +61,65 @@ public final class SoundManager {
     }
 
     /**
-     * Load sound assets.
+     * Map sound keys to asset files; decoding happens in {@link AssetManager}.
      */
-    private void loadSounds() {
+    private void declareSounds() {
         // BGM
-        loadBGM("menu", "/com/game/arkanoid/sounds/menu_sound.mp3");
-        loadBGM("game", "/com/game/arkanoid/sounds/game_sound.mp3");
-        loadBGM("round_start", "/com/game/arkanoid/sounds/round_start.mp3");
-        loadBGM("win", "/com/game/arkanoid/sounds/win_sound.mp3");
+        bgmMap.put("menu", "menu_sound.mp3");
+        bgmMap.put("game", "game_sound.mp3");
+        bgmMap.put("win", "win_sound.mp3");
         // SFX
-        loadSFX("brick_hit", "/com/game/arkanoid/sounds/brick_hit.wav");
-        loadSFX("paddle_hit", "/com/game/arkanoid/sounds/paddle_hit.wav");
-        loadSFX("wall_hit", "/com/game/arkanoid/sounds/wall_hit.wav");
-        loadSFX("bullet_fire", "/com/game/arkanoid/sounds/bullet_fire.wav");
-        loadSFX("powerup_hit", "/com/game/arkanoid/sounds/powerup_hit.wav");
-        loadSFX("game_over", "/com/game/arkanoid/sounds/game_over.wav");
-        loadSFX("click", "/com/game/arkanoid/sounds/click.wav");
-        loadSFX("countDown", "/com/game/arkanoid/sounds/countDown.wav");
-        loadSFX("round_start", "/com/game/arkanoid/sounds/round_start.wav");
+        sfxMap.put("brick_hit", "brick_hit.wav");
+        sfxMap.put("paddle_hit", "paddle_hit.wav");
+        sfxMap.put("wall_hit", "wall_hit.wav");
+        sfxMap.put("bullet_fire", "bullet_fire.wav");
+        sfxMap.put("powerup_hit", "powerup_hit.wav");
+        sfxMap.put("game_over", "game_over.wav");
+        sfxMap.put("click", "click.wav");
+        sfxMap.put("countDown", "countdown.wav");
+        sfxMap.put("round_start", "round_start.wav");
     }
 
     /**
-     * Load BGM from path.
+     * Decoded clip for a key, waiting for it if it is still loading.
      * @param key
-     * @param path
+     * @return the clip, or null if unknown or unloadable
      */
-    private void loadBGM(String key, String path) {
-        try {
-            Media media = new Media(getClass().getResource(path).toExternalForm());
-            bgmMap.put(key, media);
-        } catch (Exception e) {
-            System.err.println("Cannot load BGM: " + path + " (" + e.getMessage() + ")");
-        }
+    private AudioClip clipFor(String key) {
+        String file = sfxMap.get(key);
+        return file == null ? null : assets.audioClip(file);
     }
 
     /**
-     * Load SFX from path.
-     * @param key
-     * @param path
+     * Declare mixing rules for every clip and music track, then start the dispatcher.
+     * Priorities: game flow sounds beat feedback sounds; wall hits are the first to go.
      */
-    private void loadSFX(String key, String path) {
-        try {
-            AudioClip clip = new AudioClip(getClass().getResource(path).toExternalForm());
-            sfxMap.put(key, clip);
-        } catch (Exception e) {
-            System.err.println("Cannot load SFX: " + path + " (" + e.getMessage() + ")");
+    private void configureMixer() {
+        mixer.register(new AudioMixer.ClipSpec("game_over", 100, 1, 0, ms(2_500)));
+        mixer.register(new AudioMixer.ClipSpec("round_start", 90, 1, 0, ms(2_000)));
+        mixer.register(new AudioMixer.ClipSpec("countDown", 80, 1, ms(200), ms(1_000)));
+        mixer.register(new AudioMixer.ClipSpec("click", 70, 2, ms(40), ms(150)));
+        mixer.register(new AudioMixer.ClipSpec("powerup_hit", 60, 2, ms(50), ms(600)));
+        mixer.register(new AudioMixer.ClipSpec("bullet_fire", 40, 3, ms(60), ms(250)));
+        mixer.register(new AudioMixer.ClipSpec("paddle_hit", 35, 2, ms(30), ms(200)));
+        mixer.register(new AudioMixer.ClipSpec("brick_hit", 30, 3, ms(25), ms(250)));
+        mixer.register(new AudioMixer.ClipSpec("wall_hit", 10, 2, ms(40), ms(200)));
+        for (String key : bgmMap.keySet()) {
+            mixer.registerMusic(key);
         }
+        mixer.start();
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.registerCounter("arkanoid_audio_played_total", "Sound effects started", "", mixer::played);
+        metrics.registerCounter("arkanoid_audio_stolen_total", "Voices stolen for a higher-priority sound", "", mixer::stolen);
+        String dropped = "Sound effect requests that were not played";
+        metrics.registerCounter("arkanoid_audio_dropped_total", dropped, "reason=\"rate_limited\"", mixer::droppedRateLimited);
+        metrics.registerCounter("arkanoid_audio_dropped_total", dropped, "reason=\"no_voice\"", mixer::droppedNoVoice);
+        metrics.registerCounter("arkanoid_audio_dropped_total", dropped, "reason=\"queue_full\"", mixer::droppedQueueFull);
+    }
+
+    private static long ms(long millis) {
+        return millis * 1_000_000L;
     }
 
     /**
@@ -105,19 +128,30 @@ public final class SoundManager {
     private void registerEventListeners() {
         subscriptions.add(eventBus.subscribe(GameBGMSoundEvent.class, e -> playBGM("game")));
         subscriptions.add(eventBus.subscribe(MenuBGMSoundEvent.class, e -> playBGM("menu")));
-        subscriptions.add(eventBus.subscribe(RoundStartSoundEvent.class, e -> playBGM("round_start")));
-        subscriptions.add(eventBus.subscribe(StopBGMSoundEvent.class, e -> stopBGM()));
+        // The round-start jingle is a clip; the music pauses for it until the game track starts
+        subscriptions.add(eventBus.subscribe(RoundStartSoundEvent.class, e -> mixer.submitStopMusic()));
+        subscriptions.add(eventBus.subscribe(StopBGMSoundEvent.class, e -> mixer.submitStopMusic()));
         subscriptions.add(eventBus.subscribe(WinSoundEvent.class, e -> playBGM("win")));
 
-        subscriptions.add(eventBus.subscribe(BrickHitSoundEvent.class, e -> playSFX("brick_hit")));
-        subscriptions.add(eventBus.subscribe(PaddleHitSoundEvent.class, e -> playSFX("paddle_hit")));
-        subscriptions.add(eventBus.subscribe(WallHitSoundEvent.class, e -> playSFX("wall_hit")));
-        subscriptions.add(eventBus.subscribe(BulletFireSoundEvent.class, e -> playSFX("bullet_fire")));
-        subscriptions.add(eventBus.subscribe(PowerUpHitSoundEvent.class, e -> playSFX("powerup_hit")));
-        subscriptions.add(eventBus.subscribe(GameOverSoundEvent.class, e -> playSFX("game_over")));
-        subscriptions.add(eventBus.subscribe(ClickSoundEvent.class, e -> playSFX("click")));
-        subscriptions.add(eventBus.subscribe(CountDownSoundEvent.class, e -> playSFX("countDown")));
-        subscriptions.add(eventBus.subscribe(RoundStartSoundEvent.class, e -> playSFX("round_start")));
+        subscribeSFX(BrickHitSoundEvent.class, "brick_hit");
+        subscribeSFX(PaddleHitSoundEvent.class, "paddle_hit");
+        subscribeSFX(WallHitSoundEvent.class, "wall_hit");
+        subscribeSFX(BulletFireSoundEvent.class, "bullet_fire");
+        subscribeSFX(PowerUpHitSoundEvent.class, "powerup_hit");
+        subscribeSFX(GameOverSoundEvent.class, "game_over");
+        subscribeSFX(ClickSoundEvent.class, "click");
+        subscribeSFX(CountDownSoundEvent.class, "countDown");
+        subscribeSFX(RoundStartSoundEvent.class, "round_start");
+    }
+
+    /**
+     * Route an event type to a clip, resolving the mixer handle once.
+     * @param type
+     * @param key
+     */
+    private <T> void subscribeSFX(Class<T> type, String key) {
+        int clip = mixer.clip(key);
+        subscriptions.add(eventBus.subscribe(type, e -> playSFX(clip)));
     }
 
     /**
@@ -125,16 +159,14 @@ public final class SoundManager {
      * @param key
      */
     private void playBGM(String key) {
-        soundExecutor.submit(() -> {
-            stopBGM();
-            Media media = bgmMap.get(key);
-            if (media == null) return;
-
-            bgmPlayer = new MediaPlayer(media);
-            bgmPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-            bgmPlayer.volumeProperty().bind(masterVolume.multiply(musicVolume));
-            bgmPlayer.play();
-        });
+        int track = mixer.musicTrack(key);
+        if (track < 0) {
+            // Like any new track, an unknown one still ends the current music
+            mixer.submitStopMusic();
+            commit(new SoundPlayEvent(), key, true, false);
+            return;
+        }
+        mixer.submitMusic(track);
     }
 
     /**
@@ -149,14 +181,69 @@ public final class SoundManager {
     }
 
     /**
-     * Play SFX by key.
+     * Play SFX by mixer handle. Never blocks the caller.
+     * @param clip
+     */
+    private void playSFX(int clip) {
+        if (clip < 0) return;
+        mixer.submit(clip, masterVolume.get() * sfxVolume.get());
+    }
+
+    /**
+     * Commit a flight-recorder event for a play request.
+     * @param event
      * @param key
+     * @param music
+     * @param found
+     */
+    private static void commit(SoundPlayEvent event, String key, boolean music, boolean found) {
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.key = key;
+        event.music = music;
+        event.found = found;
+        event.commit();
+    }
+
+    /**
+     * Mixer output backed by JavaFX media; runs on the mixer thread.
      */
-    private void playSFX(String key) {
-        AudioClip clip = sfxMap.get(key);
-        if (clip == null) return;
+    private final class MediaSink implements AudioMixer.Sink {
+        @Override
+        public void play(String key, double volume) {
+            SoundPlayEvent event = new SoundPlayEvent();
+            event.begin();
+            AudioClip clip = clipFor(key);
+            if (clip != null) clip.play(volume);
+            commit(event, key, false, clip != null);
+        }
+
+        @Override
+        public void stop(String key) {
+            AudioClip clip = clipFor(key);
+            if (clip != null) clip.stop();
+        }
+
+        @Override
+        public void playMusic(String key) {
+            SoundPlayEvent event = new SoundPlayEvent();
+            event.begin();
+            stopBGM();
+            String file = bgmMap.get(key);
+            Media media = file == null ? null : assets.media(file);
+            commit(event, key, true, media != null);
+            if (media == null) return;
+
+            bgmPlayer = new MediaPlayer(media);
+            bgmPlayer.setCycleCount(MediaPlayer.INDEFINITE);
+            bgmPlayer.volumeProperty().bind(masterVolume.multiply(musicVolume));
+            bgmPlayer.play();
+        }
 
-        soundExecutor.submit(() -> clip.play(masterVolume.get() * sfxVolume.get()));
+        @Override
+        public void stopMusic() {
+            stopBGM();
+        }
     }
 
     /**
@@ -174,6 +261,6 @@ public final class SoundManager {
         stopBGM();
         subscriptions.forEach(GameEventBus.Subscription::close);
         subscriptions.clear();
-        soundExecutor.shutdown();
+        mixer.close();
     }
 }
\ No newline at end of file
@@ -5,8 +5,11 @@ import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
+import javafx.animation.Transition;
 import javafx.scene.Node;
 import javafx.scene.effect.GaussianBlur;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.util.Duration;
 
 /**
@@ -69,4 +72,42 @@ public class BlurFadeStrategy implements TransitionStrategy {
         fade.play();
         blurTimeline.play();
     }
+
+    /**
+     * Fade the incoming image in while stepping down precomputed blur levels. Adjacent levels
+     * are blended, so no blur is computed while the animation runs.
+     * @param layers
+     */
+    @Override
+    public void playSnapshot(SnapshotLayers layers, Runnable onFinished) {
+        Image[] levels = layers.blurLevels(maxBlurRadius);
+        ImageView base = layers.incoming();
+        ImageView overlay = layers.incomingOverlay();
+        int last = levels.length - 1;
+
+        Transition transition = new Transition() {
+            {
+                setCycleDuration(duration);
+                setInterpolator(Interpolator.LINEAR);
+            }
+
+            @Override
+            protected void interpolate(double frac) {
+                double opacity = Interpolator.EASE_BOTH.interpolate(0.0, 1.0, frac);
+                double blur = Interpolator.EASE_OUT.interpolate(1.0, 0.0, frac) * last;
+                int level = Math.min((int) blur, last);
+                int next = Math.min(level + 1, last);
+                base.setImage(levels[level]);
+                base.setOpacity(opacity);
+                overlay.setImage(levels[next]);
+                overlay.setOpacity(opacity * (blur - level));
+            }
+        };
+        transition.setOnFinished(e -> {
+            if (onFinished != null) {
+                onFinished.run();
+            }
+        });
+        transition.play();
+    }
 }
@@ -55,4 +55,22 @@ public class FadeTransitionStrategy implements TransitionStrategy {
         });
         ft.play();
     }
+
+    /**
+     * Fade the incoming image over the outgoing one.
+     * @param layers
+     */
+    @Override
+    public void playSnapshot(SnapshotLayers layers, Runnable onFinished) {
+        layers.incoming().setOpacity(fromValue);
+        FadeTransition ft = new FadeTransition(duration, layers.incoming());
+        ft.setFromValue(fromValue);
+        ft.setToValue(toValue);
+        ft.setOnFinished(e -> {
+            if (onFinished != null) {
+                onFinished.run();
+            }
+        });
+        ft.play();
+    }
 }
@@ -1,9 +1,11 @@
 package com.game.arkanoid.view.transition;
 
+import javafx.animation.FadeTransition;
 import javafx.animation.Interpolator;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
 import javafx.scene.Node;
+import javafx.scene.image.ImageView;
 import javafx.util.Duration;
 
 /**
@@ -51,7 +53,7 @@ public class SlideFadeStrategy implements TransitionStrategy {
         slide.setToY(0.0);
         slide.setInterpolator(Interpolator.EASE_OUT);
 
-        javafx.animation.FadeTransition fade = new javafx.animation.FadeTransition(duration, root);
+        FadeTransition fade = new FadeTransition(duration, root);
         fade.setFromValue(0.0);
         fade.setToValue(1.0);
         fade.setInterpolator(Interpolator.EASE_OUT);
@@ -65,4 +67,33 @@ public class SlideFadeStrategy implements TransitionStrategy {
         });
         parallel.play();
     }
+
+    /**
+     * Slide and fade the incoming image over the outgoing one.
+     * @param layers
+     */
+    @Override
+    public void playSnapshot(SnapshotLayers layers, Runnable onFinished) {
+        ImageView incoming = layers.incoming();
+        incoming.setOpacity(0.0);
+        incoming.setTranslateY(translateY);
+
+        TranslateTransition slide = new TranslateTransition(duration, incoming);
+        slide.setFromY(translateY);
+        slide.setToY(0.0);
+        slide.setInterpolator(Interpolator.EASE_OUT);
+
+        FadeTransition fade = new FadeTransition(duration, incoming);
+        fade.setFromValue(0.0);
+        fade.setToValue(1.0);
+        fade.setInterpolator(Interpolator.EASE_OUT);
+
+        ParallelTransition parallel = new ParallelTransition(slide, fade);
+        parallel.setOnFinished(e -> {
+            if (onFinished != null) {
+                onFinished.run();
+            }
+        });
+        parallel.play();
+    }
 }
@@ -0,0 +1,129 @@
+package com.game.arkanoid.view.transition;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * Image layers a snapshot transition animates instead of the live scene graph.
+ * <p>
+ * The outgoing and incoming screens are rendered once; each frame of the transition then only
+ * composites a few image nodes, which stays cheap on the software pipeline where animating an
+ * effect on the full scene costs a whole-window blur per frame.
+ * </p>
+ */
+public final class SnapshotLayers {
+
+    /** Blur levels computed below the sharp image. */
+    static final int BLUR_LEVELS = 4;
+
+    /** Largest radius {@link GaussianBlur} accepts. */
+    private static final double MAX_RADIUS = 63.0;
+
+    private final TransitionHost host;
+    private final Image incomingImage;
+    private final ImageView outgoing;
+    private final ImageView incoming;
+    private final ImageView incomingOverlay;
+
+    private SnapshotLayers(TransitionHost host, Image outgoingImage, Image incomingImage) {
+        this.host = host;
+        this.incomingImage = incomingImage;
+        double w = incomingImage.getWidth();
+        double h = incomingImage.getHeight();
+        outgoing = view(outgoingImage, w, h);
+        incoming = view(incomingImage, w, h);
+        incomingOverlay = view(null, w, h);
+    }
+
+    /**
+     * Render the incoming screen and cover it with the layers.
+     * @param host scene root holding the incoming screen
+     * @param outgoingImage rendered previous screen, or null to start from the scene fill
+     * @return the layers, with the incoming screen fully transparent
+     */
+    static SnapshotLayers cover(TransitionHost host, Image outgoingImage) {
+        SnapshotLayers layers = new SnapshotLayers(host, outgoingImage, host.snapshotContent());
+        layers.incoming.setOpacity(0.0);
+        layers.incomingOverlay.setOpacity(0.0);
+        if (outgoingImage == null) {
+            host.cover(layers.incoming, layers.incomingOverlay);
+        } else {
+            host.cover(layers.outgoing, layers.incoming, layers.incomingOverlay);
+        }
+        return layers;
+    }
+
+    /**
+     * Get the previous screen; shown below the incoming one.
+     * @return the outgoing layer
+     */
+    public ImageView outgoing() {
+        return outgoing;
+    }
+
+    /**
+     * Get the incoming screen.
+     * @return the incoming layer
+     */
+    public ImageView incoming() {
+        return incoming;
+    }
+
+    /**
+     * Get a spare layer above {@link #incoming()}, for blending two versions of the incoming screen.
+     * @return the overlay layer, initially empty
+     */
+    public ImageView incomingOverlay() {
+        return incomingOverlay;
+    }
+
+    /**
+     * Blur the incoming screen into a pyramid of increasingly blurred levels.
+     * <p>
+     * Each level halves the resolution of the one before, so the larger radii are computed on
+     * small images and the image view's smooth upscaling adds to the blur when drawn.
+     * </p>
+     * @param maxRadius blur radius of the last level, at full resolution
+     * @return {@link #BLUR_LEVELS} + 1 images, index 0 being the sharp screen
+     */
+    public Image[] blurLevels(double maxRadius) {
+        return blurLevels(incomingImage, maxRadius, BLUR_LEVELS);
+    }
+
+    /**
+     * Remove the layers and show the live incoming screen.
+     */
+    public void release() {
+        host.uncover();
+    }
+
+    static Image[] blurLevels(Image sharp, double maxRadius, int levels) {
+        Image[] out = new Image[levels + 1];
+        out[0] = sharp;
+        double w = sharp.getWidth();
+        double h = sharp.getHeight();
+        for (int i = 1; i <= levels; i++) {
+            double scale = 1.0 / (1 << i);
+            double sw = Math.max(1, Math.ceil(w * scale));
+            double sh = Math.max(1, Math.ceil(h * scale));
+            ImageView level = view(sharp, sw, sh);
+            level.setEffect(new GaussianBlur(Math.min(MAX_RADIUS, maxRadius * i / levels * scale)));
+            SnapshotParameters params = new SnapshotParameters();
+            params.setViewport(new Rectangle2D(0, 0, sw, sh));
+            out[i] = level.snapshot(params, null);
+        }
+        return out;
+    }
+
+    private static ImageView view(Image image, double w, double h) {
+        ImageView view = new ImageView(image);
+        view.setFitWidth(w);
+        view.setFitHeight(h);
+        view.setSmooth(true);
+        view.setMouseTransparent(true);
+        return view;
+    }
+}
@@ -0,0 +1,60 @@
+package com.game.arkanoid.view.transition;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Scene root that wraps a screen so snapshot transitions can lay pre-rendered images over it.
+ * <p>
+ * While covered, the screen is kept in the scene graph at zero opacity: it keeps focus, input
+ * handlers and layout, but is not rendered.
+ * </p>
+ */
+public final class TransitionHost extends StackPane {
+
+    private final Parent content;
+
+    /**
+     * Wrap a screen root.
+     * @param content the screen root
+     */
+    public TransitionHost(Parent content) {
+        super(content);
+        this.content = content;
+    }
+
+    /**
+     * Get the wrapped screen root.
+     * @return the screen root
+     */
+    public Parent getContent() {
+        return content;
+    }
+
+    /**
+     * Render the screen once, after CSS and layout.
+     * @return the rendered screen
+     */
+    WritableImage snapshotContent() {
+        return content.snapshot(null, null);
+    }
+
+    /**
+     * Show layers above the screen and stop rendering the screen itself.
+     * @param layers pre-rendered layers, bottom first
+     */
+    void cover(Node... layers) {
+        getChildren().addAll(layers);
+        content.setOpacity(0.0);
+    }
+
+    /**
+     * Remove the layers and render the screen again.
+     */
+    void uncover() {
+        getChildren().setAll(content);
+        content.setOpacity(1.0);
+    }
+}
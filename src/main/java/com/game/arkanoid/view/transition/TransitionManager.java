@@ -1,10 +1,19 @@
 package com.game.arkanoid.view.transition;
 
+import com.game.arkanoid.config.GameSettings;
+import com.game.arkanoid.config.GameSettings.TransitionMode;
+import javafx.application.ConditionalFeature;
 import javafx.application.Platform;
 import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
 
 /**
  * Facade for triggering transitions and exposing pre-configured strategies.
+ * <p>
+ * In snapshot mode (see {@link GameSettings#getTransitionMode()}) the outgoing and incoming
+ * screens are rendered to images once and only those images are animated.
+ * </p>
  */
 public final class TransitionManager {
 
@@ -85,4 +94,50 @@ public final class TransitionManager {
             Platform.runLater(() -> strategy.play(root, onFinished));
         }
     }
+
+    /**
+     * Whether transitions currently animate snapshots instead of the live scene graph.
+     * @return
+     */
+    public boolean usesSnapshots() {
+        TransitionMode mode = GameSettings.getTransitionMode();
+        // Software rendering is the only pipeline without 3D support
+        return mode == TransitionMode.SNAPSHOT
+                || (mode == TransitionMode.AUTO && !Platform.isSupported(ConditionalFeature.SCENE3D));
+    }
+
+    /**
+     * Render the scene being left, before it is replaced. Must run on the FX thread.
+     * @param outgoing the current scene, may be null
+     * @return the rendered scene, or null if there is none or snapshots are not in use
+     */
+    public Image captureOutgoing(Scene outgoing) {
+        if (outgoing == null || !usesSnapshots()) return null;
+        return outgoing.snapshot(null);
+    }
+
+    /**
+     * Play a transition into the screen of a host, from snapshots when they are in use.
+     * @param host
+     * @param outgoing image from {@link #captureOutgoing(Scene)}, may be null
+     * @param strategy
+     * @param onFinished
+     */
+    public void play(TransitionHost host, Image outgoing, TransitionStrategy strategy, Runnable onFinished) {
+        if (strategy == null || host == null || !usesSnapshots()) {
+            play(host == null ? null : host.getContent(), strategy, onFinished);
+            return;
+        }
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> play(host, outgoing, strategy, onFinished));
+            return;
+        }
+        SnapshotLayers layers = SnapshotLayers.cover(host, outgoing);
+        strategy.playSnapshot(layers, () -> {
+            layers.release();
+            if (onFinished != null) {
+                onFinished.run();
+            }
+        });
+    }
 }
@@ -14,4 +14,16 @@ public interface TransitionStrategy {
      * @param onFinished callback invoked when animation completes
      */
     void play(Node root, Runnable onFinished);
+
+    /**
+     * Play the transition on pre-rendered images of the screens. The default shows the
+     * incoming screen at once.
+     * @param layers     outgoing and incoming screen images
+     * @param onFinished callback invoked when animation completes; releases the layers
+     */
+    default void playSnapshot(SnapshotLayers layers, Runnable onFinished) {
+        if (onFinished != null) {
+            onFinished.run();
+        }
+    }
 }
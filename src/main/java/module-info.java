@@ -8,6 +8,10 @@ module com.game.arkanoid {
     // Standard Java modules
     requires java.sql;
     requires java.desktop;
+    requires java.management;
+    requires jdk.jfr;
+    requires jdk.httpserver;
+    requires jdk.management;
 
     // Third-party
     requires org.postgresql.jdbc;
@@ -27,6 +31,9 @@ module com.game.arkanoid {
     exports com.game.arkanoid.services;
     opens com.game.arkanoid.services to javafx.fxml;
 
+    exports com.game.arkanoid.diagnostics;
+    exports com.game.arkanoid.diagnostics.jfr;
+
     exports com.game.arkanoid.models;
     opens com.game.arkanoid.models to javafx.base;
 
@@ -0,0 +1,4 @@
+-- Partition for one month: table suffix, first instant, first instant of the next month.
+-- Filled in with String.format from a YearMonth, never from user input.
+CREATE TABLE IF NOT EXISTS game_sessions_%s PARTITION OF game_sessions
+    FOR VALUES FROM ('%s') TO ('%s');
@@ -0,0 +1,21 @@
+-- One row per finished game, for analytics. Partitioned by month of ended_at so that old
+-- months can be detached or dropped whole; see create_partition.sql. Rows of a month whose
+-- partition could not be created land in the default partition.
+CREATE TABLE IF NOT EXISTS game_sessions (
+    id BIGINT GENERATED ALWAYS AS IDENTITY,
+    user_id INTEGER NOT NULL,
+    seed BIGINT NOT NULL,
+    level_reached INTEGER NOT NULL,
+    score INTEGER NOT NULL,
+    duration_ms BIGINT NOT NULL,
+    lives_lost INTEGER NOT NULL,
+    power_ups_collected INTEGER NOT NULL,
+    completed BOOLEAN NOT NULL,
+    ended_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (id, ended_at)
+) PARTITION BY RANGE (ended_at);
+CREATE TABLE IF NOT EXISTS game_sessions_default PARTITION OF game_sessions DEFAULT;
+-- Both aggregates filter on a range of ended_at and read one more column, which these
+-- indexes cover, so they are answered by index-only scans of the matching partitions.
+CREATE INDEX IF NOT EXISTS game_sessions_ended_user_idx ON game_sessions (ended_at, user_id);
+CREATE INDEX IF NOT EXISTS game_sessions_ended_score_idx ON game_sessions (ended_at, score);
@@ -0,0 +1,3 @@
+INSERT INTO game_sessions (user_id, seed, level_reached, score, duration_ms, lives_lost,
+                           power_ups_collected, completed, ended_at)
+VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?);
@@ -0,0 +1,6 @@
+-- Distinct players per UTC day in [from, to).
+SELECT (ended_at AT TIME ZONE 'UTC')::date AS day, COUNT(DISTINCT user_id) AS players
+FROM game_sessions
+WHERE ended_at >= ? AND ended_at < ?
+GROUP BY day
+ORDER BY day;
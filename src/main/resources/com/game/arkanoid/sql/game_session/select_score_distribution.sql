@@ -0,0 +1,6 @@
+-- Games per score bucket in [from, to): buckets 1..n split [0, max), n + 1 is max and above.
+SELECT width_bucket(score, 0, ?, ?) AS bucket, COUNT(*) AS games
+FROM game_sessions
+WHERE ended_at >= ? AND ended_at < ?
+GROUP BY bucket
+ORDER BY bucket;
@@ -0,0 +1,5 @@
+-- Every game_states query looks up one user. Saves update and clear by user_id alone;
+-- loading reads the newest in-progress row, from an index that only holds those rows.
+CREATE INDEX IF NOT EXISTS game_states_user_idx ON game_states (user_id);
+CREATE INDEX IF NOT EXISTS game_states_in_progress_idx ON game_states (user_id, updated_at DESC)
+    WHERE in_progress;
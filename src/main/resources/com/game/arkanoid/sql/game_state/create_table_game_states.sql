@@ -0,0 +1,28 @@
+-- Saved games, one row per user (see GameStateRepository.upsertInProgress). Columns
+-- without a writer yet keep their defaults.
+CREATE TABLE IF NOT EXISTS game_states (
+    id SERIAL PRIMARY KEY,
+    user_id INTEGER NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    current_level INTEGER NOT NULL DEFAULT 1,
+    score INTEGER NOT NULL DEFAULT 0,
+    lives INTEGER NOT NULL DEFAULT 3,
+    paddle_x DOUBLE PRECISION NOT NULL DEFAULT 0,
+    paddle_width DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ball_x DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ball_y DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ball_dx DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ball_dy DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ball_moving BOOLEAN NOT NULL DEFAULT FALSE,
+    ball_downward BOOLEAN NOT NULL DEFAULT FALSE,
+    ball_stuck BOOLEAN NOT NULL DEFAULT FALSE,
+    ball_stuck_offset_x DOUBLE PRECISION NOT NULL DEFAULT 0,
+    time_scale DOUBLE PRECISION NOT NULL DEFAULT 1,
+    laser_cooldown DOUBLE PRECISION NOT NULL DEFAULT 0,
+    bricks JSONB,
+    powerups JSONB,
+    enemies JSONB,
+    balls JSONB,
+    effects JSONB,
+    in_progress BOOLEAN NOT NULL DEFAULT TRUE,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
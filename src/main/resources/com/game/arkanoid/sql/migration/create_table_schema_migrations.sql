@@ -0,0 +1,7 @@
+-- Versions of sql/migration/manifest.txt applied to this database.
+CREATE TABLE IF NOT EXISTS schema_migrations (
+    version INTEGER PRIMARY KEY,
+    script TEXT NOT NULL,
+    checksum BIGINT NOT NULL,
+    applied_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
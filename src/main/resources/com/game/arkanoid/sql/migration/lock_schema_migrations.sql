@@ -0,0 +1,2 @@
+-- Held until the migration's transaction ends, so two clients starting at once take turns.
+LOCK TABLE schema_migrations IN SHARE ROW EXCLUSIVE MODE;
@@ -0,0 +1,16 @@
+-- 1-based rank of a user: how many users rank ahead of them, plus one.
+-- Counts an index-only range of users_ranking_idx, stopping after the given number of users
+-- ahead so the cost is bounded however far down the user is; no rows when the user does not
+-- exist. Parameters: user id, most users to count.
+WITH me AS (
+    SELECT best_round, best_score, id FROM users WHERE id = ?
+)
+SELECT 1 + (
+    SELECT COUNT(*) FROM (
+        SELECT 1
+        FROM users u, me
+        WHERE (u.best_round, u.best_score, u.id) > (me.best_round, me.best_score, me.id)
+        LIMIT ?
+    ) ahead
+) AS rank
+FROM me;
@@ -0,0 +1,8 @@
+-- One page of the rankings, continuing after the last entry of the previous page.
+-- The row comparison is a single range on users_ranking_idx, so every page costs the same
+-- however deep it is. The first page passes the largest integers as its cursor.
+SELECT id, name, best_score, best_round
+FROM users
+WHERE (best_round, best_score, id) < (?, ?, ?)
+ORDER BY best_round DESC, best_score DESC, id DESC
+LIMIT ?;
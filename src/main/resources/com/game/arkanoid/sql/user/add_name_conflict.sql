@@ -0,0 +1,3 @@
+-- Set by the background upgrade on legacy rows whose normalized name another row already
+-- holds. They keep name_normalized NULL, log in by their exact name, and are not re-examined.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS name_conflict BOOLEAN NOT NULL DEFAULT FALSE;
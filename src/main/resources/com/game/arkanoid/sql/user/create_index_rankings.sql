@@ -0,0 +1,2 @@
+-- Serves the rankings pages and rank lookups in ranking order (see sql/score).
+CREATE INDEX IF NOT EXISTS users_ranking_idx ON users (best_round DESC, best_score DESC, id DESC);
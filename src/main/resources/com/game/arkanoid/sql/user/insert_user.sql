@@ -1,4 +1,4 @@
-INSERT INTO users (name, password)
-VALUES (?, ?)
+INSERT INTO users (name, name_normalized, password)
+VALUES (?, ?, ?)
 RETURNING id, name, password, best_score, best_round, last_login;
 
@@ -0,0 +1,9 @@
+-- Canonical login name: PasswordHasher.normalize(name), i.e. trimmed and lower-cased.
+-- Filled in for new users on insert and for older rows by the background upgrade.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS name_normalized TEXT;
+
+CREATE UNIQUE INDEX IF NOT EXISTS users_name_normalized_key ON users (name_normalized);
+
+-- Finds rows the upgrade has not reached yet; shrinks to nothing once it has run.
+CREATE INDEX IF NOT EXISTS users_legacy_name_idx ON users (LOWER(TRIM(name)))
+    WHERE name_normalized IS NULL;
@@ -0,0 +1,6 @@
+SELECT id, name, password
+FROM users
+WHERE id > ?
+  AND ((name_normalized IS NULL AND NOT name_conflict) OR password !~ '^[0-9a-f]{64}$')
+ORDER BY id
+LIMIT ?;
@@ -1,4 +0,0 @@
-SELECT id, name, password, best_score, best_round, last_login
-FROM users
-WHERE name = ?;
-
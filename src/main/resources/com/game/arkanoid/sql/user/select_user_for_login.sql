@@ -0,0 +1,7 @@
+SELECT id, name, password, best_score, best_round, last_login
+FROM users
+WHERE name_normalized = ?
+   OR (name_normalized IS NULL AND LOWER(TRIM(name)) = ?)
+-- Legacy rows that differ only in case share a normalized name; each stays reachable by its exact one
+ORDER BY (name = ?) DESC, (name_normalized IS NOT NULL) DESC, best_round DESC, best_score DESC
+LIMIT 1;
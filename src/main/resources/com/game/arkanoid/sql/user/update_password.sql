@@ -1,4 +0,0 @@
-UPDATE users
-SET password = ?
-WHERE id = ?;
-
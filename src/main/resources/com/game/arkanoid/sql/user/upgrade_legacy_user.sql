@@ -0,0 +1,10 @@
+UPDATE users
+SET password = ?,
+    name_normalized = CASE
+        WHEN name_normalized IS NULL
+         AND NOT EXISTS (SELECT 1 FROM users o WHERE o.name_normalized = ?) THEN ?
+        ELSE name_normalized
+    END,
+    name_conflict = name_normalized IS NULL
+        AND EXISTS (SELECT 1 FROM users o WHERE o.name_normalized = ?)
+WHERE id = ?;
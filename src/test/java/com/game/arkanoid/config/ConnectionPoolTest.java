@@ -0,0 +1,116 @@
+package com.game.arkanoid.config;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionPoolTest {
+
+    /** A stand-in physical connection recording whether it was closed. */
+    private static final class Fake {
+        final AtomicBoolean closed = new AtomicBoolean();
+        boolean failNext;
+        final Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> { closed.set(true); yield null; }
+                    case "isClosed" -> closed.get();
+                    case "getAutoCommit" -> true;
+                    case "isValid" -> {
+                        if (failNext) throw new SQLException("connection lost", "08006");
+                        yield true;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    private final List<Fake> opened = new ArrayList<>();
+    private final ConnectionPool pool = new ConnectionPool(() -> {
+        Fake f = new Fake();
+        opened.add(f);
+        return f.connection;
+    }, 2);
+
+    @Test
+    void closingGivesTheConnectionBackForReuse() throws Exception {
+        Connection a = pool.acquire(1, TimeUnit.SECONDS);
+        assertEquals(1, pool.inUse());
+        a.close();
+        a.close(); // closing twice is harmless
+        assertTrue(a.isClosed());
+        assertEquals(0, pool.inUse());
+        assertFalse(opened.get(0).closed.get());
+
+        try (Connection b = pool.acquire(1, TimeUnit.SECONDS)) {
+            assertEquals(1, opened.size(), "physical connection is reused");
+            assertNotSame(a, b);
+        }
+        assertThrows(SQLException.class, () -> a.isValid(1), "a returned lease is unusable");
+    }
+
+    @Test
+    void permitsBoundConcurrentUse() throws Exception {
+        Connection a = pool.acquire(1, TimeUnit.SECONDS);
+        Connection b = pool.acquire(1, TimeUnit.SECONDS);
+        assertThrows(SQLTimeoutException.class, () -> pool.acquire(20, TimeUnit.MILLISECONDS));
+
+        assertTrue(ConnectionPool.takeAcquireWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(20), "timed-out wait counts");
+        assertEquals(0, ConnectionPool.takeAcquireWaitNanos());
+
+        CountDownLatch got = new CountDownLatch(1);
+        long[] waited = new long[1];
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try (Connection c = pool.acquire(5, TimeUnit.SECONDS)) {
+                assertFalse(c.isClosed());
+                waited[0] = ConnectionPool.takeAcquireWaitNanos();
+                got.countDown();
+            } catch (SQLException e) {
+                fail(e);
+            }
+        });
+        while (pool.waiting() == 0) Thread.yield();
+        Thread.sleep(30);
+        a.close();
+        assertTrue(got.await(5, TimeUnit.SECONDS));
+        waiter.join();
+        b.close();
+        assertEquals(2, opened.size());
+        assertTrue(waited[0] >= TimeUnit.MILLISECONDS.toNanos(30), "waiting for a permit is measured");
+    }
+
+    @Test
+    void brokenConnectionsAreDiscarded() throws Exception {
+        Connection a = pool.acquire(1, TimeUnit.SECONDS);
+        opened.get(0).failNext = true;
+        assertThrows(SQLException.class, () -> a.isValid(1));
+        a.close();
+        assertTrue(opened.get(0).closed.get());
+
+        try (Connection b = pool.acquire(1, TimeUnit.SECONDS)) {
+            assertTrue(b.isValid(1));
+            assertEquals(2, opened.size(), "a new physical connection replaces the broken one");
+        }
+    }
+
+    @Test
+    void closingThePoolClosesIdleConnections() throws Exception {
+        Connection a = pool.acquire(1, TimeUnit.SECONDS);
+        Connection b = pool.acquire(1, TimeUnit.SECONDS);
+        a.close();
+        pool.close();
+        assertTrue(opened.get(0).closed.get());
+        assertFalse(opened.get(1).closed.get(), "lent-out connection stays open until given back");
+        b.close();
+        assertTrue(opened.get(1).closed.get());
+        assertThrows(SQLException.class, () -> pool.acquire(1, TimeUnit.SECONDS));
+    }
+}
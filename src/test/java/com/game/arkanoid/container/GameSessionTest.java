@@ -0,0 +1,127 @@
+package com.game.arkanoid.container;
+
+import com.game.arkanoid.config.GameSettings;
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.events.GameEventBus;
+import com.game.arkanoid.events.sound.BrickHitSoundEvent;
+import com.game.arkanoid.models.Ball;
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.InputState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSessionTest {
+
+    @Test
+    void sessionsHaveSeparateBusesAndState() {
+        GameSession a = new GameSession(SessionSettings.defaults(), 1);
+        GameSession b = new GameSession(SessionSettings.defaults(), 1);
+        assertNotSame(a.getEventBus(), b.getEventBus());
+        assertNotSame(GameEventBus.getInstance(), a.getEventBus());
+
+        int[] heardByB = new int[1];
+        int[] heardByApp = new int[1];
+        GameEventBus.Subscription sb = b.getEventBus().subscribe(BrickHitSoundEvent.class, e -> heardByB[0]++);
+        GameEventBus.Subscription sa = GameEventBus.getInstance().subscribe(BrickHitSoundEvent.class, e -> heardByApp[0]++);
+        try {
+            int[] heardByA = new int[1];
+            a.getEventBus().subscribe(BrickHitSoundEvent.class, e -> heardByA[0]++);
+            a.start();
+            InputState in = new InputState();
+            for (int i = 0; i < 2_000 && heardByA[0] == 0; i++) {
+                in.launch = true;
+                a.step(in);
+            }
+            assertTrue(heardByA[0] > 0, "session A should publish brick hits");
+            assertEquals(0, heardByB[0]);
+            assertEquals(0, heardByApp[0]);
+        } finally {
+            sa.close();
+            sb.close();
+        }
+        assertNotEquals(a.getGameState().ball.getY(), b.getGameState().ball.getY());
+    }
+
+    @Test
+    void settingsArePerSessionAndIgnoreGlobalChanges() {
+        GameSession easy = new GameSession(new SessionSettings(GameSettings.Difficulty.EASY, false), 1);
+        GameSession hard = new GameSession(new SessionSettings(GameSettings.Difficulty.HARD, false), 1);
+        assertTrue(easy.getGameState().paddle.getWidth() > hard.getGameState().paddle.getWidth());
+        assertTrue(easy.getGameService().getBallSvc().baseSpeed() < hard.getGameService().getBallSvc().baseSpeed());
+
+        GameSettings.Difficulty before = GameSettings.getDifficulty();
+        double speed = easy.getGameService().getBallSvc().baseSpeed();
+        try {
+            GameSettings.setDifficulty(GameSettings.Difficulty.HARD);
+            assertEquals(speed, easy.getGameService().getBallSvc().baseSpeed());
+        } finally {
+            GameSettings.setDifficulty(before);
+        }
+    }
+
+    @Test
+    void equalSeedsAndInputsReplayEqually() {
+        assertEquals(play(42, 3_000), play(42, 3_000));
+    }
+
+    @Test
+    void sessionsRunConcurrentlyWithSameResultsAsAlone() throws Exception {
+        List<String> alone = new ArrayList<>();
+        for (int seed = 0; seed < 8; seed++) alone.add(play(seed, 2_000));
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> parallel = new ArrayList<>();
+            for (int seed = 0; seed < 8; seed++) {
+                long s = seed;
+                parallel.add(pool.submit(() -> play(s, 2_000)));
+            }
+            for (int seed = 0; seed < 8; seed++) {
+                assertEquals(alone.get(seed), parallel.get(seed).get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void losingEveryLifeEndsHeadlessGame() {
+        GameSession session = new GameSession(SessionSettings.defaults(), 7);
+        session.start();
+        InputState in = new InputState();
+        int ticks = 0;
+        do {
+            // Keep the paddle in a corner so every ball is missed
+            in.left = true;
+            in.launch = true;
+        } while (session.step(in) && ++ticks < 200_000);
+        assertTrue(session.isFinished());
+        assertTrue(session.getGameState().gameOver);
+        assertFalse(session.step(in));
+    }
+
+    /** Plays a session with scripted input and summarises where it ended up. */
+    private static String play(long seed, int ticks) {
+        GameSession session = new GameSession(SessionSettings.defaults(), seed);
+        session.start();
+        GameState state = session.getGameState();
+        InputState in = new InputState();
+        for (int i = 0; i < ticks && !session.isFinished(); i++) {
+            Ball lead = state.balls.isEmpty() ? state.ball : state.balls.get(0);
+            double centre = state.paddle.getX() + state.paddle.getWidth() / 2;
+            in.left = lead.getCenterX() < centre - 10;
+            in.right = lead.getCenterX() > centre + 10;
+            in.launch = true;
+            in.fire = true;
+            session.step(in);
+        }
+        return state.score + "/" + state.lives + "/" + state.level + "/" + state.bricks.size()
+                + "/" + state.enemies.size() + "/" + state.rng.getState()
+                + "/" + state.ball.getX() + "," + state.ball.getY();
+    }
+}
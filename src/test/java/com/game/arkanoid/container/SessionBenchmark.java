@@ -0,0 +1,89 @@
+package com.game.arkanoid.container;
+
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.models.Ball;
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.InputState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how headless session throughput scales with threads.
+ * <p>
+ * Each thread steps its own sessions, which follow the ball with the paddle, for a fixed
+ * time; finished games are replaced. Sessions share no mutable state, so ticks per second
+ * should grow close to linearly up to the number of cores.
+ * Usage: {@code SessionBenchmark [sessions per thread] [seconds per run]}.
+ * </p>
+ */
+public class SessionBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int perThread = args.length > 0 ? Integer.parseInt(args[0]) : 250;
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 3;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        run(1, perThread, seconds / 2); // warm-up
+        double single = 0;
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            double rate = run(threads, perThread, seconds);
+            if (threads == 1) single = rate;
+            System.out.printf("%3d thread(s) %6d sessions %,14.0f ticks/s  speed-up %5.2f%n",
+                    threads, threads * perThread, rate, rate / single);
+            if (threads < cores && threads * 2 > cores) threads = cores / 2; // end on all cores
+        }
+    }
+
+    private static double run(int threads, int perThread, double seconds) throws InterruptedException {
+        LongAdder ticks = new LongAdder();
+        CountDownLatch done = new CountDownLatch(threads);
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            long seedBase = (long) t * perThread;
+            Thread worker = new Thread(() -> {
+                List<GameSession> sessions = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) sessions.add(newSession(seedBase + i));
+                InputState in = new InputState();
+                long local = 0;
+                long seed = seedBase + perThread;
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < sessions.size(); i++) {
+                        GameSession s = sessions.get(i);
+                        follow(s.getGameState(), in);
+                        if (!s.step(in)) sessions.set(i, newSession(seed++ * 7919));
+                        local++;
+                    }
+                }
+                ticks.add(local);
+                done.countDown();
+            });
+            worker.start();
+        }
+        done.await();
+        return ticks.sum() / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static GameSession newSession(long seed) {
+        GameSession session = new GameSession(SessionSettings.defaults(), seed);
+        session.start();
+        return session;
+    }
+
+    /** Moves the paddle under the lowest ball and keeps launching. */
+    private static void follow(GameState state, InputState in) {
+        Ball lowest = null;
+        for (int i = 0; i < state.balls.size(); i++) {
+            Ball b = state.balls.get(i);
+            if (lowest == null || b.getY() > lowest.getY()) lowest = b;
+        }
+        double centre = state.paddle.getX() + state.paddle.getWidth() / 2;
+        double target = lowest != null ? lowest.getCenterX() : centre;
+        in.left = target < centre - 4;
+        in.right = target > centre + 4;
+        in.launch = true;
+        in.fire = true;
+    }
+}
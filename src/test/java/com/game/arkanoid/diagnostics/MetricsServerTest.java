@@ -0,0 +1,76 @@
+package com.game.arkanoid.diagnostics;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsServerTest {
+
+    @Test
+    void servesPrometheusTextOnLoopback() throws Exception {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.framesRendered.increment();
+        registry.tickSeconds.observeNanos(3_000_000);
+        registry.recordDbCall("login", 12_000_000, true);
+        registry.countPublish(String.class);
+        registry.setEntities(2, 40, 0, 1, 0);
+
+        try (MetricsServer server = new MetricsServer(registry, 0)) {
+            HttpURLConnection conn = (HttpURLConnection)
+                    URI.create("http://127.0.0.1:" + server.port() + "/metrics").toURL().openConnection();
+            assertEquals(200, conn.getResponseCode());
+            assertTrue(conn.getContentType().startsWith("text/plain; version=0.0.4"));
+            String body;
+            try (InputStream in = conn.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            assertTrue(body.contains("# TYPE arkanoid_frames_rendered_total counter"));
+            assertTrue(body.contains("arkanoid_tick_seconds_bucket{le=\"+Inf\"}"));
+            assertTrue(body.contains("arkanoid_db_call_seconds_count{operation=\"login\"}"));
+            assertTrue(body.contains("arkanoid_event_bus_publishes_total{type=\"String\"}"));
+            assertTrue(body.contains("arkanoid_active_entities{kind=\"brick\"} 40"));
+        }
+    }
+
+    @Test
+    void navigationLatencyIsLabelledByScene() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.recordNavigation("SETTINGS", 4_000_000);
+        registry.recordNavigation("SETTINGS", 6_000_000);
+
+        String body = registry.scrape();
+        assertTrue(body.contains("# TYPE arkanoid_navigation_seconds histogram"));
+        assertTrue(body.contains("arkanoid_navigation_seconds_bucket{scene=\"SETTINGS\",le=\"+Inf\"}"));
+        assertTrue(body.contains("arkanoid_navigation_seconds_count{scene=\"SETTINGS\"}"));
+    }
+
+    @Test
+    void sampledCountersShareOneFamilyHeader() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.registerCounter("arkanoid_test_dropped_total", "Dropped", "reason=\"a\"", () -> 3);
+        registry.registerCounter("arkanoid_test_dropped_total", "Dropped", "reason=\"b\"", () -> 5);
+
+        String body = registry.scrape();
+        assertEquals(body.indexOf("# TYPE arkanoid_test_dropped_total counter"),
+                body.lastIndexOf("# TYPE arkanoid_test_dropped_total counter"));
+        assertTrue(body.contains("arkanoid_test_dropped_total{reason=\"a\"} 3"));
+        assertTrue(body.contains("arkanoid_test_dropped_total{reason=\"b\"} 5"));
+    }
+
+    @Test
+    void histogramBucketsAreCumulative() {
+        Histogram h = new Histogram(new double[] {0.001, 0.01});
+        h.observe(0.0005);
+        h.observe(0.005);
+        h.observe(0.005);
+        h.observe(1.0);
+        assertEquals(1, h.bucket(0));
+        assertEquals(2, h.bucket(1));
+        assertEquals(1, h.bucket(2));
+        assertEquals(4, h.count());
+        assertEquals(1.0105, h.sum(), 1e-9);
+    }
+}
@@ -0,0 +1,34 @@
+package com.game.arkanoid.diagnostics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoakTraceTest {
+
+    @Test
+    void printsHeaderThenOneLinePerSample() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SoakTrace trace = new SoakTrace(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        trace.recordTick(2_000);
+        trace.recordTick(4_000);
+        trace.sample(120, 65);
+        trace.sample(0, 0);
+
+        String[] lines = bytes.toString(StandardCharsets.UTF_8).split("\\R");
+        assertEquals(3, lines.length);
+        assertEquals(SoakTrace.HEADER, lines[0]);
+        String[] first = lines[1].split(",");
+        assertEquals(SoakTrace.HEADER.split(",").length, first.length);
+        assertEquals("2", first[1]);
+        assertEquals("3.0", first[2]);
+        assertEquals("4.0", first[3]);
+        assertEquals("120", first[8]);
+        assertEquals("65", first[9]);
+        String[] second = lines[2].split(",");
+        assertEquals("0", second[1], "each sample starts a new interval");
+        assertEquals("-1", second[4], "no ticks, no allocation rate");
+    }
+}
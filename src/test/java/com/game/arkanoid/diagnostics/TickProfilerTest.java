@@ -0,0 +1,45 @@
+package com.game.arkanoid.diagnostics;
+
+import com.game.arkanoid.diagnostics.TickProfiler.Section;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickProfilerTest {
+
+    @Test
+    void disabledProfilerRecordsNothing() {
+        TickProfiler profiler = new TickProfiler();
+        long t = profiler.start();
+        assertEquals(0L, t);
+        profiler.stop(Section.BALLS, t);
+        assertEquals(0, profiler.sampleCount(Section.BALLS));
+        assertEquals(0L, profiler.percentile(Section.BALLS, 50));
+    }
+
+    @Test
+    void percentilesCoverTheMostRecentWindow() {
+        TickProfiler profiler = new TickProfiler();
+        for (int i = 1; i <= 100; i++) profiler.record(Section.HUD, i);
+        assertEquals(100, profiler.sampleCount(Section.HUD));
+        assertEquals(50L, profiler.percentile(Section.HUD, 50));
+        assertEquals(99L, profiler.percentile(Section.HUD, 99));
+        assertEquals(100L, profiler.percentile(Section.HUD, 100));
+
+        // Older samples roll out of the ring
+        for (int i = 0; i < TickProfiler.WINDOW; i++) profiler.record(Section.HUD, 1_000);
+        assertEquals(TickProfiler.WINDOW, profiler.sampleCount(Section.HUD));
+        assertEquals(1_000L, profiler.percentile(Section.HUD, 1));
+    }
+
+    @Test
+    void enabledProfilerTimesSections() {
+        TickProfiler profiler = new TickProfiler();
+        profiler.setEnabled(true);
+        long t = profiler.start();
+        assertNotEquals(0L, t);
+        profiler.stop(Section.FRAME, t);
+        assertEquals(1, profiler.sampleCount(Section.FRAME));
+        profiler.reset();
+        assertEquals(0, profiler.sampleCount(Section.FRAME));
+    }
+}
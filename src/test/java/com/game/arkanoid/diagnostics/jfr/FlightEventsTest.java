@@ -0,0 +1,55 @@
+package com.game.arkanoid.diagnostics.jfr;
+
+import com.game.arkanoid.models.*;
+import com.game.arkanoid.services.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightEventsTest {
+
+    @Test
+    void levelLoadAndTickEventsAreRecordedWhenEnabled() throws Exception {
+        BricksService bricks = new BricksService();
+        BallService ball = new BallService();
+        PaddleService paddle = new PaddleService();
+        RoundService round = new RoundService(bricks, ball, paddle);
+        GameService game = new GameService(ball, paddle, bricks, new PowerUpService(),
+                new BulletService(bricks), round, new EnemyService());
+        GameState state = new GameState(new Ball(300, 700, 5), new Paddle(260, 750, 80, 20, 10));
+
+        Path file = Files.createTempFile("arkanoid", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.game.arkanoid.LevelLoad").withoutThreshold();
+            recording.enable("com.game.arkanoid.Tick").withoutThreshold();
+            recording.start();
+            round.loadLevel(state, 2);
+            game.startNextLevel(state);
+            for (int i = 0; i < 10; i++) game.update(state, new InputState(), 1.0, 600, 800);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+        RecordedEvent load = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.game.arkanoid.LevelLoad"))
+                .findFirst().orElseThrow();
+        assertEquals(2, load.getInt("level"));
+        assertEquals(state.bricks.size(), load.getInt("bricks"));
+        long ticks = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.game.arkanoid.Tick"))
+                .count();
+        assertEquals(10, ticks);
+    }
+
+    @Test
+    void gameEventsAreDisabledByDefault() {
+        assertFalse(TickEvent.TYPE.isEnabled());
+    }
+}
@@ -0,0 +1,93 @@
+package com.game.arkanoid.models;
+
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.container.GameSession;
+
+/**
+ * Measures the cost of forking a game state with a full level loaded.
+ * <p>
+ * Reports forks per second for {@link GameState#fork()}, which allocates a new state, for
+ * {@link GameState#copyFrom} into a reused target, which is what lookahead loops should use,
+ * for packing into a reused {@link Keyframe}, as the rewind buffer does, and for building a
+ * {@link GameStateSnapshot}, as saving does.
+ * Usage: {@code ForkBenchmark [seconds per run]}.
+ * </p>
+ */
+public class ForkBenchmark {
+
+    public static void main(String[] args) {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 2;
+        GameSession session = new GameSession(SessionSettings.defaults(), 42);
+        session.start();
+        GameState source = session.getGameState();
+        System.out.println("Bricks in level: " + source.bricks.size());
+
+        GameState target = source.fork();
+        Keyframe keyframe = new Keyframe();
+        int[] baseHealth = new int[source.bricks.size()];
+        for (int i = 0; i < baseHealth.length; i++) baseHealth[i] = source.bricks.get(i).getHealth();
+        for (int warm = 0; warm < 2; warm++) {
+            report("fork()       ", runFork(source, seconds / 2), warm == 1);
+            report("copyFrom()   ", runCopy(source, target, seconds / 2), warm == 1);
+            report("keyframe     ", runKeyframe(source, keyframe, baseHealth, seconds / 2), warm == 1);
+            report("snapshot     ", runSnapshot(source, seconds / 2), warm == 1);
+        }
+        report("fork()       ", runFork(source, seconds), true);
+        report("copyFrom()   ", runCopy(source, target, seconds), true);
+        report("keyframe     ", runKeyframe(source, keyframe, baseHealth, seconds), true);
+        report("snapshot     ", runSnapshot(source, seconds), true);
+    }
+
+    private static double runKeyframe(GameState source, Keyframe keyframe, int[] baseHealth, double seconds) {
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        long start = System.nanoTime();
+        long count = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 100; i++) keyframe.capture(source, baseHealth);
+            count += 100;
+        }
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static double runSnapshot(GameState source, double seconds) {
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        long start = System.nanoTime();
+        long count = 0;
+        int sink = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 100; i++) sink += GameStateSnapshot.from(source).bricks.size();
+            count += 100;
+        }
+        if (sink == 42) System.out.print("");
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static double runFork(GameState source, double seconds) {
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        long start = System.nanoTime();
+        long count = 0;
+        int sink = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 100; i++) sink += source.fork().bricks.size();
+            count += 100;
+        }
+        if (sink == 42) System.out.print("");
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static double runCopy(GameState source, GameState target, double seconds) {
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        long start = System.nanoTime();
+        long count = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 100; i++) target.copyFrom(source);
+            count += 100;
+        }
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static void report(String label, double rate, boolean print) {
+        if (!print) return;
+        System.out.printf("%s %,12.0f forks/s  %8.3f us/fork%n", label, rate, 1e6 / rate);
+    }
+}
@@ -0,0 +1,34 @@
+package com.game.arkanoid.models;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSessionRecordTest {
+
+    @Test
+    void ofReadsTheFinishedGame() {
+        GameState state = new GameState(new Ball(0, 0, 5), new Paddle(0, 0, 80, 20, 10));
+        state.level = 4;
+        state.score = 2500;
+        state.elapsed = 83.2506;
+        state.powerUpsCollected = 6;
+        state.decrementLives();
+        state.gameOver = true;
+        Instant end = Instant.parse("2026-10-19T12:00:00Z");
+
+        GameSessionRecord r = GameSessionRecord.of(7, state, end);
+
+        assertEquals(7, r.userId());
+        assertEquals(state.seed, r.seed());
+        assertEquals(4, r.levelReached());
+        assertEquals(2500, r.score());
+        assertEquals(83_251, r.durationMillis());
+        assertEquals(1, r.livesLost());
+        assertEquals(6, r.powerUpsCollected());
+        assertFalse(r.completed());
+        assertEquals(end, r.endedAt());
+        assertEquals(42, r.withUserId(42).userId());
+        assertEquals(r.score(), r.withUserId(42).score());
+    }
+}
@@ -1,6 +1,12 @@
 package com.game.arkanoid.models;
 
 import com.game.arkanoid.utils.Constants;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -39,5 +45,52 @@ public class GameStateSnapshotTest {
         assertEquals(1, restored.balls.size());
         assertEquals(1, restored.bricks.size());
     }
-}
 
+    @Test
+    void binaryFormRoundTrips() throws IOException {
+        GameStateSnapshot snap = new GameStateSnapshot();
+        snap.currentLevel = 3;
+        snap.score = 1200;
+        snap.lives = 2;
+        snap.paddleX = 140.5;
+        snap.ballX = 150;
+        snap.ballY = 300;
+        snap.ballDx = -90;
+        snap.ballDy = 120;
+        snap.ballMoving = true;
+        snap.ballStuckOffsetX = 4;
+        snap.timeScale = 0.5;
+        snap.activeEffects.add(new GameStateSnapshot.ActiveEffect("SLOW_BALL", 7.5));
+        snap.bricks.add(new GameStateSnapshot.BrickState(22, 250, 2));
+        snap.fallingPowerUps.add(new GameStateSnapshot.PowerUpState("EXPAND_PADDLE", 60, 400, false));
+        snap.balls.add(new GameStateSnapshot.BallsState(150, 300, -90, 120, true, 6));
+        snap.enemies.add(new GameStateSnapshot.EnemyState("CUBE", 200, 220, 40, 60));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        snap.write(new DataOutputStream(bytes));
+        GameStateSnapshot back = GameStateSnapshot.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(3, back.currentLevel);
+        assertEquals(1200, back.score);
+        assertEquals(2, back.lives);
+        assertEquals(140.5, back.paddleX);
+        assertEquals(-90, back.ballDx);
+        assertTrue(back.ballMoving);
+        assertEquals(0.5, back.timeScale);
+        assertEquals("SLOW_BALL", back.activeEffects.get(0).type);
+        assertEquals(7.5, back.activeEffects.get(0).remaining);
+        assertEquals(2, back.bricks.get(0).health);
+        assertEquals("EXPAND_PADDLE", back.fallingPowerUps.get(0).type);
+        assertEquals(6, back.balls.get(0).radius);
+        assertEquals(60, back.enemies.get(0).dy);
+    }
+
+    @Test
+    void binaryFormRejectsTruncatedData() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new GameStateSnapshot().write(new DataOutputStream(bytes));
+        byte[] cut = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 3);
+        assertThrows(IOException.class,
+                () -> GameStateSnapshot.read(new DataInputStream(new ByteArrayInputStream(cut))));
+    }
+}
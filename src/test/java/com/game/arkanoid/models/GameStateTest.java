@@ -77,10 +77,135 @@ public class GameStateTest {
         assertTrue(gameState.running, "Running should be true after reset");
     }
 
+    @Test
+    void testSessionStatsAreTrackedAndReset() {
+        gameState.decrementLives();
+        gameState.decrementLives();
+        gameState.elapsed = 42.0;
+        gameState.rng.nextInt(10);
+        assertEquals(2, gameState.livesLost, "Every life lost should be counted");
+
+        gameState.resetForLevel();
+
+        assertEquals(0, gameState.livesLost, "Lives lost should reset with a new game");
+        assertEquals(0.0, gameState.elapsed, 0.0, "Time played should reset with a new game");
+        assertEquals(gameState.rng.getState(), gameState.seed, "Seed should be where the new game starts");
+    }
+
     @Test
     void testDecrementScoreNeverGoesNegative() {
         gameState.score = 5;
         gameState.decrementScore(10);
         assertEquals(0, gameState.score, "Score should never go below zero");
     }
+
+    private void populate(GameState s) {
+        for (int i = 0; i < 20; i++) s.bricks.add(new Brick(22 + i * 40, 250, 40, 20, 1 + i % 3));
+        s.bullets.add(new Bullet(100, 100, 6, 12, 150));
+        s.powerUps.add(new PowerUp(PowerUpType.MULTI_BALL, 50, 60, 20, 10, 2));
+        s.enemies.add(new Enemy(EnemyType.CUBE, 70, 80, 30, 30, 1, 1));
+        Ball extra = new Ball(300, 400, 8);
+        extra.setVelocity(2, -3);
+        s.balls.add(extra);
+        s.activePowerUps.put(PowerUpType.LASER_PADDLE, 4.5);
+        s.score = 1234;
+        s.lives = 2;
+        s.level = 3;
+        s.laserCooldown = 0.75;
+        s.livesLost = 1;
+        s.elapsed = 12.5;
+        s.ball.setVelocity(1, -4);
+        s.rng.nextLong();
+    }
+
+    @Test
+    void forkCopiesEverything() {
+        populate(gameState);
+        GameState copy = gameState.fork();
+
+        assertEquals(gameState.bricks.size(), copy.bricks.size());
+        for (int i = 0; i < gameState.bricks.size(); i++) {
+            assertNotSame(gameState.bricks.get(i), copy.bricks.get(i));
+            assertEquals(gameState.bricks.get(i).getX(), copy.bricks.get(i).getX());
+            assertEquals(gameState.bricks.get(i).getHealth(), copy.bricks.get(i).getHealth());
+        }
+        assertEquals(2, copy.balls.size());
+        assertSame(copy.ball, copy.balls.get(0), "Primary ball keeps its identity in the copy");
+        assertEquals(-4, copy.ball.getDy());
+        assertEquals(300, copy.balls.get(1).getX());
+        assertEquals(PowerUpType.MULTI_BALL, copy.powerUps.get(0).getType());
+        assertEquals(EnemyType.CUBE, copy.enemies.get(0).getType());
+        assertEquals(4.5, copy.activePowerUps.get(PowerUpType.LASER_PADDLE));
+        assertEquals(1234, copy.score);
+        assertEquals(2, copy.lives);
+        assertEquals(3, copy.level);
+        assertEquals(0.75, copy.laserCooldown);
+        assertEquals(gameState.seed, copy.seed);
+        assertEquals(1, copy.livesLost);
+        assertEquals(12.5, copy.elapsed);
+        assertEquals(gameState.rng.nextLong(), copy.rng.nextLong(), "Random sequence continues identically");
+    }
+
+    @Test
+    void forkIsIndependent() {
+        populate(gameState);
+        GameState copy = gameState.fork();
+
+        copy.bricks.get(0).setHealth(0);
+        copy.bricks.remove(1);
+        copy.ball.setX(10);
+        copy.paddle.setX(10);
+        copy.score = 0;
+        copy.activePowerUps.clear();
+
+        assertEquals(20, gameState.bricks.size());
+        assertEquals(1, gameState.bricks.get(0).getHealth());
+        assertNotEquals(10, gameState.ball.getX());
+        assertEquals(80, gameState.paddle.getX());
+        assertEquals(1234, gameState.score);
+        assertTrue(gameState.activePowerUps.containsKey(PowerUpType.LASER_PADDLE));
+    }
+
+    @Test
+    void copyFromReusesTargetEntities() {
+        populate(gameState);
+        GameState target = gameState.fork();
+        Brick firstBrick = target.bricks.get(0);
+        Ball extra = target.balls.get(1);
+
+        gameState.bricks.get(0).setHealth(3);
+        gameState.bricks.remove(gameState.bricks.size() - 1);
+        target.copyFrom(gameState);
+
+        assertSame(firstBrick, target.bricks.get(0));
+        assertSame(extra, target.balls.get(1));
+        assertEquals(3, firstBrick.getHealth());
+        assertEquals(19, target.bricks.size());
+    }
+
+    @Test
+    void copyFromReplacesEntitiesOfAnotherType() {
+        populate(gameState);
+        GameState target = gameState.fork();
+        gameState.powerUps.set(0, new PowerUp(PowerUpType.EXTRA_LIFE, 1, 2, 20, 10, 2));
+
+        target.copyFrom(gameState);
+
+        assertEquals(PowerUpType.EXTRA_LIFE, target.powerUps.get(0).getType());
+        assertNotSame(gameState.powerUps.get(0), target.powerUps.get(0));
+    }
+
+    @Test
+    void copyFromNeverListsPrimaryBallTwice() {
+        populate(gameState);
+        GameState target = gameState.fork();
+        // Source lost its primary ball; only the extra ball remains
+        gameState.balls.remove(0);
+
+        target.copyFrom(gameState);
+
+        assertEquals(1, target.balls.size());
+        assertNotSame(target.ball, target.balls.get(0));
+        assertEquals(300, target.balls.get(0).getX());
+    }
 }
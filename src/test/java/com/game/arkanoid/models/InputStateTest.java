@@ -15,5 +15,19 @@ public class InputStateTest {
         s.fire = true;
         assertTrue(s.left && s.right && s.launch && s.fire);
     }
-}
 
+    @Test
+    void bitsRoundTrip() {
+        InputState s = new InputState();
+        s.left = true;
+        s.fire = true;
+        int bits = s.toBits();
+        assertEquals(InputState.LEFT | InputState.FIRE, bits);
+
+        InputState copy = new InputState();
+        copy.right = true;
+        copy.setBits(bits);
+        assertTrue(copy.left && copy.fire);
+        assertFalse(copy.right || copy.launch || copy.pause);
+    }
+}
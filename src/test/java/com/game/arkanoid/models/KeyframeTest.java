@@ -0,0 +1,111 @@
+package com.game.arkanoid.models;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyframeTest {
+
+    private static GameState populated() {
+        GameState s = new GameState(new Ball(100, 200, 8), new Paddle(80, 350, 100, 20, 200));
+        s.paddle.setWidthBounds(40, 160);
+        for (int i = 0; i < 10; i++) s.bricks.add(new Brick(22 + i * 40, 250, 40, 20, 1 + i % 3));
+        s.bricks.add(new Brick(500, 250, 40, 20, 9));
+        s.ball.setVelocity(3, -4);
+        s.ball.setMoving(true);
+        s.balls.add(new Ball(300, 320, 8));
+        s.bullets.add(new Bullet(100, 100, 6, 12, 150));
+        s.powerUps.add(new PowerUp(PowerUpType.MULTI_BALL, 50, 60, 20, 10, 2));
+        s.enemies.add(new Enemy(EnemyType.CUBE, 70, 80, 30, 30, 1, 1));
+        s.enemies.get(0).setZigzagTimer(0.4);
+        s.activePowerUps.put(PowerUpType.LASER_PADDLE, 4.5);
+        s.score = 1234;
+        s.lives = 2;
+        s.level = 3;
+        s.livesLost = 1;
+        s.elapsed = 12.5;
+        s.laserCooldown = 0.75;
+        return s;
+    }
+
+    private static int[] health(GameState s) {
+        int[] h = new int[s.bricks.size()];
+        for (int i = 0; i < h.length; i++) h[i] = s.bricks.get(i).getHealth();
+        return h;
+    }
+
+    @Test
+    void restoreUndoesEveryChange() {
+        GameState s = populated();
+        int[] base = health(s);
+        s.bricks.get(2).setHealth(1);
+        s.bricks.get(4).setHealth(0);
+        GameState expected = s.fork();
+
+        Keyframe k = new Keyframe();
+        k.capture(s, base);
+
+        // Play on: move, damage, spawn and remove entities, consume randomness
+        s.ball.setPosition(1, 2);
+        s.ball.setMoving(false);
+        s.balls.remove(1);
+        s.bullets.clear();
+        s.bullets.add(new Bullet(1, 1, 1, 1, 1));
+        s.bullets.add(new Bullet(2, 2, 2, 2, 2));
+        s.powerUps.get(0).markCollected();
+        s.enemies.set(0, new Enemy(EnemyType.CONE, 0, 0, 30, 30, 0, 0));
+        s.bricks.get(0).setHealth(0);
+        s.bricks.get(2).setHealth(0);
+        s.activePowerUps.remove(PowerUpType.LASER_PADDLE);
+        s.activePowerUps.put(PowerUpType.SLOW_BALL, 2);
+        s.paddle.setX(400);
+        s.score = 5000;
+        s.lives = 0;
+        s.livesLost = 3;
+        s.rng.nextLong();
+
+        k.restore(s, base);
+
+        assertEquals(expected.score, s.score);
+        assertEquals(expected.lives, s.lives);
+        assertEquals(expected.livesLost, s.livesLost);
+        assertEquals(expected.elapsed, s.elapsed);
+        assertEquals(expected.laserCooldown, s.laserCooldown);
+        assertEquals(expected.paddle.getX(), s.paddle.getX());
+        assertEquals(160, s.paddle.getMaxWidth());
+        assertArrayEquals(health(expected), health(s));
+        assertEquals(2, s.balls.size());
+        assertSame(s.ball, s.balls.get(0), "Primary ball keeps its identity");
+        assertEquals(100, s.ball.getX());
+        assertTrue(s.ball.isMoving());
+        assertEquals(-4, s.ball.getDy());
+        assertEquals(300, s.balls.get(1).getX());
+        assertEquals(1, s.bullets.size());
+        assertEquals(100, s.bullets.get(0).getX());
+        assertFalse(s.powerUps.get(0).isCollected());
+        assertEquals(EnemyType.CUBE, s.enemies.get(0).getType());
+        assertEquals(0.4, s.enemies.get(0).getZigzagTimer());
+        assertEquals(4.5, s.activePowerUps.get(PowerUpType.LASER_PADDLE));
+        assertFalse(s.activePowerUps.containsKey(PowerUpType.SLOW_BALL));
+        assertEquals(expected.rng.nextLong(), s.rng.nextLong(), "Random sequence continues identically");
+    }
+
+    @Test
+    void captureIntoAReusedKeyframeDoesNotAllocate() {
+        GameState s = populated();
+        int[] base = health(s);
+        Keyframe k = new Keyframe();
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().threadId();
+        long overhead = threads.getThreadAllocatedBytes(id);
+        overhead = threads.getThreadAllocatedBytes(id) - overhead;
+
+        long allocated = Long.MAX_VALUE;
+        for (int window = 0; window < 5 && allocated != 0; window++) {
+            long before = threads.getThreadAllocatedBytes(id);
+            for (int i = 0; i < 10_000; i++) k.capture(s, base);
+            allocated = Math.min(allocated, threads.getThreadAllocatedBytes(id) - before - overhead);
+        }
+        assertEquals(0, allocated, "captures allocated " + allocated + " bytes");
+    }
+}
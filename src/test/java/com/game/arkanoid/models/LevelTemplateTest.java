@@ -0,0 +1,86 @@
+package com.game.arkanoid.models;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.game.arkanoid.utils.Constants;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LevelTemplateTest {
+
+    @Test
+    void parseSkipsBlankLinesAndInvalidTokens() {
+        LevelTemplate t = LevelTemplate.parse(List.of(
+                "1 x 3",
+                "   ",
+                "0 -2 9 4"));
+
+        assertEquals(2, t.rows());
+        assertEquals(4, t.cols());
+        assertEquals(1, t.health(0, 0));
+        assertEquals(0, t.health(0, 1));
+        assertEquals(3, t.health(0, 2));
+        assertEquals(0, t.health(1, 1));
+        assertEquals(9, t.health(1, 2));
+        assertEquals(4, t.brickCount());
+        assertEquals(3, t.destructibleCount());
+    }
+
+    @Test
+    void parseIgnoresColumnsPastTheField() {
+        String wide = "1 ".repeat(Constants.BRICK_COLS + 4).trim();
+        LevelTemplate t = LevelTemplate.parse(List.of(wide));
+        assertEquals(Constants.BRICK_COLS, t.cols());
+        assertEquals(Constants.BRICK_COLS, t.brickCount());
+    }
+
+    @Test
+    void instantiateCreatesIndependentBricksAtGridPositions() {
+        LevelTemplate t = LevelTemplate.parse(List.of("0 2", "1 0"));
+        List<Brick> first = t.instantiate();
+        List<Brick> second = t.instantiate();
+
+        assertEquals(2, first.size());
+        Brick b = first.get(0);
+        assertEquals(Constants.BRICK_WIDTH + LevelTemplate.ORIGIN_X, b.getX());
+        assertEquals(LevelTemplate.ORIGIN_Y, b.getY());
+        assertEquals(2, b.getHealth());
+        assertEquals(LevelTemplate.ORIGIN_Y + Constants.BRICK_HEIGHT, first.get(1).getY());
+
+        b.setHealth(0);
+        assertEquals(2, second.get(0).getHealth());
+    }
+
+    @Test
+    void binaryRoundTripPreservesCells() throws IOException {
+        LevelTemplate t = LevelTemplate.parse(List.of("1 2 3", "9 0 5"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        t.write(out);
+        byte[] bytes = out.toByteArray();
+
+        assertEquals(4 + 3 + 6, bytes.length);
+        assertEquals('A', bytes[0]);
+        assertEquals('L', bytes[3]);
+
+        LevelTemplate back = LevelTemplate.read(new ByteArrayInputStream(bytes));
+        assertEquals(t.rows(), back.rows());
+        assertEquals(t.cols(), back.cols());
+        for (int r = 0; r < t.rows(); r++) {
+            for (int c = 0; c < t.cols(); c++) {
+                assertEquals(t.health(r, c), back.health(r, c));
+            }
+        }
+        assertEquals(t.destructibleCount(), back.destructibleCount());
+    }
+
+    @Test
+    void readRejectsForeignData() {
+        byte[] junk = {'N', 'O', 'P', 'E', 1, 0, 0};
+        assertThrows(IOException.class, () -> LevelTemplate.read(new ByteArrayInputStream(junk)));
+        byte[] truncated = {'A', 'R', 'K', 'L', 1, 2, 2, 1};
+        assertThrows(IOException.class, () -> LevelTemplate.read(new ByteArrayInputStream(truncated)));
+    }
+}
@@ -1,5 +1,7 @@
 package com.game.arkanoid.models;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -12,5 +14,15 @@ public class RankingEntryTest {
         assertEquals(1234, e.getBestScore());
         assertEquals(4, e.getBestRound());
     }
-}
 
+    @Test
+    void orderIsByRoundThenScoreThenId() {
+        List<RankingEntry> entries = new ArrayList<>(List.of(
+                new RankingEntry(1, "a", 500, 3),
+                new RankingEntry(2, "b", 900, 2),
+                new RankingEntry(3, "c", 500, 3),
+                new RankingEntry(4, "d", 700, 3)));
+        entries.sort(RankingEntry.ORDER);
+        assertEquals(List.of(4, 3, 1, 2), entries.stream().map(RankingEntry::getId).toList());
+    }
+}
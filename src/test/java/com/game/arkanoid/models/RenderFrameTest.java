@@ -0,0 +1,61 @@
+package com.game.arkanoid.models;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RenderFrameTest {
+
+    private final GameState state = new GameState(new Ball(100, 200, 5), new Paddle(80, 750, 100, 20, 10));
+
+    @Test
+    void captureCopiesValuesAndKeepsIdentityKeys() {
+        Brick brick = new Brick(22, 250, 40, 20, 3);
+        state.bricks.add(brick);
+        state.score = 1200;
+        state.lives = 2;
+        state.level = 4;
+        state.paused = true;
+
+        RenderFrame frame = new RenderFrame();
+        frame.capture(state, 7);
+
+        assertEquals(7, frame.sequence);
+        assertEquals(1, frame.bricks.size());
+        assertSame(brick, frame.bricks.key(0));
+        assertEquals(3, frame.bricks.value(0));
+        assertEquals(22, frame.bricks.x(0));
+        assertEquals(1, frame.balls.size());
+        assertEquals(5, frame.balls.width(0));
+        assertNotSame(state.paddle, frame.paddle);
+        assertEquals(80, frame.paddle.getX());
+        assertEquals(1200, frame.score);
+        assertEquals(4, frame.level);
+        assertTrue(frame.paused);
+
+        // Later changes to the live state do not reach the captured frame
+        brick.setHealth(1);
+        state.paddle.setX(300);
+        state.ball.setX(50);
+        assertEquals(3, frame.bricks.value(0));
+        assertEquals(80, frame.paddle.getX());
+        assertEquals(100, frame.balls.x(0));
+    }
+
+    @Test
+    void layersGrowAndShrinkBetweenCaptures() {
+        for (int i = 0; i < 100; i++) state.bullets.add(new Bullet(i, 0, 2, 8, 5));
+        RenderFrame frame = new RenderFrame();
+        frame.capture(state, 1);
+        assertEquals(100, frame.bullets.size());
+        assertEquals(99, frame.bullets.x(99));
+
+        Bullet kept = state.bullets.get(10);
+        Bullet removed = state.bullets.get(11);
+        state.bullets.clear();
+        state.bullets.add(kept);
+        frame.capture(state, 2);
+        assertEquals(1, frame.bullets.size());
+        assertTrue(frame.bullets.contains(kept));
+        assertFalse(frame.bullets.contains(removed));
+    }
+}
@@ -0,0 +1,191 @@
+package com.game.arkanoid.repository;
+
+import com.game.arkanoid.models.GameStateSnapshot;
+import com.game.arkanoid.models.RankingEntry;
+import com.game.arkanoid.models.User;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static GameStateSnapshot level(int level) {
+        GameStateSnapshot snap = new GameStateSnapshot();
+        snap.currentLevel = level;
+        return snap;
+    }
+
+    @Test
+    void stateSurvivesReopening() throws IOException {
+        try (LocalStore store = LocalStore.open(dir)) {
+            store.putRemoteUser(new User(7, "alice", "hash", 100, 2, null));
+            store.updateBest(7, 3, 450);
+            store.saveInProgress(7, level(3));
+        }
+        try (LocalStore store = LocalStore.open(dir)) {
+            User alice = store.findUser("alice").orElseThrow();
+            assertEquals(3, alice.getBestRound());
+            assertEquals(450, alice.getBestScore());
+            assertTrue(store.knowsInProgress(7));
+            assertEquals(3, store.inProgress(7).orElseThrow().currentLevel);
+            assertEquals(1, store.pendingCount());
+        }
+    }
+
+    @Test
+    void tornTailIsCutOff() throws IOException {
+        try (LocalStore store = LocalStore.open(dir)) {
+            store.putRemoteUser(new User(1, "bob", "hash", 0, 0, null));
+        }
+        // A crash in the middle of the next append
+        Files.write(dir.resolve("local.log"), new byte[] {0, 0, 0, 60, 1, 2, 3}, StandardOpenOption.APPEND);
+        try (LocalStore store = LocalStore.open(dir)) {
+            assertTrue(store.findUser("bob").isPresent());
+            store.updateBest(1, 2, 200);
+        }
+        try (LocalStore store = LocalStore.open(dir)) {
+            assertEquals(200, store.findUser("bob").orElseThrow().getBestScore());
+        }
+    }
+
+    @Test
+    void compactionKeepsEverything() throws IOException {
+        try (LocalStore store = LocalStore.open(dir, 8)) {
+            store.putRemoteUser(new User(1, "carol", "hash", 0, 0, null));
+            for (int i = 1; i <= 20; i++) store.updateBest(1, i, i * 10);
+            store.saveInProgress(1, level(20));
+            store.markSynced(1, 5);
+            store.cacheRankings(List.of(new RankingEntry("dave", 900, 9)));
+            assertTrue(Files.size(dir.resolve("local.log")) < 8 * 64);
+        }
+        assertTrue(Files.exists(dir.resolve("local.idx")));
+        try (LocalStore store = LocalStore.open(dir, 8)) {
+            User carol = store.findUser("carol").orElseThrow();
+            assertEquals(20, carol.getBestRound());
+            assertEquals(200, carol.getBestScore());
+            assertEquals(20, store.inProgress(1).orElseThrow().currentLevel);
+            assertEquals(1, store.pendingCount());
+            assertEquals("carol", store.rankings(10).get(0).getName());
+            assertEquals("dave", store.rankings(10).get(1).getName());
+        }
+    }
+
+    @Test
+    void pendingUntilSynced() throws IOException {
+        try (LocalStore store = LocalStore.inMemory()) {
+            store.putRemoteUser(new User(2, "erin", "hash", 0, 0, null));
+            assertEquals(0, store.pendingCount());
+
+            store.updateBest(2, 1, 50);
+            LocalStore.Pending p = store.pending(10).get(0);
+            assertFalse(p.pushSave());
+            store.saveInProgress(2, level(2));
+            store.markSynced(2, p.changed());
+            // The save came after the synced state, so it is still pending
+            p = store.pending(10).get(0);
+            assertTrue(p.pushSave());
+            assertEquals(2, p.save().currentLevel);
+
+            store.markSynced(2, p.changed());
+            assertEquals(0, store.pendingCount());
+        }
+    }
+
+    @Test
+    void databaseGameDoesNotReplaceUnsyncedSave() throws IOException {
+        try (LocalStore store = LocalStore.inMemory()) {
+            store.putRemoteUser(new User(3, "frank", "hash", 0, 0, null));
+            assertFalse(store.knowsInProgress(3));
+            store.cacheInProgress(3, level(4));
+            assertEquals(4, store.inProgress(3).orElseThrow().currentLevel);
+            assertEquals(0, store.pendingCount());
+
+            store.saveInProgress(3, null);
+            store.cacheInProgress(3, level(4));
+            assertTrue(store.inProgress(3).isEmpty());
+        }
+    }
+
+    @Test
+    void localUsersAreLinkedToTheirDatabaseId() throws IOException {
+        try (LocalStore store = LocalStore.open(dir)) {
+            User grace = store.createLocalUser("grace", "grace", "hash").orElseThrow();
+            assertTrue(grace.getId() < 0);
+            assertTrue(store.createLocalUser("grace", "grace", "other").isEmpty());
+            assertTrue(store.knowsInProgress(grace.getId()));
+            store.saveInProgress(grace.getId(), level(2));
+
+            LocalStore.Pending p = store.pending(10).get(0);
+            assertFalse(p.remote());
+            store.link(grace.getId(), 42);
+            store.markSynced(42, p.changed());
+
+            assertEquals(42, store.resolve(grace.getId()));
+            assertEquals(42, store.findUser("grace").orElseThrow().getId());
+            assertEquals(2, store.inProgress(grace.getId()).orElseThrow().currentLevel);
+            assertEquals(0, store.pendingCount());
+        }
+        try (LocalStore store = LocalStore.open(dir)) {
+            assertEquals(42, store.findUser("grace").orElseThrow().getId());
+            // New local users never reuse an id handed out before
+            assertNotEquals(-1, store.createLocalUser("heidi", "heidi", "hash").orElseThrow().getId());
+        }
+    }
+
+    @Test
+    void conflictingUsersStopSyncing() throws IOException {
+        try (LocalStore store = LocalStore.inMemory()) {
+            User ivan = store.createLocalUser("ivan", "ivan", "hash").orElseThrow();
+            store.updateBest(ivan.getId(), 2, 20);
+            store.markConflict(ivan.getId());
+            assertEquals(0, store.pendingCount());
+            assertTrue(store.findUser("ivan").isPresent());
+        }
+    }
+
+    @Test
+    void rankingsMergeLocalBests() throws IOException {
+        try (LocalStore store = LocalStore.inMemory()) {
+            store.cacheRankings(List.of(
+                    new RankingEntry("judy", 500, 5),
+                    new RankingEntry("ken", 300, 3)));
+            store.putRemoteUser(new User(4, "ken", "hash", 300, 3, null));
+            store.updateBest(4, 6, 600);
+
+            List<RankingEntry> top = store.rankings(10);
+            assertEquals(2, top.size());
+            assertEquals("ken", top.get(0).getName());
+            assertEquals(6, top.get(0).getBestRound());
+            assertEquals(1, store.rankings(1).size());
+        }
+    }
+
+    @Test
+    void rankingsArePagedAfterTheLastEntry() throws IOException {
+        try (LocalStore store = LocalStore.open(dir)) {
+            store.cacheRankings(List.of(
+                    new RankingEntry(5, "lena", 800, 4),
+                    new RankingEntry(9, "mike", 500, 4),
+                    new RankingEntry(6, "nina", 500, 4),
+                    new RankingEntry(2, "omar", 100, 1)));
+        }
+        try (LocalStore store = LocalStore.open(dir)) {
+            List<RankingEntry> first = store.rankingsPage(null, 2);
+            assertEquals(List.of("lena", "mike"), first.stream().map(RankingEntry::getName).toList());
+            List<RankingEntry> second = store.rankingsPage(first.get(1), 2);
+            assertEquals(List.of("nina", "omar"), second.stream().map(RankingEntry::getName).toList());
+            assertTrue(store.rankingsPage(second.get(1), 2).isEmpty());
+
+            assertEquals(3, store.rankOf(6));
+            assertEquals(0, store.rankOf(77));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.arkanoid.repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MigrationRunnerTest {
+
+    @Test
+    void shippedManifestIsOrderedAndComplete() {
+        List<MigrationRunner.Migration> migrations = new MigrationRunner().migrations();
+        assertFalse(migrations.isEmpty());
+        assertEquals(1, migrations.get(0).version());
+        for (int i = 1; i < migrations.size(); i++) {
+            assertTrue(migrations.get(i).version() > migrations.get(i - 1).version());
+        }
+        for (MigrationRunner.Migration m : migrations) {
+            assertFalse(m.sql().isBlank(), m.script());
+        }
+    }
+
+    @Test
+    void indexesOfTheHotQueriesAreMigrated() {
+        String all = new MigrationRunner().migrations().stream()
+                .map(MigrationRunner.Migration::sql)
+                .collect(Collectors.joining("\n"));
+        assertTrue(all.contains("users_ranking_idx"));
+        assertTrue(all.contains("users_name_normalized_key"));
+        assertTrue(all.contains("users_legacy_name_idx"));
+        assertTrue(all.contains("game_states_in_progress_idx"));
+        // Tables come before the indexes on them
+        assertTrue(all.indexOf("CREATE TABLE IF NOT EXISTS game_states")
+                < all.indexOf("game_states_in_progress_idx"));
+    }
+
+    @Test
+    void checksumFollowsTheScript() {
+        MigrationRunner.Migration m = new MigrationRunner().migrations().get(0);
+        assertEquals(m.checksum(), new MigrationRunner.Migration(99, m.script()).checksum());
+        assertNotEquals(m.checksum(), new MigrationRunner().migrations().get(1).checksum());
+    }
+
+    @Test
+    void versionsMustIncrease() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MigrationRunner.readManifest("/com/game/arkanoid/sql/migration/unordered_manifest.txt"));
+    }
+}
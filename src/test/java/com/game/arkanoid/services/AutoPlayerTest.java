@@ -0,0 +1,85 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.container.GameSession;
+import com.game.arkanoid.models.Ball;
+import com.game.arkanoid.models.GameState;
+import com.game.arkanoid.models.InputState;
+import com.game.arkanoid.models.Paddle;
+import com.game.arkanoid.models.PowerUpType;
+import com.game.arkanoid.utils.Constants;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutoPlayerTest {
+
+    private final AutoPlayer bot = new AutoPlayer();
+    private final InputState in = new InputState();
+    private final GameState state = new GameState(new Ball(300, 400, 8), new Paddle(250, 750, 100, 20, 10));
+
+    @Test
+    void interceptFoldsOffTheWalls() {
+        Ball ball = new Ball(300, 400, 8);
+        ball.setVelocity(10, 5);
+        // Centre stays within 30..570; 400 px right of 300 ends 130 px past 570 and comes back
+        assertEquals(570 - 130, AutoPlayer.interceptX(ball, 40, 600), 1e-9);
+        ball.setVelocity(-10, 5);
+        assertEquals(30 + 10, AutoPlayer.interceptX(ball, 28, 600), 1e-9);
+    }
+
+    @Test
+    void timeToPaddleGoesViaTheCeilingWhenRising() {
+        Ball ball = new Ball(300, 400, 8);
+        ball.setVelocity(0, 4);
+        assertEquals((750 - 408) / 4.0, AutoPlayer.timeToPaddle(ball, 750), 1e-9);
+        ball.setVelocity(0, -4);
+        assertEquals((392 - 172) / 4.0 + (750 - 172 - 16) / 4.0, AutoPlayer.timeToPaddle(ball, 750), 1e-9);
+        ball.setCenter(300, 760);
+        ball.setVelocity(0, 4);
+        assertEquals(Double.POSITIVE_INFINITY, AutoPlayer.timeToPaddle(ball, 750));
+    }
+
+    @Test
+    void movesTowardsTheIntercept() {
+        state.ball.setMoving(true);
+        state.ball.setVelocity(-5, 5);
+        bot.fill(state, 600, in);
+        assertTrue(in.left);
+        assertFalse(in.right);
+        assertFalse(in.launch);
+
+        state.ball.setVelocity(5, 5);
+        bot.fill(state, 600, in);
+        assertTrue(in.right);
+    }
+
+    @Test
+    void launchesWaitingBallAndFiresWithLaser() {
+        state.ball.setMoving(false);
+        bot.fill(state, 600, in);
+        assertTrue(in.launch);
+        assertFalse(in.fire);
+        assertFalse(in.left || in.right);
+
+        state.activePowerUps.put(PowerUpType.LASER_PADDLE, 5);
+        bot.fill(state, 600, in);
+        assertTrue(in.fire);
+    }
+
+    @Test
+    void playsBetterThanNobody() {
+        GameSession idle = new GameSession(SessionSettings.defaults(), 5);
+        GameSession played = new GameSession(SessionSettings.defaults(), 5);
+        idle.start();
+        played.start();
+        InputState launchOnly = new InputState();
+        for (int i = 0; i < 20_000; i++) {
+            launchOnly.launch = true;
+            idle.step(launchOnly);
+            bot.fill(played.getGameState(), Constants.GAME_WIDTH, in);
+            played.step(in);
+        }
+        assertTrue(played.getGameState().score > idle.getGameState().score,
+                "bot " + played.getGameState().score + " vs idle " + idle.getGameState().score);
+    }
+}
@@ -3,6 +3,7 @@ package com.game.arkanoid.services;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.game.arkanoid.models.Brick;
+import com.game.arkanoid.models.LevelTemplate;
 import com.game.arkanoid.utils.Constants;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -54,4 +55,20 @@ class BricksServiceTest {
         service.recalculateBricksRemaining(bricks);
         assertEquals(1, service.getBricksRemaining());
     }
+
+    @Test
+    void levelResourcesAreParsedOnceAndInstantiatedFresh() {
+        BricksService first = new BricksService();
+        BricksService second = new BricksService();
+        String level = "/com/game/arkanoid/levels/level1.txt";
+
+        LevelTemplate template = first.loadTemplate(level);
+        assertSame(template, second.loadTemplate(level));
+
+        List<Brick> a = first.createBricksFromResource(level);
+        List<Brick> b = second.createBricksFromResource(level);
+        assertEquals(template.brickCount(), a.size());
+        assertEquals(template.destructibleCount(), first.getBricksRemaining());
+        assertNotSame(a.get(0), b.get(0));
+    }
 }
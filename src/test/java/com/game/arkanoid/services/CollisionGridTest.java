@@ -0,0 +1,86 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.*;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionGridTest {
+
+    @Test
+    void queriesFindEveryOverlapInListOrder() {
+        Random rnd = new Random(42);
+        GameState state = new GameState(new Ball(100, 200, 8), new Paddle(80, 350, 100, 20, 200));
+        for (int i = 0; i < 200; i++) {
+            Brick brick = new Brick(rnd.nextDouble() * 560, 172 + rnd.nextDouble() * 400, 40, 20, 1 + rnd.nextInt(3));
+            if (rnd.nextInt(5) == 0) brick.setHealth(0);
+            state.bricks.add(brick);
+        }
+        for (int i = 0; i < 300; i++) {
+            state.bullets.add(new Bullet(rnd.nextDouble() * 640 - 20, rnd.nextDouble() * 840 - 20, 4, 10, 5));
+        }
+
+        CollisionGrid grid = new CollisionGrid();
+        grid.rebuild(state, 600, 800);
+
+        for (int q = 0; q < 500; q++) {
+            double x = rnd.nextDouble() * 700 - 50;
+            double y = rnd.nextDouble() * 900 - 50;
+            double w = 1 + rnd.nextDouble() * 80;
+            double h = 1 + rnd.nextDouble() * 80;
+
+            int n = grid.queryBricks(x, y, x + w, y + h);
+            int prev = -1;
+            int found = 0;
+            for (int k = 0; k < n; k++) {
+                int idx = grid.result(k);
+                assertTrue(idx > prev, "results must be sorted and unique");
+                assertFalse(state.bricks.get(idx).isDestroyed());
+                prev = idx;
+            }
+            for (int i = 0; i < state.bricks.size(); i++) {
+                Brick b = state.bricks.get(i);
+                if (!b.isDestroyed() && overlaps(b, x, y, w, h)) {
+                    assertTrue(contains(grid, n, i), "missed brick " + i);
+                    found++;
+                }
+            }
+            assertTrue(found <= n);
+
+            n = grid.queryBullets(x, y, x + w, y + h);
+            for (int i = 0; i < state.bullets.size(); i++) {
+                if (overlaps(state.bullets.get(i), x, y, w, h)) {
+                    assertTrue(contains(grid, n, i), "missed bullet " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void reindexingALayerDropsRemovedItems() {
+        GameState state = new GameState(new Ball(100, 200, 8), new Paddle(80, 350, 100, 20, 200));
+        state.balls.add(new Ball(300, 400, 8));
+        CollisionGrid grid = new CollisionGrid();
+        grid.rebuild(state, 600, 800);
+        assertEquals(1, grid.queryBalls(290, 390, 310, 410));
+        assertEquals(1, grid.result(0));
+
+        state.balls.remove(0);
+        grid.indexBalls(state.balls);
+        assertEquals(1, grid.queryBalls(290, 390, 310, 410));
+        assertEquals(0, grid.result(0));
+        assertEquals(0, grid.queryBalls(90, 190, 110, 210));
+    }
+
+    private static boolean overlaps(GameObject o, double x, double y, double w, double h) {
+        return o.getX() < x + w && o.getX() + o.getWidth() > x
+                && o.getY() < y + h && o.getY() + o.getHeight() > y;
+    }
+
+    private static boolean contains(CollisionGrid grid, int n, int idx) {
+        for (int k = 0; k < n; k++) {
+            if (grid.result(k) == idx) return true;
+        }
+        return false;
+    }
+}
@@ -1,18 +1,130 @@
 package com.game.arkanoid.services;
 
+import com.game.arkanoid.models.GameStateSnapshot;
+import com.game.arkanoid.models.User;
+import com.game.arkanoid.repository.LocalStore;
+import com.game.arkanoid.utils.PasswordHasher;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Smoke test that the service can be constructed and shut down without DB access.
+ * Smoke test that the service can be constructed and shut down, and works offline, without
+ * DB access.
  */
 public class DatabaseServiceSmokeTest {
 
     @Test
     void constructAndShutdown() {
-        DatabaseService svc = new DatabaseService();
+        DatabaseService svc = new DatabaseService(LocalStore.inMemory());
         assertNotNull(svc);
         svc.shutdown();
     }
-}
 
+    @Test
+    void timeoutsArePerOperation() {
+        DatabaseService svc = new DatabaseService(LocalStore.inMemory());
+        try {
+            assertEquals(DatabaseService.DEFAULT_TIMEOUT, svc.getTimeout("getRankings"));
+            svc.setTimeout("getRankings", Duration.ofSeconds(3));
+            assertEquals(Duration.ofSeconds(3), svc.getTimeout("getRankings"));
+            assertNotEquals(svc.getTimeout("getRankings"), svc.getTimeout("login"));
+            assertThrows(IllegalArgumentException.class, () -> svc.setTimeout("login", Duration.ZERO));
+        } finally {
+            svc.shutdown();
+        }
+    }
+
+    @Test
+    void worksWithoutADatabase() throws Exception {
+        DatabaseService svc = new DatabaseService(LocalStore.inMemory());
+        try {
+            User u = svc.signup("Offline", "secret").get(10, TimeUnit.SECONDS);
+            assertTrue(u.getId() < 0);
+            assertThrows(Exception.class, () -> svc.signup("offline", "other").get(10, TimeUnit.SECONDS));
+
+            assertEquals(u.getId(), svc.login("offline", "secret").get(1, TimeUnit.SECONDS).getId());
+            assertThrows(Exception.class, () -> svc.login("offline", "wrong").get(10, TimeUnit.SECONDS));
+
+            GameStateSnapshot snap = new GameStateSnapshot();
+            snap.currentLevel = 2;
+            svc.saveInProgress(u.getId(), snap).get(1, TimeUnit.SECONDS);
+            svc.updateBest(u.getId(), 2, 150).get(1, TimeUnit.SECONDS);
+            assertEquals(2, svc.loadInProgressState(u.getId()).get(1, TimeUnit.SECONDS).orElseThrow().currentLevel);
+            assertEquals(1, svc.pendingSync());
+
+            assertEquals(150, svc.getRankings(10).get(10, TimeUnit.SECONDS).get(0).getBestScore());
+            assertEquals(1, svc.getRank(u.getId()).get(1, TimeUnit.SECONDS));
+        } finally {
+            svc.shutdown();
+        }
+    }
+
+    @Test
+    void progressIsKeptWithoutADatabase() throws Exception {
+        DatabaseService svc = new DatabaseService(LocalStore.inMemory());
+        try {
+            GameStateSnapshot snap = new GameStateSnapshot();
+            snap.currentLevel = 2;
+            svc.saveInProgress(5, snap).get(1, TimeUnit.SECONDS);
+            svc.updateBest(5, 2, 150).get(1, TimeUnit.SECONDS);
+            assertEquals(2, svc.loadInProgressState(5).get(1, TimeUnit.SECONDS).orElseThrow().currentLevel);
+            assertEquals(1, svc.pendingSync());
+
+            svc.clearInProgress(5).get(1, TimeUnit.SECONDS);
+            assertTrue(svc.loadInProgressState(5).get(1, TimeUnit.SECONDS).isEmpty());
+        } finally {
+            svc.shutdown();
+        }
+    }
+
+    @Test
+    void legacyPlaintextPasswordsAreRememberedHashed(@TempDir Path dir) throws Exception {
+        DatabaseService svc = new DatabaseService(LocalStore.open(dir));
+        try {
+            // A row the legacy upgrade has not reached, as login reads it from the database
+            User remembered = svc.remember(new User(9, "Legacy", "hunter2", 40, 1, null));
+            String hash = PasswordHasher.hash("legacy", "hunter2");
+            assertEquals(hash, remembered.getPasswordHash());
+
+            assertEquals(9, svc.login("legacy", "hunter2").get(1, TimeUnit.SECONDS).getId());
+            assertThrows(Exception.class, () -> svc.login("legacy", hash).get(10, TimeUnit.SECONDS));
+        } finally {
+            svc.shutdown();
+        }
+        try (LocalStore store = LocalStore.open(dir)) {
+            assertEquals(PasswordHasher.hash("legacy", "hunter2"), store.findUser("legacy").orElseThrow().getPasswordHash());
+        }
+        byte[] log = Files.readAllBytes(dir.resolve("local.log"));
+        assertFalse(new String(log, StandardCharsets.ISO_8859_1).contains("hunter2"));
+    }
+
+    @Test
+    void connectionFailuresMeanUnavailable() {
+        assertTrue(DatabaseService.isUnavailable(new SQLException("refused", "08001")));
+        assertTrue(DatabaseService.isUnavailable(new CompletionException(new SQLTransientConnectionException())));
+        assertTrue(DatabaseService.isUnavailable(new TimeoutException()));
+        assertFalse(DatabaseService.isUnavailable(new SQLException("syntax", "42601")));
+    }
+
+    @Test
+    void furtherGameWins() {
+        GameStateSnapshot a = new GameStateSnapshot();
+        GameStateSnapshot b = new GameStateSnapshot();
+        a.currentLevel = 3;
+        b.currentLevel = 2;
+        b.score = 5000;
+        assertTrue(DatabaseService.isFurther(a, b));
+        b.currentLevel = 3;
+        assertFalse(DatabaseService.isFurther(a, b));
+    }
+}
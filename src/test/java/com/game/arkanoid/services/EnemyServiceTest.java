@@ -19,5 +19,12 @@ public class EnemyServiceTest {
         assertTrue(state.enemies.get(0).getY() >= y0);
         assertTrue(state.enemies.get(0).getX() != x0 || state.enemies.get(0).getY() != y0);
     }
-}
 
+    @Test
+    void spawnRespectsConfiguredCap() {
+        EnemyService svc = new EnemyService(10);
+        GameState state = new GameState(new Ball(100, 200, 8), new Paddle(80, 350, 100, 20, 200));
+        for (int i = 0; i < 20; i++) svc.spawnEnemy(state, 120, 180);
+        assertEquals(10, state.enemies.size());
+    }
+}
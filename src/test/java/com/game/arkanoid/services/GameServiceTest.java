@@ -1,6 +1,10 @@
 package com.game.arkanoid.services;
 
+import com.game.arkanoid.events.GameEventBus;
+import com.game.arkanoid.events.sound.WallHitSoundEvent;
 import com.game.arkanoid.models.*;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,5 +28,69 @@ public class GameServiceTest {
         assertFalse(state.paused);
         assertTrue(state.running);
     }
-}
 
+    @Test
+    void steadyStateTickDoesNotAllocate() throws InterruptedException {
+        BricksService bricks = new BricksService();
+        BallService ball = new BallService();
+        PaddleService paddle = new PaddleService();
+        PowerUpService power = new PowerUpService();
+        EnemyService enemy = new EnemyService();
+        BulletService bullet = new BulletService(bricks);
+        RoundService round = new RoundService(bricks, ball, paddle);
+        GameService game = new GameService(ball, paddle, bricks, power, bullet, round, enemy);
+
+        GameState state = new GameState(new Ball(300, 700, 5), new Paddle(260, 750, 80, 20, 10));
+        state.basePaddleWidth = 80;
+        round.loadLevel(state, 1);
+        game.startNextLevel(state);
+        // Bricks that never break keep the level running without spawning power-ups
+        for (Brick b : state.bricks) b.setHealth(1_000_000);
+        state.lives = 1_000;
+        state.balls.add(new Ball(200, 600, 5));
+        state.balls.add(new Ball(400, 600, 5));
+        state.activePowerUps.put(PowerUpType.SLOW_BALL, 1e12);
+
+        // A live subscriber makes published events escape, as they do in the real game
+        long[] wallHits = new long[1];
+        GameEventBus.Subscription sub = GameEventBus.getInstance()
+                .subscribe(WallHitSoundEvent.class, e -> wallHits[0]++);
+        try {
+            InputState in = new InputState();
+            // Queuing a method for C2 resolves the string literals of its class on the calling
+            // thread, which the counter would charge to the tick; warm up until the JIT is done
+            CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+            for (int pass = 0; pass < 50; pass++) {
+                long compiled = jit.getTotalCompilationTime();
+                for (int i = 0; i < 5_000; i++) tick(game, state, in);
+                Thread.sleep(100);
+                if (jit.getTotalCompilationTime() == compiled) break;
+            }
+
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long id = Thread.currentThread().threadId();
+            long overhead = threads.getThreadAllocatedBytes(id);
+            overhead = threads.getThreadAllocatedBytes(id) - overhead;
+
+            long hitsBefore = wallHits[0];
+            long before = threads.getThreadAllocatedBytes(id);
+            for (int i = 0; i < 2_000; i++) tick(game, state, in);
+            long allocated = threads.getThreadAllocatedBytes(id) - before - overhead;
+
+            assertTrue(state.running, "level should still be running");
+            assertTrue(wallHits[0] > hitsBefore, "balls should keep bouncing");
+            assertEquals(0, allocated, "steady-state ticks allocated " + allocated + " bytes");
+        } finally {
+            sub.close();
+        }
+    }
+
+    private static void tick(GameService game, GameState state, InputState in) {
+        Ball lead = state.balls.get(0);
+        // Hit off-centre so the ball keeps an angle and reaches the side walls
+        state.paddle.setX(lead.getCenterX() - state.paddle.getWidth() / 3);
+        in.launch = true;
+        game.update(state, in, 1.0, 600, 800);
+    }
+}
@@ -0,0 +1,95 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.GameSessionRecord;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSessionWriterTest {
+
+    private static GameSessionRecord game(int score) {
+        return new GameSessionRecord(1, 0L, 1, score, 1000, 0, 0, false, Instant.EPOCH);
+    }
+
+    @Test
+    void fullBatchIsWrittenAtOnce() throws InterruptedException {
+        BlockingQueue<List<GameSessionRecord>> written = new LinkedBlockingQueue<>();
+        try (GameSessionWriter writer = new GameSessionWriter(written::add, 3, Duration.ofMinutes(1))) {
+            for (int i = 0; i < 3; i++) assertTrue(writer.record(game(i)));
+            List<GameSessionRecord> batch = written.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch, "A full batch should not wait for the interval");
+            assertEquals(List.of(0, 1, 2), batch.stream().map(GameSessionRecord::score).toList());
+        }
+    }
+
+    @Test
+    void partialBatchIsWrittenAfterTheInterval() throws InterruptedException {
+        BlockingQueue<List<GameSessionRecord>> written = new LinkedBlockingQueue<>();
+        try (GameSessionWriter writer = new GameSessionWriter(written::add, 100, Duration.ofMillis(50))) {
+            writer.record(game(1));
+            writer.record(game(2));
+            List<GameSessionRecord> batch = written.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch);
+            assertEquals(2, batch.size());
+        }
+    }
+
+    @Test
+    void failedBatchIsRetried() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        BlockingQueue<List<GameSessionRecord>> written = new LinkedBlockingQueue<>();
+        GameSessionWriter.Sink flaky = batch -> {
+            if (attempts.incrementAndGet() == 1) throw new SQLTransientConnectionException("down", "08001");
+            written.add(batch);
+        };
+        try (GameSessionWriter writer = new GameSessionWriter(flaky, 2, Duration.ofMillis(20))) {
+            writer.record(game(1));
+            writer.record(game(2));
+            List<GameSessionRecord> batch = written.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch);
+            assertEquals(2, batch.size());
+            assertEquals(2, attempts.get());
+            assertEquals(0, writer.dropped());
+        }
+    }
+
+    @Test
+    void batchRejectedByTheDatabaseIsDropped() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        BlockingQueue<List<GameSessionRecord>> written = new LinkedBlockingQueue<>();
+        GameSessionWriter.Sink rejecting = batch -> {
+            if (attempts.incrementAndGet() == 1) throw new SQLException("value too long", "22001");
+            written.add(batch);
+        };
+        try (GameSessionWriter writer = new GameSessionWriter(rejecting, 2, Duration.ofSeconds(1))) {
+            writer.record(game(1));
+            writer.record(game(2));
+            writer.record(game(3));
+            writer.record(game(4));
+            List<GameSessionRecord> batch = written.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch);
+            assertEquals(List.of(3, 4), batch.stream().map(GameSessionRecord::score).toList());
+            assertEquals(2, attempts.get());
+            assertEquals(2, writer.dropped());
+        }
+    }
+
+    @Test
+    void closeWritesWhatIsQueued() {
+        BlockingQueue<List<GameSessionRecord>> written = new LinkedBlockingQueue<>();
+        GameSessionWriter writer = new GameSessionWriter(written::add, 100, Duration.ofMinutes(1));
+        writer.record(game(1));
+        writer.close();
+        assertEquals(1, written.stream().mapToInt(List::size).sum());
+        assertFalse(writer.record(game(2)), "A closed writer takes no more games");
+        assertEquals(1, writer.dropped());
+    }
+}
@@ -0,0 +1,163 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.LevelTemplate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelPackTest {
+
+    @TempDir
+    Path dir;
+
+    /** Level n has n bricks in its first row (capped by the row width), plus a silver one if n is even. */
+    private static LevelTemplate level(int n) {
+        int cols = 13;
+        byte[] cells = new byte[2 * cols];
+        for (int i = 0; i < Math.min(n, cols); i++) cells[i] = 1;
+        cells[cols] = (byte) (n % 2 == 0 ? 9 : 0);
+        return LevelTemplate.of(2, cols, cells);
+    }
+
+    private Path archive(int levels) throws IOException {
+        List<LevelTemplate> all = new ArrayList<>();
+        for (int i = 1; i <= levels; i++) all.add(level(i));
+        Path file = dir.resolve("campaign.arkpack");
+        LevelPack.writeArchive(all, file);
+        return file;
+    }
+
+    @Test
+    void openReadsOnlyTheIndexAndLoadsBodiesOnDemand() throws IOException {
+        Path file = archive(300);
+        try (LevelPack pack = LevelPack.open(file)) {
+            assertEquals(300, pack.levelCount());
+            assertEquals(0, pack.bodyReads());
+            assertEquals(14, pack.bricks(200));
+            assertEquals(6, pack.destructibleBricks(6));
+            assertEquals(2, pack.rows(5));
+            assertEquals(0, pack.bodyReads());
+
+            LevelTemplate seven = pack.load(7);
+            assertEquals(7, seven.brickCount());
+            assertSame(seven, pack.load(7));
+            assertEquals(1, pack.bodyReads());
+        }
+        assertTrue(Files.exists(LevelPack.indexPathFor(file)));
+    }
+
+    @Test
+    void reopeningReusesTheIndexAndStaleIndexesAreRebuilt() throws IOException {
+        Path file = archive(5);
+        LevelPack.open(file).close();
+        Path index = LevelPack.indexPathFor(file);
+        long built = Files.getLastModifiedTime(index).toMillis();
+        byte[] before = Files.readAllBytes(index);
+
+        try (LevelPack pack = LevelPack.open(file)) {
+            assertEquals(5, pack.levelCount());
+        }
+        assertArrayEquals(before, Files.readAllBytes(index));
+        assertEquals(built, Files.getLastModifiedTime(index).toMillis());
+
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.APPEND)) {
+            level(6).write(out);
+        }
+        try (LevelPack pack = LevelPack.open(file)) {
+            assertEquals(6, pack.levelCount());
+            assertEquals(7, pack.load(6).brickCount());
+        }
+    }
+
+    @Test
+    void leastRecentlyUsedBodiesAreEvicted() throws IOException {
+        try (LevelPack pack = LevelPack.open(archive(10), 2)) {
+            pack.load(1);
+            pack.load(2);
+            pack.load(1);
+            pack.load(3);
+            assertTrue(pack.isCached(1));
+            assertFalse(pack.isCached(2));
+            assertTrue(pack.isCached(3));
+            pack.load(2);
+            assertEquals(4, pack.bodyReads());
+        }
+    }
+
+    @Test
+    void prefetchLoadsInTheBackground() throws Exception {
+        try (LevelPack pack = LevelPack.open(archive(10))) {
+            pack.prefetch(4);
+            pack.prefetch(11);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pack.bodyReads() == 0 && System.nanoTime() < deadline) Thread.sleep(5);
+            assertEquals(5, pack.load(4).brickCount());
+            assertEquals(1, pack.bodyReads());
+        }
+    }
+
+    @Test
+    void directoryPackOrdersNaturallyAndPrefersCompiledLevels() throws IOException {
+        Path levels = Files.createDirectories(dir.resolve("levels"));
+        Files.write(levels.resolve("level10.txt"), List.of("1 1 1 1 1 1 1 1 1 1"));
+        Files.write(levels.resolve("level2.txt"), List.of("1 1"));
+        Files.write(levels.resolve("level1.txt"), List.of("1 1 1 1 1"));
+        try (OutputStream out = Files.newOutputStream(levels.resolve("level1.lvl"))) {
+            level(1).write(out);
+        }
+        Files.write(levels.resolve("readme.md"), List.of("not a level"));
+
+        try (LevelPack pack = LevelPack.open(levels)) {
+            assertEquals(3, pack.levelCount());
+            assertEquals(1, pack.bricks(1));
+            assertEquals(2, pack.bricks(2));
+            assertEquals(10, pack.load(3).brickCount());
+            assertTrue(pack.describe(3).endsWith("level10.txt"));
+        }
+    }
+
+    @Test
+    void directoryIndexNoticesLevelsEditedInPlace() throws IOException {
+        Path levels = Files.createDirectories(dir.resolve("edited"));
+        Path one = levels.resolve("level1.txt");
+        try (OutputStream out = Files.newOutputStream(levels.resolve("level1.lvl"))) {
+            level(1).write(out);
+        }
+        Files.write(one, List.of("1 1 1 1 1"));
+        Files.write(levels.resolve("level2.txt"), List.of("1 1"));
+        Files.setLastModifiedTime(one, FileTime.fromMillis(Files.getLastModifiedTime(one).toMillis() + 2_000));
+        FileTime dirTime = Files.getLastModifiedTime(levels);
+        try (LevelPack pack = LevelPack.open(levels)) {
+            assertEquals(5, pack.bricks(1));
+            assertEquals(2, pack.bricks(2));
+        }
+
+        Files.write(levels.resolve("level2.txt"), List.of("1 1 1"));
+        Files.setLastModifiedTime(levels, dirTime);
+        try (LevelPack pack = LevelPack.open(levels)) {
+            assertEquals(2, pack.bricks(2), "opening reads only the index");
+            assertEquals(3, pack.load(2).brickCount(), "loading reads the edited file");
+        }
+        assertFalse(Files.exists(LevelPack.indexPathFor(levels)), "the stale index is dropped");
+        try (LevelPack pack = LevelPack.open(levels)) {
+            assertEquals(3, pack.bricks(2));
+        }
+    }
+
+    @Test
+    void loadRejectsUnknownLevels() throws IOException {
+        try (LevelPack pack = LevelPack.open(archive(3))) {
+            assertThrows(IllegalArgumentException.class, () -> pack.load(0));
+            assertThrows(IllegalArgumentException.class, () -> pack.load(4));
+        }
+    }
+}
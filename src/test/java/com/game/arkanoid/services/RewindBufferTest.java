@@ -0,0 +1,116 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.config.SessionSettings;
+import com.game.arkanoid.container.GameSession;
+import com.game.arkanoid.events.sound.WallHitSoundEvent;
+import com.game.arkanoid.models.*;
+import com.game.arkanoid.utils.Constants;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RewindBufferTest {
+
+    private static final double TICK_SECONDS = Constants.NANOS_PER_DT / 1e9;
+
+    private final GameSession session = new GameSession(SessionSettings.defaults(), 42);
+    private final GameState state = session.getGameState();
+    private final GameService game = session.getGameService();
+    private final AutoPlayer bot = new AutoPlayer();
+    private final RewindBuffer buffer = new RewindBuffer(2.0, 120, 8);
+    private final List<Integer> inputs = new ArrayList<>();
+
+    public RewindBufferTest() {
+        session.start();
+    }
+
+    /** Play ticks with the bot, recording them and their inputs. */
+    private void play(int ticks) {
+        InputState in = new InputState();
+        for (int i = 0; i < ticks; i++) {
+            bot.fill(state, Constants.GAME_WIDTH, in);
+            inputs.add(in.toBits());
+            buffer.record(state, in, 1.0, Constants.GAME_WIDTH, Constants.GAME_HEIGHT);
+            game.update(state, in, 1.0, Constants.GAME_WIDTH, Constants.GAME_HEIGHT);
+        }
+    }
+
+    private static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.score, actual.score);
+        assertEquals(expected.lives, actual.lives);
+        assertEquals(expected.elapsed, actual.elapsed, 1e-9);
+        assertEquals(expected.paddle.getX(), actual.paddle.getX());
+        assertEquals(expected.balls.size(), actual.balls.size());
+        for (int i = 0; i < expected.balls.size(); i++) {
+            assertEquals(expected.balls.get(i).getX(), actual.balls.get(i).getX());
+            assertEquals(expected.balls.get(i).getY(), actual.balls.get(i).getY());
+            assertEquals(expected.balls.get(i).getDx(), actual.balls.get(i).getDx());
+        }
+        for (int i = 0; i < expected.bricks.size(); i++) {
+            assertEquals(expected.bricks.get(i).getHealth(), actual.bricks.get(i).getHealth(), "brick " + i);
+        }
+        assertEquals(expected.powerUps.size(), actual.powerUps.size());
+        assertEquals(expected.rng.getState(), actual.rng.getState());
+    }
+
+    @Test
+    void rewindReturnsToTheSameState() {
+        play(200);
+        GameState then = state.fork();
+        play(100);
+        GameState later = state.fork();
+
+        double back = buffer.rewind(state, game, 100 * TICK_SECONDS - 1e-9);
+        assertEquals(100 * TICK_SECONDS, back, 1e-9);
+        assertSameState(then, state);
+
+        // Replaying the same inputs from there reaches the same future
+        InputState in = new InputState();
+        for (int i = 200; i < 300; i++) {
+            in.setBits(inputs.get(i));
+            buffer.record(state, in, 1.0, Constants.GAME_WIDTH, Constants.GAME_HEIGHT);
+            game.update(state, in, 1.0, Constants.GAME_WIDTH, Constants.GAME_HEIGHT);
+        }
+        assertSameState(later, state);
+    }
+
+    @Test
+    void rewindIsLimitedToWhatIsKept() {
+        play(600);
+        // Two seconds at 120 ticks per second is 240 ticks, less up to one keyframe interval
+        double kept = 240 * TICK_SECONDS;
+        assertTrue(buffer.available() <= kept + 1e-9);
+        assertTrue(buffer.available() > kept - 8 * TICK_SECONDS);
+        double back = buffer.rewind(state, game, 60.0);
+        assertEquals(buffer.available(), 0, 1e-9);
+        assertTrue(back <= kept + 1e-9, "kept 240 ticks, rewound " + back);
+        assertTrue(back > kept - 8 * TICK_SECONDS);
+        assertEquals(0, buffer.rewind(state, game, 1.0), 1e-9);
+    }
+
+    @Test
+    void replayedTicksPublishNoEvents() {
+        play(300);
+        int[] wallHits = new int[1];
+        var sub = session.getEventBus().subscribe(WallHitSoundEvent.class, e -> wallHits[0]++);
+        try {
+            buffer.rewind(state, game, 0.5);
+            assertEquals(0, wallHits[0]);
+            play(300);
+            assertTrue(wallHits[0] > 0, "live ticks publish again");
+        } finally {
+            sub.close();
+        }
+    }
+
+    @Test
+    void changesOutsideTheUpdateAreKept() {
+        play(50);
+        state.enemies.add(new Enemy(EnemyType.CUBE, 100, 100, 30, 30, 0, 0));
+        buffer.forceKeyframe();
+        play(20);
+        buffer.rewind(state, game, 10 * TICK_SECONDS - 1e-9);
+        assertEquals(1, state.enemies.size(), "the spawned enemy survives a rewind to after its spawn");
+    }
+}
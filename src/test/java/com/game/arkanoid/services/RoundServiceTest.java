@@ -1,6 +1,8 @@
 package com.game.arkanoid.services;
 
 import com.game.arkanoid.models.*;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,5 +22,30 @@ public class RoundServiceTest {
         assertTrue(state.paused);
         assertFalse(state.running);
     }
-}
 
+    @Test
+    void loadNextLevelPrefetchesTheFollowingLevel() {
+        List<String> calls = new ArrayList<>();
+        LevelTemplate layout = LevelTemplate.parse(List.of("1 2 1"));
+        LevelSource source = new LevelSource() {
+            @Override public int levelCount() { return 3; }
+            @Override public LevelTemplate load(int level) { calls.add("load " + level); return layout; }
+            @Override public void prefetch(int level) { calls.add("prefetch " + level); }
+            @Override public String describe(int level) { return "test#" + level; }
+        };
+        BricksService bricks = new BricksService();
+        RoundService round = new RoundService(bricks, new BallService(), new PaddleService(), source);
+        GameState state = new GameState(new Ball(100, 200, 8), new Paddle(80, 350, 100, 20, 200));
+
+        round.loadLevel(state, 1);
+        round.loadNextLevel(state);
+        assertEquals(List.of("load 1", "load 2", "prefetch 3"), calls);
+        assertEquals(3, state.bricks.size());
+        assertEquals(3, bricks.getBricksRemaining());
+
+        round.loadNextLevel(state);
+        round.loadNextLevel(state);
+        assertTrue(state.gameCompleted);
+        assertEquals(3, round.getLevelCount());
+    }
+}
@@ -0,0 +1,110 @@
+package com.game.arkanoid.services;
+
+import com.game.arkanoid.models.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationThreadTest {
+
+    private final GameState state = new GameState(new Ball(300, 700, 5), new Paddle(260, 750, 80, 20, 10));
+    private final GameService game;
+
+    public SimulationThreadTest() {
+        BricksService bricks = new BricksService();
+        BallService ball = new BallService();
+        PaddleService paddle = new PaddleService();
+        RoundService round = new RoundService(bricks, ball, paddle);
+        game = new GameService(ball, paddle, bricks, new PowerUpService(), new BulletService(bricks), round, new EnemyService());
+        state.basePaddleWidth = 80;
+        round.loadLevel(state, 1);
+        game.startNextLevel(state);
+    }
+
+    @Test
+    void tickAppliesLatestInputAndPublishesFrames() {
+        SimulationThread sim = new SimulationThread(state, game);
+        sim.setBounds(600, 800);
+        assertEquals(0, sim.latestFrame().sequence);
+
+        InputState in = new InputState();
+        in.right = true;
+        sim.offerInput(in);
+        double start = state.paddle.getX();
+        sim.tick();
+        RenderFrame first = sim.latestFrame();
+        assertEquals(1, first.sequence);
+        assertTrue(first.paddle.getX() > start, "paddle should move right");
+
+        // Without a new sample the held input repeats
+        sim.tick();
+        assertEquals(2, sim.latestFrame().sequence);
+        assertTrue(sim.latestFrame().paddle.getX() > first.paddle.getX());
+
+        in.right = false;
+        sim.offerInput(in);
+        sim.tick();
+        double stopped = sim.latestFrame().paddle.getX();
+        sim.tick();
+        assertEquals(stopped, sim.latestFrame().paddle.getX());
+    }
+
+    @Test
+    void commandsRunImmediatelyWhenStopped() {
+        SimulationThread sim = new SimulationThread(state, game);
+        Thread[] ranOn = new Thread[1];
+        sim.execute(() -> ranOn[0] = Thread.currentThread());
+        assertSame(Thread.currentThread(), ranOn[0]);
+    }
+
+    @Test
+    void commandsRunOnSimulationThreadWhileRunning() throws Exception {
+        try (SimulationThread sim = new SimulationThread(state, game)) {
+            sim.setBounds(600, 800);
+            sim.start();
+            CompletableFuture<String> name = new CompletableFuture<>();
+            sim.execute(() -> name.complete(Thread.currentThread().getName()));
+            assertEquals("game-simulation", name.get(5, TimeUnit.SECONDS));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sim.latestFrame().sequence < 10 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(sim.latestFrame().sequence >= 10, "simulation should keep ticking");
+        }
+    }
+
+    @Test
+    void stopHandsStateBackToCaller() {
+        SimulationThread sim = new SimulationThread(state, game);
+        sim.setBounds(600, 800);
+        sim.start();
+        sim.stop();
+        assertFalse(sim.isRunning());
+        Thread[] ranOn = new Thread[1];
+        sim.execute(() -> ranOn[0] = Thread.currentThread());
+        assertSame(Thread.currentThread(), ranOn[0]);
+    }
+
+    @Test
+    void rewindReplaysRecordedTicks() {
+        SimulationThread sim = new SimulationThread(state, game);
+        sim.setBounds(600, 800);
+        sim.setRewindBuffer(new RewindBuffer(120));
+        InputState in = new InputState();
+        in.left = true;
+        sim.offerInput(in);
+        double[] x = new double[21];
+        x[0] = state.paddle.getX();
+        for (int i = 1; i <= 20; i++) {
+            sim.tick();
+            x[i] = state.paddle.getX();
+        }
+        assertTrue(x[20] < x[10], "paddle should move left");
+
+        // Not running, so the rewind runs at once; ten ticks of the 120 Hz period
+        sim.rewind(10 * (1_000_000_000L / 120) / 1e9 - 1e-12);
+        assertEquals(x[10], state.paddle.getX(), 1e-9);
+    }
+}
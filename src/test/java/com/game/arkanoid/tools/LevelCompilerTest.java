@@ -0,0 +1,37 @@
+package com.game.arkanoid.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.game.arkanoid.models.LevelTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LevelCompilerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void compileAllWritesOneBinaryLevelPerTextLevel() throws IOException {
+        Path src = Files.createDirectories(dir.resolve("src"));
+        Files.write(src.resolve("level1.txt"), List.of("1 1 1", "", "0 9 2"));
+        Files.write(src.resolve("notes.md"), List.of("ignored"));
+        Path out = dir.resolve("out");
+
+        assertEquals(1, LevelCompiler.compileAll(src, out));
+
+        LevelTemplate compiled;
+        try (InputStream in = Files.newInputStream(out.resolve("level1.lvl"))) {
+            compiled = LevelTemplate.read(in);
+        }
+        assertEquals(2, compiled.rows());
+        assertEquals(5, compiled.brickCount());
+        assertEquals(9, compiled.health(1, 1));
+        assertFalse(Files.exists(out.resolve("notes.lvl")));
+    }
+}
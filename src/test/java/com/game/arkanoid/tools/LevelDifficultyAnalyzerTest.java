@@ -0,0 +1,48 @@
+package com.game.arkanoid.tools;
+
+import com.game.arkanoid.services.AutoPlayer;
+import com.game.arkanoid.tools.LevelDifficultyAnalyzer.Report;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelDifficultyAnalyzerTest {
+
+    @Test
+    void seededGamesGiveTheSameReportOnAnyPool() {
+        ForkJoinPool two = new ForkJoinPool(2);
+        try {
+            Report a = LevelDifficultyAnalyzer.analyze(null, 1, 24, new AutoPlayer(), 3_000, two);
+            Report b = LevelDifficultyAnalyzer.analyze(null, 1, 24, new AutoPlayer(), 3_000, ForkJoinPool.commonPool());
+            assertEquals(24, a.games());
+            assertEquals(a.cleared(), b.cleared());
+            assertEquals(a.ticks(), b.ticks());
+            assertEquals(a.meanLivesLost(), b.meanLivesLost());
+            assertEquals(a.meanPowerUps(), b.meanPowerUps());
+            assertTrue(a.ticks() > 0 && a.ticks() <= 24 * 3_000L);
+            assertTrue(a.gamesPerSecond() > 0);
+        } finally {
+            two.shutdown();
+        }
+    }
+
+    @Test
+    void slowerReactionsLoseMoreLives() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        Report sharp = LevelDifficultyAnalyzer.analyze(null, 1, 16, new AutoPlayer(), 3_000, pool);
+        Report sluggish = LevelDifficultyAnalyzer.analyze(null, 1, 16, new AutoPlayer(3), 3_000, pool);
+        assertTrue(sluggish.meanLivesLost() > sharp.meanLivesLost(),
+                sluggish.meanLivesLost() + " vs " + sharp.meanLivesLost());
+    }
+
+    @Test
+    void formatMentionsEveryFigure() {
+        Report r = new Report(2, 10, 4, 1200, 1.5, 0.5, 30_000, 50, 150_000, 1);
+        assertEquals(0.4, r.clearRate());
+        String text = r.format();
+        assertTrue(text.contains("Level 2"));
+        assertTrue(text.contains("40.0 %"));
+        assertTrue(text.contains("1.50 per game"));
+        assertTrue(text.contains("games/s"));
+    }
+}
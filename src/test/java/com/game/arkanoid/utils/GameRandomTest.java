@@ -0,0 +1,39 @@
+package com.game.arkanoid.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRandomTest {
+
+    @Test
+    void sameSeedGivesSameSequence() {
+        GameRandom a = new GameRandom(123);
+        GameRandom b = new GameRandom(123);
+        for (int i = 0; i < 100; i++) assertEquals(a.nextLong(), b.nextLong());
+        assertNotEquals(new GameRandom(1).nextLong(), new GameRandom(2).nextLong());
+    }
+
+    @Test
+    void stateRestoresSequence() {
+        GameRandom r = new GameRandom(9);
+        r.nextLong();
+        long saved = r.getState();
+        long next = r.nextLong();
+        r.nextLong();
+        r.setState(saved);
+        assertEquals(next, r.nextLong());
+    }
+
+    @Test
+    void boundedValuesStayInRangeAndCoverIt() {
+        GameRandom r = new GameRandom(5);
+        int[] counts = new int[7];
+        for (int i = 0; i < 70_000; i++) counts[r.nextInt(7)]++;
+        for (int c : counts) assertTrue(c > 9_000 && c < 11_000, "uneven: " + c);
+        for (int i = 0; i < 10_000; i++) {
+            double d = r.nextDouble();
+            assertTrue(d >= 0 && d < 1);
+        }
+        assertThrows(IllegalArgumentException.class, () -> r.nextInt(0));
+    }
+}
@@ -0,0 +1,58 @@
+package com.game.arkanoid.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpscIntQueueTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new SpscIntQueue(5).capacity());
+        assertEquals(64, new SpscIntQueue(64).capacity());
+    }
+
+    @Test
+    void valuesComeOutInOrderAndFullQueueRejects() {
+        SpscIntQueue q = new SpscIntQueue(4);
+        assertEquals(-1, q.poll(-1));
+        for (int i = 0; i < 4; i++) assertTrue(q.offer(i));
+        assertFalse(q.offer(99));
+        assertEquals(4, q.size());
+        for (int i = 0; i < 4; i++) assertEquals(i, q.poll(-1));
+        assertEquals(-1, q.poll(-1));
+        assertEquals(0, q.size());
+    }
+
+    @Test
+    void indicesWrapAroundTheRing() {
+        SpscIntQueue q = new SpscIntQueue(4);
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(q.offer(i));
+            assertTrue(q.offer(i + 1));
+            assertEquals(i, q.poll(-1));
+            assertEquals(i + 1, q.poll(-1));
+        }
+    }
+
+    @Test
+    void producerAndConsumerThreadsKeepOrder() throws Exception {
+        SpscIntQueue q = new SpscIntQueue(16);
+        final int count = 100_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!q.offer(i)) Thread.yield();
+            }
+        });
+        producer.start();
+        int expected = 0;
+        while (expected < count) {
+            int v = q.poll(-1);
+            if (v < 0) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(expected++, v);
+        }
+        producer.join();
+    }
+}
@@ -0,0 +1,68 @@
+package com.game.arkanoid.utils;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TripleBufferTest {
+
+    @Test
+    void readerSeesLatestPublishedValue() {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[1]);
+        assertEquals(0, buffer.read()[0]);
+        for (long v = 1; v <= 5; v++) {
+            buffer.back()[0] = v;
+            buffer.publish();
+        }
+        assertEquals(5, buffer.read()[0]);
+        // Nothing new: the same slot comes back
+        assertSame(buffer.read(), buffer.read());
+    }
+
+    @Test
+    void writerNeverFillsTheSlotTheReaderHolds() {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[1]);
+        buffer.back()[0] = 1;
+        buffer.publish();
+        long[] held = buffer.read();
+        for (long v = 2; v < 100; v++) {
+            assertNotSame(held, buffer.back());
+            buffer.back()[0] = v;
+            buffer.publish();
+        }
+        assertEquals(1, held[0]);
+        assertEquals(99, buffer.read()[0]);
+    }
+
+    @Test
+    void concurrentReaderOnlySeesCompleteIncreasingValues() throws Exception {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[2]);
+        final long last = 2_000_000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for (long v = 1; v <= last; v++) {
+                long[] slot = buffer.back();
+                slot[0] = v;
+                slot[1] = -v;
+                buffer.publish();
+            }
+        });
+        writer.start();
+        long seen = 0;
+        while (seen < last) {
+            long[] slot = buffer.read();
+            long v = slot[0];
+            if (slot[1] != -v) {
+                failure.set(new AssertionError("torn value " + v + "/" + slot[1]));
+                break;
+            }
+            if (v < seen) {
+                failure.set(new AssertionError("went back from " + seen + " to " + v));
+                break;
+            }
+            seen = v;
+        }
+        writer.join();
+        assertNull(failure.get());
+    }
+}
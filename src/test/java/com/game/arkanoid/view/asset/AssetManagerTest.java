@@ -0,0 +1,87 @@
+package com.game.arkanoid.view.asset;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssetManagerTest {
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<String> decoded = new CopyOnWriteArrayList<>();
+    private final Map<String, AtomicInteger> decodeCounts = new ConcurrentHashMap<>();
+
+    private final Map<AssetManager.Group, List<String>> manifest = Map.of(
+            AssetManager.Group.MENU, List.of("m1", "m2"),
+            AssetManager.Group.GAME, List.of("g1", "g2", "g3"),
+            AssetManager.Group.RESULTS, List.of("bad"));
+
+    private final AssetManager assets = new AssetManager(path -> {
+        decodeCounts.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+        decoded.add(path);
+        if (path.equals("bad")) throw new IllegalStateException("corrupt");
+        return "decoded:" + path;
+    }, workers, Runnable::run, manifest);
+
+    @AfterEach
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void preloadDecodesGroupsInSceneOrder() throws Exception {
+        assets.preload();
+        assets.whenLoaded(AssetManager.Group.RESULTS).get(5, TimeUnit.SECONDS);
+
+        assertEquals(6, decoded.size());
+        int lastMenu = Math.max(decoded.indexOf("m1"), decoded.indexOf("m2"));
+        int firstGame = Math.min(decoded.indexOf("g1"), Math.min(decoded.indexOf("g2"), decoded.indexOf("g3")));
+        int firstResults = decoded.indexOf("bad");
+        assertTrue(lastMenu < firstGame, decoded.toString());
+        assertTrue(firstGame < firstResults, decoded.toString());
+        assertEquals(6, assets.loadedCount());
+        assertEquals(1.0, assets.progressProperty().get(), 1e-9);
+    }
+
+    @Test
+    void lookupWaitsForPreloadedAssetAndDecodesOnce() throws Exception {
+        assets.preload();
+        assertEquals("decoded:g2", assets.get("g2"));
+        assets.whenLoaded(AssetManager.Group.RESULTS).get(5, TimeUnit.SECONDS);
+        assertEquals("decoded:g2", assets.get("g2"));
+        assertEquals(1, decodeCounts.get("g2").get());
+    }
+
+    @Test
+    void unscheduledAssetLoadsOnDemandWithoutCountingTowardsProgress() {
+        assertEquals("decoded:extra", assets.get("extra"));
+        assertEquals(0, assets.loadedCount());
+        assertEquals(0.0, assets.progressProperty().get(), 1e-9);
+    }
+
+    @Test
+    void failedDecodeYieldsNull() {
+        assertNull(assets.get("bad"));
+        assertEquals(1, assets.loadedCount());
+    }
+
+    @Test
+    void defaultManifestCoversRendererSprites() {
+        Map<AssetManager.Group, List<String>> m = AssetManager.defaultManifest();
+        List<String> game = m.get(AssetManager.Group.GAME);
+        assertTrue(game.contains("/com/game/arkanoid/images/enemy_pyramid_25.png"));
+        assertTrue(game.contains("/com/game/arkanoid/images/paddle_materialize_15.png"));
+        for (List<String> paths : m.values()) {
+            for (String path : paths) {
+                assertNotNull(AssetManager.class.getResource(path), path);
+            }
+        }
+    }
+}
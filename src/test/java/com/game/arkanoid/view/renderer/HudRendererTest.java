@@ -0,0 +1,96 @@
+package com.game.arkanoid.view.renderer;
+
+import com.game.arkanoid.models.RenderFrame;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HudRendererTest {
+
+    private final int[] writes = new int[1];
+    private final StringProperty lives = counted();
+    private final StringProperty score = counted();
+    private final StringProperty highScore = counted();
+    private final HudRenderer hud = new HudRenderer(lives, score, highScore);
+    private final RenderFrame state = new RenderFrame();
+
+    @Test
+    void firstRenderWritesEveryLabel() {
+        state.score = 120;
+        state.highScore = 500;
+        state.lives = 2;
+        hud.render(state, "ANNA");
+        assertEquals("ANNA 2", lives.get());
+        assertEquals("120", score.get());
+        assertEquals("500", highScore.get());
+        assertEquals(3, writes[0]);
+    }
+
+    @Test
+    void unchangedFramesWriteNothing() {
+        hud.render(state, "ANNA");
+        writes[0] = 0;
+        for (int i = 0; i < 100; i++) hud.render(state, "ANNA");
+        assertEquals(0, writes[0]);
+    }
+
+    @Test
+    void onlyChangedValuesAreWritten() {
+        state.highScore = 10_000;
+        state.lives = 3;
+        hud.render(state, "ANNA");
+        writes[0] = 0;
+        state.score += 100;
+        hud.render(state, "ANNA");
+        assertEquals(1, writes[0]);
+        assertEquals(Integer.toString(state.score), score.get());
+
+        state.lives = -1;
+        hud.render(state, "ANNA");
+        assertEquals("ANNA 0", lives.get());
+        hud.render(state, "BOB");
+        assertEquals("BOB 0", lives.get());
+        assertEquals(3, writes[0]);
+    }
+
+    @Test
+    void highScoreFollowsScoreOnceSurpassed() {
+        state.highScore = 100;
+        state.score = 150;
+        hud.render(state, "ANNA");
+        assertEquals("150", highScore.get());
+        state.score = 90;
+        state.highScore = 100;
+        hud.render(state, "ANNA");
+        assertEquals("100", highScore.get());
+    }
+
+    @Test
+    void resetRewritesAllLabels() {
+        hud.render(state, "ANNA");
+        writes[0] = 0;
+        hud.reset();
+        hud.render(state, "ANNA");
+        assertEquals(3, writes[0]);
+    }
+
+    @Test
+    void missingLabelsAreSkipped() {
+        HudRenderer partial = new HudRenderer(null, score, null);
+        state.score = 7;
+        partial.render(state, "ANNA");
+        assertEquals("7", score.get());
+    }
+
+    private StringProperty counted() {
+        StringProperty p = new SimpleStringProperty() {
+            @Override
+            public void set(String value) {
+                writes[0]++;
+                super.set(value);
+            }
+        };
+        return p;
+    }
+}
@@ -0,0 +1,107 @@
+package com.game.arkanoid.view.sound;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AudioMixerTest {
+
+    private static final long MS = 1_000_000L;
+
+    /** Records calls instead of playing audio. */
+    private static final class FakeSink implements AudioMixer.Sink {
+        final List<String> calls = new ArrayList<>();
+        @Override public void play(String key, double volume) { calls.add("play " + key); }
+        @Override public void stop(String key) { calls.add("stop " + key); }
+        @Override public void playMusic(String key) { calls.add("music " + key); }
+        @Override public void stopMusic() { calls.add("stopMusic"); }
+    }
+
+    private final FakeSink sink = new FakeSink();
+    private long now = 1_000 * MS;
+    private final AudioMixer mixer = new AudioMixer(sink, () -> now, 16, 3);
+    private final int wall = mixer.register(new AudioMixer.ClipSpec("wall", 10, 2, 40 * MS, 200 * MS));
+    private final int brick = mixer.register(new AudioMixer.ClipSpec("brick", 30, 3, 0, 200 * MS));
+    private final int gameOver = mixer.register(new AudioMixer.ClipSpec("game_over", 100, 1, 0, 2_000 * MS));
+
+    @Test
+    void rateLimitDropsRepeatsWithinInterval() {
+        mixer.submit(wall, 1.0);
+        mixer.submit(wall, 1.0);
+        mixer.drain();
+        now += 50 * MS;
+        mixer.submit(wall, 1.0);
+        mixer.drain();
+        assertEquals(List.of("play wall", "play wall"), sink.calls);
+        assertEquals(1, mixer.droppedRateLimited());
+    }
+
+    @Test
+    void perClipVoiceLimitCapsBursts() {
+        for (int i = 0; i < 5; i++) {
+            mixer.submit(wall, 1.0);
+            mixer.drain();
+            now += 50 * MS;
+        }
+        // Two voices of 200 ms; the third and fourth are dropped, the fifth reuses an expired voice
+        assertEquals(3, mixer.played());
+        assertEquals(2, mixer.droppedNoVoice());
+    }
+
+    @Test
+    void higherPriorityStealsLowestPriorityVoice() {
+        mixer.submit(wall, 1.0);
+        mixer.submit(brick, 1.0);
+        mixer.submit(brick, 1.0);
+        mixer.drain();
+        assertEquals(3, mixer.activeVoices());
+
+        mixer.submit(gameOver, 1.0);
+        mixer.drain();
+        assertEquals(List.of("play wall", "play brick", "play brick", "stop wall", "play game_over"), sink.calls);
+        assertEquals(1, mixer.stolen());
+
+        // A wall hit cannot steal from higher priorities
+        now += 50 * MS;
+        mixer.submit(wall, 1.0);
+        mixer.drain();
+        assertEquals(1, mixer.droppedNoVoice());
+    }
+
+    @Test
+    void musicCommandsShareTheQueue() {
+        AudioMixer m = new AudioMixer(sink, () -> now, 4, 2);
+        int menu = m.registerMusic("menu");
+        m.submitMusic(menu);
+        m.submitStopMusic();
+        m.drain();
+        assertEquals(List.of("music menu", "stopMusic"), sink.calls);
+    }
+
+    @Test
+    void fullQueueDropsWithoutBlocking() {
+        AudioMixer m = new AudioMixer(sink, () -> now, 4, 2);
+        int clip = m.register(new AudioMixer.ClipSpec("x", 1, 8, 0, MS));
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) if (m.submit(clip, 1.0)) accepted++;
+        assertEquals(4, accepted);
+        assertEquals(6, m.droppedQueueFull());
+        assertEquals(4, m.drain());
+    }
+
+    @Test
+    void dispatcherThreadPlaysSubmittedClips() throws Exception {
+        AudioMixer m = new AudioMixer(sink, System::nanoTime, 16, 4);
+        int clip = m.register(new AudioMixer.ClipSpec("x", 1, 4, 0, MS));
+        m.start();
+        try {
+            m.submit(clip, 0.5);
+            long deadline = System.currentTimeMillis() + 2_000;
+            while (m.played() == 0 && System.currentTimeMillis() < deadline) Thread.sleep(5);
+            assertEquals(1, m.played());
+        } finally {
+            m.close();
+        }
+    }
+}
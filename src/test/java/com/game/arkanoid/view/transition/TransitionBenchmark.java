@@ -0,0 +1,117 @@
+package com.game.arkanoid.view.transition;
+
+import com.game.arkanoid.config.GameSettings;
+import com.game.arkanoid.config.GameSettings.TransitionMode;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+/**
+ * Compares live and snapshot transitions on a full-size screen.
+ * <p>
+ * Plays the menu blur-fade transition repeatedly in each mode and reports the frame interval
+ * while it runs. Needs a display; run with {@code -Dprism.order=sw} to measure the software
+ * pipeline.
+ * </p>
+ */
+public class TransitionBenchmark {
+
+    private static final int RUNS = 10;
+    private static final double WIDTH = 600;
+    private static final double HEIGHT = 800;
+
+    public static void main(String[] args) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        for (TransitionMode mode : new TransitionMode[] {TransitionMode.LIVE, TransitionMode.SNAPSHOT}) {
+            GameSettings.setTransitionMode(mode);
+            CompletableFuture<String> result = new CompletableFuture<>();
+            Platform.runLater(() -> {
+                try {
+                    run(mode, result);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            System.out.println(result.get());
+        }
+        Platform.exit();
+    }
+
+    private static void run(TransitionMode mode, CompletableFuture<String> result) {
+        TransitionManager manager = new TransitionManager();
+        TransitionStrategy strategy = new BlurFadeStrategy(Duration.millis(360), 28.0);
+        Stage stage = new Stage();
+        Scene first = new Scene(new TransitionHost(screen(0)), WIDTH, HEIGHT);
+        Scene second = new Scene(new TransitionHost(screen(1)), WIDTH, HEIGHT);
+        stage.setScene(first);
+        stage.show();
+
+        long[] frames = new long[1];
+        long[] worst = new long[1];
+        long[] last = {-1};
+        AnimationTimer meter = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (last[0] >= 0) {
+                    frames[0]++;
+                    worst[0] = Math.max(worst[0], now - last[0]);
+                }
+                last[0] = now;
+            }
+        };
+        long[] setupNanos = new long[1];
+        long begin = System.nanoTime();
+        Runnable[] next = new Runnable[1];
+        int[] remaining = {RUNS};
+        next[0] = () -> {
+            if (remaining[0]-- == 0) {
+                meter.stop();
+                stage.close();
+                double seconds = (System.nanoTime() - begin) / 1e9;
+                result.complete(String.format("%-8s %3d runs  %6.1f fps  worst frame %6.1f ms  setup %6.2f ms/run",
+                        mode, RUNS, frames[0] / seconds, worst[0] / 1e6, setupNanos[0] / 1e6 / RUNS));
+                return;
+            }
+            long t = System.nanoTime();
+            Scene target = stage.getScene() == first ? second : first;
+            Image outgoing = manager.captureOutgoing(stage.getScene());
+            stage.setScene(target);
+            manager.play((TransitionHost) target.getRoot(), outgoing, strategy, () -> Platform.runLater(next[0]));
+            setupNanos[0] += System.nanoTime() - t;
+        };
+        meter.start();
+        next[0].run();
+    }
+
+    /** A screen with roughly the node count and fill of the real menu. */
+    private static Parent screen(int variant) {
+        Pane pane = new Pane();
+        pane.setPrefSize(WIDTH, HEIGHT);
+        for (int row = 0; row < 20; row++) {
+            for (int col = 0; col < 13; col++) {
+                Rectangle r = new Rectangle(col * 44 + 14, row * 38 + 10, 40, 32);
+                r.setFill(Color.hsb((row * 13 + col + variant * 90) % 360, 0.7, 0.9));
+                pane.getChildren().add(r);
+            }
+        }
+        Label title = new Label(variant == 0 ? "ARKANOID" : "SETTINGS");
+        title.setLayoutX(200);
+        title.setLayoutY(380);
+        title.setStyle("-fx-font-size: 48; -fx-text-fill: white;");
+        pane.getChildren().add(title);
+        return pane;
+    }
+}